@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing {@link ConcurrentInt2IntHashMap} with a boxed {@link ConcurrentHashMap} for concurrent reads
+ * alone and for reads alongside a writer.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class ConcurrentInt2IntHashMapBenchmark
+{
+    private static final int MISSING_VALUE = Integer.MIN_VALUE;
+
+    @Param({ "1024", "1048576" })
+    private int size;
+
+    private int mask;
+    private ConcurrentInt2IntHashMap agronaMap;
+    private ConcurrentHashMap<Integer, Integer> jdkMap;
+
+    /**
+     * Per thread cursor over the keys.
+     */
+    @State(Scope.Thread)
+    public static class KeyCursor
+    {
+        private int index;
+
+        /**
+         * Default constructor.
+         */
+        public KeyCursor()
+        {
+        }
+
+        int next(final int mask)
+        {
+            final int index = this.index;
+            this.index = index + 1;
+
+            return (index * 0x9E3779B9) & mask;
+        }
+    }
+
+    /**
+     * Default constructor.
+     */
+    public ConcurrentInt2IntHashMapBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        mask = size - 1;
+        agronaMap = new ConcurrentInt2IntHashMap(size * 2, Hashing.DEFAULT_LOAD_FACTOR, MISSING_VALUE);
+        jdkMap = new ConcurrentHashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++)
+        {
+            agronaMap.put(i, i);
+            jdkMap.put(i, i);
+        }
+    }
+
+    /**
+     * Get from {@link ConcurrentInt2IntHashMap} with concurrent readers.
+     *
+     * @param cursor over the keys.
+     * @return value for the key.
+     */
+    @Benchmark
+    @Threads(4)
+    public int getAgrona(final KeyCursor cursor)
+    {
+        return agronaMap.get(cursor.next(mask));
+    }
+
+    /**
+     * Get from {@link ConcurrentHashMap} with concurrent readers.
+     *
+     * @param cursor over the keys.
+     * @return value for the key.
+     */
+    @Benchmark
+    @Threads(4)
+    public Integer getJdk(final KeyCursor cursor)
+    {
+        return jdkMap.get(cursor.next(mask));
+    }
+
+    /**
+     * Get from {@link ConcurrentInt2IntHashMap} while another thread writes.
+     *
+     * @param cursor over the keys.
+     * @return value for the key.
+     */
+    @Benchmark
+    @Group("agronaReadWrite")
+    @GroupThreads(3)
+    public int readAgrona(final KeyCursor cursor)
+    {
+        return agronaMap.get(cursor.next(mask));
+    }
+
+    /**
+     * Put to {@link ConcurrentInt2IntHashMap} while other threads read.
+     *
+     * @param cursor over the keys.
+     * @return previous value for the key.
+     */
+    @Benchmark
+    @Group("agronaReadWrite")
+    @GroupThreads(1)
+    public int writeAgrona(final KeyCursor cursor)
+    {
+        final int key = cursor.next(mask);
+        return agronaMap.put(key, key);
+    }
+
+    /**
+     * Get from {@link ConcurrentHashMap} while another thread writes.
+     *
+     * @param cursor over the keys.
+     * @return value for the key.
+     */
+    @Benchmark
+    @Group("jdkReadWrite")
+    @GroupThreads(3)
+    public Integer readJdk(final KeyCursor cursor)
+    {
+        return jdkMap.get(cursor.next(mask));
+    }
+
+    /**
+     * Put to {@link ConcurrentHashMap} while other threads read.
+     *
+     * @param cursor over the keys.
+     * @return previous value for the key.
+     */
+    @Benchmark
+    @Group("jdkReadWrite")
+    @GroupThreads(1)
+    public Integer writeJdk(final KeyCursor cursor)
+    {
+        final int key = cursor.next(mask);
+        return jdkMap.put(key, key);
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(ConcurrentInt2IntHashMapBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
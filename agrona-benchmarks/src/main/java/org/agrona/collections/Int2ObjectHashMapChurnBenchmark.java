@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the latency distribution of {@link Int2ObjectHashMap} and {@link RobinHoodInt2ObjectHashMap} under a
+ * 50/50 churn of puts and removes which keeps the number of live keys constant, as with a session table, and for
+ * lookups of keys which are not in the map.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class Int2ObjectHashMapChurnBenchmark
+{
+    private static final Object VALUE = new Object();
+
+    @Param({ "1024", "65536" })
+    private int capacity;
+
+    @Param({ "0.65", "0.9" })
+    private float loadFactor;
+
+    private int liveKeys;
+    private int sequence;
+    private int missSequence;
+    private Int2ObjectHashMap<Object> linearProbingMap;
+    private RobinHoodInt2ObjectHashMap<Object> robinHoodMap;
+
+    /**
+     * Default constructor.
+     */
+    public Int2ObjectHashMapChurnBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        // one below the resize threshold so the put before each remove does not resize
+        liveKeys = (int)(capacity * loadFactor) - 1;
+        linearProbingMap = new Int2ObjectHashMap<>(capacity, loadFactor);
+        robinHoodMap = new RobinHoodInt2ObjectHashMap<>(capacity, loadFactor);
+
+        for (sequence = 0; sequence < liveKeys; sequence++)
+        {
+            linearProbingMap.put(key(sequence), VALUE);
+            robinHoodMap.put(key(sequence), VALUE);
+        }
+    }
+
+    /**
+     * Remove the oldest key and put a new one in the {@link Int2ObjectHashMap}.
+     *
+     * @return value removed.
+     */
+    @Benchmark
+    public Object linearProbing()
+    {
+        final int sequence = this.sequence++;
+        final Int2ObjectHashMap<Object> map = linearProbingMap;
+        map.put(key(sequence), VALUE);
+
+        return map.remove(key(sequence - liveKeys));
+    }
+
+    /**
+     * Remove the oldest key and put a new one in the {@link RobinHoodInt2ObjectHashMap}.
+     *
+     * @return value removed.
+     */
+    @Benchmark
+    public Object robinHood()
+    {
+        final int sequence = this.sequence++;
+        final RobinHoodInt2ObjectHashMap<Object> map = robinHoodMap;
+        map.put(key(sequence), VALUE);
+
+        return map.remove(key(sequence - liveKeys));
+    }
+
+    /**
+     * Get a key which is not in the {@link Int2ObjectHashMap}.
+     *
+     * @return null.
+     */
+    @Benchmark
+    public Object linearProbingGetMiss()
+    {
+        return linearProbingMap.get(key(--missSequence));
+    }
+
+    /**
+     * Get a key which is not in the {@link RobinHoodInt2ObjectHashMap}.
+     *
+     * @return null.
+     */
+    @Benchmark
+    public Object robinHoodGetMiss()
+    {
+        return robinHoodMap.get(key(--missSequence));
+    }
+
+    private static int key(final int sequence)
+    {
+        return sequence * 0x9E3779B9;
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(Int2ObjectHashMapChurnBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
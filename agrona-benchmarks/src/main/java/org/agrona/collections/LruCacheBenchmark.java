@@ -0,0 +1,165 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmark comparing {@link IntLruCache} with {@link IntHashLruCache} and {@link ObjectHashLruCache} for lookups
+ * which hit in a full cache and for lookups which miss and so evict the least recently used element.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class LruCacheBenchmark
+{
+    private static final int HIT_KEY_COUNT = 4096;
+    private static final Object VALUE = new Object();
+    private static final IntFunction<Object> FACTORY = (key) -> VALUE;
+    private static final Consumer<Object> CLOSER = (value) -> {};
+
+    @Param({ "8", "64", "1024", "16384", "1048576" })
+    private int capacity;
+
+    private int hitIndex;
+    private int missKey;
+    private final int[] hitKeys = new int[HIT_KEY_COUNT];
+    private final Integer[] boxedHitKeys = new Integer[HIT_KEY_COUNT];
+    private IntLruCache<Object> intLruCache;
+    private IntHashLruCache<Object> intHashLruCache;
+    private ObjectHashLruCache<Integer, Object> objectHashLruCache;
+
+    /**
+     * Default constructor.
+     */
+    public LruCacheBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        intLruCache = new IntLruCache<>(capacity, FACTORY, CLOSER);
+        intHashLruCache = new IntHashLruCache<>(capacity, FACTORY, CLOSER);
+        objectHashLruCache = new ObjectHashLruCache<>(capacity, (key) -> VALUE, CLOSER);
+
+        for (int key = 0; key < capacity; key++)
+        {
+            intLruCache.lookup(key);
+            intHashLruCache.lookup(key);
+            objectHashLruCache.lookup(key);
+        }
+
+        final Random random = new Random(42);
+        for (int i = 0; i < HIT_KEY_COUNT; i++)
+        {
+            hitKeys[i] = random.nextInt(capacity);
+            boxedHitKeys[i] = hitKeys[i];
+        }
+
+        missKey = capacity;
+    }
+
+    /**
+     * Lookup a key in the {@link IntLruCache} which is present.
+     *
+     * @return the cached element.
+     */
+    @Benchmark
+    public Object intLruCacheHit()
+    {
+        return intLruCache.lookup(hitKeys[nextHitIndex()]);
+    }
+
+    /**
+     * Lookup a key in the {@link IntLruCache} which is not present so another is evicted.
+     *
+     * @return the new element.
+     */
+    @Benchmark
+    public Object intLruCacheMiss()
+    {
+        return intLruCache.lookup(missKey++);
+    }
+
+    /**
+     * Lookup a key in the {@link IntHashLruCache} which is present.
+     *
+     * @return the cached element.
+     */
+    @Benchmark
+    public Object intHashLruCacheHit()
+    {
+        return intHashLruCache.lookup(hitKeys[nextHitIndex()]);
+    }
+
+    /**
+     * Lookup a key in the {@link IntHashLruCache} which is not present so another is evicted.
+     *
+     * @return the new element.
+     */
+    @Benchmark
+    public Object intHashLruCacheMiss()
+    {
+        return intHashLruCache.lookup(missKey++);
+    }
+
+    /**
+     * Lookup a key in the {@link ObjectHashLruCache} which is present.
+     *
+     * @return the cached element.
+     */
+    @Benchmark
+    public Object objectHashLruCacheHit()
+    {
+        return objectHashLruCache.lookup(boxedHitKeys[nextHitIndex()]);
+    }
+
+    private int nextHitIndex()
+    {
+        final int index = hitIndex;
+        hitIndex = (index + 1) & (HIT_KEY_COUNT - 1);
+
+        return index;
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(LruCacheBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for hit and miss lookups in {@link Int2IntHashMap} and {@link IntHashSet} when they are filled up to their
+ * resize threshold for a range of load factors, so the cost of the probe chains at high load can be measured.
+ * <p>
+ * The {@code Vector} benchmarks fork with {@code --add-modules jdk.incubator.vector} so the lookups use the vectorised
+ * probe, which compares several slots per step, for comparison with the scalar probe.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class PrimitiveHashProbeBenchmark
+{
+    private static final int MISSING_VALUE = -1;
+    private static final int LOOKUP_KEY_COUNT = 4096;
+    private static final String VECTOR_MODULE_ARG = "--add-modules=jdk.incubator.vector";
+
+    @Param({ "0.5", "0.6", "0.7", "0.8", "0.9" })
+    private float loadFactor;
+
+    @Param({ "4096", "1048576" })
+    private int capacity;
+
+    private int lookupIndex;
+    private final int[] hitKeys = new int[LOOKUP_KEY_COUNT];
+    private final int[] missKeys = new int[LOOKUP_KEY_COUNT];
+    private Int2IntHashMap map;
+    private IntHashSet set;
+
+    /**
+     * Default constructor.
+     */
+    public PrimitiveHashProbeBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        map = new Int2IntHashMap(capacity, loadFactor, MISSING_VALUE);
+        set = new IntHashSet(capacity, loadFactor);
+
+        final Random random = new Random(42);
+        final int[] keys = new int[map.resizeThreshold()];
+        for (int i = 0; i < keys.length; i++)
+        {
+            int key;
+            do
+            {
+                key = random.nextInt() & Integer.MAX_VALUE;
+            }
+            while (0 == key || map.containsKey(key));
+
+            keys[i] = key;
+            map.put(key, i);
+            set.add(key);
+        }
+
+        for (int i = 0; i < LOOKUP_KEY_COUNT; i++)
+        {
+            hitKeys[i] = keys[random.nextInt(keys.length)];
+            missKeys[i] = -1 - (random.nextInt() & Integer.MAX_VALUE);
+        }
+
+        if (capacity != map.capacity() || capacity != set.capacity())
+        {
+            throw new IllegalStateException("resized during setup: capacity=" + capacity);
+        }
+    }
+
+    /**
+     * Get a key which is present in the map.
+     *
+     * @return value for the key.
+     */
+    @Benchmark
+    public int mapGetHit()
+    {
+        return map.get(hitKeys[nextLookupIndex()]);
+    }
+
+    /**
+     * Get a key which is not present in the map.
+     *
+     * @return {@link Int2IntHashMap#missingValue()}.
+     */
+    @Benchmark
+    public int mapGetMiss()
+    {
+        return map.get(missKeys[nextLookupIndex()]);
+    }
+
+    /**
+     * Check for a value which is present in the set.
+     *
+     * @return true.
+     */
+    @Benchmark
+    public boolean setContainsHit()
+    {
+        return set.contains(hitKeys[nextLookupIndex()]);
+    }
+
+    /**
+     * Check for a value which is not present in the set.
+     *
+     * @return false.
+     */
+    @Benchmark
+    public boolean setContainsMiss()
+    {
+        return set.contains(missKeys[nextLookupIndex()]);
+    }
+
+    /**
+     * Get a key which is present in the map using the vectorised probe.
+     *
+     * @return value for the key.
+     */
+    @Benchmark
+    @Fork(value = 3, jvmArgsPrepend = { "-Dagrona.disable.bounds.checks=true", VECTOR_MODULE_ARG })
+    public int mapGetHitVector()
+    {
+        return map.get(hitKeys[nextLookupIndex()]);
+    }
+
+    /**
+     * Get a key which is not present in the map using the vectorised probe.
+     *
+     * @return {@link Int2IntHashMap#missingValue()}.
+     */
+    @Benchmark
+    @Fork(value = 3, jvmArgsPrepend = { "-Dagrona.disable.bounds.checks=true", VECTOR_MODULE_ARG })
+    public int mapGetMissVector()
+    {
+        return map.get(missKeys[nextLookupIndex()]);
+    }
+
+    /**
+     * Check for a value which is present in the set using the vectorised probe.
+     *
+     * @return true.
+     */
+    @Benchmark
+    @Fork(value = 3, jvmArgsPrepend = { "-Dagrona.disable.bounds.checks=true", VECTOR_MODULE_ARG })
+    public boolean setContainsHitVector()
+    {
+        return set.contains(hitKeys[nextLookupIndex()]);
+    }
+
+    /**
+     * Check for a value which is not present in the set using the vectorised probe.
+     *
+     * @return false.
+     */
+    @Benchmark
+    @Fork(value = 3, jvmArgsPrepend = { "-Dagrona.disable.bounds.checks=true", VECTOR_MODULE_ARG })
+    public boolean setContainsMissVector()
+    {
+        return set.contains(missKeys[nextLookupIndex()]);
+    }
+
+    private int nextLookupIndex()
+    {
+        final int index = lookupIndex;
+        lookupIndex = (index + 1) & (LOOKUP_KEY_COUNT - 1);
+
+        return index;
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(PrimitiveHashProbeBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
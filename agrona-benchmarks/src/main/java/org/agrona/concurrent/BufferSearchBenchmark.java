@@ -0,0 +1,165 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
+/**
+ * Benchmark for the {@link org.agrona.DirectBuffer#indexOf(int, int, byte)},
+ * {@link org.agrona.DirectBuffer#indexOf(int, int, byte[])}, and
+ * {@link org.agrona.DirectBuffer#mismatch(int, org.agrona.DirectBuffer, int, int)} methods compared with a byte at a
+ * time loop.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class BufferSearchBenchmark
+{
+    private static final byte DELIMITER = '\n';
+    private static final byte[] PATTERN = "\r\n".getBytes(US_ASCII);
+
+    @Param({ "8", "32", "128", "1024" })
+    private int length;
+
+    private UnsafeBuffer buffer;
+    private UnsafeBuffer otherBuffer;
+
+    /**
+     * Default constructor.
+     */
+    public BufferSearchBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        buffer = new UnsafeBuffer(allocateDirectAligned(length + 1, 32));
+        otherBuffer = new UnsafeBuffer(allocateDirectAligned(length + 1, 32));
+
+        for (int i = 0; i < length; i++)
+        {
+            final byte value = (byte)('a' + (i % 26));
+            buffer.putByte(i, value);
+            otherBuffer.putByte(i, value);
+        }
+
+        buffer.putByte(length - 1, (byte)'\r');
+        buffer.putByte(length, DELIMITER);
+        otherBuffer.putByte(length, (byte)0);
+    }
+
+    /**
+     * Benchmark finding a delimiter with {@link UnsafeBuffer#indexOf(int, int, byte)}.
+     *
+     * @return index of the delimiter.
+     */
+    @Benchmark
+    public int indexOfByte()
+    {
+        return buffer.indexOf(0, length + 1, DELIMITER);
+    }
+
+    /**
+     * Benchmark finding a delimiter one byte at a time.
+     *
+     * @return index of the delimiter.
+     */
+    @Benchmark
+    public int indexOfByteLoop()
+    {
+        final UnsafeBuffer buffer = this.buffer;
+        for (int i = 0, limit = length + 1; i < limit; i++)
+        {
+            if (DELIMITER == buffer.getByte(i))
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Benchmark finding a multibyte delimiter with {@link UnsafeBuffer#indexOf(int, int, byte[])}.
+     *
+     * @return index of the delimiter.
+     */
+    @Benchmark
+    public int indexOfPattern()
+    {
+        return buffer.indexOf(0, length + 1, PATTERN);
+    }
+
+    /**
+     * Benchmark comparing ranges with {@link UnsafeBuffer#mismatch(int, org.agrona.DirectBuffer, int, int)}.
+     *
+     * @return offset of the first byte which differs.
+     */
+    @Benchmark
+    public int mismatch()
+    {
+        return buffer.mismatch(0, otherBuffer, 0, length + 1);
+    }
+
+    /**
+     * Benchmark comparing ranges one byte at a time.
+     *
+     * @return offset of the first byte which differs.
+     */
+    @Benchmark
+    public int mismatchLoop()
+    {
+        final UnsafeBuffer buffer = this.buffer;
+        final UnsafeBuffer otherBuffer = this.otherBuffer;
+        for (int i = 0, limit = length + 1; i < limit; i++)
+        {
+            if (buffer.getByte(i) != otherBuffer.getByte(i))
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(BufferSearchBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.Utf8StringCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decoding UTF-8 Strings from a buffer via the
+ * {@link org.agrona.DirectBuffer#getStringWithoutLengthUtf8(int, int, Appendable)} method and a
+ * {@link Utf8StringCache} compared to allocating a new String.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class MutableDirectBufferGetStringUtf8Benchmark
+{
+    private static final int CAPACITY = 128;
+
+    @Param({
+        "AAPL",
+        "EUR/USD",
+        "an order identifier of forty bytes long!",
+        "Z\u00fcrich B\u00f6rse \u20ac" })
+    private String value;
+    private int length;
+
+    private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY));
+    private final StringBuilder builder = new StringBuilder(CAPACITY);
+    private final Utf8StringCache cache = new Utf8StringCache(1024, 64);
+
+    /**
+     * Default constructor.
+     */
+    public MutableDirectBufferGetStringUtf8Benchmark()
+    {
+    }
+
+    /**
+     * Setup test data.
+     */
+    @Setup
+    public void setup()
+    {
+        length = unsafeBuffer.putStringWithoutLengthUtf8(0, value);
+    }
+
+    /**
+     * Benchmark the {@link UnsafeBuffer#getStringWithoutLengthUtf8(int, int)} method which allocates a String.
+     *
+     * @return decoded String.
+     */
+    @Benchmark
+    public String getString()
+    {
+        return unsafeBuffer.getStringWithoutLengthUtf8(0, length);
+    }
+
+    /**
+     * Benchmark the {@link UnsafeBuffer#getStringWithoutLengthUtf8(int, int, Appendable)} method into a reused
+     * {@link StringBuilder}.
+     *
+     * @return builder containing the decoded chars.
+     */
+    @Benchmark
+    public StringBuilder appendToStringBuilder()
+    {
+        builder.setLength(0);
+        unsafeBuffer.getStringWithoutLengthUtf8(0, length, builder);
+
+        return builder;
+    }
+
+    /**
+     * Benchmark the {@link Utf8StringCache#getStringWithoutLengthUtf8(org.agrona.DirectBuffer, int, int)} method
+     * when the String has been cached.
+     *
+     * @return cached String.
+     */
+    @Benchmark
+    public String cachedString()
+    {
+        return cache.getStringWithoutLengthUtf8(unsafeBuffer, 0, length);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the {@link org.agrona.MutableDirectBuffer#parseDecimalAscii(int, int, int)} method.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class MutableDirectBufferParseDecimalAsciiBenchmark
+{
+    private static final int CAPACITY = 32;
+    private static final int SCALE = 8;
+
+    @Param({
+        "0",
+        "-0.5",
+        "101.25",
+        "-27085.14625",
+        "1234567890.12345678",
+        "92233720368.54775807" })
+    private String value;
+    private int length;
+
+    private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY));
+    private final ExpandableArrayBuffer expandableArrayBuffer = new ExpandableArrayBuffer(CAPACITY);
+    private final ExpandableDirectByteBuffer expandableDirectByteBuffer = new ExpandableDirectByteBuffer(CAPACITY);
+
+    /**
+     * Default constructor.
+     */
+    public MutableDirectBufferParseDecimalAsciiBenchmark()
+    {
+    }
+
+    /**
+     * Setup test data.
+     */
+    @Setup
+    public void setup()
+    {
+        length = value.length();
+        unsafeBuffer.putStringWithoutLengthAscii(0, value);
+        expandableArrayBuffer.putStringWithoutLengthAscii(0, value);
+        expandableDirectByteBuffer.putStringWithoutLengthAscii(0, value);
+    }
+
+    /**
+     * Benchmark the {@link UnsafeBuffer#parseDecimalAscii(int, int, int)} method.
+     *
+     * @return parsed mantissa.
+     */
+    @Benchmark
+    public long unsafeBuffer()
+    {
+        return unsafeBuffer.parseDecimalAscii(0, length, SCALE);
+    }
+
+    /**
+     * Benchmark the {@link ExpandableArrayBuffer#parseDecimalAscii(int, int, int)} method.
+     *
+     * @return parsed mantissa.
+     */
+    @Benchmark
+    public long expandableArrayBuffer()
+    {
+        return expandableArrayBuffer.parseDecimalAscii(0, length, SCALE);
+    }
+
+    /**
+     * Benchmark the {@link ExpandableDirectByteBuffer#parseDecimalAscii(int, int, int)} method.
+     *
+     * @return parsed mantissa.
+     */
+    @Benchmark
+    public long expandableDirectByteBuffer()
+    {
+        return expandableDirectByteBuffer.parseDecimalAscii(0, length, SCALE);
+    }
+
+    /**
+     * Benchmark the {@link Double#parseDouble(String)} method on a string decoded from the buffer as decoders do
+     * without a decimal parser.
+     *
+     * @return parsed value.
+     */
+    @Benchmark
+    public double doubleParseDouble()
+    {
+        return Double.parseDouble(unsafeBuffer.getStringWithoutLengthAscii(0, length));
+    }
+}
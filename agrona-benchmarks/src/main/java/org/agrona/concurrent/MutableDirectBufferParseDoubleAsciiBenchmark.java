@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the {@link org.agrona.MutableDirectBuffer#parseDoubleAscii(int, int)} method.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class MutableDirectBufferParseDoubleAsciiBenchmark
+{
+    private static final int CAPACITY = 32;
+
+    @Param({
+        "0.0",
+        "101.25",
+        "-27085.14625",
+        "0.1",
+        "1.2345678901234567E-300",
+        "3.141592653589793" })
+    private String value;
+    private int length;
+
+    private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY));
+    private final ExpandableArrayBuffer expandableArrayBuffer = new ExpandableArrayBuffer(CAPACITY);
+    private final ExpandableDirectByteBuffer expandableDirectByteBuffer = new ExpandableDirectByteBuffer(CAPACITY);
+
+    /**
+     * Default constructor.
+     */
+    public MutableDirectBufferParseDoubleAsciiBenchmark()
+    {
+    }
+
+    /**
+     * Setup test data.
+     */
+    @Setup
+    public void setup()
+    {
+        length = value.length();
+        unsafeBuffer.putStringWithoutLengthAscii(0, value);
+        expandableArrayBuffer.putStringWithoutLengthAscii(0, value);
+        expandableDirectByteBuffer.putStringWithoutLengthAscii(0, value);
+    }
+
+    /**
+     * Benchmark the {@link UnsafeBuffer#parseDoubleAscii(int, int)} method.
+     *
+     * @return parsed value.
+     */
+    @Benchmark
+    public double unsafeBuffer()
+    {
+        return unsafeBuffer.parseDoubleAscii(0, length);
+    }
+
+    /**
+     * Benchmark the {@link ExpandableArrayBuffer#parseDoubleAscii(int, int)} method.
+     *
+     * @return parsed value.
+     */
+    @Benchmark
+    public double expandableArrayBuffer()
+    {
+        return expandableArrayBuffer.parseDoubleAscii(0, length);
+    }
+
+    /**
+     * Benchmark the {@link ExpandableDirectByteBuffer#parseDoubleAscii(int, int)} method.
+     *
+     * @return parsed value.
+     */
+    @Benchmark
+    public double expandableDirectByteBuffer()
+    {
+        return expandableDirectByteBuffer.parseDoubleAscii(0, length);
+    }
+
+    /**
+     * Benchmark the {@link Double#parseDouble(String)} method on a string decoded from the buffer as decoders do
+     * without a double parser.
+     *
+     * @return parsed value.
+     */
+    @Benchmark
+    public double doubleParseDouble()
+    {
+        return Double.parseDouble(unsafeBuffer.getStringWithoutLengthAscii(0, length));
+    }
+}
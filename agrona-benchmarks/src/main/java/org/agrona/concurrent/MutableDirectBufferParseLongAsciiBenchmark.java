@@ -41,7 +41,9 @@ public class MutableDirectBufferParseLongAsciiBenchmark
         "0",
         "-9182",
         "27085146",
+        "123456789012",
         "1010101010101010",
+        "-12345678901234567",
         "8999999999999999999",
         "9223372036854775807" })
     private String value;
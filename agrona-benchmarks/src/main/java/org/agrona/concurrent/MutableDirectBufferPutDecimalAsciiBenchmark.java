@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the {@link org.agrona.MutableDirectBuffer#putDecimalAscii(int, long, int)} method.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class MutableDirectBufferPutDecimalAsciiBenchmark
+{
+    private static final int CAPACITY = 32;
+    private static final int SCALE = 8;
+
+    @Param({
+        "0",
+        "-50000000",
+        "10125000000",
+        "-2708514625000",
+        "123456789012345678",
+        "9223372036854775807" })
+    private long mantissa;
+
+    private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY));
+    private final ExpandableArrayBuffer expandableArrayBuffer = new ExpandableArrayBuffer(CAPACITY);
+    private final ExpandableDirectByteBuffer expandableDirectByteBuffer = new ExpandableDirectByteBuffer(CAPACITY);
+
+    /**
+     * Default constructor.
+     */
+    public MutableDirectBufferPutDecimalAsciiBenchmark()
+    {
+    }
+
+    /**
+     * Benchmark the {@link UnsafeBuffer#putDecimalAscii(int, long, int)} method.
+     *
+     * @return length in bytes of the written value.
+     */
+    @Benchmark
+    public int unsafeBuffer()
+    {
+        return unsafeBuffer.putDecimalAscii(0, mantissa, SCALE);
+    }
+
+    /**
+     * Benchmark the {@link ExpandableArrayBuffer#putDecimalAscii(int, long, int)} method.
+     *
+     * @return length in bytes of the written value.
+     */
+    @Benchmark
+    public int expandableArrayBuffer()
+    {
+        return expandableArrayBuffer.putDecimalAscii(0, mantissa, SCALE);
+    }
+
+    /**
+     * Benchmark the {@link ExpandableDirectByteBuffer#putDecimalAscii(int, long, int)} method.
+     *
+     * @return length in bytes of the written value.
+     */
+    @Benchmark
+    public int expandableDirectByteBuffer()
+    {
+        return expandableDirectByteBuffer.putDecimalAscii(0, mantissa, SCALE);
+    }
+
+    /**
+     * Benchmark the {@link BigDecimal#toPlainString()} method.
+     *
+     * @return string representation of a decimal value.
+     */
+    @Benchmark
+    public String bigDecimalToPlainString()
+    {
+        return BigDecimal.valueOf(mantissa, SCALE).toPlainString();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the {@link org.agrona.MutableDirectBuffer#putDoubleAscii(int, double)} and
+ * {@link org.agrona.MutableDirectBuffer#putFloatAscii(int, float)} methods.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class MutableDirectBufferPutDoubleAsciiBenchmark
+{
+    private static final int CAPACITY = 32;
+
+    @Param({
+        "0.0",
+        "101.25",
+        "-27085.14625",
+        "0.1",
+        "1.2345678901234567E-300",
+        "3.141592653589793" })
+    private double value;
+    private float floatValue;
+
+    private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY));
+    private final ExpandableArrayBuffer expandableArrayBuffer = new ExpandableArrayBuffer(CAPACITY);
+    private final ExpandableDirectByteBuffer expandableDirectByteBuffer = new ExpandableDirectByteBuffer(CAPACITY);
+
+    /**
+     * Default constructor.
+     */
+    public MutableDirectBufferPutDoubleAsciiBenchmark()
+    {
+    }
+
+    /**
+     * Setup test data.
+     */
+    @Setup
+    public void setup()
+    {
+        floatValue = (float)value;
+    }
+
+    /**
+     * Benchmark the {@link UnsafeBuffer#putDoubleAscii(int, double)} method.
+     *
+     * @return length in bytes of the written value.
+     */
+    @Benchmark
+    public int unsafeBuffer()
+    {
+        return unsafeBuffer.putDoubleAscii(0, value);
+    }
+
+    /**
+     * Benchmark the {@link ExpandableArrayBuffer#putDoubleAscii(int, double)} method.
+     *
+     * @return length in bytes of the written value.
+     */
+    @Benchmark
+    public int expandableArrayBuffer()
+    {
+        return expandableArrayBuffer.putDoubleAscii(0, value);
+    }
+
+    /**
+     * Benchmark the {@link ExpandableDirectByteBuffer#putDoubleAscii(int, double)} method.
+     *
+     * @return length in bytes of the written value.
+     */
+    @Benchmark
+    public int expandableDirectByteBuffer()
+    {
+        return expandableDirectByteBuffer.putDoubleAscii(0, value);
+    }
+
+    /**
+     * Benchmark the {@link UnsafeBuffer#putFloatAscii(int, float)} method.
+     *
+     * @return length in bytes of the written value.
+     */
+    @Benchmark
+    public int unsafeBufferFloat()
+    {
+        return unsafeBuffer.putFloatAscii(0, floatValue);
+    }
+
+    /**
+     * Benchmark the {@link Double#toString(double)} method followed by
+     * {@link UnsafeBuffer#putStringWithoutLengthAscii(int, String)} as encoders do without a double formatter.
+     *
+     * @return length in bytes of the written value.
+     */
+    @Benchmark
+    public int doubleToString()
+    {
+        return unsafeBuffer.putStringWithoutLengthAscii(0, Double.toString(value));
+    }
+}
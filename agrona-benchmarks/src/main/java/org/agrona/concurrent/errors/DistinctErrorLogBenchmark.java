@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.errors;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.SystemEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+
+/**
+ * Benchmark for {@link DistinctErrorLog#record(Throwable)} of repeat observations from many threads as happens in an
+ * error storm, and for a {@link RateLimitedErrorHandler} which only samples them into the log.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class DistinctErrorLogBenchmark
+{
+    private static final int DISTINCT_ERROR_COUNT = 64;
+
+    private DistinctErrorLog log;
+    private RateLimitedErrorHandler rateLimitedErrorHandler;
+    private final Exception[] errors = new Exception[DISTINCT_ERROR_COUNT];
+
+    /**
+     * Default constructor.
+     */
+    public DistinctErrorLogBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        log = new DistinctErrorLog(new UnsafeBuffer(allocateDirectAligned(1024 * 1024, 64)), new CachedEpochClock());
+        for (int i = 0; i < DISTINCT_ERROR_COUNT; i++)
+        {
+            errors[i] = new IllegalStateException("error " + i);
+            log.record(errors[i]);
+        }
+
+        final CountersManager countersManager = new CountersManager(
+            new UnsafeBuffer(allocateDirectAligned(METADATA_LENGTH, 64)),
+            new UnsafeBuffer(allocateDirectAligned(COUNTER_LENGTH, 64)),
+            StandardCharsets.US_ASCII);
+        rateLimitedErrorHandler = new RateLimitedErrorHandler(
+            new LoggingErrorHandler(log), countersManager.newCounter("errors"), new SystemEpochClock(), 1000);
+    }
+
+    /**
+     * Thread local index of the next error to record.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState
+    {
+        int index;
+
+        /**
+         * Default constructor.
+         */
+        public ThreadState()
+        {
+        }
+    }
+
+    /**
+     * Record a repeat observation from one thread.
+     *
+     * @param threadState for the recording thread.
+     * @return true if recorded.
+     */
+    @Benchmark
+    @Threads(1)
+    public boolean record1(final ThreadState threadState)
+    {
+        return record(threadState);
+    }
+
+    /**
+     * Record a repeat observation from four threads.
+     *
+     * @param threadState for the recording thread.
+     * @return true if recorded.
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean record4(final ThreadState threadState)
+    {
+        return record(threadState);
+    }
+
+    /**
+     * Handle a repeat error with rate limiting from one thread.
+     *
+     * @param threadState for the recording thread.
+     */
+    @Benchmark
+    @Threads(1)
+    public void rateLimited1(final ThreadState threadState)
+    {
+        rateLimitedErrorHandler.onError(errors[threadState.index++ & (DISTINCT_ERROR_COUNT - 1)]);
+    }
+
+    /**
+     * Handle a repeat error with rate limiting from four threads.
+     *
+     * @param threadState for the recording thread.
+     */
+    @Benchmark
+    @Threads(4)
+    public void rateLimited4(final ThreadState threadState)
+    {
+        rateLimitedErrorHandler.onError(errors[threadState.index++ & (DISTINCT_ERROR_COUNT - 1)]);
+    }
+
+    private boolean record(final ThreadState threadState)
+    {
+        return log.record(errors[threadState.index++ & (DISTINCT_ERROR_COUNT - 1)]);
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(DistinctErrorLogBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
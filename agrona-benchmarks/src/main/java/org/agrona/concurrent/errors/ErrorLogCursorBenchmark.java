@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.errors;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
+/**
+ * Benchmark for polling a full log with {@link ErrorLogCursor} compared with rereading it with
+ * {@link ErrorLogReader#read(org.agrona.concurrent.AtomicBuffer, ErrorConsumer)} when one entry has changed.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class ErrorLogCursorBenchmark
+{
+    private static final int LOG_LENGTH = 1024 * 1024;
+
+    private int index;
+    private UnsafeBuffer buffer;
+    private DistinctErrorLog log;
+    private ErrorLogCursor cursor;
+    private Exception[] errors;
+
+    /**
+     * Default constructor.
+     */
+    public ErrorLogCursorBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        buffer = new UnsafeBuffer(allocateDirectAligned(LOG_LENGTH, 64));
+        log = new DistinctErrorLog(buffer, new CachedEpochClock());
+
+        final ArrayList<Exception> recordedErrors = new ArrayList<>();
+        while (true)
+        {
+            final Exception error = new IllegalStateException("error " + recordedErrors.size());
+            if (!log.record(error))
+            {
+                break;
+            }
+            recordedErrors.add(error);
+        }
+        errors = recordedErrors.toArray(new Exception[0]);
+
+        cursor = new ErrorLogCursor(buffer);
+        cursor.poll((observationCount, firstTimestamp, lastTimestamp, encodedException) -> {});
+    }
+
+    /**
+     * Record an error and reread the whole log.
+     *
+     * @param bh black hole.
+     * @return number of entries read.
+     */
+    @Benchmark
+    public int readAll(final Blackhole bh)
+    {
+        recordNext();
+        return ErrorLogReader.read(
+            buffer,
+            (observationCount, firstTimestamp, lastTimestamp, encodedException) -> bh.consume(encodedException));
+    }
+
+    /**
+     * Record an error and poll the cursor for the changed entry.
+     *
+     * @param bh black hole.
+     * @return number of entries reported.
+     */
+    @Benchmark
+    public int pollCursor(final Blackhole bh)
+    {
+        recordNext();
+        return cursor.poll(
+            (observationCount, firstTimestamp, lastTimestamp, encodedException) -> bh.consume(encodedException));
+    }
+
+    private void recordNext()
+    {
+        log.record(errors[index]);
+        index = (index + 1) % errors.length;
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(ErrorLogCursorBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
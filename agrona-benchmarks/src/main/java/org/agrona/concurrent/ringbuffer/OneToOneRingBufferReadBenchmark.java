@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.BitUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.MessageHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.concurrent.ringbuffer.RecordDescriptor.*;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+
+/**
+ * Benchmark for comparing {@link OneToOneRingBuffer#read(MessageHandler, int)} with
+ * {@link OneToOneRingBuffer#readBatch(RecordBatchHandler, int)} when draining a burst of small messages.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class OneToOneRingBufferReadBenchmark
+{
+    private static final int MSG_TYPE_ID = 1;
+    private static final int CAPACITY = 64 * 1024;
+
+    // burst lengths divide the capacity in records so a burst is never split by padding at the end of the buffer
+    @Param({ "1", "8", "32", "64" })
+    private int burstLength;
+
+    private long sum;
+    private OneToOneRingBuffer ringBuffer;
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[BitUtil.SIZE_OF_LONG]);
+    private final MessageHandler messageHandler = this::onMessage;
+    private final RecordBatchHandler recordBatchHandler = this::onRecords;
+
+    /**
+     * Default constructor.
+     */
+    public OneToOneRingBufferReadBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        ringBuffer = new OneToOneRingBuffer(new UnsafeBuffer(allocateDirectAligned(CAPACITY + TRAILER_LENGTH, 64)));
+    }
+
+    /**
+     * Benchmark reading messages with a callback per message.
+     *
+     * @return sum of the message values to prevent dead code elimination.
+     */
+    @Benchmark
+    public long read()
+    {
+        writeBurst();
+        ringBuffer.read(messageHandler, burstLength);
+
+        return sum;
+    }
+
+    /**
+     * Benchmark reading messages with a single callback for a contiguous run of records.
+     *
+     * @return sum of the message values to prevent dead code elimination.
+     */
+    @Benchmark
+    public long readBatch()
+    {
+        writeBurst();
+        ringBuffer.readBatch(recordBatchHandler, burstLength);
+
+        return sum;
+    }
+
+    private void writeBurst()
+    {
+        final OneToOneRingBuffer ringBuffer = this.ringBuffer;
+        final UnsafeBuffer srcBuffer = this.srcBuffer;
+
+        for (int i = 0, length = burstLength; i < length; i++)
+        {
+            srcBuffer.putLong(0, i);
+            ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, BitUtil.SIZE_OF_LONG);
+        }
+    }
+
+    private void onMessage(final int msgTypeId, final MutableDirectBuffer buffer, final int index, final int length)
+    {
+        sum += buffer.getLong(index);
+    }
+
+    private void onRecords(final MutableDirectBuffer buffer, final int index, final int limit, final int messageCount)
+    {
+        long sum = this.sum;
+        int recordIndex = index;
+        while (recordIndex < limit)
+        {
+            final int recordLength = buffer.getInt(lengthOffset(recordIndex));
+            if (RingBuffer.PADDING_MSG_TYPE_ID != buffer.getInt(typeOffset(recordIndex)))
+            {
+                sum += buffer.getLong(encodedMsgOffset(recordIndex));
+            }
+
+            recordIndex += BitUtil.align(recordLength, ALIGNMENT);
+        }
+
+        this.sum = sum;
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(OneToOneRingBufferReadBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
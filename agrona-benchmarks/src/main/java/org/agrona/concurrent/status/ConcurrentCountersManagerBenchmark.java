@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+
+/**
+ * Benchmark for {@link ConcurrentCountersManager#allocate(String, int)} and {@link ConcurrentCountersManager#free(int)}
+ * when many threads allocate and free counters at the same time.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class ConcurrentCountersManagerBenchmark
+{
+    private static final int COUNTER_COUNT = 4096;
+    private static final int TYPE_ID = 101;
+
+    private ConcurrentCountersManager countersManager;
+
+    /**
+     * Default constructor.
+     */
+    public ConcurrentCountersManagerBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        countersManager = new ConcurrentCountersManager(
+            new UnsafeBuffer(allocateDirectAligned(COUNTER_COUNT * METADATA_LENGTH, COUNTER_LENGTH)),
+            new UnsafeBuffer(allocateDirectAligned(COUNTER_COUNT * COUNTER_LENGTH, COUNTER_LENGTH)),
+            StandardCharsets.US_ASCII,
+            new CachedEpochClock(),
+            0);
+    }
+
+    /**
+     * Allocate and then free a counter.
+     *
+     * @return counter id.
+     */
+    @Benchmark
+    @Threads(1)
+    public int allocateAndFree1()
+    {
+        return allocateAndFree();
+    }
+
+    /**
+     * Allocate and then free a counter from two threads.
+     *
+     * @return counter id.
+     */
+    @Benchmark
+    @Threads(2)
+    public int allocateAndFree2()
+    {
+        return allocateAndFree();
+    }
+
+    /**
+     * Allocate and then free a counter from four threads.
+     *
+     * @return counter id.
+     */
+    @Benchmark
+    @Threads(4)
+    public int allocateAndFree4()
+    {
+        return allocateAndFree();
+    }
+
+    private int allocateAndFree()
+    {
+        final int counterId = countersManager.allocate("counter", TYPE_ID);
+        countersManager.free(counterId);
+
+        return counterId;
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(ConcurrentCountersManagerBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+
+/**
+ * Benchmark for {@link CountersReader#findByRegistrationId(long)} and
+ * {@link CountersReader#findByTypeIdAndRegistrationId(int, long)} with and without a registration id index.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class CountersFindBenchmark
+{
+    private static final int TYPE_ID = 101;
+
+    @Param({ "1000", "50000" })
+    private int counterCount;
+    @Param({ "true", "false" })
+    private boolean indexed;
+
+    private long lastRegistrationId;
+    private CountersReader reader;
+
+    /**
+     * Default constructor.
+     */
+    public CountersFindBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+            allocateDirectAligned(counterCount * METADATA_LENGTH, COUNTER_LENGTH));
+        final UnsafeBuffer valuesBuffer = new UnsafeBuffer(
+            allocateDirectAligned(counterCount * COUNTER_LENGTH, COUNTER_LENGTH));
+        final UnsafeBuffer indexBuffer = indexed ? new UnsafeBuffer(allocateDirectAligned(
+            CountersReader.registrationIdIndexLength(counterCount), COUNTER_LENGTH)) : null;
+
+        final CountersManager countersManager = new CountersManager(
+            metaDataBuffer, valuesBuffer, indexBuffer, StandardCharsets.US_ASCII, new CachedEpochClock(), 0);
+
+        for (int i = 0; i < counterCount; i++)
+        {
+            final int counterId = countersManager.allocate("counter " + i, TYPE_ID);
+            countersManager.setCounterRegistrationId(counterId, 1_000_000L + i);
+        }
+
+        lastRegistrationId = 1_000_000L + counterCount - 1;
+        reader = new CountersReader(metaDataBuffer, valuesBuffer, indexBuffer, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Find the last allocated counter by registration id.
+     *
+     * @return counter id.
+     */
+    @Benchmark
+    public int findByRegistrationId()
+    {
+        return reader.findByRegistrationId(lastRegistrationId);
+    }
+
+    /**
+     * Find the last allocated counter by type id and registration id.
+     *
+     * @return counter id.
+     */
+    @Benchmark
+    public int findByTypeIdAndRegistrationId()
+    {
+        return reader.findByTypeIdAndRegistrationId(TYPE_ID, lastRegistrationId);
+    }
+
+    /**
+     * Find a registration id which has no counter.
+     *
+     * @return counter id.
+     */
+    @Benchmark
+    public int findMissingRegistrationId()
+    {
+        return reader.findByRegistrationId(-1);
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(CountersFindBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+
+/**
+ * Benchmark for polling all counters with {@link CountersSnapshot#capture(long)} compared with
+ * {@link CountersReader#forEach(CountersReader.CounterConsumer)} which decodes a label per counter.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class CountersSnapshotBenchmark
+{
+    @Param({ "1000", "100000" })
+    private int counterCount;
+
+    private long timestampNs;
+    private CountersManager countersManager;
+    private CountersSnapshot countersSnapshot;
+
+    /**
+     * Default constructor.
+     */
+    public CountersSnapshotBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        countersManager = new CountersManager(
+            new UnsafeBuffer(allocateDirectAligned(counterCount * METADATA_LENGTH, COUNTER_LENGTH)),
+            new UnsafeBuffer(allocateDirectAligned(counterCount * COUNTER_LENGTH, COUNTER_LENGTH)),
+            StandardCharsets.US_ASCII);
+
+        for (int i = 0; i < counterCount; i++)
+        {
+            final int counterId = countersManager.allocate("counter " + i);
+            countersManager.setCounterRegistrationId(counterId, i);
+            countersManager.setCounterValue(counterId, i);
+        }
+
+        countersSnapshot = new CountersSnapshot(countersManager);
+    }
+
+    /**
+     * Poll all counters via {@link CountersReader#forEach(CountersReader.CounterConsumer)}.
+     *
+     * @param bh black hole.
+     */
+    @Benchmark
+    public void forEach(final Blackhole bh)
+    {
+        countersManager.forEach((value, counterId, label) -> bh.consume(value));
+    }
+
+    /**
+     * Poll all counters via {@link CountersSnapshot#capture(long)} and consume the rates.
+     *
+     * @param bh black hole.
+     */
+    @Benchmark
+    public void captureAndRate(final Blackhole bh)
+    {
+        final CountersSnapshot countersSnapshot = this.countersSnapshot;
+        timestampNs += 1_000_000_000L;
+        countersSnapshot.capture(timestampNs);
+
+        for (int counterId = 0, limit = countersSnapshot.limit(); counterId < limit; counterId++)
+        {
+            bh.consume(countersSnapshot.rate(counterId));
+        }
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(CountersSnapshotBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
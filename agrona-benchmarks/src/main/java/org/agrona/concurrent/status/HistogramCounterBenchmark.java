@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+
+/**
+ * Benchmark for {@link HistogramCounter#record(long)} and reading a {@link HistogramSnapshot}.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class HistogramCounterBenchmark
+{
+    private static final int COUNTER_COUNT = 64;
+    private static final int VALUE_COUNT = 1024;
+    private static final int VALUE_MASK = VALUE_COUNT - 1;
+
+    private int index;
+    private final long[] values = new long[VALUE_COUNT];
+    private final HistogramSnapshot snapshot = new HistogramSnapshot();
+    private CountersReader countersReader;
+    private HistogramCounter histogramCounter;
+
+    /**
+     * Default constructor.
+     */
+    public HistogramCounterBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        final CountersManager countersManager = new CountersManager(
+            new UnsafeBuffer(allocateDirectAligned(COUNTER_COUNT * METADATA_LENGTH, COUNTER_LENGTH)),
+            new UnsafeBuffer(allocateDirectAligned(COUNTER_COUNT * COUNTER_LENGTH, COUNTER_LENGTH)),
+            StandardCharsets.US_ASCII);
+
+        countersReader = countersManager;
+        histogramCounter = new HistogramCounter(countersManager, "latency", 101, 1L << 36, 4);
+
+        for (int i = 0; i < VALUE_COUNT; i++)
+        {
+            values[i] = ThreadLocalRandom.current().nextLong(1L << (1 + (i % 36)));
+            histogramCounter.record(values[i]);
+        }
+    }
+
+    /**
+     * Record a value.
+     */
+    @Benchmark
+    public void record()
+    {
+        histogramCounter.record(values[index++ & VALUE_MASK]);
+    }
+
+    /**
+     * Read a snapshot of the histogram and compute a percentile.
+     *
+     * @return the 99th percentile.
+     */
+    @Benchmark
+    public long snapshotPercentile()
+    {
+        snapshot.read(countersReader, histogramCounter.id());
+        return snapshot.valueAtPercentile(99.0);
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(HistogramCounterBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+
+/**
+ * Benchmark for {@link StripedCounter#increment()} compared with {@link AtomicCounter#increment()} when many threads
+ * increment the same counter.
+ */
+@Fork(value = 3, jvmArgsPrepend = "-Dagrona.disable.bounds.checks=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class StripedCounterBenchmark
+{
+    private static final int COUNTER_COUNT = 32;
+    private static final int STRIPE_COUNT = 16;
+
+    private AtomicCounter atomicCounter;
+    private StripedCounter stripedCounter;
+
+    /**
+     * Default constructor.
+     */
+    public StripedCounterBenchmark()
+    {
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup()
+    {
+        final CountersManager countersManager = new CountersManager(
+            new UnsafeBuffer(allocateDirectAligned(COUNTER_COUNT * METADATA_LENGTH, COUNTER_LENGTH)),
+            new UnsafeBuffer(allocateDirectAligned(COUNTER_COUNT * COUNTER_LENGTH, COUNTER_LENGTH)),
+            StandardCharsets.US_ASCII);
+
+        atomicCounter = countersManager.newCounter("atomic");
+        stripedCounter = new StripedCounter(countersManager, "striped", STRIPE_COUNT);
+    }
+
+    /**
+     * Increment an {@link AtomicCounter} from one thread.
+     */
+    @Benchmark
+    @Threads(1)
+    public void atomicCounter1()
+    {
+        atomicCounter.increment();
+    }
+
+    /**
+     * Increment an {@link AtomicCounter} from four threads.
+     */
+    @Benchmark
+    @Threads(4)
+    public void atomicCounter4()
+    {
+        atomicCounter.increment();
+    }
+
+    /**
+     * Increment a {@link StripedCounter} from one thread.
+     */
+    @Benchmark
+    @Threads(1)
+    public void stripedCounter1()
+    {
+        stripedCounter.increment();
+    }
+
+    /**
+     * Increment a {@link StripedCounter} from four threads.
+     */
+    @Benchmark
+    @Threads(4)
+    public void stripedCounter4()
+    {
+        stripedCounter.increment();
+    }
+
+    /**
+     * Runner method that allows starting benchmark directly.
+     *
+     * @param args for the main method.
+     * @throws RunnerException in case if JMH throws while starting the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .include(StripedCounterBenchmark.class.getName()).shouldFailOnError(true).build())
+            .run();
+    }
+}
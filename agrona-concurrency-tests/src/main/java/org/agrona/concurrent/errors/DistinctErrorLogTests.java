@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.errors;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZII_Result;
+
+import static java.nio.ByteBuffer.allocateDirect;
+
+/**
+ * Concurrent tests for {@link DistinctErrorLog} class.
+ */
+public class DistinctErrorLogTests
+{
+    private static final int BUFFER_LENGTH = 64 * 1024;
+
+    DistinctErrorLogTests()
+    {
+    }
+
+    /**
+     * Test that two threads making the first observation of the same error at the same time record a single distinct
+     * error which has been observed twice.
+     */
+    @JCStressTest
+    @Outcome(id = "true, true, 1, 2", expect = Expect.ACCEPTABLE, desc = "one distinct error observed twice")
+    @State
+    public static class RecordSameErrorOnce
+    {
+        private final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(BUFFER_LENGTH));
+        private final DistinctErrorLog log = new DistinctErrorLog(buffer, new CachedEpochClock());
+        private final TestError error = new TestError("same");
+
+        /**
+         * Default constructor.
+         */
+        public RecordSameErrorOnce()
+        {
+        }
+
+        /**
+         * First recording thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void recorder1(final ZZII_Result result)
+        {
+            result.r1 = log.record(error);
+        }
+
+        /**
+         * Second recording thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void recorder2(final ZZII_Result result)
+        {
+            result.r2 = log.record(new TestError("same"));
+        }
+
+        /**
+         * Arbiter thread to read the log.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final ZZII_Result result)
+        {
+            final int[] observationCount = new int[1];
+            result.r3 = ErrorLogReader.read(
+                buffer,
+                (count, firstTimestamp, lastTimestamp, encodedException) ->
+                {
+                    observationCount[0] += count;
+                });
+            result.r4 = observationCount[0];
+        }
+    }
+
+    /**
+     * Test that two threads making the first observation of different errors at the same time record both.
+     */
+    @JCStressTest
+    @Outcome(id = "true, true, 2, 2", expect = Expect.ACCEPTABLE, desc = "two distinct errors observed once")
+    @State
+    public static class RecordDistinctErrors
+    {
+        private final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(BUFFER_LENGTH));
+        private final DistinctErrorLog log = new DistinctErrorLog(buffer, new CachedEpochClock());
+
+        /**
+         * Default constructor.
+         */
+        public RecordDistinctErrors()
+        {
+        }
+
+        /**
+         * First recording thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void recorder1(final ZZII_Result result)
+        {
+            result.r1 = log.record(new TestError("one"));
+        }
+
+        /**
+         * Second recording thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void recorder2(final ZZII_Result result)
+        {
+            result.r2 = log.record(new TestError("two"));
+        }
+
+        /**
+         * Arbiter thread to read the log.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final ZZII_Result result)
+        {
+            final int[] observationCount = new int[1];
+            result.r3 = ErrorLogReader.read(
+                buffer,
+                (count, firstTimestamp, lastTimestamp, encodedException) ->
+                {
+                    observationCount[0] += count;
+                });
+            result.r4 = observationCount[0];
+        }
+    }
+
+    static final class TestError extends RuntimeException
+    {
+        private static final long serialVersionUID = -7420346421562512049L;
+
+        TestError(final String message)
+        {
+            super(message);
+        }
+
+        public synchronized Throwable fillInStackTrace()
+        {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.MessageHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+
+/**
+ * Concurrent tests for {@link ManyToManyRingBuffer} class.
+ */
+public class ManyToManyRingBufferTests
+{
+    ManyToManyRingBufferTests()
+    {
+    }
+
+    /**
+     * Test for {@link ManyToManyRingBuffer#read(MessageHandler, int)} method when consumers contend for the same
+     * messages and release them in any order.
+     */
+    @JCStressTest
+    @Outcome(id = "5, 16, 1", expect = Expect.ACCEPTABLE, desc = "reader1 -> reader2")
+    @Outcome(id = "16, 5, 1", expect = Expect.ACCEPTABLE, desc = "reader2 -> reader1")
+    @State
+    public static class ReadersClaimDistinctMessages
+    {
+        private static final int MSG_TYPE_ID = 7;
+        private final ManyToManyRingBuffer ringBuffer =
+            new ManyToManyRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+
+        /**
+         * Write the messages to be consumed.
+         */
+        public ReadersClaimDistinctMessages()
+        {
+            final ExpandableArrayBuffer srcBuffer = new ExpandableArrayBuffer();
+            srcBuffer.putInt(0, 5);
+            srcBuffer.putInt(SIZE_OF_LONG, 16);
+
+            ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT);
+            ringBuffer.write(MSG_TYPE_ID, srcBuffer, SIZE_OF_LONG, SIZE_OF_INT);
+        }
+
+        /**
+         * First reader thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void reader1(final III_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r1 = buffer.getInt(index), 1);
+        }
+
+        /**
+         * Second reader thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void reader2(final III_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r2 = buffer.getInt(index), 1);
+        }
+
+        /**
+         * Arbiter thread to verify that all messages have been released.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final III_Result result)
+        {
+            result.r3 = ringBuffer.consumerPosition() == ringBuffer.producerPosition() ? 1 : 0;
+        }
+    }
+
+    /**
+     * Test for {@link ManyToManyRingBuffer#read(MessageHandler, int)} method when consumers contend with each other
+     * and a producer.
+     */
+    @JCStressTest
+    @Outcome(id = "5, 16, 0", expect = Expect.ACCEPTABLE, desc = "writer -> reader1 -> reader2")
+    @Outcome(id = "16, 5, 0", expect = Expect.ACCEPTABLE, desc = "writer -> reader2 -> reader1")
+    @Outcome(id = "5, 0, 16", expect = Expect.ACCEPTABLE, desc = "reader1 -> reader2 -> writer")
+    @Outcome(id = "0, 5, 16", expect = Expect.ACCEPTABLE, desc = "reader2 -> reader1 -> writer")
+    @State
+    public static class WriterAndReaders
+    {
+        private static final int MSG_TYPE_ID = 7;
+        private final ManyToManyRingBuffer ringBuffer =
+            new ManyToManyRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        private final ExpandableArrayBuffer srcBuffer = new ExpandableArrayBuffer();
+
+        /**
+         * Write the first message and initialize source data for the second.
+         */
+        public WriterAndReaders()
+        {
+            srcBuffer.putInt(0, 5);
+            srcBuffer.putInt(SIZE_OF_LONG, 16);
+
+            ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT);
+        }
+
+        /**
+         * Writer thread.
+         */
+        @Actor
+        public void writer()
+        {
+            ringBuffer.write(MSG_TYPE_ID, srcBuffer, SIZE_OF_LONG, SIZE_OF_INT); // -> 16
+        }
+
+        /**
+         * First reader thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void reader1(final III_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r1 = buffer.getInt(index), 1);
+        }
+
+        /**
+         * Second reader thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void reader2(final III_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r2 = buffer.getInt(index), 1);
+        }
+
+        /**
+         * Arbiter thread to read any message not consumed by the readers.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final III_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r3 = buffer.getInt(index));
+        }
+    }
+}
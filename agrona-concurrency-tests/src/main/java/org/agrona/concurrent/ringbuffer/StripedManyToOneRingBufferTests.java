@@ -0,0 +1,246 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Concurrent tests for {@link StripedManyToOneRingBuffer} class.
+ */
+public class StripedManyToOneRingBufferTests
+{
+    StripedManyToOneRingBufferTests()
+    {
+    }
+
+    /**
+     * Test for {@link ManyToOneRingBuffer#write(int, DirectBuffer, int, int)} method when producers write to
+     * different lanes and the consumer reads across lanes.
+     */
+    @JCStressTest
+    @Outcome(id = "0, 16", expect = Expect.ACCEPTABLE, desc = "reader -> writer1 -> writer2")
+    @Outcome(id = "5, 16", expect = Expect.ACCEPTABLE, desc = "writer1 -> reader -> writer2")
+    @Outcome(id = "16, 5", expect = Expect.ACCEPTABLE, desc = "writer2 -> reader -> writer1")
+    @State
+    public static class WriteToDifferentLanes
+    {
+        private static final int MSG_TYPE_ID = 7;
+        private final StripedManyToOneRingBuffer ringBuffer = new StripedManyToOneRingBuffer(
+            new UnsafeBuffer(allocateDirect(StripedManyToOneRingBuffer.bufferLength(2, 1024))), 2);
+        private final ExpandableArrayBuffer srcBuffer = new ExpandableArrayBuffer();
+
+        /**
+         * Initialize source data.
+         */
+        public WriteToDifferentLanes()
+        {
+            srcBuffer.putInt(0, 5);
+            srcBuffer.putInt(SIZE_OF_LONG, 16);
+        }
+
+        /**
+         * First writer thread.
+         */
+        @Actor
+        public void writer1()
+        {
+            ringBuffer.lane(0).write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT); // -> 5
+        }
+
+        /**
+         * Second writer thread.
+         */
+        @Actor
+        public void writer2()
+        {
+            ringBuffer.lane(1).write(MSG_TYPE_ID, srcBuffer, SIZE_OF_LONG, SIZE_OF_INT); // -> 16
+        }
+
+        /**
+         * Reader thread which starts reading from the first lane.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void reader(final II_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r1 = buffer.getInt(index), 1);
+        }
+
+        /**
+         * Arbiter thread to verify contents of the buffer which starts reading from the second lane.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final II_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r2 = buffer.getInt(index), 1);
+        }
+    }
+
+    /**
+     * Test for {@link ManyToOneRingBuffer#write(int, DirectBuffer, int, int)} method when producers contend on the
+     * same lane.
+     */
+    @JCStressTest
+    @Outcome(id = "0, 5", expect = Expect.ACCEPTABLE, desc = "reader -> writer1 -> writer2")
+    @Outcome(id = "0, 16", expect = Expect.ACCEPTABLE, desc = "reader -> writer2 -> writer1")
+    @Outcome(id = "5, 16", expect = Expect.ACCEPTABLE, desc = "writer1 -> reader -> writer2")
+    @Outcome(id = "16, 5", expect = Expect.ACCEPTABLE, desc = "writer2 -> reader -> writer1")
+    @State
+    public static class WriteToSameLane
+    {
+        private static final int MSG_TYPE_ID = 7;
+        private final StripedManyToOneRingBuffer ringBuffer = new StripedManyToOneRingBuffer(
+            new UnsafeBuffer(allocateDirect(StripedManyToOneRingBuffer.bufferLength(2, 1024))), 2);
+        private final ExpandableArrayBuffer srcBuffer = new ExpandableArrayBuffer();
+
+        /**
+         * Initialize source data.
+         */
+        public WriteToSameLane()
+        {
+            srcBuffer.putInt(0, 5);
+            srcBuffer.putInt(SIZE_OF_LONG, 16);
+        }
+
+        /**
+         * First writer thread.
+         */
+        @Actor
+        public void writer1()
+        {
+            ringBuffer.lane(1).write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT); // -> 5
+        }
+
+        /**
+         * Second writer thread.
+         */
+        @Actor
+        public void writer2()
+        {
+            ringBuffer.lane(1).write(MSG_TYPE_ID, srcBuffer, SIZE_OF_LONG, SIZE_OF_INT); // -> 16
+        }
+
+        /**
+         * Reader thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void reader(final II_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r1 = buffer.getInt(index), 1);
+        }
+
+        /**
+         * Arbiter thread to verify contents of the buffer.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final II_Result result)
+        {
+            ringBuffer.read((msgTypeId, buffer, index, length) -> result.r2 = buffer.getInt(index), 1);
+        }
+    }
+
+    /**
+     * Test for {@link StripedManyToOneRingBuffer#tryClaimBatch(BatchClaim, int)} where each producer publishes a batch
+     * of two messages and the consumer sees the messages of a batch together or not at all.
+     */
+    @JCStressTest
+    @Outcome(id = "0, 4", expect = Expect.ACCEPTABLE, desc = "reader -> writers")
+    @Outcome(id = "2, 2", expect = Expect.ACCEPTABLE, desc = "one writer -> reader -> other writer")
+    @Outcome(id = "4, 0", expect = Expect.ACCEPTABLE, desc = "writers -> reader")
+    @State
+    public static class TryClaimBatch
+    {
+        private static final int MSG_TYPE_ID = 11;
+        private final StripedManyToOneRingBuffer ringBuffer = new StripedManyToOneRingBuffer(
+            new UnsafeBuffer(allocateDirect(StripedManyToOneRingBuffer.bufferLength(2, 1024))), 2);
+        private final BatchClaim batchClaim1 = new BatchClaim();
+        private final BatchClaim batchClaim2 = new BatchClaim();
+
+        TryClaimBatch()
+        {
+        }
+
+        /**
+         * First writer thread.
+         */
+        @Actor
+        public void writer1()
+        {
+            writeBatch(ringBuffer.lane(0), batchClaim1);
+        }
+
+        /**
+         * Second writer thread.
+         */
+        @Actor
+        public void writer2()
+        {
+            writeBatch(ringBuffer.lane(1), batchClaim2);
+        }
+
+        /**
+         * Reader thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void reader(final II_Result result)
+        {
+            result.r1 = ringBuffer.read((msgTypeId, buffer, index, length) -> {});
+        }
+
+        /**
+         * Arbiter thread to verify contents of the buffer.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final II_Result result)
+        {
+            result.r2 = ringBuffer.read((msgTypeId, buffer, index, length) -> {});
+        }
+
+        private static void writeBatch(final RingBuffer ringBuffer, final BatchClaim batchClaim)
+        {
+            if (ringBuffer.tryClaimBatch(batchClaim, BatchClaim.batchLength(2, SIZE_OF_INT)))
+            {
+                batchClaim.buffer().putInt(batchClaim.tryClaim(MSG_TYPE_ID, SIZE_OF_INT), 1);
+                batchClaim.buffer().putInt(batchClaim.tryClaim(MSG_TYPE_ID, SIZE_OF_INT), 2);
+                batchClaim.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import java.nio.charset.StandardCharsets;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+
+/**
+ * Concurrent tests for {@link ConcurrentCountersManager} class.
+ */
+public class ConcurrentCountersManagerTests
+{
+    private static final int NUMBER_OF_COUNTERS = 4;
+    private static final long FREE_TO_REUSE_TIMEOUT_MS = 1000;
+
+    ConcurrentCountersManagerTests()
+    {
+    }
+
+    /**
+     * Test that {@link ConcurrentCountersManager#allocate(String)} from two threads allocates distinct counters which
+     * are visible to a {@link CountersReader}.
+     */
+    @JCStressTest
+    @Outcome(id = "0, 1, 2", expect = Expect.ACCEPTABLE, desc = "allocator1 -> allocator2")
+    @Outcome(id = "1, 0, 2", expect = Expect.ACCEPTABLE, desc = "allocator2 -> allocator1")
+    @State
+    public static class AllocateDistinctCounters
+    {
+        private final ConcurrentCountersManager countersManager = newCountersManager(0);
+
+        /**
+         * Default constructor.
+         */
+        public AllocateDistinctCounters()
+        {
+        }
+
+        /**
+         * First allocator thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void allocator1(final III_Result result)
+        {
+            result.r1 = countersManager.allocate("one");
+        }
+
+        /**
+         * Second allocator thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void allocator2(final III_Result result)
+        {
+            result.r2 = countersManager.allocate("two");
+        }
+
+        /**
+         * Arbiter thread to count the allocated counters.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final III_Result result)
+        {
+            final int[] count = new int[1];
+            countersManager.forEach((counterId, label) -> count[0]++);
+            result.r3 = count[0];
+        }
+    }
+
+    /**
+     * Test that a freed counter is reused by only one of two threads allocating at the same time.
+     */
+    @JCStressTest
+    @Outcome(id = "0, 1", expect = Expect.ACCEPTABLE, desc = "allocator1 reuses the freed counter")
+    @Outcome(id = "1, 0", expect = Expect.ACCEPTABLE, desc = "allocator2 reuses the freed counter")
+    @State
+    public static class ReuseFreedCounterOnce
+    {
+        private final ConcurrentCountersManager countersManager = newCountersManager(0);
+
+        /**
+         * Allocate and free counter 0 so it can be reused.
+         */
+        public ReuseFreedCounterOnce()
+        {
+            countersManager.free(countersManager.allocate("freed"));
+        }
+
+        /**
+         * First allocator thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void allocator1(final II_Result result)
+        {
+            result.r1 = countersManager.allocate("one");
+        }
+
+        /**
+         * Second allocator thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void allocator2(final II_Result result)
+        {
+            result.r2 = countersManager.allocate("two");
+        }
+    }
+
+    /**
+     * Test that a counter freed while another thread allocates is not reused before the free-to-reuse timeout.
+     */
+    @JCStressTest
+    @Outcome(id = "2, -1", expect = Expect.ACCEPTABLE, desc = "freed counter is not reused")
+    @State
+    public static class FreeHonoursReuseTimeout
+    {
+        private final ConcurrentCountersManager countersManager = newCountersManager(FREE_TO_REUSE_TIMEOUT_MS);
+
+        /**
+         * Allocate counters 0 and 1.
+         */
+        public FreeHonoursReuseTimeout()
+        {
+            countersManager.allocate("zero");
+            countersManager.allocate("one");
+        }
+
+        /**
+         * Thread which frees a counter.
+         */
+        @Actor
+        public void freer()
+        {
+            countersManager.free(0);
+        }
+
+        /**
+         * Thread which allocates a counter.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void allocator(final II_Result result)
+        {
+            result.r1 = countersManager.allocate("two");
+        }
+
+        /**
+         * Arbiter thread to read the state of the freed counter.
+         *
+         * @param result object.
+         */
+        @Arbiter
+        public void arbiter(final II_Result result)
+        {
+            result.r2 = countersManager.getCounterState(0);
+        }
+    }
+
+    /**
+     * Test that only one of two threads freeing the same counter succeeds.
+     */
+    @JCStressTest
+    @Outcome(id = "true, false", expect = Expect.ACCEPTABLE, desc = "freer1 frees the counter")
+    @Outcome(id = "false, true", expect = Expect.ACCEPTABLE, desc = "freer2 frees the counter")
+    @State
+    public static class FreeCounterOnce
+    {
+        private final ConcurrentCountersManager countersManager = newCountersManager(0);
+        private final int counterId = countersManager.allocate("counter");
+
+        /**
+         * Default constructor.
+         */
+        public FreeCounterOnce()
+        {
+        }
+
+        /**
+         * First freeing thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void freer1(final ZZ_Result result)
+        {
+            result.r1 = free();
+        }
+
+        /**
+         * Second freeing thread.
+         *
+         * @param result object.
+         */
+        @Actor
+        public void freer2(final ZZ_Result result)
+        {
+            result.r2 = free();
+        }
+
+        private boolean free()
+        {
+            try
+            {
+                countersManager.free(counterId);
+                return true;
+            }
+            catch (final IllegalStateException ex)
+            {
+                return false;
+            }
+        }
+    }
+
+    static ConcurrentCountersManager newCountersManager(final long freeToReuseTimeoutMs)
+    {
+        return new ConcurrentCountersManager(
+            new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * METADATA_LENGTH)),
+            new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * COUNTER_LENGTH)),
+            StandardCharsets.US_ASCII,
+            new CachedEpochClock(),
+            freeToReuseTimeoutMs);
+    }
+}
@@ -25,12 +25,15 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.agrona.AsciiEncoding.*;
 import static org.agrona.BitUtil.*;
 import static org.agrona.BufferUtil.*;
+import static org.agrona.FloatingPointDecimal.*;
 
 /**
  * Common base class for implementing {@link MutableDirectBuffer} interface.
  */
 public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 {
+    private static final char UTF8_REPLACEMENT_CHAR = '\uFFFD';
+
     /**
      * Byte array reference for on-heap buffers.
      */
@@ -1131,6 +1134,25 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
         return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public int getStringUtf8(final int index, final Appendable appendable)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, STR_HEADER_LEN);
+        }
+
+        final int length = UnsafeApi.getInt(byteArray, addressOffset + index);
+        if (0 == length)
+        {
+            return 0;
+        }
+
+        return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length, appendable);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1258,6 +1280,28 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
         return new String(stringInBytes, UTF_8);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public int getStringWithoutLengthUtf8(final int index, final int length, final Appendable appendable)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        try
+        {
+            decodeUtf8(index, index + length, appendable);
+        }
+        catch (final IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return length;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1411,6 +1455,206 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public long parseDecimalAscii(final int index, final int length, final int scale)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        checkDecimalScale(scale);
+
+        if (length <= 0)
+        {
+            throw new AsciiNumberFormatException("empty string: index=" + index + " length=" + length);
+        }
+
+        final boolean negative = MINUS_SIGN == UnsafeApi.getByte(byteArray, addressOffset + index);
+        final int start = negative ? index + 1 : index;
+        final int end = index + length;
+        final int decimalPoint = indexOf0(start, end - start, DECIMAL_POINT);
+        final int integerEnd = -1 == decimalPoint ? end : decimalPoint;
+        final int fractionStart = -1 == decimalPoint ? end : decimalPoint + 1;
+        final int integerDigits = integerEnd - start;
+        final int fractionDigits = end - fractionStart;
+
+        if (0 == integerDigits + fractionDigits)
+        {
+            throwParseDecimalError(index, length);
+        }
+
+        if (fractionDigits > scale)
+        {
+            throw new AsciiNumberFormatException(
+                "decimal places exceed scale=" + scale + " parsing: " + getStringWithoutLengthAscii(index, length));
+        }
+
+        if (integerDigits >= LONG_MAX_DIGITS)
+        {
+            if (0 != scale || integerDigits > LONG_MAX_DIGITS)
+            {
+                throwParseDecimalOverflowError(index, length);
+            }
+
+            return negative ?
+                -parseLongAsciiOverflowCheck(index, length, LONG_MIN_VALUE_DIGITS, start, integerEnd) :
+                parseLongAsciiOverflowCheck(index, length, LONG_MAX_VALUE_DIGITS, start, integerEnd);
+        }
+
+        final long integer = parseDigitsAscii(start, integerEnd);
+        final long fraction = parseDigitsAscii(fractionStart, end);
+        if (integer < 0 || fraction < 0)
+        {
+            throwParseDecimalError(index, length);
+        }
+
+        final long scaledFraction = fraction * LONG_POW_10[scale - fractionDigits];
+        final long scaleFactor = LONG_POW_10[scale];
+        final long maxMagnitude = negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+        if (Long.compareUnsigned(integer, Long.divideUnsigned(maxMagnitude - scaledFraction, scaleFactor)) > 0)
+        {
+            throwParseDecimalOverflowError(index, length);
+        }
+
+        final long mantissa = (integer * scaleFactor) + scaledFraction;
+
+        return negative ? -mantissa : mantissa;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double parseDoubleAscii(final int index, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        if (length <= 0)
+        {
+            throw new AsciiNumberFormatException("empty string: index=" + index + " length=" + length);
+        }
+
+        final byte[] array = byteArray;
+        final long offset = addressOffset;
+        final int end = index + length;
+        final byte first = UnsafeApi.getByte(array, offset + index);
+        final boolean negative = MINUS_SIGN == first;
+        int i = negative || PLUS_SIGN == first ? index + 1 : index;
+
+        if (i < end && !isDigit(UnsafeApi.getByte(array, offset + i)) &&
+            DECIMAL_POINT != UnsafeApi.getByte(array, offset + i))
+        {
+            final double value = parseNonFiniteDoubleAscii(index, length, i, end);
+            return negative ? -value : value;
+        }
+
+        long significand = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean truncated = false;
+
+        for (; i < end; i++)
+        {
+            final byte b = UnsafeApi.getByte(array, offset + i);
+            if (!isDigit(b))
+            {
+                break;
+            }
+
+            hasDigits = true;
+            if (significantDigits < LONG_MAX_DIGITS)
+            {
+                if (0 != significand || ZERO != b)
+                {
+                    significand = (significand * 10) + (b - ZERO);
+                    significantDigits++;
+                }
+            }
+            else
+            {
+                exponent++;
+                truncated |= ZERO != b;
+            }
+        }
+
+        if (i < end && DECIMAL_POINT == UnsafeApi.getByte(array, offset + i))
+        {
+            for (i++; i < end; i++)
+            {
+                final byte b = UnsafeApi.getByte(array, offset + i);
+                if (!isDigit(b))
+                {
+                    break;
+                }
+
+                hasDigits = true;
+                if (significantDigits < LONG_MAX_DIGITS)
+                {
+                    if (0 != significand || ZERO != b)
+                    {
+                        significand = (significand * 10) + (b - ZERO);
+                        significantDigits++;
+                    }
+                    exponent--;
+                }
+                else
+                {
+                    truncated |= ZERO != b;
+                }
+            }
+        }
+
+        if (!hasDigits)
+        {
+            throwParseDoubleError(index, length);
+        }
+
+        if (i < end)
+        {
+            final byte b = UnsafeApi.getByte(array, offset + i);
+            if ('e' != b && 'E' != b)
+            {
+                throwParseDoubleError(index, length);
+            }
+
+            exponent += parseDoubleExponentAscii(index, length, i + 1, end);
+        }
+
+        if (0 == significand)
+        {
+            return negative ? -0.0 : 0.0;
+        }
+
+        final double value;
+        if (truncated)
+        {
+            return Double.parseDouble(getStringWithoutLengthAscii(index, length));
+        }
+        else if (Long.compareUnsigned(significand, 1L << 53) <= 0 && exponent >= -22 && exponent <= 22)
+        {
+            value = exponent < 0 ?
+                significand / DOUBLE_POW_10[-exponent] : significand * DOUBLE_POW_10[exponent];
+        }
+        else
+        {
+            final double result = eiselLemire(significand, exponent);
+            if (Double.isNaN(result))
+            {
+                return Double.parseDouble(getStringWithoutLengthAscii(index, length));
+            }
+
+            value = result;
+        }
+
+        return negative ? -value : value;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1597,125 +1841,401 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
     /**
      * {@inheritDoc}
      */
-    public void boundsCheck(final int index, final int length)
+    public int putDecimalAscii(final int index, final long mantissa, final int scale)
     {
-        boundsCheck0(index, length);
-    }
+        checkDecimalScale(scale);
 
-    /**
-     * {@inheritDoc}
-     */
-    public boolean equals(final Object obj)
-    {
-        if (this == obj)
+        if (0 == scale)
         {
-            return true;
+            return putLongAscii(index, mantissa);
         }
 
-        if (obj == null || getClass() != obj.getClass())
+        final long scaleFactor = LONG_POW_10[scale];
+        final long integer = mantissa / scaleFactor;
+        final long fraction = Math.abs(mantissa % scaleFactor);
+
+        int length = 0;
+        if (mantissa < 0 && 0 == integer)
         {
-            return false;
+            putByte(index, MINUS_SIGN);
+            length++;
         }
 
-        final AbstractMutableDirectBuffer that = (AbstractMutableDirectBuffer)obj;
+        length += putLongAscii(index + length, integer);
 
-        final int length = capacity;
-        if (length != that.capacity)
+        ensureCapacity(index + length, 1 + scale);
+        final byte[] array = byteArray;
+        final long offset = addressOffset + index + length;
+
+        UnsafeApi.putByte(array, offset, DECIMAL_POINT);
+        UnsafeApi.setMemory(array, offset + 1, scale, ZERO);
+        if (0 != fraction)
         {
-            return false;
+            final int digitCount = digitCount(fraction);
+            putPositiveLongAscii(array, offset + 1 + scale - digitCount, fraction, digitCount);
         }
 
-        final byte[] thisArray = byteArray;
-        final byte[] thatArray = that.byteArray;
-        final long thisOffset = this.addressOffset;
-        final long thatOffset = that.addressOffset;
+        return length + 1 + scale;
+    }
 
-        int i = 0;
-        for (int end = length & ~7; i < end; i += 8)
+    /**
+     * {@inheritDoc}
+     */
+    public int putDoubleAscii(final int index, final double value)
+    {
+        final long bits = Double.doubleToRawLongBits(value);
+        final boolean negative = bits < 0;
+        final long t = bits & (DOUBLE_C_MIN - 1);
+        final int bq = (int)(bits >>> 52) & 0x7FF;
+
+        if (0x7FF == bq)
         {
-            if (UnsafeApi.getLong(thisArray, thisOffset + i) != UnsafeApi.getLong(thatArray, thatOffset + i))
-            {
-                return false;
-            }
+            return putNonFiniteAscii(index, 0 != t, negative);
         }
 
-        for (; i < length; i++)
+        if (0 != bq)
         {
-            if (UnsafeApi.getByte(thisArray, thisOffset + i) != UnsafeApi.getByte(thatArray, thatOffset + i))
+            final int mq = 1075 - bq;
+            final long c = DOUBLE_C_MIN | t;
+            if (0 < mq && mq < 53)
             {
-                return false;
+                final long f = c >> mq;
+                if ((f << mq) == c)
+                {
+                    return putShortestDecimalAscii(index, negative, f, 0);
+                }
             }
+
+            return putDoubleDecimalAscii(index, negative, -mq, c, 0);
         }
 
-        return true;
+        if (0 != t)
+        {
+            return t < DOUBLE_C_TINY ?
+                putDoubleDecimalAscii(index, negative, DOUBLE_Q_MIN, 10 * t, -1) :
+                putDoubleDecimalAscii(index, negative, DOUBLE_Q_MIN, t, 0);
+        }
+
+        return putZeroAscii(index, negative);
     }
 
     /**
      * {@inheritDoc}
      */
-    public int hashCode()
+    public int putFloatAscii(final int index, final float value)
     {
-        final byte[] array = byteArray;
-        final long addressOffset = this.addressOffset;
-        final int length = capacity;
-        int i = 0, hashCode = 19;
-        for (int end = length & ~7; i < end; i += 8)
+        final int bits = Float.floatToRawIntBits(value);
+        final boolean negative = bits < 0;
+        final int t = bits & (FLOAT_C_MIN - 1);
+        final int bq = (bits >>> 23) & 0xFF;
+
+        if (0xFF == bq)
         {
-            hashCode = 31 * hashCode + Long.hashCode(UnsafeApi.getLong(array, addressOffset + i));
+            return putNonFiniteAscii(index, 0 != t, negative);
         }
 
-        for (; i < length; i++)
+        if (0 != bq)
         {
-            hashCode = 31 * hashCode + UnsafeApi.getByte(array, addressOffset + i);
+            final int mq = 150 - bq;
+            final int c = FLOAT_C_MIN | t;
+            if (0 < mq && mq < 24)
+            {
+                final int f = c >> mq;
+                if ((f << mq) == c)
+                {
+                    return putShortestDecimalAscii(index, negative, f, 0);
+                }
+            }
+
+            return putFloatDecimalAscii(index, negative, -mq, c, 0);
         }
 
-        return hashCode;
+        if (0 != t)
+        {
+            return t < FLOAT_C_TINY ?
+                putFloatDecimalAscii(index, negative, FLOAT_Q_MIN, 10 * t, -1) :
+                putFloatDecimalAscii(index, negative, FLOAT_Q_MIN, t, 0);
+        }
+
+        return putZeroAscii(index, negative);
     }
 
     /**
      * {@inheritDoc}
      */
-    public int compareTo(final DirectBuffer that)
+    public int indexOf(final int index, final int length, final byte value)
     {
-        if (this == that)
+        if (SHOULD_BOUNDS_CHECK)
         {
-            return 0;
+            boundsCheck0(index, length);
         }
 
-        final int thisCapacity = this.capacity;
-        final int thatCapacity = that.capacity();
-        final byte[] thisArray = byteArray;
-        final byte[] thatArray = that.byteArray();
-        final long thisOffset = this.addressOffset;
-        final long thatOffset = that.addressOffset();
-        final int length = Math.min(thisCapacity, thatCapacity);
-        int i = 0;
+        return indexOf0(index, length, value);
+    }
 
-        for (int end = length & ~7; i < end; i += 8)
+    /**
+     * {@inheritDoc}
+     */
+    public int indexOf(final int index, final int length, final byte[] pattern)
+    {
+        if (SHOULD_BOUNDS_CHECK)
         {
-            final int cmp = Long.compare(
-                UnsafeApi.getLong(thisArray, thisOffset + i),
-                UnsafeApi.getLong(thatArray, thatOffset + i));
+            boundsCheck0(index, length);
+        }
 
-            if (0 != cmp)
-            {
-                return cmp;
-            }
+        final int patternLength = pattern.length;
+        if (0 == patternLength)
+        {
+            return index;
         }
 
-        for (; i < length; i++)
+        final byte[] array = byteArray;
+        final long addressOffset = this.addressOffset;
+        final byte first = pattern[0];
+        final int lastIndex = index + length - patternLength;
+
+        int i = index;
+        while (i <= lastIndex)
         {
-            final int cmp = Byte.compare(
-                UnsafeApi.getByte(thisArray, thisOffset + i),
-                UnsafeApi.getByte(thatArray, thatOffset + i));
+            final int found = indexOf0(i, lastIndex - i + 1, first);
+            if (-1 == found)
+            {
+                break;
+            }
 
-            if (0 != cmp)
+            if (-1 == mismatch0(array, addressOffset + found + 1, pattern, ARRAY_BASE_OFFSET + 1, patternLength - 1))
             {
-                return cmp;
+                return found;
             }
+
+            i = found + 1;
         }
 
-        return Integer.compare(thisCapacity, thatCapacity);
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void boundsCheck(final int index, final int length)
+    {
+        boundsCheck0(index, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int mismatch(final int index, final DirectBuffer other, final int otherIndex, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+            other.boundsCheck(otherIndex, length);
+        }
+
+        return mismatch0(
+            byteArray, addressOffset + index, other.byteArray(), other.addressOffset() + otherIndex, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean equals(final int index, final DirectBuffer other, final int otherIndex, final int length)
+    {
+        return -1 == mismatch(index, other, otherIndex, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass())
+        {
+            return false;
+        }
+
+        final AbstractMutableDirectBuffer that = (AbstractMutableDirectBuffer)obj;
+
+        final int length = capacity;
+        if (length != that.capacity)
+        {
+            return false;
+        }
+
+        final byte[] thisArray = byteArray;
+        final byte[] thatArray = that.byteArray;
+        final long thisOffset = this.addressOffset;
+        final long thatOffset = that.addressOffset;
+
+        int i = 0;
+        for (int end = length & ~7; i < end; i += 8)
+        {
+            if (UnsafeApi.getLong(thisArray, thisOffset + i) != UnsafeApi.getLong(thatArray, thatOffset + i))
+            {
+                return false;
+            }
+        }
+
+        for (; i < length; i++)
+        {
+            if (UnsafeApi.getByte(thisArray, thisOffset + i) != UnsafeApi.getByte(thatArray, thatOffset + i))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int hashCode()
+    {
+        final byte[] array = byteArray;
+        final long addressOffset = this.addressOffset;
+        final int length = capacity;
+        int i = 0, hashCode = 19;
+        for (int end = length & ~7; i < end; i += 8)
+        {
+            hashCode = 31 * hashCode + Long.hashCode(UnsafeApi.getLong(array, addressOffset + i));
+        }
+
+        for (; i < length; i++)
+        {
+            hashCode = 31 * hashCode + UnsafeApi.getByte(array, addressOffset + i);
+        }
+
+        return hashCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int compareTo(final DirectBuffer that)
+    {
+        if (this == that)
+        {
+            return 0;
+        }
+
+        final int thisCapacity = this.capacity;
+        final int thatCapacity = that.capacity();
+        final byte[] thisArray = byteArray;
+        final byte[] thatArray = that.byteArray();
+        final long thisOffset = this.addressOffset;
+        final long thatOffset = that.addressOffset();
+        final int length = Math.min(thisCapacity, thatCapacity);
+        int i = 0;
+
+        for (int end = length & ~7; i < end; i += 8)
+        {
+            final int cmp = Long.compare(
+                UnsafeApi.getLong(thisArray, thisOffset + i),
+                UnsafeApi.getLong(thatArray, thatOffset + i));
+
+            if (0 != cmp)
+            {
+                return cmp;
+            }
+        }
+
+        for (; i < length; i++)
+        {
+            final int cmp = Byte.compare(
+                UnsafeApi.getByte(thisArray, thisOffset + i),
+                UnsafeApi.getByte(thatArray, thatOffset + i));
+
+            if (0 != cmp)
+            {
+                return cmp;
+            }
+        }
+
+        return Integer.compare(thisCapacity, thatCapacity);
+    }
+
+    private int indexOf0(final int index, final int length, final byte value)
+    {
+        final byte[] array = byteArray;
+        final long offset = addressOffset + index;
+        final long pattern = (value & 0xFFL) * 0x0101010101010101L;
+
+        int i = 0;
+        for (int end = length & ~7; i < end; i += 8)
+        {
+            final long found = zeroBytes(UnsafeApi.getLong(array, offset + i) ^ pattern);
+            if (0 != found)
+            {
+                return index + i + firstByteOffset(found);
+            }
+        }
+
+        for (; i < length; i++)
+        {
+            if (UnsafeApi.getByte(array, offset + i) == value)
+            {
+                return index + i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int mismatch0(
+        final byte[] thisArray, final long thisOffset, final byte[] thatArray, final long thatOffset, final int length)
+    {
+        int i = 0;
+        for (int end = length & ~7; i < end; i += 8)
+        {
+            final long diff =
+                UnsafeApi.getLong(thisArray, thisOffset + i) ^ UnsafeApi.getLong(thatArray, thatOffset + i);
+            if (0 != diff)
+            {
+                return i + firstByteOffset(diff);
+            }
+        }
+
+        for (; i < length; i++)
+        {
+            if (UnsafeApi.getByte(thisArray, thisOffset + i) != UnsafeApi.getByte(thatArray, thatOffset + i))
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Set the high bit of each byte in the word which is zero, and only those bytes, without borrows between bytes
+     * so the result is exact whatever the byte order.
+     *
+     * @param word to be checked for zero bytes.
+     * @return the word with the high bit set in each byte which is zero and all other bits clear.
+     */
+    private static long zeroBytes(final long word)
+    {
+        final long lowBits = 0x7F7F7F7F7F7F7F7FL;
+        return ~(((word & lowBits) + lowBits) | word | lowBits);
+    }
+
+    /**
+     * Offset in memory of the first non-zero byte of a word read in native byte order.
+     *
+     * @param word which is non-zero.
+     * @return the offset in memory of the first non-zero byte.
+     */
+    private static int firstByteOffset(final long word)
+    {
+        return (LITTLE_ENDIAN == NATIVE_BYTE_ORDER ?
+            Long.numberOfTrailingZeros(word) : Long.numberOfLeadingZeros(word)) >>> 3;
     }
 
     /**
@@ -1747,6 +2267,18 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
         final byte[] array = byteArray;
         int i = startIndex;
         int tally = 0, quartet;
+        long octet;
+        if ((end - i) >= 8 && isEightDigitAsciiEncodedNumber(octet = UnsafeApi.getLong(array, offset + i)))
+        {
+            if (NATIVE_BYTE_ORDER != LITTLE_ENDIAN)
+            {
+                octet = Long.reverseBytes(octet);
+            }
+
+            tally = parseEightDigitsLittleEndian(octet);
+            i += 8;
+        }
+
         while ((end - i) >= 4 && isFourDigitsAsciiEncodedNumber(quartet = UnsafeApi.getInt(array, offset + i)))
         {
             if (NATIVE_BYTE_ORDER != LITTLE_ENDIAN)
@@ -1822,22 +2354,91 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
     }
 
     private long parsePositiveLongAscii(final int index, final int length, final int startIndex, final int end)
+    {
+        final long tally = parseDigitsAscii(startIndex, end);
+        if (tally < 0)
+        {
+            throwParseLongError(index, length);
+        }
+
+        return tally;
+    }
+
+    /**
+     * Parse a run of up to {@link AsciiEncoding#MAX_DECIMAL_SCALE} ASCII digits using SWAR on sixteen, eight, and four
+     * digits at a time. When at least eight digits have been parsed the remaining digits are parsed in one step by
+     * re-reading the last eight bytes and replacing the digits which have already been parsed with zeros.
+     *
+     * @param startIndex of the first digit.
+     * @param end        index after the last digit.
+     * @return the parsed value which is zero for an empty run, or -1 if the run contains a non-digit.
+     */
+    private long parseDigitsAscii(final int startIndex, final int end)
     {
         final long offset = addressOffset;
         final byte[] array = byteArray;
         int i = startIndex;
-        long tally = 0, octet;
-        while ((end - i) >= 8 && isEightDigitAsciiEncodedNumber(octet = UnsafeApi.getLong(array, offset + i)))
+        long tally = 0;
+
+        if ((end - i) >= 16)
+        {
+            long first = UnsafeApi.getLong(array, offset + i);
+            long second = UnsafeApi.getLong(array, offset + i + 8);
+            if (!isSixteenDigitAsciiEncodedNumber(first, second))
+            {
+                return -1;
+            }
+
+            if (NATIVE_BYTE_ORDER != LITTLE_ENDIAN)
+            {
+                first = Long.reverseBytes(first);
+                second = Long.reverseBytes(second);
+            }
+
+            tally = parseSixteenDigitsLittleEndian(first, second);
+            i += 16;
+        }
+        else if ((end - i) >= 8)
         {
+            long octet = UnsafeApi.getLong(array, offset + i);
+            if (!isEightDigitAsciiEncodedNumber(octet))
+            {
+                return -1;
+            }
+
             if (NATIVE_BYTE_ORDER != LITTLE_ENDIAN)
             {
                 octet = Long.reverseBytes(octet);
             }
 
-            tally = (tally * 100_000_000L) + parseEightDigitsLittleEndian(octet);
+            tally = parseEightDigitsLittleEndian(octet);
             i += 8;
         }
 
+        final int remaining = end - i;
+        if (0 == remaining)
+        {
+            return tally;
+        }
+
+        if (i > startIndex)
+        {
+            long octet = UnsafeApi.getLong(array, offset + end - 8);
+            if (NATIVE_BYTE_ORDER != LITTLE_ENDIAN)
+            {
+                octet = Long.reverseBytes(octet);
+            }
+
+            final long parsedMask = (1L << ((8 - remaining) << 3)) - 1;
+            octet = (octet & ~parsedMask) | (0x3030303030303030L & parsedMask);
+            if (!isEightDigitAsciiEncodedNumber(octet))
+            {
+                return -1;
+            }
+
+            return (tally * LONG_POW_10[remaining]) + parseEightDigitsLittleEndian(octet);
+        }
+
         int quartet;
         while ((end - i) >= 4 && isFourDigitsAsciiEncodedNumber(quartet = UnsafeApi.getInt(array, offset + i)))
         {
@@ -1857,12 +2458,7 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
             i++;
         }
 
-        if (i != end)
-        {
-            throwParseLongError(index, length);
-        }
-
-        return tally;
+        return i == end ? tally : -1;
     }
 
     private long parseLongAsciiOverflowCheck(
@@ -1936,6 +2532,445 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
         throw new AsciiNumberFormatException("long overflow parsing: " + getStringWithoutLengthAscii(index, length));
     }
 
+    private void throwParseDecimalError(final int index, final int length)
+    {
+        throw new AsciiNumberFormatException("error parsing decimal: " + getStringWithoutLengthAscii(index, length));
+    }
+
+    private void throwParseDecimalOverflowError(final int index, final int length)
+    {
+        throw new AsciiNumberFormatException(
+            "decimal overflow parsing: " + getStringWithoutLengthAscii(index, length));
+    }
+
+    private static void checkDecimalScale(final int scale)
+    {
+        if (scale < 0 || scale > MAX_DECIMAL_SCALE)
+        {
+            throw new IllegalArgumentException(
+                "scale must be in the range 0 to " + MAX_DECIMAL_SCALE + ": scale=" + scale);
+        }
+    }
+
+    private void decodeUtf8(final int index, final int limit, final Appendable appendable) throws IOException
+    {
+        final byte[] array = byteArray;
+        final long offset = addressOffset;
+        int i = index;
+
+        while (i < limit)
+        {
+            if (i <= limit - SIZE_OF_LONG && 0 == (UnsafeApi.getLong(array, offset + i) & 0x8080808080808080L))
+            {
+                for (final int end = i + SIZE_OF_LONG; i < end; i++)
+                {
+                    appendable.append((char)UnsafeApi.getByte(array, offset + i));
+                }
+                continue;
+            }
+
+            final int b1 = UnsafeApi.getByte(array, offset + i++);
+            if (b1 >= 0)
+            {
+                appendable.append((char)b1);
+            }
+            else if ((b1 >> 5) == -2 && 0 != (b1 & 0x1E))
+            {
+                if (i < limit && isUtf8Continuation(UnsafeApi.getByte(array, offset + i)))
+                {
+                    final int b2 = UnsafeApi.getByte(array, offset + i++);
+                    appendable.append((char)(((b1 & 0x1F) << 6) | (b2 & 0x3F)));
+                }
+                else
+                {
+                    appendable.append(UTF8_REPLACEMENT_CHAR);
+                }
+            }
+            else if ((b1 >> 4) == -2)
+            {
+                if (i < limit && isValidUtf8ThreeByteSecond(b1, UnsafeApi.getByte(array, offset + i)))
+                {
+                    final int b2 = UnsafeApi.getByte(array, offset + i++);
+                    if (i < limit && isUtf8Continuation(UnsafeApi.getByte(array, offset + i)))
+                    {
+                        final int b3 = UnsafeApi.getByte(array, offset + i++);
+                        final char c = (char)(((b1 & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F));
+                        appendable.append(Character.isSurrogate(c) ? UTF8_REPLACEMENT_CHAR : c);
+                        continue;
+                    }
+                }
+
+                appendable.append(UTF8_REPLACEMENT_CHAR);
+            }
+            else if ((b1 >> 3) == -2 && b1 <= (byte)0xF4)
+            {
+                if (i < limit && isValidUtf8FourByteSecond(b1, UnsafeApi.getByte(array, offset + i)))
+                {
+                    final int b2 = UnsafeApi.getByte(array, offset + i++);
+                    if (i < limit && isUtf8Continuation(UnsafeApi.getByte(array, offset + i)))
+                    {
+                        final int b3 = UnsafeApi.getByte(array, offset + i++);
+                        if (i < limit && isUtf8Continuation(UnsafeApi.getByte(array, offset + i)))
+                        {
+                            final int b4 = UnsafeApi.getByte(array, offset + i++);
+                            final int codePoint =
+                                ((b1 & 0x07) << 18) | ((b2 & 0x3F) << 12) | ((b3 & 0x3F) << 6) | (b4 & 0x3F);
+                            appendable.append(Character.highSurrogate(codePoint));
+                            appendable.append(Character.lowSurrogate(codePoint));
+                            continue;
+                        }
+                    }
+                }
+
+                appendable.append(UTF8_REPLACEMENT_CHAR);
+            }
+            else
+            {
+                appendable.append(UTF8_REPLACEMENT_CHAR);
+            }
+        }
+    }
+
+    private static boolean isUtf8Continuation(final int b)
+    {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static boolean isValidUtf8ThreeByteSecond(final int b1, final int b2)
+    {
+        return isUtf8Continuation(b2) && ((byte)0xE0 != b1 || (b2 & 0xE0) != 0x80);
+    }
+
+    private static boolean isValidUtf8FourByteSecond(final int b1, final int b2)
+    {
+        if ((byte)0xF0 == b1)
+        {
+            return (b2 & 0xF0) >= 0x90 && isUtf8Continuation(b2);
+        }
+
+        if ((byte)0xF4 == b1)
+        {
+            return (b2 & 0xF0) == 0x80;
+        }
+
+        return isUtf8Continuation(b2);
+    }
+
+    private void throwParseDoubleError(final int index, final int length)
+    {
+        throw new AsciiNumberFormatException("error parsing double: " + getStringWithoutLengthAscii(index, length));
+    }
+
+    private double parseNonFiniteDoubleAscii(final int index, final int length, final int start, final int end)
+    {
+        if (matchesAscii(start, end, NAN_ASCII))
+        {
+            return Double.NaN;
+        }
+
+        if (!matchesAscii(start, end, INFINITY_ASCII))
+        {
+            throwParseDoubleError(index, length);
+        }
+
+        return Double.POSITIVE_INFINITY;
+    }
+
+    private boolean matchesAscii(final int start, final int end, final byte[] expected)
+    {
+        return end - start == expected.length &&
+            -1 == mismatch0(byteArray, addressOffset + start, expected, ARRAY_BASE_OFFSET, expected.length);
+    }
+
+    private int parseDoubleExponentAscii(final int index, final int length, final int start, final int end)
+    {
+        int i = start;
+        boolean negative = false;
+        if (i < end)
+        {
+            final byte sign = UnsafeApi.getByte(byteArray, addressOffset + i);
+            if (MINUS_SIGN == sign || PLUS_SIGN == sign)
+            {
+                negative = MINUS_SIGN == sign;
+                i++;
+            }
+        }
+
+        if (i >= end)
+        {
+            throwParseDoubleError(index, length);
+        }
+
+        int exponent = 0;
+        for (; i < end; i++)
+        {
+            final byte b = UnsafeApi.getByte(byteArray, addressOffset + i);
+            if (!isDigit(b))
+            {
+                throwParseDoubleError(index, length);
+            }
+
+            if (exponent < MAX_PARSED_EXPONENT)
+            {
+                exponent = (exponent * 10) + (b - ZERO);
+            }
+        }
+
+        return negative ? -exponent : exponent;
+    }
+
+    private int putNonFiniteAscii(final int index, final boolean isNaN, final boolean negative)
+    {
+        if (isNaN)
+        {
+            putBytes(index, NAN_ASCII);
+            return NAN_ASCII.length;
+        }
+
+        int length = 0;
+        if (negative)
+        {
+            putByte(index, MINUS_SIGN);
+            length++;
+        }
+
+        putBytes(index + length, INFINITY_ASCII);
+
+        return length + INFINITY_ASCII.length;
+    }
+
+    private int putZeroAscii(final int index, final boolean negative)
+    {
+        final int length = negative ? 4 : 3;
+        ensureCapacity(index, length);
+
+        final byte[] array = byteArray;
+        long offset = addressOffset + index;
+        if (negative)
+        {
+            UnsafeApi.putByte(array, offset++, MINUS_SIGN);
+        }
+
+        UnsafeApi.putByte(array, offset, ZERO);
+        UnsafeApi.putByte(array, offset + 1, DECIMAL_POINT);
+        UnsafeApi.putByte(array, offset + 2, ZERO);
+
+        return length;
+    }
+
+    private int putDoubleDecimalAscii(
+        final int index, final boolean negative, final int q, final long c, final int dk)
+    {
+        final int out = (int)c & 1;
+        final long cb = c << 2;
+        final long cbr = cb + 2;
+        final long cbl;
+        final int k;
+        if (c != DOUBLE_C_MIN || q == DOUBLE_Q_MIN)
+        {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        }
+        else
+        {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+
+        final int h = q + flog2pow10(-k) + 2;
+        final long g1 = g1(k);
+        final long g0 = g0(k);
+        final long vb = rop(g1, g0, cb << h);
+        final long vbl = rop(g1, g0, cbl << h);
+        final long vbr = rop(g1, g0, cbr << h);
+
+        final long s = vb >> 2;
+        if (s >= 100)
+        {
+            final long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            final long tp10 = sp10 + 10;
+            final boolean upin = vbl + out <= sp10 << 2;
+            final boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin)
+            {
+                return putShortestDecimalAscii(index, negative, upin ? sp10 : tp10, k);
+            }
+        }
+
+        final long t = s + 1;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win)
+        {
+            return putShortestDecimalAscii(index, negative, uin ? s : t, k + dk);
+        }
+
+        final long cmp = vb - ((s + t) << 1);
+
+        return putShortestDecimalAscii(index, negative, cmp < 0 || (0 == cmp && 0 == (s & 1)) ? s : t, k + dk);
+    }
+
+    private int putFloatDecimalAscii(final int index, final boolean negative, final int q, final int c, final int dk)
+    {
+        final int out = c & 1;
+        final long cb = (long)c << 2;
+        final long cbr = cb + 2;
+        final long cbl;
+        final int k;
+        if (c != FLOAT_C_MIN || q == FLOAT_Q_MIN)
+        {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        }
+        else
+        {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+
+        final int h = q + flog2pow10(-k) + 33;
+        final long g = g1(k) + 1;
+        final int vb = rop(g, cb << h);
+        final int vbl = rop(g, cbl << h);
+        final int vbr = rop(g, cbr << h);
+
+        final int s = vb >> 2;
+        if (s >= 100)
+        {
+            final int sp10 = 10 * (int)((s * 1_717_986_919L) >>> 34);
+            final int tp10 = sp10 + 10;
+            final boolean upin = vbl + out <= sp10 << 2;
+            final boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin)
+            {
+                return putShortestDecimalAscii(index, negative, upin ? sp10 : tp10, k);
+            }
+        }
+
+        final int t = s + 1;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win)
+        {
+            return putShortestDecimalAscii(index, negative, uin ? s : t, k + dk);
+        }
+
+        final int cmp = vb - ((s + t) << 1);
+
+        return putShortestDecimalAscii(index, negative, cmp < 0 || (0 == cmp && 0 == (s & 1)) ? s : t, k + dk);
+    }
+
+    private int putShortestDecimalAscii(final int index, final boolean negative, final long f, final int e)
+    {
+        long digits = f;
+        int exponent = e;
+        while (0 == digits % 10)
+        {
+            digits /= 10;
+            exponent++;
+        }
+
+        final int digitCount = digitCount(digits);
+        final int decimalExponent = exponent + digitCount;
+        final int signLength = negative ? 1 : 0;
+
+        if (0 < decimalExponent && decimalExponent <= PLAIN_MAX_EXPONENT)
+        {
+            if (digitCount <= decimalExponent)
+            {
+                final int length = signLength + decimalExponent + 2;
+                final long offset = prepareDecimalAscii(index, negative, length);
+                final byte[] array = byteArray;
+
+                putPositiveLongAscii(array, offset, digits, digitCount);
+                UnsafeApi.setMemory(array, offset + digitCount, decimalExponent - digitCount, ZERO);
+                UnsafeApi.putByte(array, offset + decimalExponent, DECIMAL_POINT);
+                UnsafeApi.putByte(array, offset + decimalExponent + 1, ZERO);
+
+                return length;
+            }
+
+            final int fractionDigits = digitCount - decimalExponent;
+            final long scaleFactor = LONG_POW_10[fractionDigits];
+            final int length = signLength + digitCount + 1;
+            final long offset = prepareDecimalAscii(index, negative, length);
+            final byte[] array = byteArray;
+
+            putPositiveLongAscii(array, offset, digits / scaleFactor, decimalExponent);
+            UnsafeApi.putByte(array, offset + decimalExponent, DECIMAL_POINT);
+            putZeroPaddedLongAscii(array, offset + decimalExponent + 1, digits % scaleFactor, fractionDigits);
+
+            return length;
+        }
+
+        if (PLAIN_MIN_EXPONENT < decimalExponent && decimalExponent <= 0)
+        {
+            final int length = signLength + 2 - decimalExponent + digitCount;
+            final long offset = prepareDecimalAscii(index, negative, length);
+            final byte[] array = byteArray;
+
+            UnsafeApi.putByte(array, offset, ZERO);
+            UnsafeApi.putByte(array, offset + 1, DECIMAL_POINT);
+            UnsafeApi.setMemory(array, offset + 2, -decimalExponent, ZERO);
+            putPositiveLongAscii(array, offset + 2 - decimalExponent, digits, digitCount);
+
+            return length;
+        }
+
+        final int scientificExponent = decimalExponent - 1;
+        final int exponentMagnitude = Math.abs(scientificExponent);
+        final int exponentDigitCount = digitCount(exponentMagnitude);
+        final int fractionDigits = digitCount - 1;
+        final int length = signLength + 3 + Math.max(1, fractionDigits) + (scientificExponent < 0 ? 1 : 0) +
+            exponentDigitCount;
+        final long offset = prepareDecimalAscii(index, negative, length);
+        final byte[] array = byteArray;
+
+        final long scaleFactor = LONG_POW_10[fractionDigits];
+        UnsafeApi.putByte(array, offset, (byte)(ZERO + (digits / scaleFactor)));
+        UnsafeApi.putByte(array, offset + 1, DECIMAL_POINT);
+        long i = offset + 2;
+        if (0 == fractionDigits)
+        {
+            UnsafeApi.putByte(array, i++, ZERO);
+        }
+        else
+        {
+            putZeroPaddedLongAscii(array, i, digits % scaleFactor, fractionDigits);
+            i += fractionDigits;
+        }
+
+        UnsafeApi.putByte(array, i++, EXPONENT);
+        if (scientificExponent < 0)
+        {
+            UnsafeApi.putByte(array, i++, MINUS_SIGN);
+        }
+        putPositiveIntAscii(array, i, exponentMagnitude, exponentDigitCount);
+
+        return length;
+    }
+
+    private long prepareDecimalAscii(final int index, final boolean negative, final int length)
+    {
+        ensureCapacity(index, length);
+
+        final long offset = addressOffset + index;
+        if (negative)
+        {
+            UnsafeApi.putByte(byteArray, offset, MINUS_SIGN);
+            return offset + 1;
+        }
+
+        return offset;
+    }
+
+    private static void putZeroPaddedLongAscii(final byte[] dest, final long offset, final long value, final int width)
+    {
+        final int digitCount = digitCount(value);
+        UnsafeApi.setMemory(dest, offset, width - digitCount, ZERO);
+        putPositiveLongAscii(dest, offset + width - digitCount, value, digitCount);
+    }
+
     private static void putPositiveIntAscii(final byte[] dest, final long offset, final int value, final int digitCount)
     {
         int i = digitCount;
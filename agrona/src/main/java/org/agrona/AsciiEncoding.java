@@ -64,11 +64,41 @@ public final class AsciiEncoding
      */
     public static final byte MINUS_SIGN = '-';
 
+    /**
+     * Byte value of the plus sign ('{@code +}').
+     */
+    public static final byte PLUS_SIGN = '+';
+
     /**
      * Byte value of zero character ('{@code 0}').
      */
     public static final byte ZERO = '0';
 
+    /**
+     * Byte value of the decimal point ('{@code .}').
+     */
+    public static final byte DECIMAL_POINT = '.';
+
+    /**
+     * Byte value of the exponent indicator in scientific notation ('{@code E}').
+     */
+    public static final byte EXPONENT = 'E';
+
+    /**
+     * Encoded bytes for the string representation of {@link Double#NaN}.
+     */
+    public static final byte[] NAN_ASCII = "NaN".getBytes(US_ASCII);
+
+    /**
+     * Encoded bytes for the string representation of {@link Double#POSITIVE_INFINITY}.
+     */
+    public static final byte[] INFINITY_ASCII = "Infinity".getBytes(US_ASCII);
+
+    /**
+     * Maximum scale, i.e. number of decimal places, of a fixed-point decimal with a long mantissa.
+     */
+    public static final int MAX_DECIMAL_SCALE = LONG_MAX_DIGITS - 1;
+
     /**
      * Lookup table used for encoding ints/longs as ASCII characters.
      */
@@ -416,6 +446,31 @@ public final class AsciiEncoding
         return (int)val;
     }
 
+    /**
+     * Checks if the provided values represent an ASCII-encoded number which contains exactly sixteen digits.
+     *
+     * @param first  eight ASCII-encoded bytes to check which are the most significant digits.
+     * @param second eight ASCII-encoded bytes to check which are the least significant digits.
+     * @return {@code true} if the values are an ASCII-encoded number with sixteen digits in it.
+     */
+    public static boolean isSixteenDigitAsciiEncodedNumber(final long first, final long second)
+    {
+        return 0L == ((((first + 0x4646464646464646L) | (first - 0x3030303030303030L) |
+            (second + 0x4646464646464646L) | (second - 0x3030303030303030L)) & 0x8080808080808080L));
+    }
+
+    /**
+     * Parses a sixteen-digit number out of two ASCII-encoded values assuming little-endian byte order.
+     *
+     * @param first  ASCII-encoded value in little-endian byte order of the most significant eight digits.
+     * @param second ASCII-encoded value in little-endian byte order of the least significant eight digits.
+     * @return {@code long} value with sixteen digits.
+     */
+    public static long parseSixteenDigitsLittleEndian(final long first, final long second)
+    {
+        return (parseEightDigitsLittleEndian(first) * 100_000_000L) + parseEightDigitsLittleEndian(second);
+    }
+
     private static int parsePositiveIntAscii(
         final CharSequence cs, final int index, final int length, final int startIndex, final int end)
     {
@@ -239,6 +239,42 @@ public interface DirectBuffer extends Comparable<DirectBuffer>
      */
     long parseLongAscii(int index, int length);
 
+    /**
+     * Parse the ASCII encoded decimal value at a given index into a fixed-point mantissa with a given scale so the
+     * value is {@code mantissa * 10^-scale}, e.g. {@code -12.5} with a scale of 3 is parsed as {@code -12500}.
+     * <p>
+     * The format is an optional minus sign followed by digits with an optional decimal point, exponent notation is not
+     * supported. This is an allocation free alternative to {@link Double#parseDouble(String)} for values such as
+     * prices and quantities.
+     *
+     * @param index  in bytes from which to get.
+     * @param length the length in bytes to parse.
+     * @param scale  number of decimal places in the resulting mantissa from 0 to
+     *               {@link AsciiEncoding#MAX_DECIMAL_SCALE}.
+     * @return the mantissa of the value at a given index for the scale.
+     * @throws AsciiNumberFormatException if {@code length <= 0}, the input is not a decimal, the input has more decimal
+     *                                    places than the scale, or the mantissa is out of range for a long.
+     * @throws IllegalArgumentException   if the scale is out of range.
+     */
+    long parseDecimalAscii(int index, int length, int scale);
+
+    /**
+     * Parse the ASCII encoded floating point value at a given index to the closest double as would be returned by
+     * {@link Double#parseDouble(String)}.
+     * <p>
+     * The format is an optional sign followed by digits with an optional decimal point and an optional exponent
+     * introduced by {@code e} or {@code E}, or {@code NaN} or {@code Infinity}. Leading and trailing whitespace,
+     * type suffixes, and hexadecimal notation are not supported. Parsing does not allocate unless there are more than
+     * 19 significant digits or the result is subnormal.
+     *
+     * @param index  in bytes from which to get.
+     * @param length the length in bytes to parse.
+     * @return the value at a given index.
+     * @throws AsciiNumberFormatException if {@code length <= 0} or the input is not a floating point value.
+     * @see MutableDirectBuffer#putDoubleAscii(int, double)
+     */
+    double parseDoubleAscii(int index, int length);
+
     /**
      * Get the value at a given index.
      *
@@ -451,6 +487,17 @@ public interface DirectBuffer extends Comparable<DirectBuffer>
      */
     String getStringUtf8(int index);
 
+    /**
+     * Get a String from bytes encoded in UTF-8 format that is length prefixed and append to an {@link Appendable}
+     * without allocation. Malformed input is replaced with {@code U+FFFD} as it would be by
+     * {@link String#String(byte[], java.nio.charset.Charset)}.
+     *
+     * @param index      at which the String begins.
+     * @param appendable to append the chars to.
+     * @return the number of bytes decoded.
+     */
+    int getStringUtf8(int index, Appendable appendable);
+
     /**
      * Get a String from bytes encoded in UTF-8 format that is length prefixed.
      *
@@ -478,6 +525,67 @@ public interface DirectBuffer extends Comparable<DirectBuffer>
      */
     String getStringWithoutLengthUtf8(int index, int length);
 
+    /**
+     * Get an encoded UTF-8 String from the buffer that does not have a length prefix and append to an
+     * {@link Appendable} without allocation. Malformed input is replaced with {@code U+FFFD} as it would be by
+     * {@link String#String(byte[], java.nio.charset.Charset)}.
+     *
+     * @param index      at which the String begins.
+     * @param length     of the String in bytes to decode.
+     * @param appendable to append the chars to.
+     * @return the number of bytes decoded.
+     */
+    int getStringWithoutLengthUtf8(int index, int length, Appendable appendable);
+
+    /**
+     * Find the relative offset of the first byte which differs between a range of this buffer and a range of another
+     * buffer. The ranges are compared a word at a time.
+     *
+     * @param index      in this buffer at which the range begins.
+     * @param other      buffer to compare against.
+     * @param otherIndex in the other buffer at which the range begins.
+     * @param length     of the ranges in bytes.
+     * @return the offset relative to the start of the ranges of the first byte which differs, or -1 if the ranges are
+     * equal.
+     * @see java.util.Arrays#mismatch(byte[], int, int, byte[], int, int)
+     */
+    int mismatch(int index, DirectBuffer other, int otherIndex, int length);
+
+    /**
+     * Check if a range of this buffer is equal to a range of another buffer.
+     *
+     * @param index      in this buffer at which the range begins.
+     * @param other      buffer to compare against.
+     * @param otherIndex in the other buffer at which the range begins.
+     * @param length     of the ranges in bytes.
+     * @return true if the ranges contain the same bytes otherwise false.
+     * @see #mismatch(int, DirectBuffer, int, int)
+     */
+    boolean equals(int index, DirectBuffer other, int otherIndex, int length);
+
+    /**
+     * Find the index of the first occurrence of a byte value in a range of the buffer, e.g. to find a delimiter. The
+     * range is searched a word at a time.
+     *
+     * @param index  at which the search begins.
+     * @param length of the range to search in bytes.
+     * @param value  to search for.
+     * @return the index in the buffer of the first occurrence of the value, or -1 if not found in the range.
+     */
+    int indexOf(int index, int length, byte value);
+
+    /**
+     * Find the index of the first occurrence of a sequence of bytes in a range of the buffer, e.g. to find a
+     * multibyte delimiter such as {@code \r\n}. The whole of the pattern must be within the range to match.
+     *
+     * @param index   at which the search begins.
+     * @param length  of the range to search in bytes.
+     * @param pattern of bytes to search for.
+     * @return the index in the buffer at which the first occurrence of the pattern begins, or -1 if not found in the
+     * range. An empty pattern is found at the index.
+     */
+    int indexOf(int index, int length, byte[] pattern);
+
     /**
      * Check that a given length of bytes is within the bounds from a given index.
      *
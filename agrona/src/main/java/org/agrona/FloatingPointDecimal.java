@@ -0,0 +1,330 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona;
+
+import java.math.BigInteger;
+
+/**
+ * Tables and arithmetic for converting between binary floating point values and decimal significand and exponent
+ * pairs without allocation.
+ * <p>
+ * Encoding uses the Schubfach algorithm by Raffaello Giulietti, as used by {@link Double#toString(double)} from
+ * JDK 19, to find the shortest decimal which rounds to the binary value. Parsing uses the Eisel-Lemire algorithm by
+ * Michael Eisel and Daniel Lemire with the sufficiency proof of Noble Mushtak and Daniel Lemire.
+ * <p>
+ * The 128-bit tables of powers are computed when first used rather than being embedded in the class file.
+ */
+final class FloatingPointDecimal
+{
+    /**
+     * Minimum decimal exponent {@code k} for which {@link #g1(int)} and {@link #g0(int)} are defined.
+     */
+    static final int K_MIN = -324;
+
+    /**
+     * Maximum decimal exponent {@code k} for which {@link #g1(int)} and {@link #g0(int)} are defined.
+     */
+    static final int K_MAX = 292;
+
+    /**
+     * Minimum decimal exponent for which a non-zero double can be parsed.
+     */
+    static final int SMALLEST_POWER_OF_TEN = -342;
+
+    /**
+     * Maximum decimal exponent for which a finite double can be parsed.
+     */
+    static final int LARGEST_POWER_OF_TEN = 308;
+
+    /**
+     * Minimum binary exponent of the significand of a double.
+     */
+    static final int DOUBLE_Q_MIN = -1074;
+
+    /**
+     * Implicit most significant bit of the significand of a normal double.
+     */
+    static final long DOUBLE_C_MIN = 1L << 52;
+
+    /**
+     * Subnormal doubles with a significand below this value need an extra digit of precision.
+     */
+    static final long DOUBLE_C_TINY = 3;
+
+    /**
+     * Minimum binary exponent of the significand of a float.
+     */
+    static final int FLOAT_Q_MIN = -149;
+
+    /**
+     * Implicit most significant bit of the significand of a normal float.
+     */
+    static final int FLOAT_C_MIN = 1 << 23;
+
+    /**
+     * Subnormal floats with a significand below this value need an extra digit of precision.
+     */
+    static final int FLOAT_C_TINY = 8;
+
+    /**
+     * Maximum decimal exponent, i.e. number of integer digits, for which a value is formatted as plain digits.
+     */
+    static final int PLAIN_MAX_EXPONENT = 7;
+
+    /**
+     * Decimal exponent above which a value less than one is formatted as plain digits.
+     */
+    static final int PLAIN_MIN_EXPONENT = -3;
+
+    /**
+     * Magnitude at which a parsed exponent is saturated as the result will be zero or infinity.
+     */
+    static final int MAX_PARSED_EXPONENT = 100_000;
+
+    /**
+     * Powers of ten which are exactly representable as a double.
+     */
+    static final double[] DOUBLE_POW_10 = new double[23];
+
+    private static final long MASK_63 = (1L << 63) - 1;
+    private static final long MASK_32 = (1L << 32) - 1;
+    private static final long[] G = new long[(K_MAX - K_MIN + 1) << 1];
+    private static final long[] POWERS_OF_FIVE = new long[(LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1) << 1];
+
+    static
+    {
+        double powerOfTen = 1.0;
+        for (int i = 0; i < DOUBLE_POW_10.length; i++)
+        {
+            DOUBLE_POW_10[i] = powerOfTen;
+            powerOfTen *= 10.0;
+        }
+
+        for (int k = K_MIN; k <= K_MAX; k++)
+        {
+            final BigInteger g;
+            if (k <= 0)
+            {
+                final BigInteger power = BigInteger.TEN.pow(-k);
+                final int shift = power.bitLength() - 126;
+                g = (shift >= 0 ? power.shiftRight(shift) : power.shiftLeft(-shift)).add(BigInteger.ONE);
+            }
+            else
+            {
+                final BigInteger power = BigInteger.TEN.pow(k);
+                g = BigInteger.ONE.shiftLeft(125 + power.bitLength()).divide(power).add(BigInteger.ONE);
+            }
+
+            final int i = (k - K_MIN) << 1;
+            G[i] = g.shiftRight(63).longValue();
+            G[i + 1] = g.longValue() & MASK_63;
+        }
+
+        final BigInteger twoPow128 = BigInteger.ONE.shiftLeft(128);
+        for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++)
+        {
+            BigInteger c;
+            if (q < 0)
+            {
+                final BigInteger power = BigInteger.valueOf(5).pow(-q);
+                final int z = power.bitLength();
+                final int b = q >= -27 ? z + 127 : (2 * z) + 128;
+                c = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                while (c.compareTo(twoPow128) >= 0)
+                {
+                    c = c.shiftRight(1);
+                }
+            }
+            else
+            {
+                c = BigInteger.valueOf(5).pow(q);
+                final int shift = c.bitLength() - 128;
+                c = shift >= 0 ? c.shiftRight(shift) : c.shiftLeft(-shift);
+            }
+
+            final int i = (q - SMALLEST_POWER_OF_TEN) << 1;
+            POWERS_OF_FIVE[i] = c.shiftRight(64).longValue();
+            POWERS_OF_FIVE[i + 1] = c.longValue();
+        }
+    }
+
+    private FloatingPointDecimal()
+    {
+    }
+
+    /**
+     * Compute {@code floor(log10(2^e))} for {@code |e| <= 5456721}.
+     *
+     * @param e the binary exponent.
+     * @return the floor of the decimal logarithm.
+     */
+    static int flog10pow2(final int e)
+    {
+        return (int)((e * 661_971_961_083L) >> 41);
+    }
+
+    /**
+     * Compute {@code floor(log10(3/4 * 2^e))} for {@code |e| <= 3657824}.
+     *
+     * @param e the binary exponent.
+     * @return the floor of the decimal logarithm.
+     */
+    static int flog10threeQuartersPow2(final int e)
+    {
+        return (int)(((e * 661_971_961_083L) - 274_743_187_321L) >> 41);
+    }
+
+    /**
+     * Compute {@code floor(log2(10^e))} for {@code |e| <= 1838394}.
+     *
+     * @param e the decimal exponent.
+     * @return the floor of the binary logarithm.
+     */
+    static int flog2pow10(final int e)
+    {
+        return (int)((e * 913_124_641_741L) >> 38);
+    }
+
+    /**
+     * The most significant 63 bits of {@code floor(10^-k * 2^r) + 1} normalised to 126 bits.
+     *
+     * @param k the decimal exponent in the range {@link #K_MIN} to {@link #K_MAX}.
+     * @return the most significant 63 bits.
+     */
+    static long g1(final int k)
+    {
+        return G[(k - K_MIN) << 1];
+    }
+
+    /**
+     * The least significant 63 bits of {@code floor(10^-k * 2^r) + 1} normalised to 126 bits.
+     *
+     * @param k the decimal exponent in the range {@link #K_MIN} to {@link #K_MAX}.
+     * @return the least significant 63 bits.
+     */
+    static long g0(final int k)
+    {
+        return G[((k - K_MIN) << 1) + 1];
+    }
+
+    /**
+     * Round to odd the product of a 126-bit {@code g} and a scaled significand as needed by Schubfach for a double.
+     *
+     * @param g1 the most significant 63 bits of {@code g}.
+     * @param g0 the least significant 63 bits of {@code g}.
+     * @param cp the scaled significand.
+     * @return the product rounded to odd.
+     */
+    static long rop(final long g1, final long g0, final long cp)
+    {
+        final long x1 = Math.multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = Math.multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+
+        return vbp | (((z & MASK_63) + MASK_63) >>> 63);
+    }
+
+    /**
+     * Round to odd the product of a 63-bit {@code g} and a scaled significand as needed by Schubfach for a float.
+     *
+     * @param g  the 63-bit approximation of the power of ten.
+     * @param cp the scaled significand.
+     * @return the product rounded to odd.
+     */
+    static int rop(final long g, final long cp)
+    {
+        final long x1 = Math.multiplyHigh(g, cp);
+        final long vbp = x1 >>> 31;
+
+        return (int)(vbp | (((x1 & MASK_32) + MASK_32) >>> 32));
+    }
+
+    /**
+     * Compute the double closest to {@code w * 10^q} using the Eisel-Lemire algorithm.
+     *
+     * @param w the non-zero decimal significand of up to 19 digits as an unsigned value.
+     * @param q the decimal exponent.
+     * @return the positive double closest to the decimal or {@link Double#NaN} if the result would be subnormal so the
+     * caller must fall back to another algorithm.
+     */
+    static double eiselLemire(final long w, final int q)
+    {
+        if (q < SMALLEST_POWER_OF_TEN)
+        {
+            return 0.0;
+        }
+
+        if (q > LARGEST_POWER_OF_TEN)
+        {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final int lz = Long.numberOfLeadingZeros(w);
+        final long normalised = w << lz;
+        final int index = (q - SMALLEST_POWER_OF_TEN) << 1;
+
+        long high = unsignedMultiplyHigh(normalised, POWERS_OF_FIVE[index]);
+        long low = normalised * POWERS_OF_FIVE[index];
+        if (0x1FF == (high & 0x1FF))
+        {
+            final long secondHigh = unsignedMultiplyHigh(normalised, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0)
+            {
+                high++;
+            }
+        }
+
+        final int upperBit = (int)(high >>> 63);
+        final int shift = upperBit + 9;
+        long mantissa = high >>> shift;
+        int power2 = (((152_170 + 65_536) * q) >> 16) + 63 + upperBit - lz + 1023;
+        if (power2 <= 0)
+        {
+            return Double.NaN;
+        }
+
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && 1 == (mantissa & 3))
+        {
+            if ((mantissa << shift) == high)
+            {
+                mantissa &= ~1L;
+            }
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << 52))
+        {
+            mantissa = 1L << 52;
+            power2++;
+        }
+
+        if (power2 >= 0x7FF)
+        {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return Double.longBitsToDouble(((long)power2 << 52) | (mantissa & ~(1L << 52)));
+    }
+
+    private static long unsignedMultiplyHigh(final long x, final long y)
+    {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
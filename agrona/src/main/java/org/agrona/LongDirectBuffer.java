@@ -0,0 +1,284 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Abstraction over a region of memory which is indexed by {@code long} so that regions larger than
+ * {@link Integer#MAX_VALUE} bytes, such as large memory-mapped files or native allocations, can be accessed without
+ * splitting them into many {@link DirectBuffer}s.
+ * <p>
+ * The accessors mirror those of {@link DirectBuffer} including the default of {@link java.nio.ByteOrder#nativeOrder()}
+ * for multibyte values and the same bounds checking which is disabled via {@link DirectBuffer#DISABLE_BOUNDS_CHECKS_PROP_NAME}.
+ *
+ * @see org.agrona.concurrent.AtomicLongIndexedBuffer
+ */
+public interface LongDirectBuffer
+{
+    /**
+     * Get the address offset of the start of the region which is an absolute address for off-heap memory or an
+     * offset relative to {@link #byteArray()} for a heap buffer.
+     *
+     * @return the address offset of the start of the region.
+     */
+    long addressOffset();
+
+    /**
+     * Get the underlying byte[] if one exists.
+     *
+     * @return the underlying byte[] if one exists or null for off-heap memory.
+     */
+    byte[] byteArray();
+
+    /**
+     * Get the underlying {@link ByteBuffer} if one exists.
+     *
+     * @return the underlying {@link ByteBuffer} if one exists or null if a raw address has been wrapped.
+     */
+    ByteBuffer byteBuffer();
+
+    /**
+     * Get the capacity of the underlying region which may exceed {@link Integer#MAX_VALUE}.
+     *
+     * @return the capacity of the underlying region in bytes.
+     */
+    long capacity();
+
+    /**
+     * Check that a given limit is not greater than the capacity of a buffer from a given offset.
+     *
+     * @param limit up to which access is required.
+     * @throws IndexOutOfBoundsException if limit is beyond buffer capacity.
+     */
+    void checkLimit(long limit);
+
+    /**
+     * Check that a given length of bytes is within the bounds from a given index.
+     *
+     * @param index  from which to check.
+     * @param length in bytes of the range to check.
+     * @throws IndexOutOfBoundsException if the length goes outside of the capacity range.
+     */
+    void boundsCheck(long index, long length);
+
+    /**
+     * Wrap a window of this region with a {@link DirectBuffer} so it can be passed to code which is indexed by
+     * {@code int}, such as codecs, without copying.
+     *
+     * @param buffer to be wrapped around the window.
+     * @param index  in this region at which the window starts.
+     * @param length of the window in bytes.
+     * @throws IndexOutOfBoundsException if the window is outside of the capacity range.
+     */
+    void wrapWindow(DirectBuffer buffer, long index, int length);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    byte getByte(long index);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index     in bytes from which to get.
+     * @param byteOrder of the value to be read.
+     * @return the value for at a given index.
+     */
+    char getChar(long index, ByteOrder byteOrder);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    char getChar(long index);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index     in bytes from which to get.
+     * @param byteOrder of the value to be read.
+     * @return the value for at a given index.
+     */
+    short getShort(long index, ByteOrder byteOrder);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    short getShort(long index);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index     in bytes from which to get.
+     * @param byteOrder of the value to be read.
+     * @return the value for at a given index.
+     */
+    int getInt(long index, ByteOrder byteOrder);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    int getInt(long index);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index     in bytes from which to get.
+     * @param byteOrder of the value to be read.
+     * @return the value for at a given index.
+     */
+    long getLong(long index, ByteOrder byteOrder);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    long getLong(long index);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index     in bytes from which to get.
+     * @param byteOrder of the value to be read.
+     * @return the value for at a given index.
+     */
+    float getFloat(long index, ByteOrder byteOrder);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    float getFloat(long index);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index     in bytes from which to get.
+     * @param byteOrder of the value to be read.
+     * @return the value for at a given index.
+     */
+    double getDouble(long index, ByteOrder byteOrder);
+
+    /**
+     * Get the value at a given index.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    double getDouble(long index);
+
+    /**
+     * Get from the underlying buffer into a supplied byte array.
+     * This method will try to fill the supplied byte array.
+     *
+     * @param index in the underlying buffer to start from.
+     * @param dst   into which the dst will be copied.
+     */
+    void getBytes(long index, byte[] dst);
+
+    /**
+     * Get bytes from the underlying buffer into a supplied byte array.
+     *
+     * @param index  in the underlying buffer to start from.
+     * @param dst    into which the bytes will be copied.
+     * @param offset in the supplied buffer to start the copy.
+     * @param length of the supplied buffer to use.
+     */
+    void getBytes(long index, byte[] dst, int offset, int length);
+
+    /**
+     * Get bytes from this buffer into the provided {@link MutableDirectBuffer} at given indices.
+     *
+     * @param index     in this buffer to begin getting the bytes.
+     * @param dstBuffer to which the bytes will be copied.
+     * @param dstIndex  in the channel buffer to which the byte copy will begin.
+     * @param length    of the bytes to be copied.
+     */
+    void getBytes(long index, MutableDirectBuffer dstBuffer, int dstIndex, int length);
+
+    /**
+     * Get a String from bytes encoded in ASCII format that is length prefixed.
+     *
+     * @param index at which the String begins.
+     * @return the String as represented by the ASCII encoded bytes.
+     */
+    String getStringAscii(long index);
+
+    /**
+     * Get part of a String from bytes encoded in ASCII format that is not length prefixed.
+     *
+     * @param index  at which the String begins.
+     * @param length of the String in bytes to decode.
+     * @return the String as represented by the ASCII encoded bytes.
+     */
+    String getStringWithoutLengthAscii(long index, int length);
+
+    /**
+     * Get a String from bytes encoded in UTF-8 format that is length prefixed.
+     *
+     * @param index at which the String begins.
+     * @return the String as represented by the UTF-8 encoded bytes.
+     */
+    String getStringUtf8(long index);
+
+    /**
+     * Get part of String from bytes encoded in UTF-8 format that is not length prefixed.
+     *
+     * @param index  at which the String begins.
+     * @param length of the String in bytes to decode.
+     * @return the String as represented by the UTF-8 encoded bytes.
+     */
+    String getStringWithoutLengthUtf8(long index, int length);
+
+    /**
+     * Parse the ASCII encoded int sequence at a given index.
+     *
+     * @param index  at which the number begins.
+     * @param length of the encoded number in bytes.
+     * @return the parsed value.
+     * @throws AsciiNumberFormatException if {@code length <= 0} or input contains
+     *                                   a non-digit character or is out of range for an int.
+     */
+    int parseIntAscii(long index, int length);
+
+    /**
+     * Parse the ASCII encoded long sequence at a given index.
+     *
+     * @param index  at which the number begins.
+     * @param length of the encoded number in bytes.
+     * @return the parsed value.
+     * @throws AsciiNumberFormatException if {@code length <= 0} or input contains
+     *                                   a non-digit character or is out of range for a long.
+     */
+    long parseLongAscii(long index, int length);
+}
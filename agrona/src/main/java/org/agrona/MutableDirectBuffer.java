@@ -135,6 +135,44 @@ public interface MutableDirectBuffer extends DirectBuffer
      */
     int putLongAscii(int index, long value);
 
+    /**
+     * Puts an ASCII encoded fixed-point decimal value into the buffer with a given number of decimal places so the
+     * value is {@code mantissa * 10^-scale}, e.g. a mantissa of {@code -12500} with a scale of 3 is encoded as
+     * {@code -12.500}.
+     *
+     * @param index    the offset at which to put the decimal.
+     * @param mantissa of the decimal to write.
+     * @param scale    number of decimal places from 0 to {@link AsciiEncoding#MAX_DECIMAL_SCALE}.
+     * @return the number of bytes that the decimal took up encoded.
+     * @throws IllegalArgumentException if the scale is out of range.
+     * @see DirectBuffer#parseDecimalAscii(int, int, int)
+     */
+    int putDecimalAscii(int index, long mantissa, int scale);
+
+    /**
+     * Puts the shortest ASCII encoded decimal which uniquely distinguishes a double into the buffer in the same format
+     * as {@link Double#toString(double)} from Java 19, e.g. {@code 0.1}, {@code 100.0}, or {@code 1.0E-5}, without
+     * allocation.
+     *
+     * @param index the offset at which to put the double.
+     * @param value the double to write.
+     * @return the number of bytes that the double took up encoded.
+     * @see DirectBuffer#parseDoubleAscii(int, int)
+     */
+    int putDoubleAscii(int index, double value);
+
+    /**
+     * Puts the shortest ASCII encoded decimal which uniquely distinguishes a float into the buffer in the same format
+     * as {@link Float#toString(float)} from Java 19, e.g. {@code 0.1}, {@code 100.0}, or {@code 1.0E-5}, without
+     * allocation.
+     *
+     * @param index the offset at which to put the float.
+     * @param value the float to write.
+     * @return the number of bytes that the float took up encoded.
+     * @see DirectBuffer#parseDoubleAscii(int, int)
+     */
+    int putFloatAscii(int index, float value);
+
     /**
      * Put a value to a given index.
      *
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona;
+
+import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.Hashing;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Bounded cache of Strings decoded from UTF-8 bytes in a {@link DirectBuffer} so that repeated values, such as
+ * symbols or identifiers in a message stream, are interned to the same String rather than allocating a new one on
+ * each decode.
+ * <p>
+ * The cache is direct mapped by a hash of the encoded bytes so lookups are a hash and a single comparison of bytes.
+ * A miss decodes the String and replaces whatever was in the slot. Values longer than the max length are not cached
+ * so the memory retained is bounded by the capacity and max length.
+ * <p>
+ * <b>Note:</b> This class is not threadsafe.
+ */
+public final class Utf8StringCache
+{
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final int mask;
+    private final int maxLength;
+    private final UnsafeBuffer[] keys;
+    private final String[] values;
+
+    /**
+     * Construct a new cache.
+     *
+     * @param capacity  number of Strings which can be cached which must be a power of 2.
+     * @param maxLength in bytes of an encoded String which will be cached.
+     * @throws IllegalArgumentException if capacity is not a power of 2 or maxLength is negative.
+     */
+    public Utf8StringCache(final int capacity, final int maxLength)
+    {
+        if (!BitUtil.isPowerOfTwo(capacity))
+        {
+            throw new IllegalArgumentException("capacity must be a positive power of 2: capacity=" + capacity);
+        }
+
+        if (maxLength < 0)
+        {
+            throw new IllegalArgumentException("maxLength must not be negative: maxLength=" + maxLength);
+        }
+
+        this.maxLength = maxLength;
+        mask = capacity - 1;
+        keys = new UnsafeBuffer[capacity];
+        values = new String[capacity];
+
+        for (int i = 0; i < capacity; i++)
+        {
+            keys[i] = new UnsafeBuffer(ArrayUtil.EMPTY_BYTE_ARRAY);
+        }
+    }
+
+    /**
+     * Number of Strings which can be cached.
+     *
+     * @return number of Strings which can be cached.
+     */
+    public int capacity()
+    {
+        return values.length;
+    }
+
+    /**
+     * Max length in bytes of an encoded String which will be cached.
+     *
+     * @return max length in bytes of an encoded String which will be cached.
+     */
+    public int maxLength()
+    {
+        return maxLength;
+    }
+
+    /**
+     * Get a String from bytes encoded in UTF-8 format that is length prefixed, returning a cached String if the
+     * same bytes have been decoded before.
+     *
+     * @param buffer containing the encoded String.
+     * @param index  at which the String begins.
+     * @return the String as represented by the UTF-8 encoded bytes.
+     * @see DirectBuffer#getStringUtf8(int)
+     */
+    public String getStringUtf8(final DirectBuffer buffer, final int index)
+    {
+        final int length = buffer.getInt(index);
+
+        return getStringWithoutLengthUtf8(buffer, index + SIZE_OF_INT, length);
+    }
+
+    /**
+     * Get an encoded UTF-8 String from the buffer that does not have a length prefix, returning a cached String if
+     * the same bytes have been decoded before.
+     *
+     * @param buffer containing the encoded String.
+     * @param index  at which the String begins.
+     * @param length of the String in bytes to decode.
+     * @return the String as represented by the UTF-8 encoded bytes.
+     * @see DirectBuffer#getStringWithoutLengthUtf8(int, int)
+     */
+    public String getStringWithoutLengthUtf8(final DirectBuffer buffer, final int index, final int length)
+    {
+        if (0 == length)
+        {
+            return "";
+        }
+
+        if (length > maxLength)
+        {
+            return buffer.getStringWithoutLengthUtf8(index, length);
+        }
+
+        final int slot = Hashing.hash(hash(buffer, index, length), mask);
+        final UnsafeBuffer key = keys[slot];
+        String value = values[slot];
+
+        if (null == value || key.capacity() != length || !buffer.equals(index, key, 0, length))
+        {
+            value = buffer.getStringWithoutLengthUtf8(index, length);
+            if (key.capacity() != length)
+            {
+                key.wrap(new byte[length]);
+            }
+
+            buffer.getBytes(index, key, 0, length);
+            values[slot] = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Remove all cached Strings.
+     */
+    public void clear()
+    {
+        for (int i = 0, size = values.length; i < size; i++)
+        {
+            keys[i].wrap(ArrayUtil.EMPTY_BYTE_ARRAY);
+            values[i] = null;
+        }
+    }
+
+    private static long hash(final DirectBuffer buffer, final int index, final int length)
+    {
+        long hash = length;
+        int i = 0;
+        for (final int limit = length - SIZE_OF_LONG; i <= limit; i += SIZE_OF_LONG)
+        {
+            hash = (hash ^ buffer.getLong(index + i)) * HASH_MULTIPLIER;
+        }
+
+        for (; i < length; i++)
+        {
+            hash = (hash ^ buffer.getByte(index + i)) * HASH_MULTIPLIER;
+        }
+
+        return hash;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+/**
+ * Policy for choosing which entry to evict from a set of a set-associative cache such as {@link Int2ObjectCache}
+ * when a new key is put into a full set.
+ * <p>
+ * {@link #CLOCK} and {@link #SIEVE} mark an entry as visited on a cache hit, which is a single store with no movement
+ * of entries, so frequently read keys survive keys which are put and not read again even when several hot keys map to
+ * the same set, as is common with skewed key distributions.
+ */
+public enum CacheEvictionPolicy
+{
+    /**
+     * First in, first out: a new entry becomes the newest in the set and the oldest entry is evicted. Reads do not
+     * change the order. This is the default.
+     */
+    FIFO,
+
+    /**
+     * A hand per set sweeps the set in a circle clearing the visited mark of entries until it finds one which has not
+     * been visited since the last sweep, which is then replaced in place by the new entry.
+     */
+    CLOCK,
+
+    /**
+     * Entries are kept in insertion order with a new entry becoming the newest in the set. A hand per set moves from
+     * the oldest towards the newest entry clearing visited marks until it finds an entry which has not been visited,
+     * which is evicted, and it resumes from that position on the next eviction. Visited entries are retained in place
+     * rather than being moved, so new entries which are not visited again are evicted quickly.
+     */
+    SIEVE
+}
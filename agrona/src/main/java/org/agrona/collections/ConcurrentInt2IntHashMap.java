@@ -0,0 +1,630 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.agrona.BitUtil;
+import org.agrona.UnsafeApi;
+import org.agrona.generation.DoNotSub;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
+import static org.agrona.collections.CollectionUtil.validateLoadFactor;
+
+/**
+ * A concurrent open-addressing with linear probing hash map specialised for primitive key and value pairs which
+ * avoids boxing.
+ * <p>
+ * Keys are spread over a power of 2 number of segments which each have their own lock so that writers to different
+ * segments do not contend. Readers take no locks and never retry, making {@link #get(int)} wait-free.
+ * <p>
+ * A slot in a segment's table is only ever claimed by a single key for the lifetime of the table. Removing a key
+ * writes {@link #missingValue()} to its value which leaves the slot in place for the probe sequence, and putting the
+ * key again reuses the slot. Tables are rebuilt, and grown if necessary, when the claimed slots reach the resize
+ * threshold and the new table is published to readers after it has been fully populated. A reader which is still
+ * probing a previous table sees the contents of the map as it was when the table was replaced.
+ * <p>
+ * Iteration via {@link #forEachInt(IntIntConsumer)} is weakly consistent and {@link #size()} is the sum of the
+ * segment sizes which may be changing concurrently.
+ */
+public class ConcurrentInt2IntHashMap
+{
+    /**
+     * Default number of segments the map is striped across.
+     */
+    @DoNotSub public static final int DEFAULT_SEGMENT_COUNT = 16;
+
+    /**
+     * Maximum number of segments the map can be striped across.
+     */
+    @DoNotSub public static final int MAX_SEGMENT_COUNT = 256;
+
+    @DoNotSub static final int MIN_CAPACITY = 8;
+    @DoNotSub private static final int SEGMENT_HASH_SHIFT = 24;
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+
+    @DoNotSub private static final int ENTRIES_ARRAY_BASE;
+    @DoNotSub private static final int SHIFT_FOR_SCALE;
+    @DoNotSub private static final int STATES_ARRAY_BASE;
+
+    static
+    {
+        ENTRIES_ARRAY_BASE = UnsafeApi.arrayBaseOffset(int[].class);
+        SHIFT_FOR_SCALE = BitUtil.calculateShiftForScale(UnsafeApi.arrayIndexScale(int[].class));
+        STATES_ARRAY_BASE = UnsafeApi.arrayBaseOffset(byte[].class);
+    }
+
+    private final float loadFactor;
+    private final int missingValue;
+    @DoNotSub private final int segmentMask;
+    private final Segment[] segments;
+
+    /**
+     * Create a map with a specified {@code missingValue} and {@link #DEFAULT_SEGMENT_COUNT} segments.
+     *
+     * @param missingValue for the map that represents null.
+     */
+    public ConcurrentInt2IntHashMap(final int missingValue)
+    {
+        this(MIN_CAPACITY * DEFAULT_SEGMENT_COUNT, Hashing.DEFAULT_LOAD_FACTOR, missingValue, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Create a map with specified parameters and {@link #DEFAULT_SEGMENT_COUNT} segments.
+     *
+     * @param initialCapacity for the map which is divided between the segments.
+     * @param loadFactor      for the map to override {@link Hashing#DEFAULT_LOAD_FACTOR}.
+     * @param missingValue    for the map that represents null.
+     */
+    public ConcurrentInt2IntHashMap(
+        @DoNotSub final int initialCapacity,
+        @DoNotSub final float loadFactor,
+        final int missingValue)
+    {
+        this(initialCapacity, loadFactor, missingValue, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Create a map with specified parameters.
+     *
+     * @param initialCapacity for the map which is divided between the segments.
+     * @param loadFactor      for the map to override {@link Hashing#DEFAULT_LOAD_FACTOR}.
+     * @param missingValue    for the map that represents null.
+     * @param segmentCount    number of segments, each with its own lock, which must be a power of 2 and no greater
+     *                        than {@link #MAX_SEGMENT_COUNT}.
+     * @throws IllegalArgumentException if the segment count is not a power of 2 or is too large.
+     */
+    public ConcurrentInt2IntHashMap(
+        @DoNotSub final int initialCapacity,
+        @DoNotSub final float loadFactor,
+        final int missingValue,
+        @DoNotSub final int segmentCount)
+    {
+        validateLoadFactor(loadFactor);
+        if (!BitUtil.isPowerOfTwo(segmentCount) || segmentCount > MAX_SEGMENT_COUNT)
+        {
+            throw new IllegalArgumentException(
+                "segmentCount must be a power of 2 no greater than " + MAX_SEGMENT_COUNT +
+                ": segmentCount=" + segmentCount);
+        }
+
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        segmentMask = segmentCount - 1;
+        segments = new Segment[segmentCount];
+
+        @DoNotSub final int segmentCapacity = findNextPositivePowerOfTwo(
+            Math.max(MIN_CAPACITY, initialCapacity / segmentCount));
+        for (@DoNotSub int i = 0; i < segmentCount; i++)
+        {
+            segments[i] = new Segment(new Table(segmentCapacity, loadFactor));
+        }
+    }
+
+    /**
+     * The value to be used as a null marker in the map.
+     *
+     * @return value to be used as a null marker in the map.
+     */
+    public int missingValue()
+    {
+        return missingValue;
+    }
+
+    /**
+     * Get the load factor applied for resize operations.
+     *
+     * @return the load factor applied for resize operations.
+     */
+    public float loadFactor()
+    {
+        return loadFactor;
+    }
+
+    /**
+     * Number of segments the map is striped across.
+     *
+     * @return number of segments the map is striped across.
+     */
+    @DoNotSub public int segmentCount()
+    {
+        return segments.length;
+    }
+
+    /**
+     * Get the total capacity of the map which is the sum of the capacity of the segments.
+     *
+     * @return the total capacity of the map.
+     */
+    @DoNotSub public int capacity()
+    {
+        @DoNotSub int capacity = 0;
+        for (final Segment segment : segments)
+        {
+            capacity += segment.table.entries.length >> 1;
+        }
+
+        return capacity;
+    }
+
+    /**
+     * The number of entries in the map which is the sum of the segment sizes at the time they are read.
+     *
+     * @return the number of entries in the map.
+     */
+    @DoNotSub public int size()
+    {
+        @DoNotSub int size = 0;
+        for (final Segment segment : segments)
+        {
+            size += segment.size;
+        }
+
+        return size;
+    }
+
+    /**
+     * Is the map empty.
+     *
+     * @return true if no segment contains an entry.
+     */
+    public boolean isEmpty()
+    {
+        for (final Segment segment : segments)
+        {
+            if (0 != segment.size)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get a value using provided key avoiding boxing. This method takes no locks and is wait-free.
+     *
+     * @param key lookup key.
+     * @return value associated with the key or {@link #missingValue()} if key is not found in the map.
+     */
+    public int get(final int key)
+    {
+        @DoNotSub final int hash = Hashing.hash(key);
+        final Table table = segments[(hash >>> SEGMENT_HASH_SHIFT) & segmentMask].table;
+        final int[] entries = table.entries;
+        final byte[] states = table.states;
+        @DoNotSub final int mask = entries.length - 1;
+        @DoNotSub int index = evenIndex(hash, mask);
+
+        while (USED == UnsafeApi.getByteVolatile(states, STATES_ARRAY_BASE + (index >> 1)))
+        {
+            if (key == entries[index])
+            {
+                return UnsafeApi.getIntVolatile(entries, entryOffset(index + 1));
+            }
+
+            index = next(index, mask);
+        }
+
+        return missingValue;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this map contains no mapping
+     * for the key.
+     *
+     * @param key          whose associated value is to be returned.
+     * @param defaultValue to be returned if there is no value in the map for a given {@code key}.
+     * @return the value to which the specified key is mapped, or {@code defaultValue} if this map contains no mapping
+     * for the key.
+     */
+    public int getOrDefault(final int key, final int defaultValue)
+    {
+        final int value = get(key);
+        return missingValue != value ? value : defaultValue;
+    }
+
+    /**
+     * Does the map contain a value for the given key. This method takes no locks and is wait-free.
+     *
+     * @param key to check.
+     * @return true if the map contains a value for the key.
+     */
+    public boolean containsKey(final int key)
+    {
+        return missingValue != get(key);
+    }
+
+    /**
+     * Put a key value pair in the map.
+     *
+     * @param key   lookup key.
+     * @param value new value, must not be {@link #missingValue()}.
+     * @return previous value associated with the key, or {@link #missingValue()} if none found.
+     * @throws IllegalArgumentException if value is {@link #missingValue()}.
+     */
+    public int put(final int key, final int value)
+    {
+        if (missingValue == value)
+        {
+            throw new IllegalArgumentException("cannot accept missingValue");
+        }
+
+        @DoNotSub final int hash = Hashing.hash(key);
+        final Segment segment = segments[(hash >>> SEGMENT_HASH_SHIFT) & segmentMask];
+        final ReentrantLock lock = segment.lock;
+        lock.lock();
+        try
+        {
+            return put(segment, hash, key, value, false);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Put a key value pair in the map if the key is not already associated with a value.
+     *
+     * @param key   lookup key.
+     * @param value new value, must not be {@link #missingValue()}.
+     * @return the existing value associated with the key, or {@link #missingValue()} if there was no mapping for the
+     * key and the value was put.
+     * @throws IllegalArgumentException if value is {@link #missingValue()}.
+     */
+    public int putIfAbsent(final int key, final int value)
+    {
+        if (missingValue == value)
+        {
+            throw new IllegalArgumentException("cannot accept missingValue");
+        }
+
+        @DoNotSub final int hash = Hashing.hash(key);
+        final Segment segment = segments[(hash >>> SEGMENT_HASH_SHIFT) & segmentMask];
+        final ReentrantLock lock = segment.lock;
+        lock.lock();
+        try
+        {
+            return put(segment, hash, key, value, true);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the value for a key or if not present compute a value with the mapping function and put it in the map. The
+     * mapping function is applied at most once per key while holding the lock for the key's segment, so it should be
+     * short and must not update the map.
+     *
+     * @param key             to search on.
+     * @param mappingFunction to provide a value if the get returns {@link #missingValue()}.
+     * @return the existing value or the newly computed value which may be {@link #missingValue()} if the function
+     * computed it and so it was not put in the map.
+     */
+    public int computeIfAbsent(final int key, final IntUnaryOperator mappingFunction)
+    {
+        requireNonNull(mappingFunction);
+        final int existingValue = get(key);
+        if (missingValue != existingValue)
+        {
+            return existingValue;
+        }
+
+        @DoNotSub final int hash = Hashing.hash(key);
+        final Segment segment = segments[(hash >>> SEGMENT_HASH_SHIFT) & segmentMask];
+        final ReentrantLock lock = segment.lock;
+        lock.lock();
+        try
+        {
+            final Table table = segment.table;
+            @DoNotSub final int index = findSlot(table, hash, key);
+            if (USED == table.states[index >> 1] && missingValue != table.entries[index + 1])
+            {
+                return table.entries[index + 1];
+            }
+
+            final int value = mappingFunction.applyAsInt(key);
+            if (missingValue != value)
+            {
+                put(segment, hash, key, value, false);
+            }
+
+            return value;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a key value pair from the map.
+     *
+     * @param key to be removed.
+     * @return old value for key or {@link #missingValue()} if the key was not found.
+     */
+    public int remove(final int key)
+    {
+        final int missingValue = this.missingValue;
+        @DoNotSub final int hash = Hashing.hash(key);
+        final Segment segment = segments[(hash >>> SEGMENT_HASH_SHIFT) & segmentMask];
+        final ReentrantLock lock = segment.lock;
+        lock.lock();
+        try
+        {
+            final Table table = segment.table;
+            @DoNotSub final int index = findSlot(table, hash, key);
+            if (EMPTY == table.states[index >> 1])
+            {
+                return missingValue;
+            }
+
+            final int oldValue = table.entries[index + 1];
+            if (missingValue != oldValue)
+            {
+                UnsafeApi.putIntRelease(table.entries, entryOffset(index + 1), missingValue);
+                segment.size--;
+            }
+
+            return oldValue;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Clear the map of all entries. Each segment is cleared in turn so concurrent writers may leave entries in
+     * segments which have already been cleared.
+     */
+    public void clear()
+    {
+        for (final Segment segment : segments)
+        {
+            final ReentrantLock lock = segment.lock;
+            lock.lock();
+            try
+            {
+                if (0 != segment.usedSlots)
+                {
+                    segment.usedSlots = 0;
+                    segment.size = 0;
+                    segment.table = new Table(segment.table.entries.length >> 1, loadFactor);
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Primitive specialised forEach implementation which takes no locks. Entries put or removed concurrently with the
+     * iteration may or may not be visited.
+     *
+     * @param consumer a callback called for each key/value pair in the map.
+     */
+    public void forEachInt(final IntIntConsumer consumer)
+    {
+        requireNonNull(consumer);
+        final int missingValue = this.missingValue;
+
+        for (final Segment segment : segments)
+        {
+            final Table table = segment.table;
+            final int[] entries = table.entries;
+            final byte[] states = table.states;
+
+            for (@DoNotSub int index = 0, length = entries.length; index < length; index += 2)
+            {
+                if (USED == UnsafeApi.getByteVolatile(states, STATES_ARRAY_BASE + (index >> 1)))
+                {
+                    final int value = UnsafeApi.getIntVolatile(entries, entryOffset(index + 1));
+                    if (missingValue != value)
+                    {
+                        consumer.accept(entries[index], value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder().append('{');
+        forEachInt((key, value) -> sb.append(key).append('=').append(value).append(", "));
+        if (sb.length() > 1)
+        {
+            sb.setLength(sb.length() - 2);
+        }
+
+        return sb.append('}').toString();
+    }
+
+    private int put(
+        final Segment segment,
+        @DoNotSub final int hash,
+        final int key,
+        final int value,
+        final boolean onlyIfAbsent)
+    {
+        final int missingValue = this.missingValue;
+        Table table = segment.table;
+        @DoNotSub int index = findSlot(table, hash, key);
+
+        if (USED == table.states[index >> 1])
+        {
+            final int oldValue = table.entries[index + 1];
+            if (missingValue != oldValue && onlyIfAbsent)
+            {
+                return oldValue;
+            }
+
+            UnsafeApi.putIntRelease(table.entries, entryOffset(index + 1), value);
+            if (missingValue == oldValue)
+            {
+                segment.size++;
+            }
+
+            return oldValue;
+        }
+
+        if (segment.usedSlots >= table.resizeThreshold)
+        {
+            table = rebuild(segment, table);
+            index = findSlot(table, hash, key);
+        }
+
+        table.entries[index] = key;
+        table.entries[index + 1] = value;
+        UnsafeApi.putByteRelease(table.states, STATES_ARRAY_BASE + (index >> 1), USED);
+        segment.usedSlots++;
+        segment.size++;
+
+        return missingValue;
+    }
+
+    private Table rebuild(final Segment segment, final Table oldTable)
+    {
+        final int missingValue = this.missingValue;
+        final int[] oldEntries = oldTable.entries;
+        final byte[] oldStates = oldTable.states;
+        @DoNotSub final int length = oldEntries.length;
+        @DoNotSub final int size = segment.size;
+
+        // only grow when live entries, rather than removed slots, account for much of the threshold
+        @DoNotSub final int oldCapacity = length >> 1;
+        @DoNotSub final int newCapacity = size >= (oldTable.resizeThreshold >> 1) ? oldCapacity << 1 : oldCapacity;
+        final Table newTable = new Table(newCapacity, loadFactor);
+        final int[] newEntries = newTable.entries;
+        final byte[] newStates = newTable.states;
+        @DoNotSub final int mask = newEntries.length - 1;
+
+        for (@DoNotSub int oldIndex = 0; oldIndex < length; oldIndex += 2)
+        {
+            final int value = oldEntries[oldIndex + 1];
+            if (USED == oldStates[oldIndex >> 1] && missingValue != value)
+            {
+                final int key = oldEntries[oldIndex];
+                @DoNotSub int index = evenIndex(Hashing.hash(key), mask);
+                while (USED == newStates[index >> 1])
+                {
+                    index = next(index, mask);
+                }
+
+                newEntries[index] = key;
+                newEntries[index + 1] = value;
+                newStates[index >> 1] = USED;
+            }
+        }
+
+        segment.usedSlots = size;
+        segment.table = newTable;
+
+        return newTable;
+    }
+
+    @DoNotSub private static int findSlot(
+        final Table table,
+        @DoNotSub final int hash,
+        final int key)
+    {
+        final int[] entries = table.entries;
+        final byte[] states = table.states;
+        @DoNotSub final int mask = entries.length - 1;
+        @DoNotSub int index = evenIndex(hash, mask);
+
+        while (USED == states[index >> 1] && key != entries[index])
+        {
+            index = next(index, mask);
+        }
+
+        return index;
+    }
+
+    @DoNotSub private static int evenIndex(@DoNotSub final int hash, @DoNotSub final int mask)
+    {
+        return ((hash << 1) - (hash << 8)) & mask;
+    }
+
+    @DoNotSub private static int next(@DoNotSub final int index, @DoNotSub final int mask)
+    {
+        return (index + 2) & mask;
+    }
+
+    private static long entryOffset(@DoNotSub final int index)
+    {
+        return ENTRIES_ARRAY_BASE + ((long)index << SHIFT_FOR_SCALE);
+    }
+
+    static final class Table
+    {
+        final int[] entries;
+        final byte[] states;
+        @DoNotSub final int resizeThreshold;
+
+        Table(@DoNotSub final int capacity, final float loadFactor)
+        {
+            entries = new int[capacity << 1];
+            states = new byte[capacity];
+            resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+        }
+    }
+
+    static final class Segment
+    {
+        final ReentrantLock lock = new ReentrantLock();
+        volatile Table table;
+        @DoNotSub volatile int size;
+        @DoNotSub int usedSlots;
+
+        Segment(final Table table)
+        {
+            this.table = table;
+        }
+    }
+}
@@ -37,6 +37,9 @@ import static org.agrona.collections.CollectionUtil.validateLoadFactor;
 
 /**
  * An open-addressing with linear probing hash map specialised for primitive key and value pairs.
+ * <p>
+ * Lookups compare several slots per step when the {@code jdk.incubator.vector} module is added to the JVM with
+ * {@code --add-modules jdk.incubator.vector}, unless the {@code agrona.disable.vector.probe} system property is true.
  */
 public class Int2IntHashMap implements Map<Integer, Integer>
 {
@@ -202,6 +205,12 @@ public class Int2IntHashMap implements Map<Integer, Integer>
         @DoNotSub final int mask = entries.length - 1;
         @DoNotSub int index = Hashing.evenHash(key, mask);
 
+        final VectorProbe vectorProbe = VectorProbe.INSTANCE;
+        if (null != vectorProbe)
+        {
+            return vectorProbe.get(entries, index, key, missingValue);
+        }
+
         int value;
         while (missingValue != (value = entries[index + 1]))
         {
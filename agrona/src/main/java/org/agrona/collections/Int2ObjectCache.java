@@ -19,6 +19,7 @@ import org.agrona.generation.DoNotSub;
 
 import java.util.AbstractCollection;
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -36,9 +37,10 @@ import static org.agrona.collections.CollectionUtil.validatePositivePowerOfTwo;
 /**
  * A cache implementation specialised for int keys using open addressing to probe a set of fixed size.
  * <p>
- * The eviction strategy is to remove the oldest in a set if the key is not found, or if found then that item.
+ * The default eviction strategy is to remove the oldest in a set if the key is not found, or if found then that item.
  * The newly inserted item becomes the youngest in the set. Sets are evicted on a first in, first out, manner unless
- * replacing a matching key.
+ * replacing a matching key. Alternatively a {@link CacheEvictionPolicy} can be provided which takes account of reads
+ * so that frequently read keys are retained, in which case replacing a matching key updates its value in place.
  * <p>
  * A good set size would be in the range of 2 to 16 so that the references/keys can fit in a cache-line (assuming
  * references are 32-bit references and 64-byte cache lines, YMMV). A linear search within a cache line is much
@@ -61,6 +63,10 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
      * shuffleDown:    X  --->   --->   --->
      */
 
+    private static final byte NOT_VISITED = 0;
+    private static final byte VISITED = 1;
+    @DoNotSub private static final int NO_HAND = -1;
+
     private long cachePuts = 0;
     private long cacheHits = 0;
     private long cacheMisses = 0;
@@ -73,7 +79,10 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
 
     private final int[] keys;
     private final Object[] values;
+    private final byte[] visited;
+    @DoNotSub private final int[] hands;
     private final Consumer<V> evictionConsumer;
+    private final CacheEvictionPolicy evictionPolicy;
 
     private ValueCollection valueCollection;
     private KeySet keySet;
@@ -90,10 +99,28 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
         @DoNotSub final int numSets,
         @DoNotSub final int setSize,
         final Consumer<V> evictionConsumer)
+    {
+        this(numSets, setSize, evictionConsumer, CacheEvictionPolicy.FIFO);
+    }
+
+    /**
+     * Constructs cache with provided configuration.
+     *
+     * @param numSets          number of sets, must be power or two.
+     * @param setSize          size of a single set, must be power or two.
+     * @param evictionConsumer consumer to be notified when entry is being evicted from the cache.
+     * @param evictionPolicy   for choosing which entry to evict from a full set.
+     */
+    public Int2ObjectCache(
+        @DoNotSub final int numSets,
+        @DoNotSub final int setSize,
+        final Consumer<V> evictionConsumer,
+        final CacheEvictionPolicy evictionPolicy)
     {
         validatePositivePowerOfTwo(numSets);
         validatePositivePowerOfTwo(setSize);
         requireNonNull(evictionConsumer, "null values are not permitted");
+        requireNonNull(evictionPolicy, "evictionPolicy");
 
         if (((long)numSets) * setSize > (Integer.MAX_VALUE - 8))
         {
@@ -109,6 +136,29 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
         keys = new int[capacity];
         values = new Object[capacity];
         this.evictionConsumer = evictionConsumer;
+        this.evictionPolicy = evictionPolicy;
+
+        if (CacheEvictionPolicy.FIFO == evictionPolicy)
+        {
+            visited = null;
+            hands = null;
+        }
+        else
+        {
+            visited = new byte[capacity];
+            hands = new int[numSets]; // @DoNotSub
+            resetHands();
+        }
+    }
+
+    /**
+     * The policy for choosing which entry to evict from a full set.
+     *
+     * @return the policy for choosing which entry to evict from a full set.
+     */
+    public CacheEvictionPolicy evictionPolicy()
+    {
+        return evictionPolicy;
     }
 
     /**
@@ -270,6 +320,12 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
 
             if (key == keys[i])
             {
+                final byte[] visited = this.visited;
+                if (null != visited)
+                {
+                    visited[i] = VISITED;
+                }
+
                 cacheHits++;
                 return (V)value;
             }
@@ -532,6 +588,12 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
     {
         requireNonNull(value, "null values are not supported");
 
+        if (null != visited)
+        {
+            putWithHand(key, value);
+            return null;
+        }
+
         @DoNotSub final int setNumber = Hashing.hash(key, mask);
         @DoNotSub final int setBeginIndex = setNumber << setSizeShift;
         @DoNotSub int i = setBeginIndex;
@@ -644,6 +706,11 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
                 shuffleUp(i, nextSetIndex - 1);
                 --size;
 
+                if (CacheEvictionPolicy.SIEVE == evictionPolicy && hands[setNumber] >= i - setBeginIndex)
+                {
+                    hands[setNumber]--;
+                }
+
                 evictionConsumer.accept((V)value);
                 break;
             }
@@ -749,6 +816,113 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void putWithHand(final int key, final V value)
+    {
+        @DoNotSub final int setNumber = Hashing.hash(key, mask);
+        @DoNotSub final int setBeginIndex = setNumber << setSizeShift;
+        @DoNotSub final int setEndIndex = setBeginIndex + setSize;
+
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        final byte[] visited = this.visited;
+        @DoNotSub int i = setBeginIndex;
+        for (; i < setEndIndex; i++)
+        {
+            final Object existingValue = values[i];
+            if (null == existingValue)
+            {
+                break;
+            }
+
+            if (key == keys[i])
+            {
+                values[i] = value;
+                visited[i] = VISITED;
+                cachePuts++;
+
+                evictionConsumer.accept((V)existingValue);
+                return;
+            }
+        }
+
+        final boolean isSieve = CacheEvictionPolicy.SIEVE == evictionPolicy;
+        Object evictedValue = null;
+        @DoNotSub int index = i;
+        if (i < setEndIndex)
+        {
+            ++size;
+            if (isSieve)
+            {
+                index = setBeginIndex;
+                shuffleDown(setBeginIndex, i);
+                if (NO_HAND != hands[setNumber])
+                {
+                    hands[setNumber]++;
+                }
+            }
+        }
+        else if (isSieve)
+        {
+            @DoNotSub final int victimOffset = sieveVictimOffset(setNumber, setBeginIndex);
+            evictedValue = values[setBeginIndex + victimOffset];
+            index = setBeginIndex;
+            shuffleDown(setBeginIndex, setBeginIndex + victimOffset);
+            hands[setNumber] = 0 == victimOffset ? NO_HAND : victimOffset;
+        }
+        else
+        {
+            index = setBeginIndex + clockVictimOffset(setNumber, setBeginIndex);
+            evictedValue = values[index];
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        visited[index] = NOT_VISITED;
+        cachePuts++;
+
+        if (null != evictedValue)
+        {
+            evictionConsumer.accept((V)evictedValue);
+        }
+    }
+
+    @DoNotSub private int clockVictimOffset(final int setNumber, final int setBeginIndex)
+    {
+        final byte[] visited = this.visited;
+        @DoNotSub final int offsetMask = setSize - 1;
+        @DoNotSub int offset = hands[setNumber];
+
+        while (VISITED == visited[setBeginIndex + offset])
+        {
+            visited[setBeginIndex + offset] = NOT_VISITED;
+            offset = (offset + 1) & offsetMask;
+        }
+
+        hands[setNumber] = (offset + 1) & offsetMask;
+
+        return offset;
+    }
+
+    @DoNotSub private int sieveVictimOffset(final int setNumber, final int setBeginIndex)
+    {
+        final byte[] visited = this.visited;
+        @DoNotSub final int oldestOffset = setSize - 1;
+        @DoNotSub int offset = hands[setNumber];
+        if (NO_HAND == offset)
+        {
+            offset = oldestOffset;
+        }
+
+        while (VISITED == visited[setBeginIndex + offset])
+        {
+            visited[setBeginIndex + offset] = NOT_VISITED;
+            offset = 0 == offset ? oldestOffset : offset - 1;
+        }
+
+        return offset;
+    }
+
     @DoNotSub private void shuffleUp(final int fromIndex, final int toIndex)
     {
         final int[] keys = this.keys;
@@ -761,19 +935,43 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
         }
 
         values[toIndex] = null;
+
+        final byte[] visited = this.visited;
+        if (null != visited)
+        {
+            System.arraycopy(visited, fromIndex + 1, visited, fromIndex, toIndex - fromIndex);
+            visited[toIndex] = NOT_VISITED;
+        }
     }
 
     @DoNotSub private void shuffleDown(final int setBeginIndex)
+    {
+        shuffleDown(setBeginIndex, setBeginIndex + (setSize - 1));
+    }
+
+    @DoNotSub private void shuffleDown(final int setBeginIndex, final int toIndex)
     {
         final int[] keys = this.keys;
         final Object[] values = this.values;
-        for (@DoNotSub int i = setBeginIndex + (setSize - 1); i > setBeginIndex; i--)
+        for (@DoNotSub int i = toIndex; i > setBeginIndex; i--)
         {
             values[i] = values[i - 1];
             keys[i] = keys[i - 1];
         }
 
         values[setBeginIndex] = null;
+
+        final byte[] visited = this.visited;
+        if (null != visited)
+        {
+            System.arraycopy(visited, setBeginIndex, visited, setBeginIndex + 1, toIndex - setBeginIndex);
+            visited[setBeginIndex] = NOT_VISITED;
+        }
+    }
+
+    private void resetHands()
+    {
+        Arrays.fill(hands, CacheEvictionPolicy.SIEVE == evictionPolicy ? NO_HAND : 0);
     }
 
     /**
@@ -798,6 +996,12 @@ public class Int2ObjectCache<V> implements Map<Integer, V>
                 evictionConsumer.accept((V)value);
             }
         }
+
+        if (null != visited)
+        {
+            Arrays.fill(visited, NOT_VISITED);
+            resetHands();
+        }
     }
 
     /**
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.agrona.generation.DoNotSub;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
+
+/**
+ * A fixed capacity cache of int keyed values that evicts the least-recently-used element when it runs out of space,
+ * with lookup and eviction in constant time so it scales to large capacities.
+ * <p>
+ * Elements are held in arrays which are indexed by an open-addressing hash index of the keys and ordered by recent
+ * use in a doubly linked list threaded through the same arrays, so no allocation takes place after construction
+ * other than by the factory. For small capacities {@link IntLruCache} can be more efficient.
+ * <p>
+ * When an element is evicted it is closed by calling the closer function with the element as an argument.
+ * <p>
+ * When a new key arrives the factory function is called in order to create the new element associated with that key.
+ *
+ * @param <E> the type of element that this cache holds.
+ */
+public final class IntHashLruCache<E> implements AutoCloseable
+{
+    @DoNotSub private static final int NULL_INDEX = -1;
+
+    @DoNotSub private final int capacity;
+    private final IntFunction<E> factory;
+    private final Consumer<E> closer;
+    private final int[] keys;
+    private final Object[] values;
+    @DoNotSub private final int[] previous;
+    @DoNotSub private final int[] next;
+    @DoNotSub private final int[] hashIndex;
+
+    @DoNotSub private int size;
+    @DoNotSub private int head = NULL_INDEX;
+    @DoNotSub private int tail = NULL_INDEX;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity this is the fixed capacity of the cache.
+     * @param factory  a function for constructing new elements based upon keys.
+     * @param closer   a function for cleaning up resources associated with elements.
+     * @throws IllegalArgumentException if the capacity is less than 1.
+     */
+    public IntHashLruCache(
+        @DoNotSub final int capacity,
+        final IntFunction<E> factory,
+        final Consumer<E> closer)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("capacity must be greater than zero: capacity=" + capacity);
+        }
+
+        this.capacity = capacity;
+        this.factory = factory;
+        this.closer = closer;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        previous = new int[capacity]; // @DoNotSub
+        next = new int[capacity]; // @DoNotSub
+
+        // the index is kept at most half full so probe chains stay short
+        hashIndex = new int[findNextPositivePowerOfTwo(capacity << 1)]; // @DoNotSub
+        Arrays.fill(hashIndex, NULL_INDEX);
+    }
+
+    /**
+     * Looks up an element in the cache, creating a new element if it doesn't exist and evicting the least recently
+     * used element if there's no space left in the cache.
+     *
+     * @param key the key to look up the element by.
+     * @return the element associated with this key.
+     */
+    @SuppressWarnings("unchecked")
+    public E lookup(final int key)
+    {
+        @DoNotSub final int existingEntry = find(key);
+        if (NULL_INDEX != existingEntry)
+        {
+            makeMostRecent(existingEntry);
+            return (E)values[existingEntry];
+        }
+
+        final E value = factory.apply(key);
+        if (null != value)
+        {
+            E evictedValue = null;
+            @DoNotSub final int entry;
+            if (capacity == size)
+            {
+                entry = tail;
+                evictedValue = (E)values[entry];
+                unlink(entry);
+                removeFromIndex(entry);
+            }
+            else
+            {
+                entry = size++;
+            }
+
+            keys[entry] = key;
+            values[entry] = value;
+            addToIndex(entry);
+            linkAsMostRecent(entry);
+
+            if (null != evictedValue)
+            {
+                closer.accept(evictedValue);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns cache capacity.
+     *
+     * @return cache capacity.
+     */
+    @DoNotSub public int capacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of elements in the cache.
+     *
+     * @return the number of elements in the cache.
+     */
+    @DoNotSub public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Closes all elements in the cache in order from most to least recently used.
+     */
+    @SuppressWarnings("unchecked")
+    public void close()
+    {
+        final Consumer<E> closer = this.closer;
+        final Object[] values = this.values;
+        @DoNotSub final int[] next = this.next;
+        for (@DoNotSub int entry = head; NULL_INDEX != entry; entry = next[entry])
+        {
+            closer.accept((E)values[entry]);
+        }
+    }
+
+    @DoNotSub private int find(
+        final int key)
+    {
+        final int[] keys = this.keys;
+        @DoNotSub final int[] hashIndex = this.hashIndex;
+        @DoNotSub final int mask = hashIndex.length - 1;
+        @DoNotSub int slot = Hashing.hash(key, mask);
+
+        @DoNotSub int entry;
+        while (NULL_INDEX != (entry = hashIndex[slot]))
+        {
+            if (key == keys[entry])
+            {
+                return entry;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return NULL_INDEX;
+    }
+
+    private void addToIndex(@DoNotSub final int entry)
+    {
+        @DoNotSub final int[] hashIndex = this.hashIndex;
+        @DoNotSub final int mask = hashIndex.length - 1;
+        @DoNotSub int slot = Hashing.hash(keys[entry], mask);
+
+        while (NULL_INDEX != hashIndex[slot])
+        {
+            slot = (slot + 1) & mask;
+        }
+
+        hashIndex[slot] = entry;
+    }
+
+    private void removeFromIndex(@DoNotSub final int entry)
+    {
+        final int[] keys = this.keys;
+        @DoNotSub final int[] hashIndex = this.hashIndex;
+        @DoNotSub final int mask = hashIndex.length - 1;
+        @DoNotSub int deleteSlot = Hashing.hash(keys[entry], mask);
+
+        while (entry != hashIndex[deleteSlot])
+        {
+            deleteSlot = (deleteSlot + 1) & mask;
+        }
+
+        hashIndex[deleteSlot] = NULL_INDEX;
+
+        @DoNotSub int slot = deleteSlot;
+        while (true)
+        {
+            slot = (slot + 1) & mask;
+            @DoNotSub final int movingEntry = hashIndex[slot];
+            if (NULL_INDEX == movingEntry)
+            {
+                break;
+            }
+
+            @DoNotSub final int hash = Hashing.hash(keys[movingEntry], mask);
+            if ((slot < hash && (hash <= deleteSlot || deleteSlot <= slot)) ||
+                (hash <= deleteSlot && deleteSlot <= slot))
+            {
+                hashIndex[deleteSlot] = movingEntry;
+                hashIndex[slot] = NULL_INDEX;
+                deleteSlot = slot;
+            }
+        }
+    }
+
+    private void makeMostRecent(@DoNotSub final int entry)
+    {
+        if (head != entry)
+        {
+            unlink(entry);
+            linkAsMostRecent(entry);
+        }
+    }
+
+    private void unlink(@DoNotSub final int entry)
+    {
+        @DoNotSub final int previousEntry = previous[entry];
+        @DoNotSub final int nextEntry = next[entry];
+
+        if (NULL_INDEX != previousEntry)
+        {
+            next[previousEntry] = nextEntry;
+        }
+        else
+        {
+            head = nextEntry;
+        }
+
+        if (NULL_INDEX != nextEntry)
+        {
+            previous[nextEntry] = previousEntry;
+        }
+        else
+        {
+            tail = previousEntry;
+        }
+    }
+
+    private void linkAsMostRecent(@DoNotSub final int entry)
+    {
+        @DoNotSub final int head = this.head;
+        previous[entry] = NULL_INDEX;
+        next[entry] = head;
+
+        if (NULL_INDEX != head)
+        {
+            previous[head] = entry;
+        }
+        else
+        {
+            tail = entry;
+        }
+
+        this.head = entry;
+    }
+}
@@ -40,6 +40,9 @@ import static org.agrona.collections.CollectionUtil.validateLoadFactor;
  * <p>
  * This class is not Threadsafe.
  * <p>
+ * Lookups compare several slots per step when the {@code jdk.incubator.vector} module is added to the JVM with
+ * {@code --add-modules jdk.incubator.vector}, unless the {@code agrona.disable.vector.probe} system property is true.
+ * <p>
  * This HashSet caches its iterator object by default, so nested iteration is not supported. You can override this
  * behaviour at construction by indicating that the iterator should not be cached.
  *
@@ -352,6 +355,12 @@ public class IntHashSet extends AbstractSet<Integer>
         @DoNotSub final int mask = values.length - 1;
         @DoNotSub int index = Hashing.hash(value, mask);
 
+        final VectorProbe vectorProbe = VectorProbe.INSTANCE;
+        if (null != vectorProbe)
+        {
+            return vectorProbe.contains(values, index, value);
+        }
+
         int existingValue;
         while (MISSING_VALUE != (existingValue = values[index]))
         {
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
+
+/**
+ * A fixed capacity cache of object keyed values that evicts the least-recently-used element when it runs out of space,
+ * with lookup and eviction in constant time so it scales to large capacities.
+ * <p>
+ * Elements are held in arrays which are indexed by an open-addressing hash index of the keys and ordered by recent
+ * use in a doubly linked list threaded through the same arrays, so no allocation takes place after construction
+ * other than by the factory.
+ * <p>
+ * When an element is evicted it is closed by calling the closer function with the element as an argument.
+ * <p>
+ * When a new key arrives the factory function is called in order to create the new element associated with that key.
+ *
+ * @param <K> the type of key used to look up elements.
+ * @param <E> the type of element that this cache holds.
+ */
+public final class ObjectHashLruCache<K, E> implements AutoCloseable
+{
+    private static final int NULL_INDEX = -1;
+
+    private final int capacity;
+    private final Function<K, E> factory;
+    private final Consumer<E> closer;
+    private final Object[] keys;
+    private final Object[] values;
+    private final int[] previous;
+    private final int[] next;
+    private final int[] hashIndex;
+
+    private int size;
+    private int head = NULL_INDEX;
+    private int tail = NULL_INDEX;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity this is the fixed capacity of the cache.
+     * @param factory  a function for constructing new elements based upon keys.
+     * @param closer   a function for cleaning up resources associated with elements.
+     * @throws IllegalArgumentException if the capacity is less than 1.
+     */
+    public ObjectHashLruCache(
+        final int capacity,
+        final Function<K, E> factory,
+        final Consumer<E> closer)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("capacity must be greater than zero: capacity=" + capacity);
+        }
+
+        this.capacity = capacity;
+        this.factory = factory;
+        this.closer = closer;
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        previous = new int[capacity];
+        next = new int[capacity];
+
+        // the index is kept at most half full so probe chains stay short
+        hashIndex = new int[findNextPositivePowerOfTwo(capacity << 1)];
+        Arrays.fill(hashIndex, NULL_INDEX);
+    }
+
+    /**
+     * Looks up an element in the cache, creating a new element if it doesn't exist and evicting the least recently
+     * used element if there's no space left in the cache.
+     *
+     * @param key the key to look up the element by.
+     * @return the element associated with this key.
+     * @throws NullPointerException if the key is null.
+     */
+    @SuppressWarnings("unchecked")
+    public E lookup(final K key)
+    {
+        requireNonNull(key, "key cannot be null");
+
+        final int existingEntry = find(key);
+        if (NULL_INDEX != existingEntry)
+        {
+            makeMostRecent(existingEntry);
+            return (E)values[existingEntry];
+        }
+
+        final E value = factory.apply(key);
+        if (null != value)
+        {
+            E evictedValue = null;
+            final int entry;
+            if (capacity == size)
+            {
+                entry = tail;
+                evictedValue = (E)values[entry];
+                unlink(entry);
+                removeFromIndex(entry);
+            }
+            else
+            {
+                entry = size++;
+            }
+
+            keys[entry] = key;
+            values[entry] = value;
+            addToIndex(entry);
+            linkAsMostRecent(entry);
+
+            if (null != evictedValue)
+            {
+                closer.accept(evictedValue);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns cache capacity.
+     *
+     * @return cache capacity.
+     */
+    public int capacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of elements in the cache.
+     *
+     * @return the number of elements in the cache.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Closes all elements in the cache in order from most to least recently used.
+     */
+    @SuppressWarnings("unchecked")
+    public void close()
+    {
+        final Consumer<E> closer = this.closer;
+        final Object[] values = this.values;
+        final int[] next = this.next;
+        for (int entry = head; NULL_INDEX != entry; entry = next[entry])
+        {
+            closer.accept((E)values[entry]);
+        }
+    }
+
+    private int find(final Object key)
+    {
+        final Object[] keys = this.keys;
+        final int[] hashIndex = this.hashIndex;
+        final int mask = hashIndex.length - 1;
+        int slot = Hashing.hash(key, mask);
+
+        int entry;
+        while (NULL_INDEX != (entry = hashIndex[slot]))
+        {
+            if (key.equals(keys[entry]))
+            {
+                return entry;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return NULL_INDEX;
+    }
+
+    private void addToIndex(final int entry)
+    {
+        final int[] hashIndex = this.hashIndex;
+        final int mask = hashIndex.length - 1;
+        int slot = Hashing.hash(keys[entry], mask);
+
+        while (NULL_INDEX != hashIndex[slot])
+        {
+            slot = (slot + 1) & mask;
+        }
+
+        hashIndex[slot] = entry;
+    }
+
+    private void removeFromIndex(final int entry)
+    {
+        final Object[] keys = this.keys;
+        final int[] hashIndex = this.hashIndex;
+        final int mask = hashIndex.length - 1;
+        int deleteSlot = Hashing.hash(keys[entry], mask);
+
+        while (entry != hashIndex[deleteSlot])
+        {
+            deleteSlot = (deleteSlot + 1) & mask;
+        }
+
+        hashIndex[deleteSlot] = NULL_INDEX;
+
+        int slot = deleteSlot;
+        while (true)
+        {
+            slot = (slot + 1) & mask;
+            final int movingEntry = hashIndex[slot];
+            if (NULL_INDEX == movingEntry)
+            {
+                break;
+            }
+
+            final int hash = Hashing.hash(keys[movingEntry], mask);
+            if ((slot < hash && (hash <= deleteSlot || deleteSlot <= slot)) ||
+                (hash <= deleteSlot && deleteSlot <= slot))
+            {
+                hashIndex[deleteSlot] = movingEntry;
+                hashIndex[slot] = NULL_INDEX;
+                deleteSlot = slot;
+            }
+        }
+    }
+
+    private void makeMostRecent(final int entry)
+    {
+        if (head != entry)
+        {
+            unlink(entry);
+            linkAsMostRecent(entry);
+        }
+    }
+
+    private void unlink(final int entry)
+    {
+        final int previousEntry = previous[entry];
+        final int nextEntry = next[entry];
+
+        if (NULL_INDEX != previousEntry)
+        {
+            next[previousEntry] = nextEntry;
+        }
+        else
+        {
+            head = nextEntry;
+        }
+
+        if (NULL_INDEX != nextEntry)
+        {
+            previous[nextEntry] = previousEntry;
+        }
+        else
+        {
+            tail = previousEntry;
+        }
+    }
+
+    private void linkAsMostRecent(final int entry)
+    {
+        final int head = this.head;
+        previous[entry] = NULL_INDEX;
+        next[entry] = head;
+
+        if (NULL_INDEX != head)
+        {
+            previous[head] = entry;
+        }
+        else
+        {
+            tail = entry;
+        }
+
+        this.head = entry;
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.agrona.generation.DoNotSub;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
+import static org.agrona.collections.CollectionUtil.validateLoadFactor;
+
+/**
+ * Map specialised for int keys using open addressing with Robin Hood hashing and backward-shift deletion.
+ * <p>
+ * On insert an entry displaces any entry it meets which is closer to its home slot, so probe lengths have a low
+ * variance even at high load factors, and a lookup for a missing key can stop as soon as it meets an entry closer to
+ * its home slot than the probe. The distance of each entry from its home slot is kept alongside the entry so probing
+ * does not need to rehash the keys it passes.
+ * <p>
+ * On removal the following entries in the chain are shifted back one slot until an empty slot or an entry in its home
+ * slot is reached, so no tombstones are left behind and, unlike {@link Int2ObjectHashMap#remove(int)}, no keys need to
+ * be rehashed to find where they can move to.
+ * <p>
+ * {@code null} values are not supported.
+ *
+ * @param <V> type of values stored in the map.
+ */
+public class RobinHoodInt2ObjectHashMap<V>
+{
+    @DoNotSub static final int MIN_CAPACITY = 8;
+
+    private final float loadFactor;
+    @DoNotSub private int resizeThreshold;
+    @DoNotSub private int size;
+
+    private int[] keys;
+    private Object[] values;
+    @DoNotSub private int[] distances;
+
+    /**
+     * Constructs map with {@link #MIN_CAPACITY} and {@link Hashing#DEFAULT_LOAD_FACTOR}.
+     */
+    public RobinHoodInt2ObjectHashMap()
+    {
+        this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs map with given initial capacity and load factor.
+     *
+     * @param initialCapacity for the backing array.
+     * @param loadFactor      limit for resizing on puts.
+     */
+    public RobinHoodInt2ObjectHashMap(
+        @DoNotSub final int initialCapacity,
+        final float loadFactor)
+    {
+        validateLoadFactor(loadFactor);
+
+        this.loadFactor = loadFactor;
+
+        /* @DoNotSub */ final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+        /* @DoNotSub */ resizeThreshold = (int)(capacity * loadFactor);
+
+        keys = new int[capacity];
+        values = new Object[capacity];
+        distances = new int[capacity]; // @DoNotSub
+    }
+
+    /**
+     * Get the load factor beyond which the map will increase size.
+     *
+     * @return load factor for when the map should increase size.
+     */
+    public float loadFactor()
+    {
+        return loadFactor;
+    }
+
+    /**
+     * Get the total capacity for the map to which the load factor will be a fraction of.
+     *
+     * @return the total capacity for the map.
+     */
+    @DoNotSub public int capacity()
+    {
+        return values.length;
+    }
+
+    /**
+     * Get the actual threshold which when reached the map will resize.
+     * This is a function of the current capacity and load factor.
+     *
+     * @return the threshold when the map will resize.
+     */
+    @DoNotSub public int resizeThreshold()
+    {
+        return resizeThreshold;
+    }
+
+    /**
+     * The number of entries in the map.
+     *
+     * @return the number of entries in the map.
+     */
+    @DoNotSub public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Is the map empty.
+     *
+     * @return true if the map contains no entries.
+     */
+    public boolean isEmpty()
+    {
+        return 0 == size;
+    }
+
+    /**
+     * The longest distance of an entry from its home slot, which is the most slots a lookup will probe.
+     *
+     * @return the longest distance of an entry from its home slot.
+     */
+    @DoNotSub public int maxProbeDistance()
+    {
+        final Object[] values = this.values;
+        @DoNotSub final int[] distances = this.distances;
+        @DoNotSub int maxDistance = 0;
+
+        for (@DoNotSub int index = 0, length = values.length; index < length; index++)
+        {
+            if (null != values[index])
+            {
+                maxDistance = Math.max(maxDistance, distances[index]);
+            }
+        }
+
+        return maxDistance;
+    }
+
+    /**
+     * Primitive specialised forEach for each key/value pair in the map.
+     *
+     * @param consumer a callback called for each key/value pair in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachInt(final IntObjConsumer<V> consumer)
+    {
+        requireNonNull(consumer);
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        @DoNotSub final int length = values.length;
+
+        for (@DoNotSub int index = 0, remaining = size; remaining > 0 && index < length; index++)
+        {
+            final Object value = values[index];
+            if (null != value)
+            {
+                consumer.accept(keys[index], (V)value);
+                --remaining;
+            }
+        }
+    }
+
+    /**
+     * Does the map contain the key.
+     *
+     * @param key to be checked.
+     * @return true if the key is found otherwise false.
+     */
+    public boolean containsKey(final int key)
+    {
+        return null != get(key);
+    }
+
+    /**
+     * Get the value for a key.
+     *
+     * @param key to lookup.
+     * @return the value if found otherwise null.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final int key)
+    {
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        @DoNotSub final int[] distances = this.distances;
+        @DoNotSub final int mask = values.length - 1;
+        @DoNotSub int index = Hashing.hash(key, mask);
+        @DoNotSub int distance = 0;
+
+        Object value;
+        while (null != (value = values[index]))
+        {
+            final int existingKey = keys[index];
+            if (key == existingKey)
+            {
+                return (V)value;
+            }
+
+            if (distances[index] < distance)
+            {
+                break;
+            }
+
+            index = ++index & mask;
+            distance++;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or defaultValue if this map contains no mapping for the
+     * key.
+     *
+     * @param key          whose associated value is to be returned.
+     * @param defaultValue the default mapping of the key.
+     * @return the value to which the specified key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key.
+     */
+    public V getOrDefault(final int key, final V defaultValue)
+    {
+        final V value = get(key);
+        return null != value ? value : defaultValue;
+    }
+
+    /**
+     * Get a value for a given key, or if it does not exist then compute the value and put it in the map.
+     *
+     * @param key             to search on.
+     * @param mappingFunction to provide a value if the get returns null.
+     * @return the value if found otherwise the newly computed value which is not put in the map if null.
+     */
+    public V computeIfAbsent(final int key, final IntFunction<? extends V> mappingFunction)
+    {
+        requireNonNull(mappingFunction);
+        V value = get(key);
+        if (null == value && null != (value = mappingFunction.apply(key)))
+        {
+            insert(key, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Put a key value pair in the map.
+     *
+     * @param key   for indexing the map.
+     * @param value to be inserted in the map.
+     * @return the previous value if found otherwise null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final int key, final V value)
+    {
+        requireNonNull(value, "value cannot be null");
+
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        @DoNotSub final int[] distances = this.distances;
+        @DoNotSub final int mask = values.length - 1;
+        @DoNotSub int index = Hashing.hash(key, mask);
+        @DoNotSub int distance = 0;
+
+        Object existingValue;
+        while (null != (existingValue = values[index]))
+        {
+            final int existingKey = keys[index];
+            if (key == existingKey)
+            {
+                values[index] = value;
+                return (V)existingValue;
+            }
+
+            if (distances[index] < distance)
+            {
+                break;
+            }
+
+            index = ++index & mask;
+            distance++;
+        }
+
+        insertAt(key, value, index, distance);
+
+        return null;
+    }
+
+    /**
+     * Put a key value pair in the map if the key is not already present.
+     *
+     * @param key   with which the specified value is to be associated.
+     * @param value to be associated with the specified key.
+     * @return the existing value associated with the key, or null if there was no mapping for the key and the value
+     * was put.
+     */
+    public V putIfAbsent(final int key, final V value)
+    {
+        requireNonNull(value, "value cannot be null");
+
+        final V existingValue = get(key);
+        if (null == existingValue)
+        {
+            insert(key, value);
+        }
+
+        return existingValue;
+    }
+
+    /**
+     * Remove the entry for a key from the map.
+     *
+     * @param key for indexing the map.
+     * @return the value if found otherwise null.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final int key)
+    {
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        @DoNotSub final int[] distances = this.distances;
+        @DoNotSub final int mask = values.length - 1;
+        @DoNotSub int index = Hashing.hash(key, mask);
+        @DoNotSub int distance = 0;
+
+        Object value;
+        while (null != (value = values[index]))
+        {
+            final int existingKey = keys[index];
+            if (key == existingKey)
+            {
+                --size;
+                shiftBack(index);
+                return (V)value;
+            }
+
+            if (distances[index] < distance)
+            {
+                break;
+            }
+
+            index = ++index & mask;
+            distance++;
+        }
+
+        return null;
+    }
+
+    /**
+     * Remove all entries from the map.
+     */
+    public void clear()
+    {
+        if (size > 0)
+        {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Compact the backing arrays by rehashing with a capacity just larger than current size
+     * and giving consideration to the load factor.
+     */
+    public void compact()
+    {
+        @DoNotSub final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
+        rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder().append('{');
+        forEachInt((key, value) -> sb.append(key).append('=').append(value).append(", "));
+        if (sb.length() > 1)
+        {
+            sb.setLength(sb.length() - 2);
+        }
+
+        return sb.append('}').toString();
+    }
+
+    private void insert(final int key, final Object value)
+    {
+        final Object[] values = this.values;
+        @DoNotSub final int[] distances = this.distances;
+        @DoNotSub final int mask = values.length - 1;
+        @DoNotSub int index = Hashing.hash(key, mask);
+        @DoNotSub int distance = 0;
+
+        while (null != values[index] && distances[index] >= distance)
+        {
+            index = ++index & mask;
+            distance++;
+        }
+
+        insertAt(key, value, index, distance);
+    }
+
+    @SuppressWarnings("FinalParameters")
+    private void insertAt(
+        int key,
+        Object value,
+        @DoNotSub int index,
+        @DoNotSub int distance)
+    {
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        @DoNotSub final int[] distances = this.distances;
+        @DoNotSub final int mask = values.length - 1;
+
+        while (true)
+        {
+            final Object existingValue = values[index];
+            if (null == existingValue)
+            {
+                keys[index] = key;
+                values[index] = value;
+                distances[index] = distance;
+                break;
+            }
+
+            final int existingKey = keys[index];
+            @DoNotSub final int existingDistance = distances[index];
+            if (existingDistance < distance)
+            {
+                keys[index] = key;
+                values[index] = value;
+                distances[index] = distance;
+                key = existingKey;
+                value = existingValue;
+                distance = existingDistance;
+            }
+
+            index = ++index & mask;
+            distance++;
+        }
+
+        if (++size > resizeThreshold)
+        {
+            increaseCapacity();
+        }
+    }
+
+    @SuppressWarnings("FinalParameters")
+    private void shiftBack(@DoNotSub int deleteIndex)
+    {
+        final int[] keys = this.keys;
+        final Object[] values = this.values;
+        @DoNotSub final int[] distances = this.distances;
+        @DoNotSub final int mask = values.length - 1;
+
+        while (true)
+        {
+            @DoNotSub final int index = (deleteIndex + 1) & mask;
+            final Object value = values[index];
+            if (null == value || 0 == distances[index])
+            {
+                values[deleteIndex] = null;
+                break;
+            }
+
+            keys[deleteIndex] = keys[index];
+            values[deleteIndex] = value;
+            distances[deleteIndex] = distances[index] - 1;
+            deleteIndex = index;
+        }
+    }
+
+    private void increaseCapacity()
+    {
+        @DoNotSub final int newCapacity = values.length << 1;
+        if (newCapacity < 0)
+        {
+            throw new IllegalStateException("max capacity reached at size=" + size);
+        }
+
+        rehash(newCapacity);
+    }
+
+    private void rehash(@DoNotSub final int newCapacity)
+    {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+
+        /* @DoNotSub */ resizeThreshold = (int)(newCapacity * loadFactor);
+        keys = new int[newCapacity];
+        values = new Object[newCapacity];
+        distances = new int[newCapacity]; // @DoNotSub
+        size = 0;
+
+        for (@DoNotSub int i = 0, length = oldValues.length; i < length; i++)
+        {
+            final Object value = oldValues[i];
+            if (null != value)
+            {
+                insert(oldKeys[i], value);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.agrona.SystemUtil;
+
+/**
+ * Probe of the linear probing tables in {@link Int2IntHashMap}, {@link IntHashSet} and their {@code long}
+ * specialisations which compares several slots per step using the {@code jdk.incubator.vector} module.
+ * <p>
+ * The implementation is compiled from a separate source set and is only loaded when the module is present in the
+ * boot layer, e.g. {@code --add-modules jdk.incubator.vector}, and the platform has 256-bit vectors. Otherwise
+ * {@link #INSTANCE} is null and the collections probe one slot at a time. Set the system property
+ * {@link #DISABLE_VECTOR_PROBE_PROP_NAME} to true to keep the scalar probe when the module is present.
+ */
+abstract class VectorProbe
+{
+    /**
+     * Set this system property to true to disable the vectorised probe.
+     */
+    static final String DISABLE_VECTOR_PROBE_PROP_NAME = "agrona.disable.vector.probe";
+
+    /**
+     * Name of the implementation class in the vector source set.
+     */
+    static final String IMPLEMENTATION_CLASS_NAME = "org.agrona.collections.IncubatorVectorProbe";
+
+    /**
+     * Name of the module the implementation depends on.
+     */
+    static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+    /**
+     * Vectorised probe or null if it is not available.
+     */
+    static final VectorProbe INSTANCE = load();
+
+    /**
+     * Get the value for a key from the interleaved key and value pairs of an {@link Int2IntHashMap}.
+     *
+     * @param entries      of the map which is a power of two in length.
+     * @param index        of the key slot to start probing from.
+     * @param key          to look up.
+     * @param missingValue of the map which marks an empty slot.
+     * @return value associated with the key or {@code missingValue} if not found.
+     */
+    abstract int get(int[] entries, int index, int key, int missingValue);
+
+    /**
+     * Get the value for a key from the interleaved key and value pairs of a {@code Long2LongHashMap}.
+     *
+     * @param entries      of the map which is a power of two in length.
+     * @param index        of the key slot to start probing from.
+     * @param key          to look up.
+     * @param missingValue of the map which marks an empty slot.
+     * @return value associated with the key or {@code missingValue} if not found.
+     */
+    abstract long get(long[] entries, int index, long key, long missingValue);
+
+    /**
+     * Check if the values of an {@link IntHashSet} contain a value, with {@code 0} marking an empty slot.
+     *
+     * @param values of the set which is a power of two in length.
+     * @param index  of the slot to start probing from.
+     * @param value  to look up which must not be {@code 0}.
+     * @return true if the value is found otherwise false.
+     */
+    abstract boolean contains(int[] values, int index, int value);
+
+    /**
+     * Check if the values of a {@code LongHashSet} contain a value, with {@code 0} marking an empty slot.
+     *
+     * @param values of the set which is a power of two in length.
+     * @param index  of the slot to start probing from.
+     * @param value  to look up which must not be {@code 0}.
+     * @return true if the value is found otherwise false.
+     */
+    abstract boolean contains(long[] values, int index, long value);
+
+    private static VectorProbe load()
+    {
+        if ("true".equals(SystemUtil.getProperty(DISABLE_VECTOR_PROBE_PROP_NAME)) ||
+            ModuleLayer.boot().findModule(VECTOR_MODULE_NAME).isEmpty())
+        {
+            return null;
+        }
+
+        try
+        {
+            return (VectorProbe)Class.forName(IMPLEMENTATION_CLASS_NAME)
+                .getDeclaredMethod("newInstance")
+                .invoke(null);
+        }
+        catch (final ReflectiveOperationException | LinkageError ignore)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+/**
+ * Value for the producer that are expected to be padded.
+ */
+abstract class AbstractConcurrentArrayQueueProducer extends AbstractConcurrentArrayQueuePadding1
+{
+    /**
+     * Tail index.
+     */
+    protected volatile long tail;
+    /**
+     * Cached head index.
+     */
+    protected long headCache;
+    /**
+     * Shared cached head index.
+     */
+    protected volatile long sharedHeadCache;
+}
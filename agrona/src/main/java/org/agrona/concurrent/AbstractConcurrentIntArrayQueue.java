@@ -0,0 +1,256 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.BitUtil;
+import org.agrona.UnsafeApi;
+import org.agrona.generation.DoNotSub;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Left over immutable queue fields for concurrent queues of ints which store the elements without boxing. Null is
+ * represented by a special {@link #nullValue()} which cannot be offered to the queue.
+ * <p>
+ * The padding, head, and tail fields are shared with {@link AbstractConcurrentArrayQueue}.
+ */
+public abstract class AbstractConcurrentIntArrayQueue extends AbstractConcurrentArrayQueuePadding3
+{
+    /**
+     * Default representation of null for an element.
+     */
+    public static final int DEFAULT_NULL_VALUE = Integer.MIN_VALUE;
+    /**
+     * Offset of the {@code tail} field.
+     */
+    protected static final long TAIL_OFFSET = AbstractConcurrentArrayQueue.TAIL_OFFSET;
+    /**
+     * Offset of the {@code sharedHeadCache} field.
+     */
+    protected static final long SHARED_HEAD_CACHE_OFFSET = AbstractConcurrentArrayQueue.SHARED_HEAD_CACHE_OFFSET;
+    /**
+     * Offset of the {@code head} field.
+     */
+    protected static final long HEAD_OFFSET = AbstractConcurrentArrayQueue.HEAD_OFFSET;
+    /**
+     * Array base.
+     */
+    @DoNotSub protected static final int BUFFER_ARRAY_BASE;
+    /**
+     * Shift for scale.
+     */
+    @DoNotSub protected static final int SHIFT_FOR_SCALE;
+
+    static
+    {
+        BUFFER_ARRAY_BASE = UnsafeApi.arrayBaseOffset(int[].class);
+        SHIFT_FOR_SCALE = BitUtil.calculateShiftForScale(UnsafeApi.arrayIndexScale(int[].class));
+    }
+
+    /**
+     * Queue capacity.
+     */
+    @DoNotSub protected final int capacity;
+    /**
+     * Value representing a null element.
+     */
+    protected final int nullValue;
+    /**
+     * Backing array.
+     */
+    protected final int[] buffer;
+
+    /**
+     * Constructs a queue with the requested capacity.
+     *
+     * @param requestedCapacity of the queue.
+     * @param nullValue         which cannot be stored in the queue and used as a sentinel.
+     */
+    public AbstractConcurrentIntArrayQueue(
+        @DoNotSub final int requestedCapacity,
+        final int nullValue)
+    {
+        capacity = BitUtil.findNextPositivePowerOfTwo(requestedCapacity);
+        this.nullValue = nullValue;
+        buffer = new int[capacity];
+        Arrays.fill(buffer, nullValue);
+    }
+
+    /**
+     * The value representing a null element which is returned when the queue is empty.
+     *
+     * @return value representing a null element.
+     */
+    public int nullValue()
+    {
+        return nullValue;
+    }
+
+    /**
+     * Offer an element to the queue.
+     *
+     * @param element to be offered which must not be the {@link #nullValue()}.
+     * @return true if added to the queue otherwise false if the queue is full.
+     * @throws IllegalArgumentException if the element is the {@link #nullValue()}.
+     */
+    public abstract boolean offer(int element);
+
+    /**
+     * Poll the head of the queue.
+     *
+     * @return the element at the head of the queue or {@link #nullValue()} if the queue is empty.
+     */
+    public abstract int poll();
+
+    /**
+     * Drain the number of elements present in the queue at the time the operation starts.
+     *
+     * @param elementConsumer {@link IntConsumer} for processing elements.
+     * @return the number of elements drained.
+     */
+    @DoNotSub public abstract int drain(
+        IntConsumer elementConsumer);
+
+    /**
+     * Drain the minimum of a limit and the number of elements present in the queue at the time the operation starts.
+     *
+     * @param elementConsumer {@link IntConsumer} for processing elements.
+     * @param limit           maximum number of elements to be drained in a drain operation.
+     * @return the number of elements drained.
+     */
+    @DoNotSub public abstract int drain(
+        IntConsumer elementConsumer,
+        @DoNotSub int limit);
+
+    /**
+     * Peek at the head of the queue without removing it.
+     *
+     * @return the element at the head of the queue or {@link #nullValue()} if the queue is empty.
+     */
+    public int peek()
+    {
+        return UnsafeApi.getIntVolatile(buffer, sequenceToBufferOffset(head, capacity - 1));
+    }
+
+    /**
+     * The number of items added to this queue since creation.
+     *
+     * @return the number of items added.
+     */
+    public long addedCount()
+    {
+        return tail;
+    }
+
+    /**
+     * The number of items removed from this queue since creation.
+     *
+     * @return the number of items removed.
+     */
+    public long removedCount()
+    {
+        return head;
+    }
+
+    /**
+     * The maximum capacity of this queue to hold items.
+     *
+     * @return the capacity of the queue.
+     */
+    @DoNotSub public int capacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Get the remaining capacity for elements in the queue given the current size.
+     *
+     * @return remaining capacity of the queue.
+     */
+    @DoNotSub public int remainingCapacity()
+    {
+        return capacity - size();
+    }
+
+    /**
+     * Poll all elements from the queue until it is empty.
+     */
+    public void clear()
+    {
+        final int nullValue = this.nullValue;
+        int value;
+        do
+        {
+            value = poll();
+        }
+        while (nullValue != value);
+    }
+
+    /**
+     * Is the queue empty.
+     *
+     * @return true if the queue is empty.
+     */
+    public boolean isEmpty()
+    {
+        return head >= tail;
+    }
+
+    /**
+     * The number of elements currently in the queue.
+     *
+     * @return number of elements currently in the queue.
+     */
+    @DoNotSub public int size()
+    {
+        long currentHeadBefore;
+        long currentTail;
+        long currentHeadAfter = head;
+
+        do
+        {
+            currentHeadBefore = currentHeadAfter;
+            currentTail = tail;
+            currentHeadAfter = head;
+        }
+        while (currentHeadAfter != currentHeadBefore);
+
+        final long size = currentTail - currentHeadAfter;
+        if (size < 0)
+        {
+            return 0;
+        }
+        else if (size > capacity)
+        {
+            return capacity;
+        }
+
+        return (int)size; // @DoNotSub
+    }
+
+    /**
+     * Compute buffer offset based on the given sequence and the mask.
+     *
+     * @param sequence to compute the offset from.
+     * @param mask     to apply.
+     * @return buffer offset.
+     */
+    public static long sequenceToBufferOffset(final long sequence, final long mask)
+    {
+        return BUFFER_ARRAY_BASE + ((sequence & mask) << SHIFT_FOR_SCALE);
+    }
+}
@@ -0,0 +1,1493 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.AsciiNumberFormatException;
+import org.agrona.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.LongDirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.UnsafeApi;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.agrona.AsciiEncoding.*;
+import static org.agrona.BitUtil.*;
+import static org.agrona.BufferUtil.*;
+import static org.agrona.DirectBuffer.SHOULD_BOUNDS_CHECK;
+import static org.agrona.DirectBuffer.STR_HEADER_LEN;
+
+/**
+ * Buffer over a region of memory which is indexed by {@code long} so regions larger than {@link Integer#MAX_VALUE}
+ * bytes can be accessed with the same get, put, atomic, and string operations as an {@link AtomicBuffer}.
+ * <p>
+ * The region can be a raw address, e.g. from a native mapping or {@link UnsafeApi#allocateMemory(long)}, or a
+ * {@link ByteBuffer} such as a {@link java.nio.MappedByteBuffer} from {@link org.agrona.IoUtil}. Sections of the region
+ * can be handed to existing {@code int} indexed code without copying via
+ * {@link #wrapWindow(DirectBuffer, long, int)}.
+ * <p>
+ * Atomic operations require the address of the value to be naturally aligned, see {@link #verifyAlignment()}.
+ * <p>
+ * <b>Note:</b> This class is not thread safe for wrapping but the accessors can be used concurrently in the same way as
+ * those of {@link UnsafeBuffer}.
+ */
+public class AtomicLongIndexedBuffer implements LongDirectBuffer
+{
+    /**
+     * Buffer alignment in bytes to ensure atomic word accesses.
+     */
+    public static final int ALIGNMENT = SIZE_OF_LONG;
+
+    private long addressOffset;
+    private long capacity;
+    private byte[] byteArray;
+    private ByteBuffer byteBuffer;
+
+    /**
+     * Empty constructor for a reusable wrapper buffer.
+     */
+    public AtomicLongIndexedBuffer()
+    {
+    }
+
+    /**
+     * Attach a view to an off-heap memory region by address.
+     *
+     * @param address where the memory begins off-heap.
+     * @param length  of the buffer from the given address.
+     */
+    public AtomicLongIndexedBuffer(final long address, final long length)
+    {
+        wrap(address, length);
+    }
+
+    /**
+     * Attach a view to a {@link ByteBuffer} for providing direct access, the {@link ByteBuffer} can be
+     * heap based or direct.
+     *
+     * @param buffer to which the view is attached.
+     */
+    public AtomicLongIndexedBuffer(final ByteBuffer buffer)
+    {
+        wrap(buffer);
+    }
+
+    /**
+     * Attach a view to an off-heap memory region by address.
+     *
+     * @param address where the memory begins off-heap.
+     * @param length  of the buffer from the given address.
+     * @throws IllegalArgumentException if the length is negative.
+     */
+    public void wrap(final long address, final long length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length must not be negative: length=" + length);
+        }
+
+        addressOffset = address;
+        capacity = length;
+        byteArray = null;
+        byteBuffer = null;
+    }
+
+    /**
+     * Attach a view to a {@link ByteBuffer} for providing direct access, the {@link ByteBuffer} can be
+     * heap based or direct.
+     *
+     * @param buffer to which the view is attached.
+     */
+    public void wrap(final ByteBuffer buffer)
+    {
+        capacity = buffer.capacity();
+        byteBuffer = buffer;
+
+        if (buffer.isDirect())
+        {
+            byteArray = null;
+            addressOffset = BufferUtil.address(buffer);
+        }
+        else
+        {
+            byteArray = BufferUtil.array(buffer);
+            addressOffset = ARRAY_BASE_OFFSET + BufferUtil.arrayOffset(buffer);
+        }
+    }
+
+    /**
+     * Get the address offset of the start of the region.
+     *
+     * @return the address offset of the start of the region.
+     */
+    public long addressOffset()
+    {
+        return addressOffset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public byte[] byteArray()
+    {
+        return byteArray;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ByteBuffer byteBuffer()
+    {
+        return byteBuffer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long capacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void checkLimit(final long limit)
+    {
+        if (limit > capacity)
+        {
+            throw new IndexOutOfBoundsException("limit=" + limit + " is beyond capacity=" + capacity);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void boundsCheck(final long index, final long length)
+    {
+        boundsCheck0(index, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void wrapWindow(final DirectBuffer buffer, final long index, final int length)
+    {
+        boundsCheck0(index, length);
+
+        if (null == byteArray)
+        {
+            buffer.wrap(addressOffset + index, length);
+        }
+        else
+        {
+            buffer.wrap(byteArray, (int)(addressOffset - ARRAY_BASE_OFFSET + index), length);
+        }
+    }
+
+    /**
+     * Verify that the underlying buffer is correctly aligned to prevent word tearing, other ordering issues and the
+     * JVM crashing.
+     *
+     * @throws IllegalStateException if the alignment is not correct.
+     */
+    public void verifyAlignment()
+    {
+        if (null != byteArray)
+        {
+            final String msg = "AtomicLongIndexedBuffer was created from a byte[] and is not correctly aligned by " +
+                ALIGNMENT;
+            if (AtomicBuffer.STRICT_ALIGNMENT_CHECKS)
+            {
+                throw new IllegalStateException(msg);
+            }
+            else
+            {
+                System.err.println(msg);
+            }
+        }
+        else if (0 != (addressOffset & (ALIGNMENT - 1)))
+        {
+            throw new IllegalStateException(
+                "AtomicLongIndexedBuffer is not correctly aligned: addressOffset=" + addressOffset +
+                " is not divisible by " + ALIGNMENT);
+        }
+    }
+
+    /**
+     * Set a region of memory to a given byte value.
+     *
+     * @param index  at which to start.
+     * @param length of the run of bytes to set.
+     * @param value  the memory will be set to.
+     */
+    public void setMemory(final long index, final long length, final byte value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        UnsafeApi.setMemory(byteArray, addressOffset + index, length, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public byte getByte(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_BYTE);
+        }
+
+        return UnsafeApi.getByte(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putByte(final long index, final byte value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_BYTE);
+        }
+
+        UnsafeApi.putByte(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public char getChar(final long index, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_CHAR);
+        }
+
+        char bits = UnsafeApi.getChar(byteArray, addressOffset + index);
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            bits = Character.reverseBytes(bits);
+        }
+
+        return bits;
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index     in bytes for where to put.
+     * @param value     for at a given index.
+     * @param byteOrder of the value when written.
+     */
+    public void putChar(final long index, final char value, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_CHAR);
+        }
+
+        char bits = value;
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            bits = Character.reverseBytes(bits);
+        }
+
+        UnsafeApi.putChar(byteArray, addressOffset + index, bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public char getChar(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_CHAR);
+        }
+
+        return UnsafeApi.getChar(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putChar(final long index, final char value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_CHAR);
+        }
+
+        UnsafeApi.putChar(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public short getShort(final long index, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_SHORT);
+        }
+
+        short bits = UnsafeApi.getShort(byteArray, addressOffset + index);
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            bits = Short.reverseBytes(bits);
+        }
+
+        return bits;
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index     in bytes for where to put.
+     * @param value     for at a given index.
+     * @param byteOrder of the value when written.
+     */
+    public void putShort(final long index, final short value, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_SHORT);
+        }
+
+        short bits = value;
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            bits = Short.reverseBytes(bits);
+        }
+
+        UnsafeApi.putShort(byteArray, addressOffset + index, bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public short getShort(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_SHORT);
+        }
+
+        return UnsafeApi.getShort(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putShort(final long index, final short value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_SHORT);
+        }
+
+        UnsafeApi.putShort(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getInt(final long index, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        int bits = UnsafeApi.getInt(byteArray, addressOffset + index);
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            bits = Integer.reverseBytes(bits);
+        }
+
+        return bits;
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index     in bytes for where to put.
+     * @param value     for at a given index.
+     * @param byteOrder of the value when written.
+     */
+    public void putInt(final long index, final int value, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        int bits = value;
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            bits = Integer.reverseBytes(bits);
+        }
+
+        UnsafeApi.putInt(byteArray, addressOffset + index, bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getInt(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        return UnsafeApi.getInt(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putInt(final long index, final int value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        UnsafeApi.putInt(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getLong(final long index, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        long bits = UnsafeApi.getLong(byteArray, addressOffset + index);
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            bits = Long.reverseBytes(bits);
+        }
+
+        return bits;
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index     in bytes for where to put.
+     * @param value     for at a given index.
+     * @param byteOrder of the value when written.
+     */
+    public void putLong(final long index, final long value, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        long bits = value;
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            bits = Long.reverseBytes(bits);
+        }
+
+        UnsafeApi.putLong(byteArray, addressOffset + index, bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getLong(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        return UnsafeApi.getLong(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putLong(final long index, final long value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        UnsafeApi.putLong(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public float getFloat(final long index, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_FLOAT);
+        }
+
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            final int bits = UnsafeApi.getInt(byteArray, addressOffset + index);
+            return Float.intBitsToFloat(Integer.reverseBytes(bits));
+        }
+
+        return UnsafeApi.getFloat(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index     in bytes for where to put.
+     * @param value     for at a given index.
+     * @param byteOrder of the value when written.
+     */
+    public void putFloat(final long index, final float value, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_FLOAT);
+        }
+
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            final int bits = Integer.reverseBytes(Float.floatToRawIntBits(value));
+            UnsafeApi.putInt(byteArray, addressOffset + index, bits);
+        }
+        else
+        {
+            UnsafeApi.putFloat(byteArray, addressOffset + index, value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public float getFloat(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_FLOAT);
+        }
+
+        return UnsafeApi.getFloat(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putFloat(final long index, final float value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_FLOAT);
+        }
+
+        UnsafeApi.putFloat(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getDouble(final long index, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_DOUBLE);
+        }
+
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            final long bits = UnsafeApi.getLong(byteArray, addressOffset + index);
+            return Double.longBitsToDouble(Long.reverseBytes(bits));
+        }
+
+        return UnsafeApi.getDouble(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index     in bytes for where to put.
+     * @param value     for at a given index.
+     * @param byteOrder of the value when written.
+     */
+    public void putDouble(final long index, final double value, final ByteOrder byteOrder)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_DOUBLE);
+        }
+
+        if (NATIVE_BYTE_ORDER != byteOrder)
+        {
+            final long bits = Long.reverseBytes(Double.doubleToRawLongBits(value));
+            UnsafeApi.putLong(byteArray, addressOffset + index, bits);
+        }
+        else
+        {
+            UnsafeApi.putDouble(byteArray, addressOffset + index, value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getDouble(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_DOUBLE);
+        }
+
+        return UnsafeApi.getDouble(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putDouble(final long index, final double value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_DOUBLE);
+        }
+
+        UnsafeApi.putDouble(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * Get the value at a given index with volatile semantics.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    public byte getByteVolatile(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_BYTE);
+        }
+
+        return UnsafeApi.getByteVolatile(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index with volatile semantics.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putByteVolatile(final long index, final byte value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_BYTE);
+        }
+
+        UnsafeApi.putByteVolatile(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * Get the value at a given index with volatile semantics.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    public short getShortVolatile(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_SHORT);
+        }
+
+        return UnsafeApi.getShortVolatile(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index with volatile semantics.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putShortVolatile(final long index, final short value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_SHORT);
+        }
+
+        UnsafeApi.putShortVolatile(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * Get the value at a given index with volatile semantics.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    public int getIntVolatile(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        return UnsafeApi.getIntVolatile(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index with volatile semantics.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putIntVolatile(final long index, final int value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        UnsafeApi.putIntVolatile(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * Get the value at a given index with acquire semantics.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    public int getIntAcquire(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        return UnsafeApi.getIntAcquire(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index with release semantics.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putIntRelease(final long index, final int value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        UnsafeApi.putIntRelease(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * Atomic compare and set of an int given an expected value.
+     *
+     * @param index         in bytes for where to put.
+     * @param expectedValue at to be compared.
+     * @param updateValue   to be exchanged.
+     * @return set successful or not.
+     */
+    public boolean compareAndSetInt(final long index, final int expectedValue, final int updateValue)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        return UnsafeApi.compareAndSetInt(byteArray, addressOffset + index, expectedValue, updateValue);
+    }
+
+    /**
+     * Atomically add a delta to a value at a location returning the previous contents.
+     * To decrement a negative delta can be provided.
+     *
+     * @param index in bytes for where to put.
+     * @param delta to be added to the value at the index.
+     * @return previous value.
+     */
+    public int getAndAddInt(final long index, final int delta)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        return UnsafeApi.getAndAddInt(byteArray, addressOffset + index, delta);
+    }
+
+    /**
+     * Atomically exchange a value at a location returning the previous contents.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     * @return previous value at the index.
+     */
+    public int getAndSetInt(final long index, final int value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_INT);
+        }
+
+        return UnsafeApi.getAndSetInt(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * Get the value at a given index with volatile semantics.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    public long getLongVolatile(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        return UnsafeApi.getLongVolatile(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index with volatile semantics.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putLongVolatile(final long index, final long value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        UnsafeApi.putLongVolatile(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * Get the value at a given index with acquire semantics.
+     *
+     * @param index in bytes from which to get.
+     * @return the value for at a given index.
+     */
+    public long getLongAcquire(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        return UnsafeApi.getLongAcquire(byteArray, addressOffset + index);
+    }
+
+    /**
+     * Put a value to a given index with release semantics.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     */
+    public void putLongRelease(final long index, final long value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        UnsafeApi.putLongRelease(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * Atomic compare and set of a long given an expected value.
+     *
+     * @param index         in bytes for where to put.
+     * @param expectedValue at to be compared.
+     * @param updateValue   to be exchanged.
+     * @return set successful or not.
+     */
+    public boolean compareAndSetLong(final long index, final long expectedValue, final long updateValue)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        return UnsafeApi.compareAndSetLong(byteArray, addressOffset + index, expectedValue, updateValue);
+    }
+
+    /**
+     * Atomically add a delta to a value at a location returning the previous contents.
+     * To decrement a negative delta can be provided.
+     *
+     * @param index in bytes for where to put.
+     * @param delta to be added to the value at the index.
+     * @return previous value.
+     */
+    public long getAndAddLong(final long index, final long delta)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        return UnsafeApi.getAndAddLong(byteArray, addressOffset + index, delta);
+    }
+
+    /**
+     * Atomically exchange a value at a location returning the previous contents.
+     *
+     * @param index in bytes for where to put.
+     * @param value for at a given index.
+     * @return previous value at the index.
+     */
+    public long getAndSetLong(final long index, final long value)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, SIZE_OF_LONG);
+        }
+
+        return UnsafeApi.getAndSetLong(byteArray, addressOffset + index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void getBytes(final long index, final byte[] dst)
+    {
+        getBytes(index, dst, 0, dst.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void getBytes(final long index, final byte[] dst, final int offset, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+            BufferUtil.boundsCheck(dst, offset, length);
+        }
+
+        UnsafeApi.copyMemory(byteArray, addressOffset + index, dst, ARRAY_BASE_OFFSET + offset, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void getBytes(final long index, final MutableDirectBuffer dstBuffer, final int dstIndex, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+            dstBuffer.boundsCheck(dstIndex, length);
+        }
+
+        UnsafeApi.copyMemory(
+            byteArray,
+            addressOffset + index,
+            dstBuffer.byteArray(),
+            dstBuffer.addressOffset() + dstIndex,
+            length);
+    }
+
+    /**
+     * Put an array of src into the underlying buffer.
+     *
+     * @param index in the underlying buffer to start from.
+     * @param src   to be copied to the underlying buffer.
+     */
+    public void putBytes(final long index, final byte[] src)
+    {
+        putBytes(index, src, 0, src.length);
+    }
+
+    /**
+     * Put an array into the underlying buffer.
+     *
+     * @param index  in the underlying buffer to start from.
+     * @param src    to be copied to the underlying buffer.
+     * @param offset in the supplied buffer to begin the copy.
+     * @param length of the supplied buffer to copy.
+     */
+    public void putBytes(final long index, final byte[] src, final int offset, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+            BufferUtil.boundsCheck(src, offset, length);
+        }
+
+        UnsafeApi.copyMemory(src, ARRAY_BASE_OFFSET + offset, byteArray, addressOffset + index, length);
+    }
+
+    /**
+     * Put bytes from a source {@link DirectBuffer} into this buffer at given indices.
+     *
+     * @param index     in this buffer to begin putting the bytes.
+     * @param srcBuffer from which the bytes will be copied.
+     * @param srcIndex  in the source buffer from which the byte copy will begin.
+     * @param length    of the bytes to be copied.
+     */
+    public void putBytes(final long index, final DirectBuffer srcBuffer, final int srcIndex, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+            srcBuffer.boundsCheck(srcIndex, length);
+        }
+
+        UnsafeApi.copyMemory(
+            srcBuffer.byteArray(),
+            srcBuffer.addressOffset() + srcIndex,
+            byteArray,
+            addressOffset + index,
+            length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getStringAscii(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, STR_HEADER_LEN);
+        }
+
+        final int length = UnsafeApi.getInt(byteArray, addressOffset + index);
+        if (0 == length)
+        {
+            return "";
+        }
+
+        return getStringWithoutLengthAscii(index + STR_HEADER_LEN, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getStringWithoutLengthAscii(final long index, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        if (0 == length)
+        {
+            return "";
+        }
+
+        final byte[] dst = new byte[length];
+        UnsafeApi.copyMemory(byteArray, addressOffset + index, dst, ARRAY_BASE_OFFSET, length);
+
+        return new String(dst, US_ASCII);
+    }
+
+    /**
+     * Encode a String as ASCII bytes to the buffer with a length prefix. Characters above 127 are encoded as '?'.
+     *
+     * @param index at which the String should be encoded.
+     * @param value of the String to be encoded.
+     * @return the number of bytes put to the buffer.
+     */
+    public int putStringAscii(final long index, final String value)
+    {
+        if (null == value)
+        {
+            if (SHOULD_BOUNDS_CHECK)
+            {
+                boundsCheck0(index, STR_HEADER_LEN);
+            }
+
+            UnsafeApi.putInt(byteArray, addressOffset + index, 0);
+            return STR_HEADER_LEN;
+        }
+
+        final int length = value.length();
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, STR_HEADER_LEN + (long)length);
+        }
+
+        UnsafeApi.putInt(byteArray, addressOffset + index, length);
+        putAscii(index + STR_HEADER_LEN, value, length);
+
+        return STR_HEADER_LEN + length;
+    }
+
+    /**
+     * Encode a String as ASCII bytes in the buffer without a length prefix. Characters above 127 are encoded as '?'.
+     *
+     * @param index at which the String begins.
+     * @param value of the String to be encoded.
+     * @return the number of bytes encoded.
+     */
+    public int putStringWithoutLengthAscii(final long index, final String value)
+    {
+        final int length = null == value ? 0 : value.length();
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        putAscii(index, value, length);
+
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getStringUtf8(final long index)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, STR_HEADER_LEN);
+        }
+
+        final int length = UnsafeApi.getInt(byteArray, addressOffset + index);
+
+        return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getStringWithoutLengthUtf8(final long index, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        if (0 == length)
+        {
+            return "";
+        }
+
+        final byte[] stringInBytes = new byte[length];
+        UnsafeApi.copyMemory(byteArray, addressOffset + index, stringInBytes, ARRAY_BASE_OFFSET, length);
+
+        return new String(stringInBytes, UTF_8);
+    }
+
+    /**
+     * Encode a String as UTF-8 bytes to the buffer with a length prefix.
+     *
+     * @param index at which the String should be encoded.
+     * @param value of the String to be encoded.
+     * @return the number of bytes put to the buffer.
+     */
+    public int putStringUtf8(final long index, final String value)
+    {
+        final byte[] bytes = null != value ? value.getBytes(UTF_8) : NULL_BYTES;
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, STR_HEADER_LEN + (long)bytes.length);
+        }
+
+        final long offset = addressOffset + index;
+        UnsafeApi.putInt(byteArray, offset, bytes.length);
+        UnsafeApi.copyMemory(bytes, ARRAY_BASE_OFFSET, byteArray, offset + STR_HEADER_LEN, bytes.length);
+
+        return STR_HEADER_LEN + bytes.length;
+    }
+
+    /**
+     * Encode a String as UTF-8 bytes in the buffer without a length prefix.
+     *
+     * @param index at which the String begins.
+     * @param value of the String to be encoded.
+     * @return the number of bytes encoded.
+     */
+    public int putStringWithoutLengthUtf8(final long index, final String value)
+    {
+        final byte[] bytes = null != value ? value.getBytes(UTF_8) : NULL_BYTES;
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, bytes.length);
+        }
+
+        UnsafeApi.copyMemory(bytes, ARRAY_BASE_OFFSET, byteArray, addressOffset + index, bytes.length);
+
+        return bytes.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int parseIntAscii(final long index, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        if (length <= 0)
+        {
+            throw new AsciiNumberFormatException("empty string: index=" + index + " length=" + length);
+        }
+
+        final boolean negative = MINUS_SIGN == UnsafeApi.getByte(byteArray, addressOffset + index);
+        final int digitCount = negative ? length - 1 : length;
+        if (0 == digitCount)
+        {
+            throwParseError("int", index, length);
+        }
+
+        if (digitCount > INT_MAX_DIGITS)
+        {
+            throwOverflowError("int", index, length);
+        }
+
+        final long negatedValue = parseNegatedDigitsAscii(index, length, digitCount, Integer.MIN_VALUE, "int");
+        if (!negative && Integer.MIN_VALUE == negatedValue)
+        {
+            throwOverflowError("int", index, length);
+        }
+
+        return (int)(negative ? negatedValue : -negatedValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long parseLongAscii(final long index, final int length)
+    {
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        if (length <= 0)
+        {
+            throw new AsciiNumberFormatException("empty string: index=" + index + " length=" + length);
+        }
+
+        final boolean negative = MINUS_SIGN == UnsafeApi.getByte(byteArray, addressOffset + index);
+        final int digitCount = negative ? length - 1 : length;
+        if (0 == digitCount)
+        {
+            throwParseError("long", index, length);
+        }
+
+        if (digitCount > LONG_MAX_DIGITS)
+        {
+            throwOverflowError("long", index, length);
+        }
+
+        final long negatedValue = parseNegatedDigitsAscii(index, length, digitCount, Long.MIN_VALUE, "long");
+        if (!negative && Long.MIN_VALUE == negatedValue)
+        {
+            throwOverflowError("long", index, length);
+        }
+
+        return negative ? negatedValue : -negatedValue;
+    }
+
+    /**
+     * Encode an int value as ASCII digits at a given index.
+     *
+     * @param index at which the encoding will begin.
+     * @param value to be encoded.
+     * @return the number of bytes encoded.
+     */
+    public int putIntAscii(final long index, final int value)
+    {
+        return putLongAscii(index, (long)value);
+    }
+
+    /**
+     * Encode a long value as ASCII digits at a given index.
+     *
+     * @param index at which the encoding will begin.
+     * @param value to be encoded.
+     * @return the number of bytes encoded.
+     */
+    public int putLongAscii(final long index, final long value)
+    {
+        if (Long.MIN_VALUE == value)
+        {
+            putBytes(index, MIN_LONG_VALUE);
+            return MIN_LONG_VALUE.length;
+        }
+
+        final long magnitude = Math.abs(value);
+        final int digitCount = digitCount(magnitude);
+        final int length = value < 0 ? digitCount + 1 : digitCount;
+        if (SHOULD_BOUNDS_CHECK)
+        {
+            boundsCheck0(index, length);
+        }
+
+        final byte[] array = byteArray;
+        final long offset = addressOffset + index;
+        if (value < 0)
+        {
+            UnsafeApi.putByte(array, offset, MINUS_SIGN);
+        }
+
+        putPositiveDigitsAscii(array, offset + length - digitCount, magnitude, digitCount);
+
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "AtomicLongIndexedBuffer{" +
+            "addressOffset=" + addressOffset +
+            ", capacity=" + capacity +
+            ", byteArray=" + (null == byteArray ? "null" : ("byte[" + byteArray.length + "]")) +
+            ", byteBuffer=" + byteBuffer +
+            '}';
+    }
+
+    private void putAscii(final long index, final String value, final int length)
+    {
+        final byte[] array = byteArray;
+        final long offset = addressOffset + index;
+
+        for (int i = 0; i < length; i++)
+        {
+            char c = value.charAt(i);
+            if (c > 127)
+            {
+                c = '?';
+            }
+
+            UnsafeApi.putByte(array, offset + i, (byte)c);
+        }
+    }
+
+    private long parseNegatedDigitsAscii(
+        final long index, final int length, final int digitCount, final long minValue, final String type)
+    {
+        final byte[] array = byteArray;
+        final long offset = addressOffset;
+        long tally = 0;
+
+        for (long i = index + length - digitCount, end = index + length; i < end; i++)
+        {
+            final byte digit = UnsafeApi.getByte(array, offset + i);
+            if (!isDigit(digit))
+            {
+                throwParseError(type, index, length);
+            }
+
+            final int value = digit - ZERO;
+            if (tally < (minValue + value) / 10)
+            {
+                throwOverflowError(type, index, length);
+            }
+
+            tally = (tally * 10) - value;
+        }
+
+        return tally;
+    }
+
+    private void throwParseError(final String type, final long index, final int length)
+    {
+        throw new AsciiNumberFormatException(
+            "error parsing " + type + ": " + getStringWithoutLengthAscii(index, length));
+    }
+
+    private void throwOverflowError(final String type, final long index, final int length)
+    {
+        throw new AsciiNumberFormatException(
+            type + " overflow parsing: " + getStringWithoutLengthAscii(index, length));
+    }
+
+    private static void putPositiveDigitsAscii(
+        final byte[] array, final long offset, final long value, final int digitCount)
+    {
+        long quotient = value;
+        long i = offset + digitCount;
+        while (quotient >= 100)
+        {
+            final int position = (int)(quotient % 100) << 1;
+            quotient /= 100;
+            i -= 2;
+            UnsafeApi.putByte(array, i, ASCII_DIGITS[position]);
+            UnsafeApi.putByte(array, i + 1, ASCII_DIGITS[position + 1]);
+        }
+
+        if (quotient >= 10)
+        {
+            final int position = (int)quotient << 1;
+            UnsafeApi.putByte(array, offset, ASCII_DIGITS[position]);
+            UnsafeApi.putByte(array, offset + 1, ASCII_DIGITS[position + 1]);
+        }
+        else
+        {
+            UnsafeApi.putByte(array, offset, (byte)(ZERO + quotient));
+        }
+    }
+
+    private void boundsCheck0(final long index, final long length)
+    {
+        if (index < 0 || length < 0 || index > capacity - length)
+        {
+            throw new IndexOutOfBoundsException("index=" + index + " length=" + length + " capacity=" + capacity);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.UnsafeApi;
+import org.agrona.generation.DoNotSub;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Many producer to many consumer concurrent queue of ints that is array backed and stores the elements without
+ * boxing. The algorithm is the same as for {@link ManyToManyConcurrentArrayQueue} which is a port of Dmitry Vyukov's
+ * <a href="http://www.1024cores.net/home/lock-free-algorithms/queues/bounded-mpmc-queue">MPMC queue</a>.
+ * <p>
+ * <b>Note:</b> As with {@link ManyToManyConcurrentArrayQueue} peek and poll can return the {@link #nullValue()} when an
+ * offer is in progress and size is greater than zero. If you wish to check for empty then call {@link #isEmpty()}.
+ */
+public class ManyToManyConcurrentIntArrayQueue extends AbstractConcurrentIntArrayQueue
+{
+    private static final int SEQUENCES_ARRAY_BASE = UnsafeApi.arrayBaseOffset(long[].class); // @DoNotSub
+
+    private final long[] sequences;
+
+    /**
+     * Create a new queue with a bounded capacity and {@link #DEFAULT_NULL_VALUE}. The requested capacity will be
+     * rounded up to the next positive power-of-two in size.
+     *
+     * @param requestedCapacity of the queue which must be &gt;= 2.
+     * @throws IllegalArgumentException if the requestedCapacity &lt; 2.
+     */
+    public ManyToManyConcurrentIntArrayQueue(
+        @DoNotSub final int requestedCapacity)
+    {
+        this(requestedCapacity, DEFAULT_NULL_VALUE);
+    }
+
+    /**
+     * Create a new queue with a bounded capacity. The requested capacity will be rounded up to the next positive
+     * power-of-two in size.
+     *
+     * @param requestedCapacity of the queue which must be &gt;= 2.
+     * @param nullValue         which cannot be stored in the queue and used as a sentinel.
+     * @throws IllegalArgumentException if the requestedCapacity &lt; 2.
+     */
+    public ManyToManyConcurrentIntArrayQueue(
+        @DoNotSub final int requestedCapacity,
+        final int nullValue)
+    {
+        super(requestedCapacity, nullValue);
+
+        if (requestedCapacity < 2)
+        {
+            throw new IllegalArgumentException(
+                "requestedCapacity must be >= 2: requestedCapacity=" + requestedCapacity);
+        }
+
+        final long[] sequences = new long[capacity];
+
+        for (@DoNotSub int i = 0; i < capacity; i++)
+        {
+            sequences[i] = i;
+        }
+
+        UnsafeApi.putLongVolatile(sequences, sequenceArrayOffset(0, sequences.length - 1), 0);
+        this.sequences = sequences;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean offer(final int element)
+    {
+        if (nullValue == element)
+        {
+            throw new IllegalArgumentException("cannot offer nullValue=" + element);
+        }
+
+        final long mask = this.capacity - 1;
+        final long[] sequences = this.sequences;
+        final int[] buffer = this.buffer;
+
+        while (true)
+        {
+            final long currentTail = tail;
+            final long sequenceOffset = sequenceArrayOffset(currentTail, mask);
+            final long sequence = UnsafeApi.getLongVolatile(sequences, sequenceOffset);
+
+            if (sequence < currentTail)
+            {
+                return false;
+            }
+
+            if (UnsafeApi.compareAndSetLong(this, TAIL_OFFSET, currentTail, currentTail + 1L))
+            {
+                UnsafeApi.putInt(buffer, sequenceToBufferOffset(currentTail, mask), element);
+                UnsafeApi.putLongRelease(sequences, sequenceOffset, currentTail + 1L);
+
+                return true;
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int poll()
+    {
+        final long[] sequences = this.sequences;
+        final int[] buffer = this.buffer;
+        final long mask = this.capacity - 1;
+
+        while (true)
+        {
+            final long currentHead = head;
+            final long sequenceOffset = sequenceArrayOffset(currentHead, mask);
+            final long sequence = UnsafeApi.getLongVolatile(sequences, sequenceOffset);
+            final long attemptedHead = currentHead + 1L;
+
+            if (sequence < attemptedHead)
+            {
+                return nullValue;
+            }
+
+            if (UnsafeApi.compareAndSetLong(this, HEAD_OFFSET, currentHead, attemptedHead))
+            {
+                final long elementOffset = sequenceToBufferOffset(currentHead, mask);
+                final int element = UnsafeApi.getInt(buffer, elementOffset);
+                UnsafeApi.putInt(buffer, elementOffset, nullValue);
+                UnsafeApi.putLongRelease(sequences, sequenceOffset, attemptedHead + mask);
+
+                return element;
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int peek()
+    {
+        final long[] sequences = this.sequences;
+        final int[] buffer = this.buffer;
+        final long mask = this.capacity - 1;
+
+        while (true)
+        {
+            final long currentHead = head;
+            final long sequenceOffset = sequenceArrayOffset(currentHead, mask);
+            final long sequence = UnsafeApi.getLongVolatile(sequences, sequenceOffset);
+            final long attemptedHead = currentHead + 1L;
+
+            if (sequence < attemptedHead)
+            {
+                return nullValue;
+            }
+
+            if (sequence == attemptedHead)
+            {
+                final int element = UnsafeApi.getInt(buffer, sequenceToBufferOffset(currentHead, mask));
+
+                if (currentHead == head)
+                {
+                    return element;
+                }
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @DoNotSub public int drain(
+        final IntConsumer elementConsumer)
+    {
+        return drain(elementConsumer, size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @DoNotSub public int drain(
+        final IntConsumer elementConsumer,
+        @DoNotSub final int limit)
+    {
+        final int nullValue = this.nullValue;
+        @DoNotSub int count = 0;
+
+        int element;
+        while (count < limit && nullValue != (element = poll()))
+        {
+            elementConsumer.accept(element);
+            ++count;
+        }
+
+        return count;
+    }
+
+    private static long sequenceArrayOffset(final long sequence, final long mask)
+    {
+        return SEQUENCES_ARRAY_BASE + ((sequence & mask) << 3);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.UnsafeApi;
+import org.agrona.generation.DoNotSub;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Many producer to one consumer concurrent queue of ints that is array backed and stores the elements without boxing.
+ * The algorithm is the same as for {@link ManyToOneConcurrentArrayQueue} with the {@link #nullValue()} marking an
+ * empty slot.
+ * <p>
+ * <b>Note:</b> As with {@link ManyToOneConcurrentArrayQueue} poll can return the {@link #nullValue()} when an offer is
+ * in progress and size is greater than zero. If you wish to check for empty then call {@link #isEmpty()}.
+ */
+public class ManyToOneConcurrentIntArrayQueue extends AbstractConcurrentIntArrayQueue
+{
+    /**
+     * Constructs queue with the requested capacity and {@link #DEFAULT_NULL_VALUE}.
+     *
+     * @param requestedCapacity of the queue.
+     */
+    public ManyToOneConcurrentIntArrayQueue(
+        @DoNotSub final int requestedCapacity)
+    {
+        super(requestedCapacity, DEFAULT_NULL_VALUE);
+    }
+
+    /**
+     * Constructs queue with the requested capacity.
+     *
+     * @param requestedCapacity of the queue.
+     * @param nullValue         which cannot be stored in the queue and used as a sentinel.
+     */
+    public ManyToOneConcurrentIntArrayQueue(
+        @DoNotSub final int requestedCapacity,
+        final int nullValue)
+    {
+        super(requestedCapacity, nullValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean offer(final int element)
+    {
+        if (nullValue == element)
+        {
+            throw new IllegalArgumentException("cannot offer nullValue=" + element);
+        }
+
+        @DoNotSub final int capacity = this.capacity;
+        long currentHead = sharedHeadCache;
+        long bufferLimit = currentHead + capacity;
+        long currentTail;
+        do
+        {
+            currentTail = tail;
+            if (currentTail >= bufferLimit)
+            {
+                currentHead = head;
+                bufferLimit = currentHead + capacity;
+                if (currentTail >= bufferLimit)
+                {
+                    return false;
+                }
+
+                UnsafeApi.putLongRelease(this, SHARED_HEAD_CACHE_OFFSET, currentHead);
+            }
+        }
+        while (!UnsafeApi.compareAndSetLong(this, TAIL_OFFSET, currentTail, currentTail + 1));
+
+        UnsafeApi.putIntRelease(buffer, sequenceToBufferOffset(currentTail, capacity - 1), element);
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int poll()
+    {
+        final int[] buffer = this.buffer;
+        final int nullValue = this.nullValue;
+        final long currentHead = head;
+        final long elementOffset = sequenceToBufferOffset(currentHead, capacity - 1);
+
+        final int element = UnsafeApi.getIntVolatile(buffer, elementOffset);
+        if (nullValue != element)
+        {
+            UnsafeApi.putInt(buffer, elementOffset, nullValue);
+            UnsafeApi.putLongRelease(this, HEAD_OFFSET, currentHead + 1);
+        }
+
+        return element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @DoNotSub public int drain(
+        final IntConsumer elementConsumer)
+    {
+        return drain(elementConsumer, (int)(tail - head)); // @DoNotSub
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @DoNotSub public int drain(
+        final IntConsumer elementConsumer,
+        @DoNotSub final int limit)
+    {
+        final int[] buffer = this.buffer;
+        final int nullValue = this.nullValue;
+        final long mask = this.capacity - 1;
+        final long currentHead = head;
+        long nextSequence = currentHead;
+        final long limitSequence = nextSequence + limit;
+
+        while (nextSequence < limitSequence)
+        {
+            final long elementOffset = sequenceToBufferOffset(nextSequence, mask);
+            final int element = UnsafeApi.getIntVolatile(buffer, elementOffset);
+
+            if (nullValue == element)
+            {
+                break;
+            }
+
+            UnsafeApi.putIntRelease(buffer, elementOffset, nullValue);
+            nextSequence++;
+            UnsafeApi.putLongRelease(this, HEAD_OFFSET, nextSequence);
+            elementConsumer.accept(element);
+        }
+
+        return (int)(nextSequence - currentHead); // @DoNotSub
+    }
+}
@@ -0,0 +1,507 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.BitUtil;
+import org.agrona.collections.Hashing;
+
+import java.lang.invoke.VarHandle;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.collections.CollectionUtil.validateLoadFactor;
+
+/**
+ * Open-addressing map of primitive long keys to long values which is laid out in an {@link AtomicBuffer} so it can
+ * live off the Java heap, and be shared between processes when the buffer is a memory mapped file. It uses the same
+ * hashing as {@link org.agrona.collections.Hashing#evenHash(long, int)} and {@code missingValue} semantics as the
+ * on heap {@code Long2LongHashMap}.
+ * <p>
+ * The map has a fixed capacity, determined by the length of the buffer, as it cannot be resized in place. As the
+ * buffer is indexed by int, and {@link org.agrona.IoUtil#mapNewFile(java.io.File, long)} maps at most 2GB, the capacity
+ * is at most {@link #MAX_CAPACITY} entries which is a 1GB buffer. The number of entries is then at most about 43.6M
+ * with a load factor of 0.65, or 60.4M with the maximum load factor of 0.9. More entries require the keys to be
+ * partitioned over several maps, for example by the high bits of {@link Hashing#hash(long)}.
+ * <p>
+ * A single writer may {@link #put(long, long)} and {@link #remove(long)} while any number of readers, in the same or
+ * other processes, {@link #get(long)} without locks. Readers retry if a lookup overlaps a remove or clear, which
+ * move entries, so a reader can be delayed but not blocked by the writer. An example of creating a map backed by a
+ * memory mapped file and attaching to it from another process:
+ * <pre>
+ * {@code
+ *     final int length = OffHeapLong2LongHashMap.bufferLength(capacity);
+ *     final AtomicBuffer buffer = new UnsafeBuffer(IoUtil.mapNewFile(file, length));
+ *     final OffHeapLong2LongHashMap writerMap = new OffHeapLong2LongHashMap(buffer, loadFactor, missingValue);
+ *
+ *     // in the reading process
+ *     final OffHeapLong2LongHashMap readerMap = new OffHeapLong2LongHashMap(new UnsafeBuffer(IoUtil.mapExistingFile(
+ *         file, "map")));
+ * }
+ * </pre>
+ * Layout of the buffer:
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                         Missing Value                         |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                           Max Size                            |
+ *  +---------------------------------------------------------------+
+ *  |                          Initialised                          |
+ *  +---------------------------------------------------------------+
+ *  |                      Padding to Cache Line                   ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                            Version                            |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                             Size                              |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                      Padding to Cache Line                   ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                     Entries (Key, Value) x Capacity          ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ * <p>
+ * <b>Note:</b> Only a single thread may write to the map at any one time.
+ */
+public final class OffHeapLong2LongHashMap
+{
+    /**
+     * Offset in the buffer at which the missing value is stored.
+     */
+    public static final int MISSING_VALUE_OFFSET = 0;
+
+    /**
+     * Offset in the buffer at which the max size, given the load factor, is stored.
+     */
+    public static final int MAX_SIZE_OFFSET = MISSING_VALUE_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset in the buffer at which the indicator that the map has been initialised is stored.
+     */
+    public static final int INITIALISED_OFFSET = MAX_SIZE_OFFSET + BitUtil.SIZE_OF_INT;
+
+    /**
+     * Offset in the buffer at which the version, which is odd while entries are being moved, is stored.
+     */
+    public static final int VERSION_OFFSET = CACHE_LINE_LENGTH;
+
+    /**
+     * Offset in the buffer at which the number of entries is stored.
+     */
+    public static final int SIZE_OFFSET = VERSION_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Length of the header before the entries.
+     */
+    public static final int HEADER_LENGTH = CACHE_LINE_LENGTH * 2;
+
+    /**
+     * Length of an entry of key and value.
+     */
+    public static final int ENTRY_LENGTH = SIZE_OF_LONG * 2;
+
+    /**
+     * Maximum capacity in entries, which is the largest power of 2 for which the buffer length fits in an int.
+     */
+    public static final int MAX_CAPACITY = 1 << 26;
+
+    private static final int INITIALISED = 1;
+
+    private final long missingValue;
+    private final int capacity;
+    private final int mask;
+    private final int maxSize;
+    private final AtomicBuffer buffer;
+
+    /**
+     * Construct a new map which initialises the buffer, discarding any existing entries.
+     *
+     * @param buffer       for the map which must be {@link #HEADER_LENGTH} plus a power of 2 number of entries.
+     * @param loadFactor   to limit the size of the map to so that lookups remain efficient.
+     * @param missingValue for the map that represents null.
+     * @throws IllegalArgumentException if the buffer length or load factor are invalid.
+     * @see #bufferLength(int)
+     */
+    public OffHeapLong2LongHashMap(final AtomicBuffer buffer, final float loadFactor, final long missingValue)
+    {
+        validateLoadFactor(loadFactor);
+
+        this.buffer = buffer;
+        this.missingValue = missingValue;
+        capacity = computeCapacity(buffer);
+        mask = (capacity * 2) - 1;
+        maxSize = (int)(capacity * loadFactor);
+
+        buffer.putIntRelease(INITIALISED_OFFSET, 0);
+        buffer.putLong(MISSING_VALUE_OFFSET, missingValue);
+        buffer.putInt(MAX_SIZE_OFFSET, maxSize);
+        buffer.putLong(VERSION_OFFSET, 0);
+        buffer.putLong(SIZE_OFFSET, 0);
+        fillValues(missingValue);
+        buffer.putIntRelease(INITIALISED_OFFSET, INITIALISED);
+    }
+
+    /**
+     * Construct a map over a buffer which has already been initialised, e.g. by another process.
+     *
+     * @param buffer for the map which has been initialised by
+     *               {@link #OffHeapLong2LongHashMap(AtomicBuffer, float, long)}.
+     * @throws IllegalArgumentException if the buffer length is invalid.
+     * @throws IllegalStateException    if the buffer has not been initialised.
+     */
+    public OffHeapLong2LongHashMap(final AtomicBuffer buffer)
+    {
+        capacity = computeCapacity(buffer);
+        if (INITIALISED != buffer.getIntVolatile(INITIALISED_OFFSET))
+        {
+            throw new IllegalStateException("map buffer has not been initialised");
+        }
+
+        this.buffer = buffer;
+        missingValue = buffer.getLong(MISSING_VALUE_OFFSET);
+        maxSize = buffer.getInt(MAX_SIZE_OFFSET);
+        mask = (capacity * 2) - 1;
+    }
+
+    /**
+     * Compute the length of buffer required for a map of a given capacity.
+     *
+     * @param capacity of the map in entries which must be a power of 2 and at most {@link #MAX_CAPACITY}, so the
+     *                 buffer is at most {@link #HEADER_LENGTH} plus 1GB and the map holds at most
+     *                 {@code MAX_CAPACITY * loadFactor} entries.
+     * @return the length of buffer required for the map.
+     * @throws IllegalArgumentException if the capacity is not a power of 2 or is greater than {@link #MAX_CAPACITY}.
+     */
+    public static int bufferLength(final int capacity)
+    {
+        if (!BitUtil.isPowerOfTwo(capacity) || capacity > MAX_CAPACITY)
+        {
+            throw new IllegalArgumentException("invalid capacity=" + capacity);
+        }
+
+        return HEADER_LENGTH + (capacity * ENTRY_LENGTH);
+    }
+
+    /**
+     * The value to be used as a null marker in the map.
+     *
+     * @return value to be used as a null marker in the map.
+     */
+    public long missingValue()
+    {
+        return missingValue;
+    }
+
+    /**
+     * The capacity of the map in entries.
+     *
+     * @return the capacity of the map in entries.
+     */
+    public int capacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * The max number of entries the map can hold given the load factor it was initialised with.
+     *
+     * @return the max number of entries the map can hold.
+     */
+    public int maxSize()
+    {
+        return maxSize;
+    }
+
+    /**
+     * The number of entries in the map.
+     *
+     * @return the number of entries in the map.
+     */
+    public int size()
+    {
+        return (int)buffer.getLongVolatile(SIZE_OFFSET);
+    }
+
+    /**
+     * Is the map empty.
+     *
+     * @return true if the map is empty.
+     */
+    public boolean isEmpty()
+    {
+        return 0 == size();
+    }
+
+    /**
+     * The underlying buffer for the map.
+     *
+     * @return the underlying buffer for the map.
+     */
+    public AtomicBuffer buffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * Does the map contain the key. May be called from any thread.
+     *
+     * @param key to check.
+     * @return true if the map contains the key.
+     */
+    public boolean containsKey(final long key)
+    {
+        return missingValue != get(key);
+    }
+
+    /**
+     * Get a value for a given key, or {@link #missingValue()} if not found. May be called from any thread, or process,
+     * concurrently with the writer.
+     *
+     * @param key lookup key.
+     * @return value associated with the key or {@link #missingValue()} if not found.
+     */
+    public long get(final long key)
+    {
+        final AtomicBuffer buffer = this.buffer;
+        final long missingValue = this.missingValue;
+        final int mask = this.mask;
+        final int capacity = this.capacity;
+
+        while (true)
+        {
+            final long version = buffer.getLongVolatile(VERSION_OFFSET);
+            if (0 == (version & 1))
+            {
+                long value = missingValue;
+                int index = Hashing.evenHash(key, mask);
+                for (int i = 0; i < capacity; i++)
+                {
+                    final int keyOffset = keyOffset(index);
+                    value = buffer.getLongVolatile(keyOffset + SIZE_OF_LONG);
+                    if (missingValue == value || key == buffer.getLong(keyOffset))
+                    {
+                        break;
+                    }
+
+                    value = missingValue;
+                    index = next(index, mask);
+                }
+
+                VarHandle.acquireFence();
+                if (version == buffer.getLongVolatile(VERSION_OFFSET))
+                {
+                    return value;
+                }
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Put a key value pair in the map. Must only be called by the single writer.
+     *
+     * @param key   lookup key.
+     * @param value new value, must not be {@link #missingValue()}.
+     * @return previous value associated with the key, or {@link #missingValue()} if none found.
+     * @throws IllegalArgumentException if value is {@link #missingValue()}.
+     * @throws IllegalStateException    if the key is not in the map and the map is at {@link #maxSize()}.
+     */
+    public long put(final long key, final long value)
+    {
+        final long missingValue = this.missingValue;
+        if (missingValue == value)
+        {
+            throw new IllegalArgumentException("cannot accept missingValue");
+        }
+
+        final AtomicBuffer buffer = this.buffer;
+        final int mask = this.mask;
+        int index = Hashing.evenHash(key, mask);
+
+        long oldValue;
+        while (missingValue != (oldValue = buffer.getLong(valueOffset(index))))
+        {
+            if (key == buffer.getLong(keyOffset(index)))
+            {
+                break;
+            }
+
+            index = next(index, mask);
+        }
+
+        if (missingValue == oldValue)
+        {
+            final long size = buffer.getLong(SIZE_OFFSET);
+            if (size >= maxSize)
+            {
+                throw new IllegalStateException("map is full: maxSize=" + maxSize);
+            }
+
+            buffer.putLong(keyOffset(index), key);
+            buffer.putLongRelease(SIZE_OFFSET, size + 1);
+        }
+
+        buffer.putLongRelease(valueOffset(index), value);
+
+        return oldValue;
+    }
+
+    /**
+     * Remove a key value pair from the map. Must only be called by the single writer.
+     *
+     * @param key lookup key.
+     * @return previous value associated with the key, or {@link #missingValue()} if none found.
+     */
+    public long remove(final long key)
+    {
+        final AtomicBuffer buffer = this.buffer;
+        final long missingValue = this.missingValue;
+        final int mask = this.mask;
+        int keyIndex = Hashing.evenHash(key, mask);
+
+        long oldValue;
+        while (missingValue != (oldValue = buffer.getLong(valueOffset(keyIndex))))
+        {
+            if (key == buffer.getLong(keyOffset(keyIndex)))
+            {
+                final long version = beginMove();
+                buffer.putLong(valueOffset(keyIndex), missingValue);
+                compactChain(keyIndex);
+                buffer.putLongRelease(SIZE_OFFSET, buffer.getLong(SIZE_OFFSET) - 1);
+                endMove(version);
+
+                break;
+            }
+
+            keyIndex = next(keyIndex, mask);
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Remove all entries from the map. Must only be called by the single writer.
+     */
+    public void clear()
+    {
+        if (0 != buffer.getLong(SIZE_OFFSET))
+        {
+            final long version = beginMove();
+            fillValues(missingValue);
+            buffer.putLongRelease(SIZE_OFFSET, 0);
+            endMove(version);
+        }
+    }
+
+    private void compactChain(final int deleteIndex)
+    {
+        final AtomicBuffer buffer = this.buffer;
+        final long missingValue = this.missingValue;
+        final int mask = this.mask;
+        int deleteKeyIndex = deleteIndex;
+        int keyIndex = deleteIndex;
+
+        while (true)
+        {
+            keyIndex = next(keyIndex, mask);
+            final long value = buffer.getLong(valueOffset(keyIndex));
+            if (missingValue == value)
+            {
+                break;
+            }
+
+            final long key = buffer.getLong(keyOffset(keyIndex));
+            final int hash = Hashing.evenHash(key, mask);
+
+            if ((keyIndex < hash && (hash <= deleteKeyIndex || deleteKeyIndex <= keyIndex)) ||
+                (hash <= deleteKeyIndex && deleteKeyIndex <= keyIndex))
+            {
+                buffer.putLong(keyOffset(deleteKeyIndex), key);
+                buffer.putLong(valueOffset(deleteKeyIndex), value);
+
+                buffer.putLong(valueOffset(keyIndex), missingValue);
+                deleteKeyIndex = keyIndex;
+            }
+        }
+    }
+
+    private long beginMove()
+    {
+        final long version = buffer.getLong(VERSION_OFFSET);
+        buffer.putLong(VERSION_OFFSET, version + 1);
+        VarHandle.releaseFence();
+
+        return version;
+    }
+
+    private void endMove(final long version)
+    {
+        buffer.putLongRelease(VERSION_OFFSET, version + 2);
+    }
+
+    private void fillValues(final long missingValue)
+    {
+        final AtomicBuffer buffer = this.buffer;
+        if (0 == missingValue)
+        {
+            buffer.setMemory(HEADER_LENGTH, capacity * ENTRY_LENGTH, (byte)0);
+        }
+        else
+        {
+            for (int index = 0, limit = capacity * 2; index < limit; index += 2)
+            {
+                buffer.putLong(valueOffset(index), missingValue);
+            }
+        }
+    }
+
+    private static int computeCapacity(final AtomicBuffer buffer)
+    {
+        buffer.verifyAlignment();
+
+        final int entriesLength = buffer.capacity() - HEADER_LENGTH;
+        final int capacity = entriesLength / ENTRY_LENGTH;
+        if (entriesLength < ENTRY_LENGTH || 0 != entriesLength % ENTRY_LENGTH || !BitUtil.isPowerOfTwo(capacity))
+        {
+            throw new IllegalArgumentException(
+                "buffer length must be HEADER_LENGTH plus a power of 2 entries: length=" + buffer.capacity());
+        }
+
+        return capacity;
+    }
+
+    private static int keyOffset(final int index)
+    {
+        return HEADER_LENGTH + (index * SIZE_OF_LONG);
+    }
+
+    private static int valueOffset(final int index)
+    {
+        return HEADER_LENGTH + ((index + 1) * SIZE_OF_LONG);
+    }
+
+    private static int next(final int index, final int mask)
+    {
+        return (index + 2) & mask;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idle strategy which backs off using a delegate strategy and then parks the thread until woken by a
+ * {@link ParkingSignal}. This allows a consumer of a mostly idle {@link Pipe} to give up its core without adding
+ * latency to a busy one, see {@link SignallingQueuedPipe} for producers which signal.
+ * <p>
+ * Once the backoff is exhausted the thread registers as a waiter on the signal and returns so the caller checks for
+ * work once more before the thread is parked on the next idle. Work being done, or {@link #reset()}, deregisters the
+ * waiter. The thread will not park, and continues to back off, if the signal has no free slot for a waiter.
+ * <p>
+ * <b>Note:</b> This class is not threadsafe and should be used by a single consumer thread.
+ */
+public final class ParkingIdleStrategy implements IdleStrategy
+{
+    /**
+     * Name to be returned from {@link #alias()}.
+     */
+    public static final String ALIAS = "parking";
+
+    /**
+     * Default number of idles with the backoff strategy before parking on the signal.
+     */
+    public static final int DEFAULT_MAX_BACKOFF_IDLES = 100;
+
+    /**
+     * Default max period for which the thread will park before checking for work regardless of being signalled.
+     */
+    public static final long DEFAULT_MAX_PARK_PERIOD_NS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final IdleStrategy backoffIdleStrategy;
+    private final ParkingSignal signal;
+    private final int maxBackoffIdles;
+    private final long maxParkPeriodNs;
+    private int backoffIdles;
+    private int waiterSlot = ParkingSignal.NO_WAITER_SLOT;
+    private long epoch;
+
+    /**
+     * Construct a new strategy which backs off with a default {@link BackoffIdleStrategy} before parking on a signal.
+     *
+     * @param signal on which the thread will park after backing off.
+     */
+    public ParkingIdleStrategy(final ParkingSignal signal)
+    {
+        this(signal, new BackoffIdleStrategy(), DEFAULT_MAX_BACKOFF_IDLES, DEFAULT_MAX_PARK_PERIOD_NS);
+    }
+
+    /**
+     * Construct a new strategy which backs off with a delegate strategy before parking on a signal.
+     *
+     * @param signal              on which the thread will park after backing off.
+     * @param backoffIdleStrategy to idle with before parking on the signal.
+     * @param maxBackoffIdles     number of idles with the backoff strategy before parking on the signal.
+     * @param maxParkPeriodNs     max period for which the thread will park before checking for work regardless.
+     * @throws IllegalArgumentException if maxBackoffIdles is negative or maxParkPeriodNs is less than 1.
+     */
+    public ParkingIdleStrategy(
+        final ParkingSignal signal,
+        final IdleStrategy backoffIdleStrategy,
+        final int maxBackoffIdles,
+        final long maxParkPeriodNs)
+    {
+        if (maxBackoffIdles < 0)
+        {
+            throw new IllegalArgumentException("maxBackoffIdles must be >= 0: maxBackoffIdles=" + maxBackoffIdles);
+        }
+
+        if (maxParkPeriodNs < 1)
+        {
+            throw new IllegalArgumentException("maxParkPeriodNs must be >= 1: maxParkPeriodNs=" + maxParkPeriodNs);
+        }
+
+        this.signal = signal;
+        this.backoffIdleStrategy = backoffIdleStrategy;
+        this.maxBackoffIdles = maxBackoffIdles;
+        this.maxParkPeriodNs = maxParkPeriodNs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void idle(final int workCount)
+    {
+        if (workCount > 0)
+        {
+            reset();
+        }
+        else
+        {
+            idle();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void idle()
+    {
+        if (ParkingSignal.NO_WAITER_SLOT != waiterSlot)
+        {
+            signal.awaitSignal(epoch, maxParkPeriodNs);
+            epoch = signal.epoch();
+        }
+        else if (backoffIdles < maxBackoffIdles)
+        {
+            backoffIdles++;
+            backoffIdleStrategy.idle();
+        }
+        else
+        {
+            waiterSlot = signal.register();
+            if (ParkingSignal.NO_WAITER_SLOT == waiterSlot)
+            {
+                backoffIdleStrategy.idle();
+            }
+            else
+            {
+                epoch = signal.epoch();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void reset()
+    {
+        if (ParkingSignal.NO_WAITER_SLOT != waiterSlot)
+        {
+            signal.deregister(waiterSlot);
+            waiterSlot = ParkingSignal.NO_WAITER_SLOT;
+        }
+
+        backoffIdles = 0;
+        backoffIdleStrategy.reset();
+    }
+
+    /**
+     * Is the thread registered as a waiter on the signal so that it will park on the next idle.
+     *
+     * @return true if the thread is registered as a waiter on the signal.
+     */
+    public boolean isWaiting()
+    {
+        return ParkingSignal.NO_WAITER_SLOT != waiterSlot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String alias()
+    {
+        return ALIAS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "ParkingIdleStrategy{" +
+            "alias=" + ALIAS +
+            ", backoffIdleStrategy=" + backoffIdleStrategy +
+            ", maxBackoffIdles=" + maxBackoffIdles +
+            ", maxParkPeriodNs=" + maxParkPeriodNs +
+            '}';
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.BitUtil;
+import org.agrona.UnsafeApi;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Signal by which producers can wake consumer threads which have parked while waiting for work, such as when a
+ * {@link ParkingIdleStrategy} has backed off.
+ * <p>
+ * A consumer registers as a waiter then checks for work once more before parking so a signal cannot be missed.
+ * Producers call {@link #signal()} after publishing work which costs a full fence and a read of the waiter count
+ * when no consumers are waiting.
+ * <p>
+ * <b>Note:</b> This class is threadsafe and is shared by all producers and consumers of a {@link Pipe}.
+ */
+public final class ParkingSignal
+{
+    /**
+     * Value returned from {@link #register()} when there is no free slot for a waiter.
+     */
+    public static final int NO_WAITER_SLOT = -1;
+
+    /**
+     * Default maximum number of consumer threads which can be parked on the signal at the same time.
+     */
+    public static final int DEFAULT_MAX_WAITERS = 16;
+
+    private static final long WAITER_COUNT_OFFSET;
+    private static final long EPOCH_OFFSET;
+    private static final int WAITERS_ARRAY_BASE;
+    private static final int WAITERS_SHIFT_FOR_SCALE;
+
+    static
+    {
+        try
+        {
+            WAITER_COUNT_OFFSET = UnsafeApi.objectFieldOffset(ParkingSignal.class.getDeclaredField("waiterCount"));
+            EPOCH_OFFSET = UnsafeApi.objectFieldOffset(ParkingSignal.class.getDeclaredField("epoch"));
+            WAITERS_ARRAY_BASE = UnsafeApi.arrayBaseOffset(Thread[].class);
+            WAITERS_SHIFT_FOR_SCALE = BitUtil.calculateShiftForScale(UnsafeApi.arrayIndexScale(Thread[].class));
+        }
+        catch (final Exception ex)
+        {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private volatile int waiterCount;
+    private volatile long epoch;
+    private final Thread[] waiters;
+
+    /**
+     * Construct a signal for up to {@link #DEFAULT_MAX_WAITERS} waiting consumers.
+     */
+    public ParkingSignal()
+    {
+        this(DEFAULT_MAX_WAITERS);
+    }
+
+    /**
+     * Construct a signal for up to a maximum number of waiting consumers.
+     *
+     * @param maxWaiters which can be parked on the signal at the same time.
+     * @throws IllegalArgumentException if maxWaiters is less than 1.
+     */
+    public ParkingSignal(final int maxWaiters)
+    {
+        if (maxWaiters < 1)
+        {
+            throw new IllegalArgumentException("maxWaiters must be >= 1: maxWaiters=" + maxWaiters);
+        }
+
+        waiters = new Thread[maxWaiters];
+    }
+
+    /**
+     * Signal that work has been published and wake any waiting consumers. This should be called by a producer after
+     * the work has been made visible to consumers, e.g. after a successful {@link java.util.Queue#offer(Object)}.
+     */
+    public void signal()
+    {
+        UnsafeApi.fullFence(); // order the publication of work before the check for waiters
+
+        if (0 != waiterCount)
+        {
+            UnsafeApi.getAndAddLong(this, EPOCH_OFFSET, 1);
+
+            final Thread[] waiters = this.waiters;
+            for (int i = 0; i < waiters.length; i++)
+            {
+                final Thread thread = (Thread)UnsafeApi.getReferenceVolatile(waiters, waiterOffset(i));
+                if (null != thread)
+                {
+                    LockSupport.unpark(thread);
+                }
+            }
+        }
+    }
+
+    /**
+     * Register the current thread as a waiter for the signal. The caller should read the {@link #epoch()} then check
+     * for work once more before calling {@link #awaitSignal(long, long)}.
+     *
+     * @return the slot of the waiter to be passed to {@link #deregister(int)}, or {@link #NO_WAITER_SLOT} if the
+     * maximum number of waiters are registered.
+     */
+    public int register()
+    {
+        final Thread thread = Thread.currentThread();
+        final Thread[] waiters = this.waiters;
+
+        for (int i = 0; i < waiters.length; i++)
+        {
+            if (UnsafeApi.compareAndSetReference(waiters, waiterOffset(i), null, thread))
+            {
+                UnsafeApi.getAndAddInt(this, WAITER_COUNT_OFFSET, 1);
+                return i;
+            }
+        }
+
+        return NO_WAITER_SLOT;
+    }
+
+    /**
+     * Deregister a waiter so producers no longer need to wake it.
+     *
+     * @param slot returned from {@link #register()}.
+     */
+    public void deregister(final int slot)
+    {
+        UnsafeApi.putReferenceRelease(waiters, waiterOffset(slot), null);
+        UnsafeApi.getAndAddInt(this, WAITER_COUNT_OFFSET, -1);
+    }
+
+    /**
+     * The current epoch of the signal which is incremented each time waiters are signalled.
+     *
+     * @return the current epoch of the signal.
+     */
+    public long epoch()
+    {
+        return epoch;
+    }
+
+    /**
+     * Number of consumer threads currently registered as waiters.
+     *
+     * @return number of consumer threads currently registered as waiters.
+     */
+    public int waiterCount()
+    {
+        return waiterCount;
+    }
+
+    /**
+     * Park the current thread, which must be registered, if the signal has not moved on from a given epoch. The
+     * thread may return early on a signal, interrupt, or spuriously so the caller should check for work after
+     * return.
+     *
+     * @param epoch           of the signal read after registering and before the last check for work.
+     * @param maxParkPeriodNs for which the thread will park.
+     */
+    public void awaitSignal(final long epoch, final long maxParkPeriodNs)
+    {
+        if (epoch == this.epoch)
+        {
+            LockSupport.parkNanos(this, maxParkPeriodNs);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "ParkingSignal{" +
+            "maxWaiters=" + waiters.length +
+            ", waiterCount=" + waiterCount +
+            ", epoch=" + epoch +
+            '}';
+    }
+
+    private static long waiterOffset(final int slot)
+    {
+        return WAITERS_ARRAY_BASE + ((long)slot << WAITERS_SHIFT_FOR_SCALE);
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link QueuedPipe} which wraps another, such as a {@link ManyToOneConcurrentArrayQueue}, to
+ * {@link ParkingSignal#signal()} consumers after elements are added so consumers using a {@link ParkingIdleStrategy}
+ * can park when idle.
+ * <p>
+ * Consumers can poll and drain the wrapped queue directly as only adding elements signals.
+ *
+ * @param <E> type of the elements stored in the {@link java.util.Queue}.
+ */
+public class SignallingQueuedPipe<E> implements QueuedPipe<E>
+{
+    private final QueuedPipe<E> delegate;
+    private final ParkingSignal signal;
+
+    /**
+     * Wrap a {@link QueuedPipe} so that adding elements signals waiting consumers.
+     *
+     * @param delegate to which operations are delegated.
+     * @param signal   to signal after elements are added.
+     */
+    public SignallingQueuedPipe(final QueuedPipe<E> delegate, final ParkingSignal signal)
+    {
+        this.delegate = delegate;
+        this.signal = signal;
+    }
+
+    /**
+     * The wrapped {@link QueuedPipe}.
+     *
+     * @return the wrapped {@link QueuedPipe}.
+     */
+    public QueuedPipe<E> delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The signal on which consumers park.
+     *
+     * @return the signal on which consumers park.
+     */
+    public ParkingSignal signal()
+    {
+        return signal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean offer(final E e)
+    {
+        if (delegate.offer(e))
+        {
+            signal.signal();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean add(final E e)
+    {
+        delegate.add(e);
+        signal.signal();
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean addAll(final Collection<? extends E> c)
+    {
+        try
+        {
+            return delegate.addAll(c);
+        }
+        finally
+        {
+            signal.signal();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public E poll()
+    {
+        return delegate.poll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public E remove()
+    {
+        return delegate.remove();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public E peek()
+    {
+        return delegate.peek();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public E element()
+    {
+        return delegate.element();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long addedCount()
+    {
+        return delegate.addedCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long removedCount()
+    {
+        return delegate.removedCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int capacity()
+    {
+        return delegate.capacity();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int size()
+    {
+        return delegate.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int remainingCapacity()
+    {
+        return delegate.remainingCapacity();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int drain(final Consumer<E> elementConsumer)
+    {
+        return delegate.drain(elementConsumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int drain(final Consumer<E> elementConsumer, final int limit)
+    {
+        return delegate.drain(elementConsumer, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int drainTo(final Collection<? super E> target, final int limit)
+    {
+        return delegate.drainTo(target, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isEmpty()
+    {
+        return delegate.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean contains(final Object o)
+    {
+        return delegate.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Iterator<E> iterator()
+    {
+        return delegate.iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object[] toArray()
+    {
+        return delegate.toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> T[] toArray(final T[] a)
+    {
+        return delegate.toArray(a);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean remove(final Object o)
+    {
+        return delegate.remove(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean containsAll(final Collection<?> c)
+    {
+        return delegate.containsAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean removeAll(final Collection<?> c)
+    {
+        return delegate.removeAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean retainAll(final Collection<?> c)
+    {
+        return delegate.retainAll(c);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void clear()
+    {
+        delegate.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "SignallingQueuedPipe{" +
+            "delegate=" + delegate +
+            ", signal=" + signal +
+            '}';
+    }
+}
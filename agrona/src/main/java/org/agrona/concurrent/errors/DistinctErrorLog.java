@@ -23,11 +23,14 @@ import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.BitUtil.align;
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
 
 /**
  * Distinct record of error observations. Rather than grow a record indefinitely when many errors of the same type
@@ -37,7 +40,8 @@ import static org.agrona.BitUtil.align;
  * The provided {@link AtomicBuffer} can wrap a memory-mapped file so logging can be out of process. This provides
  * the benefit that if a crash or lockup occurs then the log can be read externally without loss of data.
  * <p>
- * <b>Note:</b> This class is threadsafe to be used from multiple logging threads.
+ * <b>Note:</b> This class is threadsafe to be used from multiple logging threads and is lock-free apart from
+ * threads which concurrently make the first observation of the same error waiting for it to be recorded.
  * <p>
  * The error records are recorded to the memory mapped buffer in the following format.
  * <pre>
@@ -91,13 +95,20 @@ public class DistinctErrorLog
      */
     public static final int RECORD_ALIGNMENT = SIZE_OF_LONG;
 
-    private static final DistinctObservation INSUFFICIENT_SPACE = new DistinctObservation(null, 0);
+    private static final int MIN_BUCKET_COUNT = 16;
+    private static final int MAX_BUCKET_COUNT = 4096;
+    private static final int MAX_HASHED_CAUSE_DEPTH = 8;
+    private static final int PENDING = -1;
+    private static final int INSUFFICIENT_SPACE = -2;
+    private static final AtomicIntegerFieldUpdater<DistinctErrorLog> NEXT_OFFSET_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(DistinctErrorLog.class, "nextOffset");
 
-    private int nextOffset = 0;
+    private volatile int nextOffset = 0;
+    private final int bucketMask;
     private final EpochClock clock;
     private final AtomicBuffer buffer;
     private final Charset charset;
-    private DistinctObservation[] distinctObservations = new DistinctObservation[0];
+    private final AtomicReferenceArray<DistinctObservation> distinctObservations;
 
     /**
      * Create a new error log that will be written to a provided {@link AtomicBuffer}.
@@ -125,6 +136,11 @@ public class DistinctErrorLog
         this.clock = clock;
         this.buffer = buffer;
         this.charset = charset;
+
+        final int bucketCount = Math.min(
+            MAX_BUCKET_COUNT, findNextPositivePowerOfTwo(Math.max(MIN_BUCKET_COUNT, buffer.capacity() >> 10)));
+        bucketMask = bucketCount - 1;
+        distinctObservations = new AtomicReferenceArray<>(bucketCount);
     }
 
     /**
@@ -151,52 +167,111 @@ public class DistinctErrorLog
      * Record an observation of an error. If it is the first observation of this error type for a stack trace
      * then a new entry will be created. For subsequent observations of the same error type and stack trace a
      * counter and time of last observation will be updated.
+     * <p>
+     * Observations are found via a lock-free index keyed by a hash of the error type, message, and stack trace so a
+     * repeat observation only costs the hash, a comparison, and atomic updates of the count and timestamp.
      *
      * @param observation to be logged as an error observation.
      * @return true if successfully logged otherwise false if insufficient space remaining in the log.
      */
     public boolean record(final Throwable observation)
     {
-        final long timestampMs;
-        DistinctObservation distinctObservation;
-
-        timestampMs = clock.time();
-        synchronized (this)
+        final long timestampMs = clock.time();
+        if (0 == nextOffset && ENCODED_ERROR_OFFSET >= buffer.capacity())
         {
-            distinctObservation = find(distinctObservations, observation);
+            return false;
+        }
+
+        final int hash = hash(observation);
+        final int bucketIndex = hash & bucketMask;
+        final DistinctObservation head = distinctObservations.get(bucketIndex);
+        DistinctObservation distinctObservation = find(head, null, hash, observation);
 
+        if (null == distinctObservation)
+        {
+            distinctObservation = newObservation(timestampMs, observation, hash, bucketIndex, head);
             if (null == distinctObservation)
             {
-                distinctObservation = newObservation(timestampMs, observation);
-                if (INSUFFICIENT_SPACE == distinctObservation)
-                {
-                    return false;
-                }
+                return false;
             }
         }
 
-        final int offset = distinctObservation.offset;
+        int offset = distinctObservation.offset;
+        while (PENDING == offset)
+        {
+            Thread.onSpinWait();
+            offset = distinctObservation.offset;
+        }
+
+        if (INSUFFICIENT_SPACE == offset)
+        {
+            return false;
+        }
+
         buffer.getAndAddInt(offset + OBSERVATION_COUNT_OFFSET, 1);
         buffer.putLongRelease(offset + LAST_OBSERVATION_TIMESTAMP_OFFSET, timestampMs);
 
         return true;
     }
 
+    /**
+     * Count the distinct observations which are retained for finding repeat observations.
+     *
+     * @return the number of distinct observations which are retained.
+     */
+    int distinctObservationCount()
+    {
+        int count = 0;
+        for (int i = 0, length = distinctObservations.length(); i < length; i++)
+        {
+            for (DistinctObservation o = distinctObservations.get(i); null != o; o = o.next)
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
     private static DistinctObservation find(
-        final DistinctObservation[] existingObservations, final Throwable observation)
+        final DistinctObservation head,
+        final DistinctObservation searchedHead,
+        final int hash,
+        final Throwable observation)
     {
-        DistinctObservation existingObservation = null;
+        for (DistinctObservation o = head; o != searchedHead; o = o.next)
+        {
+            final Throwable throwable = o.throwable;
+            if (hash == o.hash && null != throwable && equals(throwable, observation))
+            {
+                return o;
+            }
+        }
 
-        for (final DistinctObservation o : existingObservations)
+        return null;
+    }
+
+    private static int hash(final Throwable observation)
+    {
+        int hash = 0;
+        Throwable throwable = observation;
+
+        for (int depth = 0; null != throwable && depth < MAX_HASHED_CAUSE_DEPTH; depth++)
         {
-            if (equals(o.throwable, observation))
+            hash = (31 * hash) + throwable.getClass().hashCode();
+            hash = (31 * hash) + Objects.hashCode(throwable.getMessage());
+
+            for (final StackTraceElement element : throwable.getStackTrace())
             {
-                existingObservation = o;
-                break;
+                hash = (31 * hash) + element.getClassName().hashCode();
+                hash = (31 * hash) + Objects.hashCode(element.getMethodName());
+                hash = (31 * hash) + element.getLineNumber();
             }
+
+            throwable = throwable.getCause();
         }
 
-        return existingObservation;
+        return hash ^ (hash >>> 16);
     }
 
     @SuppressWarnings("FinalParameters")
@@ -254,12 +329,28 @@ public class DistinctErrorLog
         return true;
     }
 
-    private DistinctObservation newObservation(final long timestampMs, final Throwable observation)
+    /**
+     * Encode and publish a new observation unless another thread publishes the same observation first. The encoded
+     * length is checked against the remaining space before publishing so that nothing is retained when the log is
+     * full, and an observation which then loses the race for the remaining space is unlinked again.
+     *
+     * @param timestampMs of the observation.
+     * @param observation to be encoded.
+     * @param hash        of the observation.
+     * @param bucketIndex of the chain for the hash.
+     * @param head        of the chain which has been searched for the observation.
+     * @return the published or found observation, or null if there is insufficient space for it.
+     */
+    private DistinctObservation newObservation(
+        final long timestampMs,
+        final Throwable observation,
+        final int hash,
+        final int bucketIndex,
+        final DistinctObservation head)
     {
-        final int offset = nextOffset;
-        if ((offset + ENCODED_ERROR_OFFSET) >= buffer.capacity())
+        if ((nextOffset + ENCODED_ERROR_OFFSET) >= buffer.capacity())
         {
-            return INSUFFICIENT_SPACE;
+            return null;
         }
 
         final StringWriter stringWriter = new StringWriter();
@@ -267,44 +358,85 @@ public class DistinctErrorLog
         final byte[] encodedError = stringWriter.toString().getBytes(charset);
 
         final int length = ENCODED_ERROR_OFFSET + encodedError.length;
-
-        if ((offset + length) > buffer.capacity())
+        if ((nextOffset + length) > buffer.capacity())
         {
-            return INSUFFICIENT_SPACE;
+            return null;
         }
 
-        buffer.putBytes(offset + ENCODED_ERROR_OFFSET, encodedError);
-        buffer.putLong(offset + FIRST_OBSERVATION_TIMESTAMP_OFFSET, timestampMs);
-        nextOffset = align(offset + length, RECORD_ALIGNMENT);
+        final AtomicReferenceArray<DistinctObservation> distinctObservations = this.distinctObservations;
+        DistinctObservation searchedHead = head;
+        DistinctObservation expectedHead = head;
+
+        while (true)
+        {
+            final DistinctObservation newObservation = new DistinctObservation(observation, hash, expectedHead);
+            if (distinctObservations.compareAndSet(bucketIndex, expectedHead, newObservation))
+            {
+                final int offset = reserve(length);
+                if (INSUFFICIENT_SPACE == offset)
+                {
+                    discard(bucketIndex, newObservation);
+                    return null;
+                }
 
-        final DistinctObservation distinctObservation = new DistinctObservation(observation, offset);
-        distinctObservations = prepend(distinctObservations, distinctObservation);
-        buffer.putIntRelease(offset + LENGTH_OFFSET, length);
+                buffer.putBytes(offset + ENCODED_ERROR_OFFSET, encodedError);
+                buffer.putLong(offset + FIRST_OBSERVATION_TIMESTAMP_OFFSET, timestampMs);
+                buffer.putIntRelease(offset + LENGTH_OFFSET, length);
+                newObservation.offset = offset;
 
-        return distinctObservation;
+                return newObservation;
+            }
+
+            expectedHead = distinctObservations.get(bucketIndex);
+            final DistinctObservation existingObservation = find(expectedHead, searchedHead, hash, observation);
+            if (null != existingObservation)
+            {
+                return existingObservation;
+            }
+
+            searchedHead = expectedHead;
+        }
     }
 
-    private static DistinctObservation[] prepend(
-        final DistinctObservation[] observations, final DistinctObservation observation)
+    private void discard(final int bucketIndex, final DistinctObservation observation)
     {
-        final int length = observations.length;
-        final DistinctObservation[] newObservations = new DistinctObservation[length + 1];
+        observation.offset = INSUFFICIENT_SPACE;
+        if (!distinctObservations.compareAndSet(bucketIndex, observation, observation.next))
+        {
+            observation.throwable = null;
+        }
+    }
+
+    private int reserve(final int length)
+    {
+        final int capacity = buffer.capacity();
+        int offset;
 
-        newObservations[0] = observation;
-        System.arraycopy(observations, 0, newObservations, 1, length);
+        do
+        {
+            offset = nextOffset;
+            if ((offset + length) > capacity)
+            {
+                return INSUFFICIENT_SPACE;
+            }
+        }
+        while (!NEXT_OFFSET_UPDATER.compareAndSet(this, offset, align(offset + length, RECORD_ALIGNMENT)));
 
-        return newObservations;
+        return offset;
     }
 
     static final class DistinctObservation
     {
-        final Throwable throwable;
-        final int offset;
+        Throwable throwable;
+        final int hash;
+        final DistinctObservation next;
+        volatile int offset = PENDING;
 
-        DistinctObservation(final Throwable throwable, final int offset)
+        DistinctObservation(final Throwable throwable, final int hash, final DistinctObservation next)
         {
             this.throwable = throwable;
-            this.offset = offset;
+            this.hash = hash;
+            this.next = next;
         }
     }
 }
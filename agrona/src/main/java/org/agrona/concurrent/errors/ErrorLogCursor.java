@@ -0,0 +1,196 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.errors;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.align;
+import static org.agrona.concurrent.errors.DistinctErrorLog.*;
+
+/**
+ * Cursor for incrementally reading the log created by a {@link DistinctErrorLog} so that each poll only reports the
+ * entries which are new or have had their observation count change since the previous poll.
+ * <p>
+ * The cursor remembers the offset of the end of the entries read so far and the observation count last reported for
+ * each entry so that only new entries are scanned and no encoded exception is decoded unless it is reported. Entries
+ * can be consumed without decoding via {@link #poll(EncodedErrorConsumer)}.
+ * <p>
+ * <b>Note:</b> This class is not threadsafe.
+ */
+public final class ErrorLogCursor
+{
+    private int endOffset = 0;
+    private final AtomicBuffer buffer;
+    private final IntArrayList entryOffsets = new IntArrayList();
+    private final IntArrayList reportedCounts = new IntArrayList();
+    private ErrorConsumer errorConsumer;
+    private final EncodedErrorConsumer decodingConsumer = this::onEncodedError;
+
+    /**
+     * Construct a cursor over a log which starts before the first entry.
+     *
+     * @param buffer containing the {@link DistinctErrorLog}.
+     */
+    public ErrorLogCursor(final AtomicBuffer buffer)
+    {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Buffer containing the {@link DistinctErrorLog}.
+     *
+     * @return buffer containing the {@link DistinctErrorLog}.
+     */
+    public AtomicBuffer buffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * Number of entries which have been read from the log.
+     *
+     * @return number of entries which have been read from the log.
+     */
+    public int entryCount()
+    {
+        return entryOffsets.size();
+    }
+
+    /**
+     * Reset the cursor so the next poll reports all the entries in the log.
+     */
+    public void reset()
+    {
+        endOffset = 0;
+        entryOffsets.clear();
+        reportedCounts.clear();
+    }
+
+    /**
+     * Poll the log for entries which are new or have had their observation count change since the last poll and
+     * decode the encoded exception of each into a {@link String}.
+     *
+     * @param consumer to be called for each new or changed entry.
+     * @return the number of entries reported.
+     */
+    public int poll(final ErrorConsumer consumer)
+    {
+        errorConsumer = consumer;
+        try
+        {
+            return poll(decodingConsumer);
+        }
+        finally
+        {
+            errorConsumer = null;
+        }
+    }
+
+    /**
+     * Poll the log for entries which are new or have had their observation count change since the last poll without
+     * decoding the encoded exceptions.
+     *
+     * @param consumer to be called for each new or changed entry.
+     * @return the number of entries reported.
+     */
+    public int poll(final EncodedErrorConsumer consumer)
+    {
+        final AtomicBuffer buffer = this.buffer;
+        final IntArrayList entryOffsets = this.entryOffsets;
+        final IntArrayList reportedCounts = this.reportedCounts;
+        int entries = 0;
+
+        for (int i = 0, size = entryOffsets.size(); i < size; i++)
+        {
+            final int offset = entryOffsets.getInt(i);
+            final int observationCount = buffer.getIntVolatile(offset + OBSERVATION_COUNT_OFFSET);
+            if (observationCount != reportedCounts.getInt(i))
+            {
+                reportedCounts.setInt(i, observationCount);
+                report(consumer, offset, observationCount);
+                ++entries;
+            }
+        }
+
+        final int capacity = buffer.capacity();
+        int offset = endOffset;
+        while (offset <= capacity - ENCODED_ERROR_OFFSET)
+        {
+            final int length = Math.min(buffer.getIntVolatile(offset + LENGTH_OFFSET), capacity - offset);
+            if (length <= 0)
+            {
+                break;
+            }
+
+            final int observationCount = buffer.getIntVolatile(offset + OBSERVATION_COUNT_OFFSET);
+            entryOffsets.addInt(offset);
+            reportedCounts.addInt(observationCount);
+
+            if (0 != observationCount)
+            {
+                report(consumer, offset, observationCount);
+                ++entries;
+            }
+
+            offset += align(length, RECORD_ALIGNMENT);
+        }
+        endOffset = offset;
+
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "ErrorLogCursor{" +
+            "endOffset=" + endOffset +
+            ", entryCount=" + entryCount() +
+            '}';
+    }
+
+    private void report(final EncodedErrorConsumer consumer, final int offset, final int observationCount)
+    {
+        final AtomicBuffer buffer = this.buffer;
+        final int length = Math.min(buffer.getInt(offset + LENGTH_OFFSET), buffer.capacity() - offset);
+
+        consumer.accept(
+            observationCount,
+            buffer.getLong(offset + FIRST_OBSERVATION_TIMESTAMP_OFFSET),
+            buffer.getLongVolatile(offset + LAST_OBSERVATION_TIMESTAMP_OFFSET),
+            buffer,
+            offset + ENCODED_ERROR_OFFSET,
+            length - ENCODED_ERROR_OFFSET);
+    }
+
+    private void onEncodedError(
+        final int observationCount,
+        final long firstObservationTimestamp,
+        final long lastObservationTimestamp,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length)
+    {
+        errorConsumer.accept(
+            observationCount,
+            firstObservationTimestamp,
+            lastObservationTimestamp,
+            buffer.getStringWithoutLengthUtf8(offset, length));
+    }
+}
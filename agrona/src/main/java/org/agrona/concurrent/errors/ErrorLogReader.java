@@ -25,6 +25,8 @@ import static org.agrona.concurrent.errors.DistinctErrorLog.*;
  * Reader for the log created by a {@link DistinctErrorLog} encoded as UTF-8 errors.
  * <p>
  * The read methods are thread safe.
+ *
+ * @see ErrorLogCursor for incrementally reading only the new or changed entries.
  */
 public final class ErrorLogReader
 {
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.errors;
+
+import org.agrona.BitUtil;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.EpochClock;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An {@link ErrorHandler} which counts every error with an {@link AtomicCounter} but only delegates a sample of
+ * repeated errors, such as to a {@link LoggingErrorHandler} for a {@link DistinctErrorLog}, so that an error storm
+ * does not cost a full record for each error.
+ * <p>
+ * Errors are grouped by call site which is identified by the same instance or the same type, message, and throwing
+ * frame, i.e. the class, method, and line of the top of the stack trace, so that the full stack trace of a repeated
+ * error is not compared. The first error for a call site is delegated and then at most one error per sample interval.
+ * <p>
+ * Call sites are tracked in a fixed number of slots indexed by type and message, with up to
+ * {@link #MAX_PROBE_SLOTS} adjacent slots for call sites with the same type and message, so call sites which collide
+ * beyond that replace each other and are delegated when they do. A rethrown instance is matched by identity without
+ * reading its stack trace. Any other error costs a {@link Throwable#getStackTrace()}, which copies the stack trace,
+ * to find its throwing frame.
+ * <p>
+ * <b>Note:</b> Errors thrown from the same frame with the same type and message are sampled together even when they
+ * are reached from different callers.
+ */
+public class RateLimitedErrorHandler implements ErrorHandler, AutoCloseable
+{
+    /**
+     * Default number of slots for tracking call sites.
+     */
+    public static final int DEFAULT_CALL_SITE_SLOT_COUNT = 256;
+
+    /**
+     * Maximum number of adjacent slots searched for a call site.
+     */
+    public static final int MAX_PROBE_SLOTS = 4;
+
+    private volatile boolean isClosed;
+    private final int slotMask;
+    private final int probeSlots;
+    private final long sampleIntervalMs;
+    private final ErrorHandler errorHandler;
+    private final AtomicCounter errorCounter;
+    private final EpochClock clock;
+    private final AtomicReferenceArray<CallSite> callSites;
+
+    /**
+     * Construct a rate limited error handler with {@link #DEFAULT_CALL_SITE_SLOT_COUNT} call site slots.
+     *
+     * @param errorHandler     to delegate a sample of errors to.
+     * @param errorCounter     to increment for every error.
+     * @param clock            for the time of errors.
+     * @param sampleIntervalMs minimum interval between delegating errors from the same call site.
+     */
+    public RateLimitedErrorHandler(
+        final ErrorHandler errorHandler,
+        final AtomicCounter errorCounter,
+        final EpochClock clock,
+        final long sampleIntervalMs)
+    {
+        this(errorHandler, errorCounter, clock, sampleIntervalMs, DEFAULT_CALL_SITE_SLOT_COUNT);
+    }
+
+    /**
+     * Construct a rate limited error handler.
+     *
+     * @param errorHandler     to delegate a sample of errors to.
+     * @param errorCounter     to increment for every error.
+     * @param clock            for the time of errors.
+     * @param sampleIntervalMs minimum interval between delegating errors from the same call site.
+     * @param callSiteSlots    number of slots for tracking call sites which must be a power of 2.
+     * @throws IllegalArgumentException if the sample interval is negative or the slots are not a power of 2.
+     */
+    public RateLimitedErrorHandler(
+        final ErrorHandler errorHandler,
+        final AtomicCounter errorCounter,
+        final EpochClock clock,
+        final long sampleIntervalMs,
+        final int callSiteSlots)
+    {
+        Objects.requireNonNull(errorHandler, "errorHandler");
+        Objects.requireNonNull(errorCounter, "errorCounter");
+        Objects.requireNonNull(clock, "clock");
+
+        if (sampleIntervalMs < 0)
+        {
+            throw new IllegalArgumentException("sampleIntervalMs must not be negative: sampleIntervalMs=" +
+                sampleIntervalMs);
+        }
+
+        if (!BitUtil.isPowerOfTwo(callSiteSlots))
+        {
+            throw new IllegalArgumentException(
+                "callSiteSlots must be a positive power of 2: callSiteSlots=" + callSiteSlots);
+        }
+
+        this.errorHandler = errorHandler;
+        this.errorCounter = errorCounter;
+        this.clock = clock;
+        this.sampleIntervalMs = sampleIntervalMs;
+        slotMask = callSiteSlots - 1;
+        probeSlots = Math.min(MAX_PROBE_SLOTS, callSiteSlots);
+        callSites = new AtomicReferenceArray<>(callSiteSlots);
+    }
+
+    /**
+     * Close so that {@link #onError(Throwable)} will not delegate and instead print to {@link System#err}.
+     */
+    public void close()
+    {
+        isClosed = true;
+    }
+
+    /**
+     * Has this instance been closed.
+     *
+     * @return true if {@link #close()} has previously been called, otherwise false.
+     */
+    public boolean isClosed()
+    {
+        return isClosed;
+    }
+
+    /**
+     * Minimum interval between delegating errors from the same call site.
+     *
+     * @return minimum interval between delegating errors from the same call site.
+     */
+    public long sampleIntervalMs()
+    {
+        return sampleIntervalMs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onError(final Throwable throwable)
+    {
+        if (isClosed)
+        {
+            throwable.printStackTrace(System.err);
+        }
+        else
+        {
+            if (!errorCounter.isClosed())
+            {
+                errorCounter.increment();
+            }
+
+            if (shouldSample(throwable))
+            {
+                errorHandler.onError(throwable);
+            }
+        }
+    }
+
+    private boolean shouldSample(final Throwable throwable)
+    {
+        final long nowMs = clock.time();
+        final Class<?> type = throwable.getClass();
+        final String message = throwable.getMessage();
+        final int hash = (31 * type.hashCode()) + Objects.hashCode(message);
+        final int index = (hash ^ (hash >>> 16)) & slotMask;
+        final AtomicReferenceArray<CallSite> callSites = this.callSites;
+
+        for (int i = 0; i < probeSlots; i++)
+        {
+            final CallSite callSite = callSites.get((index + i) & slotMask);
+            if (null != callSite && throwable == callSite.throwable)
+            {
+                return callSite.sample(nowMs, sampleIntervalMs);
+            }
+        }
+
+        final StackTraceElement[] stackTrace = throwable.getStackTrace();
+        final StackTraceElement frame = stackTrace.length > 0 ? stackTrace[0] : null;
+
+        while (true)
+        {
+            int emptyIndex = -1;
+            CallSite homeCallSite = null;
+
+            for (int i = 0; i < probeSlots; i++)
+            {
+                final int slotIndex = (index + i) & slotMask;
+                final CallSite callSite = callSites.get(slotIndex);
+                if (null == callSite)
+                {
+                    emptyIndex = slotIndex;
+                    break;
+                }
+
+                if (callSite.matches(throwable, type, message, frame))
+                {
+                    return callSite.sample(nowMs, sampleIntervalMs);
+                }
+
+                if (0 == i)
+                {
+                    homeCallSite = callSite;
+                }
+            }
+
+            final int replaceIndex = -1 != emptyIndex ? emptyIndex : index;
+            final CallSite replaced = -1 != emptyIndex ? null : homeCallSite;
+            if (callSites.compareAndSet(replaceIndex, replaced, new CallSite(throwable, type, message, frame, nowMs)))
+            {
+                return true;
+            }
+        }
+    }
+
+    static final class CallSite
+    {
+        static final AtomicLongFieldUpdater<CallSite> LAST_SAMPLE_MS_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(CallSite.class, "lastSampleMs");
+
+        final Throwable throwable;
+        final Class<?> type;
+        final String message;
+        final String frameClassName;
+        final String frameMethodName;
+        final int frameLineNumber;
+        volatile long lastSampleMs;
+
+        CallSite(
+            final Throwable throwable,
+            final Class<?> type,
+            final String message,
+            final StackTraceElement frame,
+            final long lastSampleMs)
+        {
+            this.throwable = throwable;
+            this.type = type;
+            this.message = message;
+            frameClassName = null != frame ? frame.getClassName() : null;
+            frameMethodName = null != frame ? frame.getMethodName() : null;
+            frameLineNumber = null != frame ? frame.getLineNumber() : 0;
+            this.lastSampleMs = lastSampleMs;
+        }
+
+        boolean matches(
+            final Throwable throwable, final Class<?> type, final String message, final StackTraceElement frame)
+        {
+            return throwable == this.throwable ||
+                (type == this.type && Objects.equals(message, this.message) && matchesFrame(frame));
+        }
+
+        boolean sample(final long nowMs, final long sampleIntervalMs)
+        {
+            final long lastSampleMs = this.lastSampleMs;
+
+            return (nowMs - lastSampleMs) >= sampleIntervalMs &&
+                LAST_SAMPLE_MS_UPDATER.compareAndSet(this, lastSampleMs, nowMs);
+        }
+
+        private boolean matchesFrame(final StackTraceElement frame)
+        {
+            if (null == frame)
+            {
+                return null == frameClassName;
+            }
+
+            return frame.getLineNumber() == frameLineNumber &&
+                frame.getMethodName().equals(frameMethodName) &&
+                frame.getClassName().equals(frameClassName);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.align;
+import static org.agrona.concurrent.ringbuffer.RecordDescriptor.*;
+import static org.agrona.concurrent.ringbuffer.RingBuffer.INSUFFICIENT_CAPACITY;
+import static org.agrona.concurrent.ringbuffer.RingBuffer.PADDING_MSG_TYPE_ID;
+
+/**
+ * Flyweight over a block of space claimed in a {@link RingBuffer} via
+ * {@link RingBuffer#tryClaimBatch(BatchClaim, int)} into which many messages can be written and then made available to
+ * the consumer as a group.
+ * <p>
+ * The block is claimed with a single update of the producer position so the cost of contention between producers is
+ * paid once per batch rather than once per message. Each message in the batch is framed with the normal
+ * {@link RecordDescriptor} header so the consumer reads individual messages as it would for {@link RingBuffer#write}.
+ * <p>
+ * The consumer will not be able to consume past the batch until it is either committed or aborted.
+ * Any unused space at the end of the batch is turned into padding on {@link #commit()}.
+ * <p>
+ * An example of using a {@code BatchClaim}:
+ * <pre>
+ * {@code
+ *     final BatchClaim batchClaim = new BatchClaim(); // reuse for each batch
+ *
+ *     if (ringBuffer.tryClaimBatch(batchClaim, batchLength))
+ *     {
+ *         try
+ *         {
+ *             for (...)
+ *             {
+ *                 batchClaim.write(msgTypeId, srcBuffer, offset, length);
+ *             }
+ *
+ *             batchClaim.commit();
+ *         }
+ *         catch (final Exception ex)
+ *         {
+ *             batchClaim.abort(); // allow consumer to proceed
+ *             ...
+ *         }
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * <b>Note:</b> This class is not threadsafe and should be reused by a single producer.
+ */
+public final class BatchClaim
+{
+    private AtomicBuffer buffer;
+    private int batchIndex;
+    private int limit;
+    private int position;
+    private int firstRecordLength;
+    private int messageCount;
+
+    /**
+     * Compute the length of batch, including record headers and alignment, required to hold a number of messages
+     * each of the given length.
+     *
+     * @param messageCount  number of messages in the batch.
+     * @param messageLength length of each encoded message in bytes.
+     * @return length of batch required to hold the messages.
+     */
+    public static int batchLength(final int messageCount, final int messageLength)
+    {
+        return messageCount * align(messageLength + HEADER_LENGTH, ALIGNMENT);
+    }
+
+    /**
+     * Is the claim currently active, i.e. claimed and not yet committed or aborted.
+     *
+     * @return true if the claim is active.
+     */
+    public boolean isActive()
+    {
+        return null != buffer;
+    }
+
+    /**
+     * The underlying buffer into which messages in the batch are written.
+     *
+     * @return the underlying buffer into which messages in the batch are written.
+     */
+    public AtomicBuffer buffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * Number of messages claimed in the current batch.
+     *
+     * @return number of messages claimed in the current batch.
+     */
+    public int messageCount()
+    {
+        return messageCount;
+    }
+
+    /**
+     * Space in bytes remaining in the batch including space required for record headers.
+     *
+     * @return space in bytes remaining in the batch including space required for record headers.
+     */
+    public int remaining()
+    {
+        return limit - position;
+    }
+
+    /**
+     * Claim space for the next message in the batch into which a message can be encoded with zero copy semantics.
+     * The message will become available to the consumer when the batch is committed.
+     *
+     * @param msgTypeId type of the message encoding.
+     * @param length    of the encoded message in bytes.
+     * @return index in {@link #buffer()} at which the message should be encoded, or
+     * {@link RingBuffer#INSUFFICIENT_CAPACITY} if there is not enough space remaining in the batch.
+     * @throws IllegalStateException    if the claim is not active.
+     * @throws IllegalArgumentException if the {@code msgTypeId} is less than {@code 1}.
+     * @throws IllegalArgumentException if the {@code length} is negative.
+     */
+    public int tryClaim(final int msgTypeId, final int length)
+    {
+        checkActive();
+        checkTypeId(msgTypeId);
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("invalid message length=" + length);
+        }
+
+        final int recordIndex = position;
+        if (length > (limit - recordIndex - HEADER_LENGTH))
+        {
+            return INSUFFICIENT_CAPACITY;
+        }
+
+        final AtomicBuffer buffer = this.buffer;
+        final int recordLength = length + HEADER_LENGTH;
+
+        buffer.putInt(typeOffset(recordIndex), msgTypeId);
+        if (recordIndex == batchIndex)
+        {
+            firstRecordLength = recordLength;
+        }
+        else
+        {
+            buffer.putInt(lengthOffset(recordIndex), recordLength);
+        }
+
+        position = recordIndex + align(recordLength, ALIGNMENT);
+        messageCount++;
+
+        return encodedMsgOffset(recordIndex);
+    }
+
+    /**
+     * Copy a message into the next space in the batch. The message will become available to the consumer when the
+     * batch is committed.
+     *
+     * @param msgTypeId type of the message encoding.
+     * @param srcBuffer containing the encoded binary message.
+     * @param offset    at which the encoded message begins.
+     * @param length    of the encoded message in bytes.
+     * @return true if written to the batch, or false if insufficient space remains.
+     * @throws IllegalStateException    if the claim is not active.
+     * @throws IllegalArgumentException if the {@code msgTypeId} is less than {@code 1}.
+     * @throws IllegalArgumentException if the {@code length} is negative.
+     */
+    public boolean write(final int msgTypeId, final DirectBuffer srcBuffer, final int offset, final int length)
+    {
+        final int index = tryClaim(msgTypeId, length);
+        if (INSUFFICIENT_CAPACITY == index)
+        {
+            return false;
+        }
+
+        buffer.putBytes(index, srcBuffer, offset, length);
+
+        return true;
+    }
+
+    /**
+     * Commit the messages written into the batch thus making them available to the consumer. Any unused space at
+     * the end of the batch is turned into padding.
+     *
+     * @throws IllegalStateException if the claim is not active.
+     */
+    public void commit()
+    {
+        checkActive();
+
+        final AtomicBuffer buffer = this.buffer;
+        if (0 == messageCount)
+        {
+            buffer.putIntRelease(lengthOffset(batchIndex), limit - batchIndex);
+        }
+        else
+        {
+            final int paddingIndex = position;
+            final int paddingLength = limit - paddingIndex;
+            if (paddingLength > 0)
+            {
+                buffer.putInt(typeOffset(paddingIndex), PADDING_MSG_TYPE_ID);
+                buffer.putInt(lengthOffset(paddingIndex), paddingLength);
+            }
+
+            buffer.putIntRelease(lengthOffset(batchIndex), firstRecordLength);
+        }
+
+        reset();
+    }
+
+    /**
+     * Abort the batch and allow the consumer to proceed after the claimed space. All messages written into the batch
+     * are discarded by turning the whole batch into padding.
+     *
+     * @throws IllegalStateException if the claim is not active.
+     */
+    public void abort()
+    {
+        checkActive();
+
+        buffer.putInt(typeOffset(batchIndex), PADDING_MSG_TYPE_ID);
+        buffer.putIntRelease(lengthOffset(batchIndex), limit - batchIndex);
+
+        reset();
+    }
+
+    void wrap(final AtomicBuffer buffer, final int batchIndex, final int batchLength)
+    {
+        this.buffer = buffer;
+        this.batchIndex = batchIndex;
+        limit = batchIndex + batchLength;
+        position = batchIndex;
+        firstRecordLength = 0;
+        messageCount = 0;
+    }
+
+    private void reset()
+    {
+        buffer = null;
+        batchIndex = 0;
+        limit = 0;
+        position = 0;
+        firstRecordLength = 0;
+        messageCount = 0;
+    }
+
+    private void checkActive()
+    {
+        if (null == buffer)
+        {
+            throw new IllegalStateException("batch claim is not active");
+        }
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.ControlledMessageHandler;
+import org.agrona.concurrent.MessageHandler;
+
+import java.nio.ByteOrder;
+
+import static java.lang.Math.min;
+import static org.agrona.BufferUtil.NATIVE_BYTE_ORDER;
+import static org.agrona.BitUtil.align;
+import static org.agrona.concurrent.ringbuffer.RecordDescriptor.*;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.*;
+
+/**
+ * A ring-buffer that supports the exchange of messages from many producers to many consumers. Each message is
+ * delivered to only one of the consumers which makes it suitable for distributing work across a pool of threads or
+ * processes sharing the buffer, e.g. over a memory mapped file.
+ * <p>
+ * Producers claim space in the same way as for a {@link ManyToOneRingBuffer}. Consumers claim a contiguous run of
+ * records by advancing a consumer claim position, stored at {@link RingBufferDescriptor#CONSUMER_CLAIM_POSITION_OFFSET}
+ * in the trailer, then release the run once handled. The head position only advances over runs which have been
+ * released so producers can not overwrite records while they are being handled.
+ * <p>
+ * A consumer which stops between claiming and releasing records will block the head position and eventually the
+ * producers.
+ */
+public final class ManyToManyRingBuffer implements RingBuffer
+{
+    /**
+     * Minimal required capacity of the ring buffer excluding {@link RingBufferDescriptor#TRAILER_LENGTH}.
+     */
+    public static final int MIN_CAPACITY = HEADER_LENGTH;
+
+    private static final int RELEASED_TYPE_FLAG = 0x8000_0000;
+    private static final int RELEASED_POSITION_MASK = 0x3FFF_FFFF;
+
+    private final int capacity;
+    private final int headPositionIndex;
+    private final int tailPositionIndex;
+    private final int claimPositionIndex;
+    private final AtomicBuffer buffer;
+    private final ManyToOneRingBuffer producerRingBuffer;
+
+    /**
+     * Construct a new {@link RingBuffer} based on an underlying {@link AtomicBuffer}.
+     * The underlying buffer must a power of 2 in size plus sufficient space
+     * for the {@link RingBufferDescriptor#TRAILER_LENGTH}.
+     *
+     * @param buffer via which events will be exchanged.
+     * @throws IllegalArgumentException if the buffer capacity is not a power of 2 plus
+     *                                  {@link RingBufferDescriptor#TRAILER_LENGTH} or if capacity is less than
+     *                                  {@link #MIN_CAPACITY}.
+     */
+    public ManyToManyRingBuffer(final AtomicBuffer buffer)
+    {
+        producerRingBuffer = new ManyToOneRingBuffer(buffer);
+
+        this.buffer = buffer;
+        capacity = producerRingBuffer.capacity();
+        headPositionIndex = capacity + HEAD_POSITION_OFFSET;
+        tailPositionIndex = capacity + TAIL_POSITION_OFFSET;
+        claimPositionIndex = capacity + CONSUMER_CLAIM_POSITION_OFFSET;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int capacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean write(final int msgTypeId, final DirectBuffer srcBuffer, final int offset, final int length)
+    {
+        return producerRingBuffer.write(msgTypeId, srcBuffer, offset, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int tryClaim(final int msgTypeId, final int length)
+    {
+        return producerRingBuffer.tryClaim(msgTypeId, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void commit(final int index)
+    {
+        producerRingBuffer.commit(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void abort(final int index)
+    {
+        producerRingBuffer.abort(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean tryClaimBatch(final BatchClaim batchClaim, final int length)
+    {
+        return producerRingBuffer.tryClaimBatch(batchClaim, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int read(final MessageHandler handler)
+    {
+        return read(handler, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read as many messages as are available to end of the ring buffer to up a supplied maximum.
+     * <p>
+     * The messages are claimed as a run for this consumer before the handler is called so they will not be seen by
+     * other consumers. If the handler throws an exception then the remaining messages in the run are discarded.
+     *
+     * @param handler           to be called for processing each message in turn.
+     * @param messageCountLimit the number of messages will be read in a single invocation.
+     * @return the number of messages that have been processed.
+     */
+    public int read(final MessageHandler handler, final int messageCountLimit)
+    {
+        final AtomicBuffer buffer = this.buffer;
+        final int claimPositionIndex = this.claimPositionIndex;
+        final int capacity = this.capacity;
+
+        long claimPosition;
+        int claimIndex;
+        int bytesClaimed;
+
+        do
+        {
+            claimPosition = buffer.getLongVolatile(claimPositionIndex);
+            final long head = buffer.getLongVolatile(headPositionIndex);
+
+            claimIndex = (int)claimPosition & (capacity - 1);
+            final int maxBlockLength = min(capacity - claimIndex, (int)(head + capacity - claimPosition));
+            bytesClaimed = runLength(buffer, claimIndex, maxBlockLength, messageCountLimit);
+
+            if (0 == bytesClaimed)
+            {
+                return 0;
+            }
+        }
+        while (!buffer.compareAndSetLong(claimPositionIndex, claimPosition, claimPosition + bytesClaimed));
+
+        int messagesRead = 0;
+        int bytesRead = 0;
+
+        try
+        {
+            while (bytesRead < bytesClaimed)
+            {
+                final int recordIndex = claimIndex + bytesRead;
+                final int recordLength = buffer.getInt(lengthOffset(recordIndex));
+
+                bytesRead += align(recordLength, ALIGNMENT);
+
+                final int messageTypeId = buffer.getInt(typeOffset(recordIndex));
+                if (PADDING_MSG_TYPE_ID == messageTypeId)
+                {
+                    continue;
+                }
+
+                ++messagesRead;
+                handler.onMessage(messageTypeId, buffer, recordIndex + HEADER_LENGTH, recordLength - HEADER_LENGTH);
+            }
+        }
+        finally
+        {
+            release(buffer, claimPosition, bytesClaimed);
+        }
+
+        return messagesRead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int controlledRead(final ControlledMessageHandler handler)
+    {
+        return controlledRead(handler, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read messages, up to a supplied maximum, with the handler controlling how to progress after each message.
+     * <p>
+     * Each message is claimed, along with any padding before it, and released once handled so that on
+     * {@link ControlledMessageHandler.Action#BREAK} the following messages remain available to other consumers. As
+     * a message is released as soon as it is handled {@link ControlledMessageHandler.Action#COMMIT} progresses in the
+     * same way as {@link ControlledMessageHandler.Action#CONTINUE}.
+     * <p>
+     * {@link ControlledMessageHandler.Action#ABORT} is not supported as a claimed message can not be returned to the
+     * ring-buffer once other consumers may have claimed messages after it. The message is released and an
+     * {@link UnsupportedOperationException} is thrown. If the handler throws an exception then the message is
+     * released.
+     *
+     * @param handler           to be called for processing each message in turn which will return how to progress.
+     * @param messageCountLimit the number of messages will be read in a single invocation.
+     * @return the number of messages that have been processed.
+     * @throws UnsupportedOperationException if the handler returns {@link ControlledMessageHandler.Action#ABORT}.
+     */
+    public int controlledRead(final ControlledMessageHandler handler, final int messageCountLimit)
+    {
+        final AtomicBuffer buffer = this.buffer;
+        final int claimPositionIndex = this.claimPositionIndex;
+        final int capacity = this.capacity;
+        int messagesRead = 0;
+
+        while (messagesRead < messageCountLimit)
+        {
+            long claimPosition;
+            int claimIndex;
+            int bytesClaimed;
+
+            do
+            {
+                claimPosition = buffer.getLongVolatile(claimPositionIndex);
+                final long head = buffer.getLongVolatile(headPositionIndex);
+
+                claimIndex = (int)claimPosition & (capacity - 1);
+                final int maxBlockLength = min(capacity - claimIndex, (int)(head + capacity - claimPosition));
+                bytesClaimed = runLength(buffer, claimIndex, maxBlockLength, 1);
+
+                if (0 == bytesClaimed)
+                {
+                    return messagesRead;
+                }
+            }
+            while (!buffer.compareAndSetLong(claimPositionIndex, claimPosition, claimPosition + bytesClaimed));
+
+            ControlledMessageHandler.Action action = ControlledMessageHandler.Action.CONTINUE;
+            try
+            {
+                int bytesRead = 0;
+                while (bytesRead < bytesClaimed)
+                {
+                    final int recordIndex = claimIndex + bytesRead;
+                    final int recordLength = buffer.getInt(lengthOffset(recordIndex));
+
+                    bytesRead += align(recordLength, ALIGNMENT);
+
+                    final int messageTypeId = buffer.getInt(typeOffset(recordIndex));
+                    if (PADDING_MSG_TYPE_ID == messageTypeId)
+                    {
+                        continue;
+                    }
+
+                    ++messagesRead;
+                    action = handler.onMessage(
+                        messageTypeId, buffer, recordIndex + HEADER_LENGTH, recordLength - HEADER_LENGTH);
+                }
+            }
+            finally
+            {
+                release(buffer, claimPosition, bytesClaimed);
+            }
+
+            if (ControlledMessageHandler.Action.ABORT == action)
+            {
+                throw new UnsupportedOperationException("ABORT is not supported by ManyToManyRingBuffer");
+            }
+
+            if (ControlledMessageHandler.Action.BREAK == action)
+            {
+                break;
+            }
+        }
+
+        return messagesRead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int maxMsgLength()
+    {
+        return producerRingBuffer.maxMsgLength();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long nextCorrelationId()
+    {
+        return producerRingBuffer.nextCorrelationId();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public AtomicBuffer buffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void consumerHeartbeatTime(final long time)
+    {
+        producerRingBuffer.consumerHeartbeatTime(time);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long consumerHeartbeatTime()
+    {
+        return producerRingBuffer.consumerHeartbeatTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long producerPosition()
+    {
+        return producerRingBuffer.producerPosition();
+    }
+
+    /**
+     * The position in bytes from start up for the consumers which have released the messages they claimed.
+     * The figure includes the headers.
+     *
+     * @return the count of bytes consumed and released by the consumers.
+     */
+    public long consumerPosition()
+    {
+        return producerRingBuffer.consumerPosition();
+    }
+
+    /**
+     * The position in bytes from start up up to which consumers have claimed messages. The figure includes the
+     * headers. Messages between the {@link #consumerPosition()} and this position are in the act of being handled.
+     *
+     * @return the count of bytes claimed by the consumers.
+     */
+    public long consumerClaimPosition()
+    {
+        return buffer.getLongVolatile(claimPositionIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int size()
+    {
+        return producerRingBuffer.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean unblock()
+    {
+        final AtomicBuffer buffer = this.buffer;
+        final long claimPosition = buffer.getLongVolatile(claimPositionIndex);
+        final long tailPosition = buffer.getLongVolatile(tailPositionIndex);
+
+        if (claimPosition == tailPosition)
+        {
+            return false;
+        }
+
+        final int mask = capacity - 1;
+        final int consumerIndex = (int)(claimPosition & mask);
+        final int producerIndex = (int)(tailPosition & mask);
+
+        boolean unblocked = false;
+        int length = buffer.getIntVolatile(consumerIndex);
+        if (length < 0)
+        {
+            buffer.putInt(typeOffset(consumerIndex), PADDING_MSG_TYPE_ID);
+            buffer.putIntRelease(lengthOffset(consumerIndex), -length);
+            unblocked = true;
+        }
+        else if (0 == length)
+        {
+            // go from (consumerIndex to producerIndex) or (consumerIndex to capacity)
+            final int limit = producerIndex > consumerIndex ? producerIndex : capacity;
+            int i = consumerIndex + ALIGNMENT;
+
+            do
+            {
+                // read the top int of every long (looking for length aligned to 8=ALIGNMENT)
+                length = buffer.getIntVolatile(i);
+                if (0 != length)
+                {
+                    if (scanBackToConfirmStillZeroed(buffer, i, consumerIndex))
+                    {
+                        buffer.putInt(typeOffset(consumerIndex), PADDING_MSG_TYPE_ID);
+                        buffer.putIntRelease(lengthOffset(consumerIndex), i - consumerIndex);
+                        unblocked = true;
+                    }
+
+                    break;
+                }
+
+                i += ALIGNMENT;
+            }
+            while (i < limit);
+        }
+
+        return unblocked;
+    }
+
+    private static int runLength(
+        final AtomicBuffer buffer, final int claimIndex, final int maxBlockLength, final int messageCountLimit)
+    {
+        int messageCount = 0;
+        int runLength = 0;
+
+        while ((runLength < maxBlockLength) && (messageCount < messageCountLimit))
+        {
+            final int recordIndex = claimIndex + runLength;
+            final int recordLength = buffer.getIntVolatile(lengthOffset(recordIndex));
+            if (recordLength <= 0)
+            {
+                break;
+            }
+
+            runLength += align(recordLength, ALIGNMENT);
+
+            if (PADDING_MSG_TYPE_ID != buffer.getInt(typeOffset(recordIndex)))
+            {
+                ++messageCount;
+            }
+        }
+
+        return runLength;
+    }
+
+    private void release(final AtomicBuffer buffer, final long position, final int bytesClaimed)
+    {
+        final int mask = capacity - 1;
+        final int headPositionIndex = this.headPositionIndex;
+
+        buffer.putLongVolatile((int)position & mask, releasedRecordHeader(position, bytesClaimed));
+
+        while (true)
+        {
+            final long head = buffer.getLongVolatile(headPositionIndex);
+            final int headIndex = (int)head & mask;
+            final int releasedLength = -buffer.getIntVolatile(lengthOffset(headIndex));
+            if (releasedLength <= 0 ||
+                !buffer.compareAndSetLong(headIndex, releasedRecordHeader(head, releasedLength), 0L))
+            {
+                break;
+            }
+
+            buffer.setMemory(headIndex, releasedLength, (byte)0);
+            buffer.putLongVolatile(headPositionIndex, head + releasedLength);
+        }
+    }
+
+    // A released run has a header of the negated run length and a type of the flag plus its position in the upper
+    // bits. Producers never write a negative type other than padding, which has all bits set, so the header can not
+    // be mistaken for a record in a later lap of the buffer when compared and set as a whole.
+    private static long releasedRecordHeader(final long position, final int length)
+    {
+        final int lengthField = -length;
+        final int typeField = RELEASED_TYPE_FLAG | ((int)(position >>> 3) & RELEASED_POSITION_MASK);
+
+        return NATIVE_BYTE_ORDER == ByteOrder.LITTLE_ENDIAN ?
+            ((long)typeField << 32) | (lengthField & 0xFFFF_FFFFL) :
+            ((long)lengthField << 32) | (typeField & 0xFFFF_FFFFL);
+    }
+
+    private static boolean scanBackToConfirmStillZeroed(final AtomicBuffer buffer, final int from, final int limit)
+    {
+        int i = from - ALIGNMENT;
+        boolean allZeros = true;
+        while (i >= limit)
+        {
+            if (0 != buffer.getIntVolatile(i))
+            {
+                allZeros = false;
+                break;
+            }
+
+            i -= ALIGNMENT;
+        }
+
+        return allZeros;
+    }
+}
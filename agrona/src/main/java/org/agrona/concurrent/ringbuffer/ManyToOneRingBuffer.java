@@ -156,6 +156,34 @@ public final class ManyToOneRingBuffer implements RingBuffer
         buffer.putIntRelease(lengthOffset(recordIndex), -recordLength);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public boolean tryClaimBatch(final BatchClaim batchClaim, final int length)
+    {
+        checkBatchLength(length);
+        if (batchClaim.isActive())
+        {
+            throw new IllegalStateException("batch claim already active");
+        }
+
+        final AtomicBuffer buffer = this.buffer;
+        final int batchLength = align(length, ALIGNMENT);
+        final int batchIndex = claimCapacity(buffer, batchLength);
+
+        if (INSUFFICIENT_CAPACITY == batchIndex)
+        {
+            return false;
+        }
+
+        buffer.putIntRelease(lengthOffset(batchIndex), -batchLength);
+        VarHandle.releaseFence();
+        buffer.putInt(typeOffset(batchIndex), PADDING_MSG_TYPE_ID);
+        batchClaim.wrap(buffer, batchIndex, batchLength);
+
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -472,6 +500,19 @@ public final class ManyToOneRingBuffer implements RingBuffer
         }
     }
 
+    private void checkBatchLength(final int length)
+    {
+        if (length < HEADER_LENGTH)
+        {
+            throw new IllegalArgumentException("invalid batch length=" + length);
+        }
+        else if (length > maxMsgLength + HEADER_LENGTH)
+        {
+            throw new IllegalArgumentException(
+                "batch exceeds maxBatchLength=" + (maxMsgLength + HEADER_LENGTH) + ", length=" + length);
+        }
+    }
+
     private int claimCapacity(final AtomicBuffer buffer, final int recordLength)
     {
         final int requiredCapacity = align(recordLength, ALIGNMENT);
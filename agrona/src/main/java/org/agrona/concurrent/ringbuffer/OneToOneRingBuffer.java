@@ -159,6 +159,34 @@ public final class OneToOneRingBuffer implements RingBuffer
         buffer.putIntRelease(lengthOffset(recordIndex), -recordLength);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public boolean tryClaimBatch(final BatchClaim batchClaim, final int length)
+    {
+        checkBatchLength(length);
+        if (batchClaim.isActive())
+        {
+            throw new IllegalStateException("batch claim already active");
+        }
+
+        final AtomicBuffer buffer = this.buffer;
+        final int batchLength = align(length, ALIGNMENT);
+        final int batchIndex = claimCapacity(buffer, batchLength);
+
+        if (INSUFFICIENT_CAPACITY == batchIndex)
+        {
+            return false;
+        }
+
+        buffer.putIntRelease(lengthOffset(batchIndex), -batchLength);
+        VarHandle.releaseFence();
+        buffer.putInt(typeOffset(batchIndex), PADDING_MSG_TYPE_ID);
+        batchClaim.wrap(buffer, batchIndex, batchLength);
+
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -298,6 +326,79 @@ public final class OneToOneRingBuffer implements RingBuffer
         return messagesRead;
     }
 
+    /**
+     * Read as many messages as are available to the end of the ring buffer and hand them to the handler as a single
+     * contiguous run of records.
+     *
+     * @param handler to be called once with the run of records.
+     * @return the number of messages in the run.
+     * @see #readBatch(RecordBatchHandler, int)
+     */
+    public int readBatch(final RecordBatchHandler handler)
+    {
+        return readBatch(handler, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read messages up to a limit of available to the end of the ring buffer and hand them to the handler as a single
+     * contiguous run of records. This avoids a callback per message so the handler can walk the run in a tight loop.
+     * <p>
+     * The consumer position is advanced past the whole run once the handler returns, even if it throws an exception.
+     * If the ring buffer wraps or encounters a padding record at the end then the caller is expected to try again.
+     *
+     * @param handler           to be called once with the run of records.
+     * @param messageCountLimit the number of messages will be read in a single invocation.
+     * @return the number of messages in the run.
+     */
+    public int readBatch(final RecordBatchHandler handler, final int messageCountLimit)
+    {
+        int messageCount = 0;
+
+        final AtomicBuffer buffer = this.buffer;
+        final int headPositionIndex = this.headPositionIndex;
+        final long head = buffer.getLong(headPositionIndex);
+
+        int bytesRead = 0;
+
+        final int capacity = this.capacity;
+        final int headIndex = (int)head & (capacity - 1);
+        final int contiguousBlockLength = capacity - headIndex;
+
+        while ((bytesRead < contiguousBlockLength) && (messageCount < messageCountLimit))
+        {
+            final int recordIndex = headIndex + bytesRead;
+            final int recordLength = buffer.getIntVolatile(lengthOffset(recordIndex));
+            if (recordLength <= 0)
+            {
+                break;
+            }
+
+            bytesRead += align(recordLength, ALIGNMENT);
+
+            if (PADDING_MSG_TYPE_ID != buffer.getInt(typeOffset(recordIndex)))
+            {
+                ++messageCount;
+            }
+        }
+
+        if (bytesRead > 0)
+        {
+            try
+            {
+                if (messageCount > 0)
+                {
+                    handler.onRecords(buffer, headIndex, headIndex + bytesRead, messageCount);
+                }
+            }
+            finally
+            {
+                buffer.putLongRelease(headPositionIndex, head + bytesRead);
+            }
+        }
+
+        return messageCount;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -408,6 +509,19 @@ public final class OneToOneRingBuffer implements RingBuffer
         }
     }
 
+    private void checkBatchLength(final int length)
+    {
+        if (length < HEADER_LENGTH)
+        {
+            throw new IllegalArgumentException("invalid batch length=" + length);
+        }
+        else if (length > maxMsgLength + HEADER_LENGTH)
+        {
+            throw new IllegalArgumentException(
+                "batch exceeds maxBatchLength=" + (maxMsgLength + HEADER_LENGTH) + ", length=" + length);
+        }
+    }
+
     private int claimCapacity(final AtomicBuffer buffer, final int recordLength)
     {
         final int alignedRecordLength = align(recordLength, ALIGNMENT);
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Callback interface for processing a contiguous run of records read from a ring-buffer in a single call.
+ * <p>
+ * Records in the run are framed as described by {@link RecordDescriptor} and may include padding records which
+ * have a type of {@link RingBuffer#PADDING_MSG_TYPE_ID} and should be skipped. An example of walking a run:
+ * <pre>
+ * {@code
+ *     int recordIndex = index;
+ *     while (recordIndex < limit)
+ *     {
+ *         final int recordLength = buffer.getInt(RecordDescriptor.lengthOffset(recordIndex));
+ *         final int msgTypeId = buffer.getInt(RecordDescriptor.typeOffset(recordIndex));
+ *         if (RingBuffer.PADDING_MSG_TYPE_ID != msgTypeId)
+ *         {
+ *             decode(msgTypeId, buffer, RecordDescriptor.encodedMsgOffset(recordIndex),
+ *                 recordLength - RecordDescriptor.HEADER_LENGTH);
+ *         }
+ *
+ *         recordIndex += BitUtil.align(recordLength, RecordDescriptor.ALIGNMENT);
+ *     }
+ * }
+ * </pre>
+ */
+@FunctionalInterface
+public interface RecordBatchHandler
+{
+    /**
+     * Called for the processing of a contiguous run of complete records read from a ring-buffer.
+     *
+     * @param buffer       containing the records.
+     * @param index        at which the first record header begins.
+     * @param limit        index one past the end of the last record, i.e. the run is {@code [index, limit)}.
+     * @param messageCount number of messages in the run excluding padding records.
+     */
+    void onRecords(MutableDirectBuffer buffer, int index, int limit, int messageCount);
+}
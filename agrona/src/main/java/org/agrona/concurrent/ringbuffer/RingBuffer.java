@@ -142,6 +142,28 @@ public interface RingBuffer
      */
     void abort(int index);
 
+    /**
+     * Try to claim a block of space in the underlying ring-buffer into which many messages can be written using the
+     * {@link BatchClaim} and then committed as a group. The space is claimed with a single update of the producer
+     * position which reduces contention when producers publish bursts of messages.
+     * <p>
+     * The consumer will see the messages as individual records once {@link BatchClaim#commit()} is called.
+     * Alternatively a batch can be aborted using {@link BatchClaim#abort()}.
+     *
+     * @param batchClaim to be wrapped over the claimed space on success.
+     * @param length     of the batch in bytes including the headers of each record which can be computed with
+     *                   {@link BatchClaim#batchLength(int, int)}. A batch length cannot be greater than
+     *                   {@link #maxMsgLength()} plus {@link RecordDescriptor#HEADER_LENGTH}.
+     * @return true if the space was claimed, or false if there is not enough free space in the buffer.
+     * @throws IllegalArgumentException if the {@code length} is less than {@link RecordDescriptor#HEADER_LENGTH} or
+     *                                  is greater than {@link #maxMsgLength()} plus
+     *                                  {@link RecordDescriptor#HEADER_LENGTH}.
+     * @throws IllegalStateException    if the {@code batchClaim} is already active.
+     * @see BatchClaim#commit()
+     * @see BatchClaim#abort()
+     */
+    boolean tryClaimBatch(BatchClaim batchClaim, int length);
+
     /**
      * Read as many messages as are available to the end of the ring buffer.
      * <p>
@@ -49,6 +49,13 @@ public final class RingBufferDescriptor
      */
     public static final int CONSUMER_HEARTBEAT_OFFSET;
 
+    /**
+     * Offset within the trailer for where the consumer claim position value is stored by a
+     * {@link ManyToManyRingBuffer}. It occupies the padding after the consumer heartbeat time so the
+     * {@link #TRAILER_LENGTH} is the same for all ring-buffers.
+     */
+    public static final int CONSUMER_CLAIM_POSITION_OFFSET;
+
     /**
      * Total length of the trailer in bytes.
      */
@@ -71,6 +78,7 @@ public final class RingBufferDescriptor
 
         offset += (BitUtil.CACHE_LINE_LENGTH * 2);
         CONSUMER_HEARTBEAT_OFFSET = offset;
+        CONSUMER_CLAIM_POSITION_OFFSET = offset + BitUtil.CACHE_LINE_LENGTH;
 
         offset += (BitUtil.CACHE_LINE_LENGTH * 2);
         TRAILER_LENGTH = offset;
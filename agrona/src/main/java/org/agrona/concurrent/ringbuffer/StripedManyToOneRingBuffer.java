@@ -0,0 +1,375 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.ControlledMessageHandler;
+import org.agrona.concurrent.MessageHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static org.agrona.concurrent.ControlledMessageHandler.Action.ABORT;
+import static org.agrona.concurrent.ControlledMessageHandler.Action.BREAK;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+
+/**
+ * A ring-buffer that supports the exchange of messages from many producers to a single consumer by striping the
+ * underlying buffer into a number of lanes which are each a {@link ManyToOneRingBuffer}.
+ * <p>
+ * Producers are spread across the lanes so they contend on the tail position of their own lane rather than a
+ * single tail position for all producers. By default a producer thread is mapped to a lane by its thread id, or a
+ * producer, or group of producers, can be pinned to a lane via {@link #lane(int)}. The consumer reads from all lanes
+ * in turn starting at a different lane on each read so that no lane is starved.
+ * <p>
+ * Messages are delivered in FIFO order per lane but there is no ordering between lanes.
+ * <p>
+ * The underlying buffer is split into lanes of equal length which must each be a power of 2 plus
+ * {@link RingBufferDescriptor#TRAILER_LENGTH}, see {@link #bufferLength(int, int)}. Indexes returned from
+ * {@link #tryClaim(int, int)} are relative to {@link #buffer()} which spans all lanes.
+ */
+public final class StripedManyToOneRingBuffer implements RingBuffer
+{
+    private final int laneMask;
+    private final int laneLength;
+    private final int capacity;
+    private final AtomicBuffer buffer;
+    private final ManyToOneRingBuffer[] lanes;
+    private int nextLaneIndex;
+    private ControlledMessageHandler controlledHandler;
+    private ControlledMessageHandler.Action lastAction;
+    private final ControlledMessageHandler actionRecordingHandler = this::onControlledMessage;
+
+    /**
+     * Construct a new {@link RingBuffer} based on an underlying {@link AtomicBuffer} which is split into lanes.
+     *
+     * @param buffer    via which events will be exchanged.
+     * @param laneCount number of lanes into which the buffer is split which must be a power of 2.
+     * @throws IllegalArgumentException if the lane count is not a power of 2, or the buffer capacity does not divide
+     *                                  into lanes of a power of 2 plus {@link RingBufferDescriptor#TRAILER_LENGTH}.
+     * @see #bufferLength(int, int)
+     */
+    public StripedManyToOneRingBuffer(final AtomicBuffer buffer, final int laneCount)
+    {
+        if (!BitUtil.isPowerOfTwo(laneCount))
+        {
+            throw new IllegalArgumentException("laneCount must be a positive power of 2: laneCount=" + laneCount);
+        }
+
+        final int bufferCapacity = buffer.capacity();
+        if (0 != bufferCapacity % laneCount)
+        {
+            throw new IllegalArgumentException(
+                "capacity must be a multiple of laneCount: capacity=" + bufferCapacity + ", laneCount=" + laneCount);
+        }
+
+        buffer.verifyAlignment();
+
+        this.buffer = buffer;
+        laneMask = laneCount - 1;
+        laneLength = bufferCapacity / laneCount;
+        lanes = new ManyToOneRingBuffer[laneCount];
+
+        for (int i = 0; i < laneCount; i++)
+        {
+            lanes[i] = new ManyToOneRingBuffer(new UnsafeBuffer(buffer, i * laneLength, laneLength));
+        }
+
+        capacity = lanes[0].capacity() * laneCount;
+    }
+
+    /**
+     * Compute the length of buffer required for a given number of lanes each of a given capacity.
+     *
+     * @param laneCount    number of lanes which must be a power of 2.
+     * @param laneCapacity capacity of each lane which must be a power of 2.
+     * @return the length of buffer required including the trailer for each lane.
+     */
+    public static int bufferLength(final int laneCount, final int laneCapacity)
+    {
+        return laneCount * (laneCapacity + TRAILER_LENGTH);
+    }
+
+    /**
+     * Number of lanes the buffer is split into.
+     *
+     * @return number of lanes the buffer is split into.
+     */
+    public int laneCount()
+    {
+        return lanes.length;
+    }
+
+    /**
+     * Get a lane of the ring-buffer so that a producer, or group of producers, can be pinned to it. Indexes returned
+     * from {@link ManyToOneRingBuffer#tryClaim(int, int)} on a lane are relative to the lane.
+     *
+     * @param laneIndex of the lane which is masked by the lane count.
+     * @return the lane for the index.
+     */
+    public ManyToOneRingBuffer lane(final int laneIndex)
+    {
+        return lanes[laneIndex & laneMask];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int capacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean write(final int msgTypeId, final DirectBuffer srcBuffer, final int offset, final int length)
+    {
+        return lanes[currentThreadLaneIndex()].write(msgTypeId, srcBuffer, offset, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int tryClaim(final int msgTypeId, final int length)
+    {
+        final int laneIndex = currentThreadLaneIndex();
+        final int index = lanes[laneIndex].tryClaim(msgTypeId, length);
+        if (INSUFFICIENT_CAPACITY == index)
+        {
+            return index;
+        }
+
+        return (laneIndex * laneLength) + index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void commit(final int index)
+    {
+        final int laneIndex = computeLaneIndex(index);
+        lanes[laneIndex].commit(index - (laneIndex * laneLength));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void abort(final int index)
+    {
+        final int laneIndex = computeLaneIndex(index);
+        lanes[laneIndex].abort(index - (laneIndex * laneLength));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean tryClaimBatch(final BatchClaim batchClaim, final int length)
+    {
+        return lanes[currentThreadLaneIndex()].tryClaimBatch(batchClaim, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int read(final MessageHandler handler)
+    {
+        return read(handler, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int read(final MessageHandler handler, final int messageCountLimit)
+    {
+        final ManyToOneRingBuffer[] lanes = this.lanes;
+        final int laneCount = lanes.length;
+        final int startLaneIndex = nextLaneIndex;
+        nextLaneIndex = (startLaneIndex + 1) & laneMask;
+
+        int messagesRead = 0;
+        for (int i = 0; i < laneCount && messagesRead < messageCountLimit; i++)
+        {
+            messagesRead += lanes[(startLaneIndex + i) & laneMask].read(handler, messageCountLimit - messagesRead);
+        }
+
+        return messagesRead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int controlledRead(final ControlledMessageHandler handler)
+    {
+        return controlledRead(handler, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int controlledRead(final ControlledMessageHandler handler, final int messageCountLimit)
+    {
+        final ManyToOneRingBuffer[] lanes = this.lanes;
+        final int laneCount = lanes.length;
+        final int startLaneIndex = nextLaneIndex;
+        nextLaneIndex = (startLaneIndex + 1) & laneMask;
+
+        int messagesRead = 0;
+        controlledHandler = handler;
+        try
+        {
+            for (int i = 0; i < laneCount && messagesRead < messageCountLimit; i++)
+            {
+                lastAction = null;
+                messagesRead += lanes[(startLaneIndex + i) & laneMask].controlledRead(
+                    actionRecordingHandler, messageCountLimit - messagesRead);
+
+                if (ABORT == lastAction || BREAK == lastAction)
+                {
+                    break;
+                }
+            }
+        }
+        finally
+        {
+            controlledHandler = null;
+            lastAction = null;
+        }
+
+        return messagesRead;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int maxMsgLength()
+    {
+        return lanes[0].maxMsgLength();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long nextCorrelationId()
+    {
+        return lanes[0].nextCorrelationId();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public AtomicBuffer buffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void consumerHeartbeatTime(final long time)
+    {
+        lanes[0].consumerHeartbeatTime(time);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long consumerHeartbeatTime()
+    {
+        return lanes[0].consumerHeartbeatTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long producerPosition()
+    {
+        long position = 0;
+        for (final ManyToOneRingBuffer lane : lanes)
+        {
+            position += lane.producerPosition();
+        }
+
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long consumerPosition()
+    {
+        long position = 0;
+        for (final ManyToOneRingBuffer lane : lanes)
+        {
+            position += lane.consumerPosition();
+        }
+
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int size()
+    {
+        int size = 0;
+        for (final ManyToOneRingBuffer lane : lanes)
+        {
+            size += lane.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean unblock()
+    {
+        boolean unblocked = false;
+        for (final ManyToOneRingBuffer lane : lanes)
+        {
+            unblocked |= lane.unblock();
+        }
+
+        return unblocked;
+    }
+
+    private int currentThreadLaneIndex()
+    {
+        return (int)Thread.currentThread().getId() & laneMask;
+    }
+
+    private int computeLaneIndex(final int index)
+    {
+        if (index < 0 || index >= buffer.capacity())
+        {
+            throw new IllegalArgumentException("invalid message index " + index);
+        }
+
+        return index / laneLength;
+    }
+
+    private ControlledMessageHandler.Action onControlledMessage(
+        final int msgTypeId, final MutableDirectBuffer buffer, final int index, final int length)
+    {
+        final ControlledMessageHandler.Action action = controlledHandler.onMessage(msgTypeId, buffer, index, length);
+        lastAction = action;
+
+        return action;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.CloseHelper;
+import org.agrona.collections.Int2ObjectCache;
+
+/**
+ * Counters which expose the hit, miss, and put statistics of a cache, such as {@link Int2ObjectCache}, so they can be
+ * observed from outside the process via a {@link CountersManager}.
+ * <p>
+ * The cache keeps its statistics in plain fields so its hot path is not slowed. The owner of the cache publishes them
+ * to the counters by calling {@link #update(long, long, long)} or {@link #update(Int2ObjectCache)} periodically, for
+ * example from its duty cycle.
+ * <p>
+ * <b>Note:</b> Not thread safe, updates should be made by the thread which owns the cache.
+ */
+public final class CacheCounters implements AutoCloseable
+{
+    private final AtomicCounter hits;
+    private final AtomicCounter misses;
+    private final AtomicCounter puts;
+
+    /**
+     * Allocate the counters with labels prefixed by the name of the cache and a type of
+     * {@link CountersManager#DEFAULT_TYPE_ID}.
+     *
+     * @param countersManager from which the counters are allocated.
+     * @param name            of the cache to prefix the counter labels.
+     */
+    public CacheCounters(final CountersManager countersManager, final String name)
+    {
+        this(countersManager, name, CountersManager.DEFAULT_TYPE_ID);
+    }
+
+    /**
+     * Allocate the counters with labels prefixed by the name of the cache.
+     *
+     * @param countersManager from which the counters are allocated.
+     * @param name            of the cache to prefix the counter labels.
+     * @param typeId          for the counters.
+     */
+    public CacheCounters(final CountersManager countersManager, final String name, final int typeId)
+    {
+        AtomicCounter hits = null;
+        AtomicCounter misses = null;
+        try
+        {
+            hits = countersManager.newCounter(name + " cache hits", typeId);
+            misses = countersManager.newCounter(name + " cache misses", typeId);
+            puts = countersManager.newCounter(name + " cache puts", typeId);
+        }
+        catch (final RuntimeException ex)
+        {
+            CloseHelper.closeAll(hits, misses);
+            throw ex;
+        }
+
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Counter for the number of cache hits.
+     *
+     * @return counter for the number of cache hits.
+     */
+    public AtomicCounter hits()
+    {
+        return hits;
+    }
+
+    /**
+     * Counter for the number of cache misses.
+     *
+     * @return counter for the number of cache misses.
+     */
+    public AtomicCounter misses()
+    {
+        return misses;
+    }
+
+    /**
+     * Counter for the number of puts to the cache.
+     *
+     * @return counter for the number of puts to the cache.
+     */
+    public AtomicCounter puts()
+    {
+        return puts;
+    }
+
+    /**
+     * Publish the statistics of a cache to the counters.
+     *
+     * @param cacheHits   number of cache hits.
+     * @param cacheMisses number of cache misses.
+     * @param cachePuts   number of puts to the cache.
+     */
+    public void update(final long cacheHits, final long cacheMisses, final long cachePuts)
+    {
+        hits.setRelease(cacheHits);
+        misses.setRelease(cacheMisses);
+        puts.setRelease(cachePuts);
+    }
+
+    /**
+     * Publish the statistics of an {@link Int2ObjectCache} to the counters.
+     *
+     * @param cache whose statistics are published.
+     */
+    public void update(final Int2ObjectCache<?> cache)
+    {
+        update(cache.cacheHits(), cache.cacheMisses(), cache.cachePuts());
+    }
+
+    /**
+     * Free the counters.
+     */
+    public void close()
+    {
+        CloseHelper.closeAll(hits, misses, puts);
+    }
+}
@@ -18,7 +18,9 @@ package org.agrona.concurrent.status;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.EpochClock;
+import org.agrona.concurrent.ManyToManyConcurrentIntArrayQueue;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -28,10 +30,19 @@ import java.util.function.Consumer;
 /**
  * A thread safe extension of {@link CountersManager} which allows intra-process read and write access to the same
  * counters buffer. Note that inter-process access is not catered for.
+ * <p>
+ * Counters are allocated and freed without locks so many threads can allocate at the same time. An unused record is
+ * claimed by a CAS of its state from {@link #RECORD_UNUSED} to {@link #RECORD_RECLAIMED} in counter id order, so
+ * allocated records are always a prefix of the buffer and the metadata layout is unchanged for a
+ * {@link CountersReader}. Freed counters are a CAS of state from {@link #RECORD_ALLOCATED} to
+ * {@link #RECORD_RECLAIMED} and are then queued in the order they are freed for reuse once their free-for-reuse
+ * deadline has passed. Updates to the registration id index and counter metadata are made under a lock.
  */
 public class ConcurrentCountersManager extends CountersManager
 {
     private final ReentrantLock lock = new ReentrantLock();
+    private final ManyToManyConcurrentIntArrayQueue freeQueue;
+    private volatile int highWaterMarkId = -1;
 
     /**
      * Construct a counter manager over buffers containing the values and associated metadata.
@@ -43,7 +54,7 @@ public class ConcurrentCountersManager extends CountersManager
      */
     public ConcurrentCountersManager(final AtomicBuffer metaDataBuffer, final AtomicBuffer valuesBuffer)
     {
-        super(metaDataBuffer, valuesBuffer);
+        this(metaDataBuffer, valuesBuffer, null, StandardCharsets.UTF_8, new CachedEpochClock(), 0);
     }
 
     /**
@@ -56,7 +67,7 @@ public class ConcurrentCountersManager extends CountersManager
     public ConcurrentCountersManager(
         final AtomicBuffer metaDataBuffer, final AtomicBuffer valuesBuffer, final Charset labelCharset)
     {
-        super(metaDataBuffer, valuesBuffer, labelCharset);
+        this(metaDataBuffer, valuesBuffer, null, labelCharset, new CachedEpochClock(), 0);
     }
 
     /**
@@ -75,94 +86,63 @@ public class ConcurrentCountersManager extends CountersManager
         final EpochClock epochClock,
         final long freeToReuseTimeoutMs)
     {
-        super(metaDataBuffer, valuesBuffer, labelCharset, epochClock, freeToReuseTimeoutMs);
+        this(metaDataBuffer, valuesBuffer, null, labelCharset, epochClock, freeToReuseTimeoutMs);
     }
 
     /**
-     * {@inheritDoc}
+     * Create a new counter manager over buffers containing the values, associated metadata, and an index of
+     * registration ids so counters can be found without scanning the metadata buffer. The index buffer is cleared.
+     *
+     * @param metaDataBuffer            containing the types, keys, and labels for the counters.
+     * @param valuesBuffer              containing the values of the counters themselves.
+     * @param registrationIdIndexBuffer for indexing counters by registration id or null if not indexed.
+     * @param labelCharset              for the label encoding.
+     * @param epochClock                to use for determining time for keep counter from being reused after being
+     *                                  freed.
+     * @param freeToReuseTimeoutMs      timeout (in milliseconds) to keep counter from being reused after being freed.
+     * @see #registrationIdIndexLength(int)
      */
-    public int available()
+    public ConcurrentCountersManager(
+        final AtomicBuffer metaDataBuffer,
+        final AtomicBuffer valuesBuffer,
+        final AtomicBuffer registrationIdIndexBuffer,
+        final Charset labelCharset,
+        final EpochClock epochClock,
+        final long freeToReuseTimeoutMs)
     {
-        lock.lock();
-        try
-        {
-            return super.available();
-        }
-        finally
-        {
-            lock.unlock();
-        }
+        super(metaDataBuffer, valuesBuffer, registrationIdIndexBuffer, labelCharset, epochClock, freeToReuseTimeoutMs);
+        freeQueue = new ManyToManyConcurrentIntArrayQueue(Math.max(capacity(), 2));
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The count is approximate while counters are being allocated or freed concurrently.
      */
-    public int allocate(final String label, final int typeId)
+    public int available()
     {
-        lock.lock();
-        try
-        {
-            return super.allocate(label, typeId);
-        }
-        finally
-        {
-            lock.unlock();
-        }
-    }
+        final AtomicBuffer metaDataBuffer = this.metaDataBuffer;
+        final long nowMs = epochClock.time();
+        int available = 0;
 
-    /**
-     * {@inheritDoc}
-     */
-    public int allocate(final String label, final int typeId, final Consumer<MutableDirectBuffer> keyFunc)
-    {
-        lock.lock();
-        try
+        for (int counterId = 0; counterId <= maxCounterId; counterId++)
         {
-            return super.allocate(label, typeId, keyFunc);
-        }
-        finally
-        {
-            lock.unlock();
-        }
-    }
+            final int offset = metaDataOffset(counterId);
+            final int recordState = metaDataBuffer.getIntVolatile(offset);
+            if (RECORD_UNUSED == recordState)
+            {
+                available += maxCounterId - counterId + 1;
+                break;
+            }
 
-    /**
-     * {@inheritDoc}
-     */
-    public int allocate(
-        final int typeId,
-        final DirectBuffer keyBuffer,
-        final int keyOffset,
-        final int keyLength,
-        final DirectBuffer labelBuffer,
-        final int labelOffset,
-        final int labelLength)
-    {
-        lock.lock();
-        try
-        {
-            return super.allocate(typeId, keyBuffer, keyOffset, keyLength, labelBuffer, labelOffset, labelLength);
+            if (RECORD_RECLAIMED == recordState &&
+                nowMs >= metaDataBuffer.getLong(offset + FREE_FOR_REUSE_DEADLINE_OFFSET))
+            {
+                available++;
+            }
         }
-        finally
-        {
-            lock.unlock();
-        }
-    }
 
-    /**
-     * {@inheritDoc}
-     */
-    public void free(final int counterId)
-    {
-        lock.lock();
-        try
-        {
-            super.free(counterId);
-        }
-        finally
-        {
-            lock.unlock();
-        }
+        return available;
     }
 
     /**
@@ -298,14 +278,123 @@ public class ConcurrentCountersManager extends CountersManager
      */
     public String toString()
     {
-        lock.lock();
-        try
+        return getClass().getSimpleName() + "{" +
+            "freeToReuseTimeoutMs=" + freeToReuseTimeoutMs +
+            ", highWaterMarkId=" + highWaterMarkId +
+            ", freeQueueSize=" + freeQueue.size() +
+            ", epochClock=" + epochClock +
+            '}';
+    }
+
+    int nextCounterId()
+    {
+        int counterId = freeQueue.isEmpty() ? NULL_COUNTER_ID : pollFreeCounterId(epochClock.time(), false);
+        if (NULL_COUNTER_ID == counterId)
         {
-            return super.toString();
+            counterId = claimUnusedCounterId();
         }
-        finally
+
+        if (NULL_COUNTER_ID == counterId)
         {
-            lock.unlock();
+            counterId = pollFreeCounterId(epochClock.time(), true);
+            if (NULL_COUNTER_ID == counterId)
+            {
+                checkCountersCapacity(maxCounterId + 1);
+            }
+        }
+
+        return counterId;
+    }
+
+    void releaseCounterId(final int counterId)
+    {
+        metaDataBuffer.putLong(metaDataOffset(counterId) + FREE_FOR_REUSE_DEADLINE_OFFSET, 0);
+        offerFreeCounterId(counterId);
+    }
+
+    void addToFreeList(final int counterId)
+    {
+        offerFreeCounterId(counterId);
+    }
+
+    void removeFromIndex(final int counterId)
+    {
+        if (null != registrationIdIndex)
+        {
+            lock.lock();
+            try
+            {
+                super.removeFromIndex(counterId);
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int claimUnusedCounterId()
+    {
+        final AtomicBuffer metaDataBuffer = this.metaDataBuffer;
+
+        for (int counterId = highWaterMarkId + 1; counterId <= maxCounterId; counterId++)
+        {
+            final int offset = metaDataOffset(counterId);
+            if (RECORD_UNUSED == metaDataBuffer.getIntVolatile(offset) &&
+                metaDataBuffer.compareAndSetInt(offset, RECORD_UNUSED, RECORD_RECLAIMED))
+            {
+                metaDataBuffer.putLong(offset + FREE_FOR_REUSE_DEADLINE_OFFSET, NOT_FREE_TO_REUSE);
+                highWaterMarkId = counterId;
+
+                return counterId;
+            }
+        }
+
+        return NULL_COUNTER_ID;
+    }
+
+    private int pollFreeCounterId(final long nowMs, final boolean isExhaustive)
+    {
+        final ManyToManyConcurrentIntArrayQueue freeQueue = this.freeQueue;
+        final int nullValue = freeQueue.nullValue();
+        int remaining = isExhaustive ? freeQueue.size() : 1;
+
+        while (remaining > 0)
+        {
+            final int counterId = freeQueue.poll();
+            if (nullValue == counterId)
+            {
+                if (!isExhaustive || freeQueue.isEmpty())
+                {
+                    break;
+                }
+
+                Thread.onSpinWait(); // a free is part way through an offer to the head of the queue
+                continue;
+            }
+
+            remaining--;
+            final int deadlineOffset = metaDataOffset(counterId) + FREE_FOR_REUSE_DEADLINE_OFFSET;
+            if (nowMs >= metaDataBuffer.getLong(deadlineOffset))
+            {
+                metaDataBuffer.putLong(deadlineOffset, NOT_FREE_TO_REUSE);
+                resetCounterValues(counterId);
+
+                return counterId;
+            }
+
+            offerFreeCounterId(counterId);
+        }
+
+        return NULL_COUNTER_ID;
+    }
+
+    private void offerFreeCounterId(final int counterId)
+    {
+        // The queue can hold every counter so an offer only fails while a poll is releasing the slot at the tail.
+        while (!freeQueue.offer(counterId))
+        {
+            Thread.onSpinWait();
         }
     }
 }
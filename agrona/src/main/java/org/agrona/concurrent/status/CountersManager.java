@@ -49,7 +49,12 @@ import static org.agrona.BitUtil.SIZE_OF_INT;
  *  |                        Reference Id                           |
  *  |                                                               |
  *  +---------------------------------------------------------------+
- *  |                     96 bytes of padding                     ...
+ *  |                      Stripe Cell Count                        |
+ *  +---------------------------------------------------------------+
+ *  |                 Stripe Cell Counter Ids 15 x 4               ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                      32 bytes of padding                     ...
  * ...                                                              |
  *  +---------------------------------------------------------------+
  *  |                   Repeats to end of buffer                   ...
@@ -86,10 +91,10 @@ import static org.agrona.BitUtil.SIZE_OF_INT;
  */
 public class CountersManager extends CountersReader
 {
-    private final long freeToReuseTimeoutMs;
+    final long freeToReuseTimeoutMs;
+    final EpochClock epochClock;
     private int highWaterMarkId = -1;
     private final IntArrayList freeList = new IntArrayList();
-    private final EpochClock epochClock;
 
     /**
      * Create a new counter manager over two buffers.
@@ -107,7 +112,31 @@ public class CountersManager extends CountersReader
         final EpochClock epochClock,
         final long freeToReuseTimeoutMs)
     {
-        super(metaDataBuffer, valuesBuffer, labelCharset);
+        this(metaDataBuffer, valuesBuffer, null, labelCharset, epochClock, freeToReuseTimeoutMs);
+    }
+
+    /**
+     * Create a new counter manager over two buffers and a buffer in which counters are indexed by registration id so
+     * they can be found without scanning the metadata buffer. The index buffer is cleared.
+     *
+     * @param metaDataBuffer            containing the types, keys, and labels for the counters.
+     * @param valuesBuffer              containing the values of the counters themselves.
+     * @param registrationIdIndexBuffer for indexing counters by registration id or null if not indexed.
+     * @param labelCharset              for the label encoding.
+     * @param epochClock                to use for determining time for keep counter from being reused after being
+     *                                  freed.
+     * @param freeToReuseTimeoutMs      timeout (in milliseconds) to keep counter from being reused after being freed.
+     * @see #registrationIdIndexLength(int)
+     */
+    public CountersManager(
+        final AtomicBuffer metaDataBuffer,
+        final AtomicBuffer valuesBuffer,
+        final AtomicBuffer registrationIdIndexBuffer,
+        final Charset labelCharset,
+        final EpochClock epochClock,
+        final long freeToReuseTimeoutMs)
+    {
+        super(metaDataBuffer, valuesBuffer, registrationIdIndexBuffer, labelCharset);
 
         valuesBuffer.verifyAlignment();
         this.epochClock = epochClock;
@@ -117,6 +146,11 @@ public class CountersManager extends CountersReader
         {
             throw new IllegalArgumentException("metadata buffer is too small");
         }
+
+        if (null != registrationIdIndex)
+        {
+            registrationIdIndex.clear();
+        }
     }
 
     /**
@@ -213,7 +247,7 @@ public class CountersManager extends CountersReader
         }
         catch (final Exception ex)
         {
-            freeList.pushInt(counterId);
+            releaseCounterId(counterId);
             LangUtil.rethrowUnchecked(ex);
         }
 
@@ -248,7 +282,7 @@ public class CountersManager extends CountersReader
         }
         catch (final Exception ex)
         {
-            freeList.pushInt(counterId);
+            releaseCounterId(counterId);
             LangUtil.rethrowUnchecked(ex);
         }
 
@@ -301,7 +335,7 @@ public class CountersManager extends CountersReader
         }
         catch (final Exception ex)
         {
-            freeList.pushInt(counterId);
+            releaseCounterId(counterId);
             LangUtil.rethrowUnchecked(ex);
         }
 
@@ -384,15 +418,15 @@ public class CountersManager extends CountersReader
         validateCounterId(counterId);
         final int offset = metaDataOffset(counterId);
 
-        if (RECORD_ALLOCATED != metaDataBuffer.getIntVolatile(offset))
+        if (!metaDataBuffer.compareAndSetInt(offset, RECORD_ALLOCATED, RECORD_RECLAIMED))
         {
             throw new IllegalStateException("counter not allocated: id=" + counterId);
         }
 
-        metaDataBuffer.putIntRelease(offset, RECORD_RECLAIMED);
+        removeFromIndex(counterId);
         metaDataBuffer.setMemory(offset + KEY_OFFSET, MAX_KEY_LENGTH, (byte)0);
         metaDataBuffer.putLong(offset + FREE_FOR_REUSE_DEADLINE_OFFSET, epochClock.time() + freeToReuseTimeoutMs);
-        freeList.addInt(counterId);
+        addToFreeList(counterId);
     }
 
     /**
@@ -416,7 +450,13 @@ public class CountersManager extends CountersReader
     public void setCounterRegistrationId(final int counterId, final long registrationId)
     {
         validateCounterId(counterId);
+        removeFromIndex(counterId);
         valuesBuffer.putLongRelease(counterOffset(counterId) + REGISTRATION_ID_OFFSET, registrationId);
+
+        if (null != registrationIdIndex && DEFAULT_REGISTRATION_ID != registrationId)
+        {
+            registrationIdIndex.add(registrationId, counterId);
+        }
     }
 
     /**
@@ -510,7 +550,7 @@ public class CountersManager extends CountersReader
             '}';
     }
 
-    private int nextCounterId()
+    int nextCounterId()
     {
         if (!freeList.isEmpty())
         {
@@ -522,12 +562,7 @@ public class CountersManager extends CountersReader
                 if (nowMs >= metaDataBuffer.getLong(metaDataOffset(counterId) + FREE_FOR_REUSE_DEADLINE_OFFSET))
                 {
                     freeList.remove(i);
-
-                    final int offset = counterOffset(counterId);
-                    valuesBuffer.putLongRelease(offset + REGISTRATION_ID_OFFSET, DEFAULT_REGISTRATION_ID);
-                    valuesBuffer.putLong(offset + OWNER_ID_OFFSET, DEFAULT_OWNER_ID);
-                    valuesBuffer.putLong(offset + REFERENCE_ID_OFFSET, DEFAULT_REFERENCE_ID);
-                    valuesBuffer.putLongRelease(offset, 0L);
+                    resetCounterValues(counterId);
 
                     return counterId;
                 }
@@ -539,6 +574,28 @@ public class CountersManager extends CountersReader
         return ++highWaterMarkId;
     }
 
+    void releaseCounterId(final int counterId)
+    {
+        freeList.pushInt(counterId);
+    }
+
+    void addToFreeList(final int counterId)
+    {
+        freeList.addInt(counterId);
+    }
+
+    void resetCounterValues(final int counterId)
+    {
+        removeFromIndex(counterId);
+
+        final int offset = counterOffset(counterId);
+        valuesBuffer.putLongRelease(offset + REGISTRATION_ID_OFFSET, DEFAULT_REGISTRATION_ID);
+        valuesBuffer.putLong(offset + OWNER_ID_OFFSET, DEFAULT_OWNER_ID);
+        valuesBuffer.putLong(offset + REFERENCE_ID_OFFSET, DEFAULT_REFERENCE_ID);
+        valuesBuffer.setMemory(offset + STRIPE_CELL_COUNT_OFFSET, COUNTER_LENGTH - STRIPE_CELL_COUNT_OFFSET, (byte)0);
+        valuesBuffer.putLongRelease(offset, 0L);
+    }
+
     private void putLabel(final int recordOffset, final String label)
     {
         if (StandardCharsets.US_ASCII == labelCharset)
@@ -580,7 +637,19 @@ public class CountersManager extends CountersReader
         }
     }
 
-    private void checkCountersCapacity(final int counterId)
+    void removeFromIndex(final int counterId)
+    {
+        if (null != registrationIdIndex)
+        {
+            final long registrationId = valuesBuffer.getLong(counterOffset(counterId) + REGISTRATION_ID_OFFSET);
+            if (DEFAULT_REGISTRATION_ID != registrationId)
+            {
+                registrationIdIndex.remove(registrationId, counterId);
+            }
+        }
+    }
+
+    void checkCountersCapacity(final int counterId)
     {
         if (counterId > maxCounterId)
         {
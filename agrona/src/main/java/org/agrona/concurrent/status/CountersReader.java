@@ -48,7 +48,12 @@ import static org.agrona.BitUtil.*;
  *  |                        Reference Id                           |
  *  |                                                               |
  *  +---------------------------------------------------------------+
- *  |                      96 bytes of padding                     ...
+ *  |                      Stripe Cell Count                        |
+ *  +---------------------------------------------------------------+
+ *  |                 Stripe Cell Counter Ids 15 x 4               ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                      32 bytes of padding                     ...
  * ...                                                              |
  *  +---------------------------------------------------------------+
  *  |                   Repeats to end of buffer                   ...
@@ -82,6 +87,13 @@ import static org.agrona.BitUtil.*;
  * ...                                                              |
  *  +---------------------------------------------------------------+
  * </pre>
+ * <p>
+ * <b>Registration Id Index</b>
+ * <p>
+ * An optional third buffer, of {@link #registrationIdIndexLength(int)}, can index counters by registration id so
+ * {@link #findByRegistrationId(long)} and {@link #findByTypeIdAndRegistrationId(int, long)} do not need to scan the
+ * metadata buffer. The index is maintained by the {@link CountersManager} and can be shared with readers in other
+ * processes. Without the index, or for {@link #DEFAULT_REGISTRATION_ID}, lookups scan the metadata buffer.
  */
 public class CountersReader
 {
@@ -182,6 +194,33 @@ public class CountersReader
      */
     public static final int REFERENCE_ID_OFFSET = OWNER_ID_OFFSET + SIZE_OF_LONG;
 
+    /**
+     * Offset in the record at which the number of additional cells of a {@link StripedCounter} is stored. The value
+     * of a counter with stripe cells is the sum of its own value and the values of its cells.
+     */
+    public static final int STRIPE_CELL_COUNT_OFFSET = REFERENCE_ID_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset in the record at which the counter ids of the additional cells of a {@link StripedCounter} are stored.
+     */
+    public static final int STRIPE_CELL_IDS_OFFSET = STRIPE_CELL_COUNT_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Maximum number of additional cells of a {@link StripedCounter}.
+     */
+    public static final int MAX_STRIPE_CELL_COUNT = 15;
+
+    /**
+     * Type id reserved for the cells of a {@link StripedCounter} which are not included when iterating counters.
+     */
+    public static final int STRIPE_CELL_TYPE_ID = Integer.MIN_VALUE;
+
+    /**
+     * Type id reserved for the records holding the buckets of a {@link HistogramCounter} which are not included when
+     * iterating counters.
+     */
+    public static final int HISTOGRAM_BUCKETS_TYPE_ID = STRIPE_CELL_TYPE_ID + 1;
+
     /**
      * Offset in the record at which the type id field is stored.
      */
@@ -247,6 +286,13 @@ public class CountersReader
      */
     protected final Charset labelCharset;
 
+    /**
+     * Index of registration id to counter id or null if counters are not indexed.
+     */
+    final RegistrationIdIndex registrationIdIndex;
+
+    private final AtomicBuffer registrationIdIndexBuffer;
+
     /**
      * Construct a reader over buffers containing the values and associated metadata.
      * <p>
@@ -269,11 +315,45 @@ public class CountersReader
      */
     public CountersReader(
         final AtomicBuffer metaDataBuffer, final AtomicBuffer valuesBuffer, final Charset labelCharset)
+    {
+        this(metaDataBuffer, valuesBuffer, null, labelCharset);
+    }
+
+    /**
+     * Construct a reader over buffers containing the values, associated metadata, and an index of registration ids.
+     *
+     * @param metaDataBuffer            containing the counter metadata.
+     * @param valuesBuffer              containing the counter values.
+     * @param registrationIdIndexBuffer containing the index of registration ids or null if not indexed.
+     * @param labelCharset              for the label encoding.
+     * @throws IllegalArgumentException if the index buffer is not a power of 2 of at least
+     *                                  {@link #registrationIdIndexLength(int)}.
+     */
+    public CountersReader(
+        final AtomicBuffer metaDataBuffer,
+        final AtomicBuffer valuesBuffer,
+        final AtomicBuffer registrationIdIndexBuffer,
+        final Charset labelCharset)
     {
         this.maxCounterId = (valuesBuffer.capacity() / COUNTER_LENGTH) - 1;
         this.valuesBuffer = valuesBuffer;
         this.metaDataBuffer = metaDataBuffer;
         this.labelCharset = labelCharset;
+        this.registrationIdIndexBuffer = registrationIdIndexBuffer;
+        this.registrationIdIndex = null == registrationIdIndexBuffer ? null :
+            new RegistrationIdIndex(registrationIdIndexBuffer, metaDataBuffer, valuesBuffer, maxCounterId + 1);
+    }
+
+    /**
+     * Length of the buffer required to index a number of counters by registration id.
+     *
+     * @param counterCapacity number of counters which can be allocated, i.e. the values buffer length divided by
+     *                        {@link #COUNTER_LENGTH}.
+     * @return length of the buffer required to index the counters by registration id.
+     */
+    public static int registrationIdIndexLength(final int counterCapacity)
+    {
+        return RegistrationIdIndex.length(counterCapacity);
     }
 
     /**
@@ -316,6 +396,16 @@ public class CountersReader
         return labelCharset;
     }
 
+    /**
+     * Get the buffer containing the index of registration ids for the counters.
+     *
+     * @return the buffer containing the index of registration ids or null if counters are not indexed.
+     */
+    public AtomicBuffer registrationIdIndexBuffer()
+    {
+        return registrationIdIndexBuffer;
+    }
+
     /**
      * The offset in the counter buffer for a given counterId.
      *
@@ -339,7 +429,8 @@ public class CountersReader
     }
 
     /**
-     * Iterate over all labels in the label buffer.
+     * Iterate over all labels in the label buffer. The cells of a {@link StripedCounter} and the buckets of a
+     * {@link HistogramCounter} are not included.
      *
      * @param consumer function to be called for each label.
      */
@@ -352,7 +443,7 @@ public class CountersReader
         {
             final int recordStatus = metaDataBuffer.getIntVolatile(i);
 
-            if (RECORD_ALLOCATED == recordStatus)
+            if (RECORD_ALLOCATED == recordStatus && !isCellTypeId(metaDataBuffer.getInt(i + TYPE_ID_OFFSET)))
             {
                 consumer.accept(counterId, labelValue(metaDataBuffer, i));
             }
@@ -366,7 +457,8 @@ public class CountersReader
     }
 
     /**
-     * Iterate over the counters and provide the value and basic metadata.
+     * Iterate over the counters and provide the value and basic metadata. The value of a {@link StripedCounter} is
+     * the sum of its cells which are not included, nor are the buckets of a {@link HistogramCounter}.
      *
      * @param consumer for each allocated counter.
      */
@@ -379,10 +471,10 @@ public class CountersReader
         for (int offset = 0, capacity = metaDataBuffer.capacity(); offset < capacity; offset += METADATA_LENGTH)
         {
             final int recordStatus = metaDataBuffer.getIntVolatile(offset);
-            if (RECORD_ALLOCATED == recordStatus)
+            if (RECORD_ALLOCATED == recordStatus && !isCellTypeId(metaDataBuffer.getInt(offset + TYPE_ID_OFFSET)))
             {
                 final String label = labelValue(metaDataBuffer, offset);
-                final long value = valuesBuffer.getLongVolatile(counterOffset(counterId));
+                final long value = counterValue(valuesBuffer, counterOffset(counterId));
                 consumer.accept(value, counterId, label);
             }
             else if (RECORD_UNUSED == recordStatus)
@@ -395,7 +487,8 @@ public class CountersReader
     }
 
     /**
-     * Iterate over all the metadata in the buffer.
+     * Iterate over all the metadata in the buffer. The cells of a {@link StripedCounter} and the buckets of a
+     * {@link HistogramCounter} are not included.
      *
      * @param metaData function to be called for each metadata record.
      */
@@ -410,10 +503,14 @@ public class CountersReader
             if (RECORD_ALLOCATED == recordStatus)
             {
                 final int typeId = metaDataBuffer.getInt(offset + TYPE_ID_OFFSET);
-                final String label = labelValue(metaDataBuffer, offset);
-                final DirectBuffer keyBuffer = new UnsafeBuffer(metaDataBuffer, offset + KEY_OFFSET, MAX_KEY_LENGTH);
+                if (!isCellTypeId(typeId))
+                {
+                    final String label = labelValue(metaDataBuffer, offset);
+                    final DirectBuffer keyBuffer = new UnsafeBuffer(
+                        metaDataBuffer, offset + KEY_OFFSET, MAX_KEY_LENGTH);
 
-                metaData.accept(counterId, typeId, keyBuffer, label);
+                    metaData.accept(counterId, typeId, keyBuffer, label);
+                }
             }
             else if (RECORD_UNUSED == recordStatus)
             {
@@ -425,13 +522,20 @@ public class CountersReader
     }
 
     /**
-     * Iterate over allocated counters and find the first matching a given registration id.
+     * Find the first allocated counter matching a given registration id. Counters are looked up in the registration id
+     * index if available otherwise the metadata buffer is scanned.
      *
      * @param registrationId to find.
      * @return the counter if found otherwise {@link #NULL_COUNTER_ID}.
      */
     public int findByRegistrationId(final long registrationId)
     {
+        final RegistrationIdIndex registrationIdIndex = this.registrationIdIndex;
+        if (null != registrationIdIndex && DEFAULT_REGISTRATION_ID != registrationId)
+        {
+            return registrationIdIndex.find(registrationId, DEFAULT_TYPE_ID, false);
+        }
+
         int counterId = -1;
         final AtomicBuffer metaDataBuffer = this.metaDataBuffer;
         final int capacity = metaDataBuffer.capacity();
@@ -457,7 +561,8 @@ public class CountersReader
     }
 
     /**
-     * Iterate over allocated counters and find the first matching a given type id and registration id.
+     * Find the first allocated counter matching a given type id and registration id. Counters are looked up in the
+     * registration id index if available otherwise the metadata buffer is scanned.
      *
      * @param typeId         to find.
      * @param registrationId to find.
@@ -465,6 +570,12 @@ public class CountersReader
      */
     public int findByTypeIdAndRegistrationId(final int typeId, final long registrationId)
     {
+        final RegistrationIdIndex registrationIdIndex = this.registrationIdIndex;
+        if (null != registrationIdIndex && DEFAULT_REGISTRATION_ID != registrationId)
+        {
+            return registrationIdIndex.find(registrationId, typeId, true);
+        }
+
         int counterId = -1;
         final AtomicBuffer metaDataBuffer = this.metaDataBuffer;
         final int capacity = metaDataBuffer.capacity();
@@ -491,7 +602,8 @@ public class CountersReader
     }
 
     /**
-     * Get the value for a given counter id as a volatile read.
+     * Get the value for a given counter id as a volatile read. The value of a {@link StripedCounter} is the sum of
+     * its cells.
      *
      * @param counterId to be read.
      * @return the current value of the counter.
@@ -499,7 +611,7 @@ public class CountersReader
     public long getCounterValue(final int counterId)
     {
         validateCounterId(counterId);
-        return valuesBuffer.getLongVolatile(counterOffset(counterId));
+        return counterValue(valuesBuffer, counterOffset(counterId));
     }
 
     /**
@@ -613,6 +725,31 @@ public class CountersReader
         }
     }
 
+    static boolean isCellTypeId(final int typeId)
+    {
+        return STRIPE_CELL_TYPE_ID == typeId || HISTOGRAM_BUCKETS_TYPE_ID == typeId;
+    }
+
+    private long counterValue(final AtomicBuffer valuesBuffer, final int counterOffset)
+    {
+        final int cellCount = valuesBuffer.getIntVolatile(counterOffset + STRIPE_CELL_COUNT_OFFSET);
+        long value = valuesBuffer.getLongVolatile(counterOffset);
+
+        if (cellCount > 0)
+        {
+            for (int i = 0, limit = Math.min(cellCount, MAX_STRIPE_CELL_COUNT); i < limit; i++)
+            {
+                final int cellId = valuesBuffer.getInt(counterOffset + STRIPE_CELL_IDS_OFFSET + (i * SIZE_OF_INT));
+                if (cellId >= 0 && cellId <= maxCounterId)
+                {
+                    value += valuesBuffer.getLongVolatile(counterOffset(cellId));
+                }
+            }
+        }
+
+        return value;
+    }
+
     private String labelValue(final AtomicBuffer metaDataBuffer, final int recordOffset)
     {
         final int labelLength = metaDataBuffer.getIntVolatile(recordOffset + LABEL_OFFSET);
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.AtomicBuffer;
+
+import java.util.Arrays;
+
+import static org.agrona.concurrent.status.CountersReader.*;
+
+/**
+ * Snapshot of the values of all counters in a {@link CountersReader} which is captured in a single pass into
+ * primitive arrays without allocation so counters can be polled at high frequency, for example by a monitoring
+ * {@link org.agrona.concurrent.Agent} hosted in an {@link org.agrona.concurrent.AgentRunner}.
+ * <p>
+ * Each {@link #capture(long)} keeps the previous capture so the {@link #delta(int)} and {@link #rate(int)} of each
+ * counter between captures can be computed. A counter which has been freed and reallocated between captures, as
+ * detected by a change in registration id or type id, has a delta from 0. Labels are only decoded when requested and
+ * are cached until the registration id or type id of the counter changes.
+ * <p>
+ * The cells of a {@link StripedCounter} are summed into its value and the buckets of a {@link HistogramCounter} are
+ * not included.
+ * <p>
+ * <b>Note:</b> This class is not threadsafe.
+ */
+public final class CountersSnapshot
+{
+    /**
+     * Callback function for consuming the value and change of a counter in a snapshot.
+     */
+    @FunctionalInterface
+    public interface CounterDeltaConsumer
+    {
+        /**
+         * Accept the value and change of a counter.
+         *
+         * @param counterId of the counter.
+         * @param value     of the counter in the latest capture.
+         * @param delta     of the value since the previous capture.
+         * @param rate      of change of the value per second since the previous capture.
+         */
+        void accept(int counterId, long value, long delta, double rate);
+    }
+
+    /**
+     * Cells are never captured so their reserved type id marks a counter which is not allocated in a capture.
+     */
+    private static final int NOT_ALLOCATED_TYPE_ID = STRIPE_CELL_TYPE_ID;
+
+    private boolean hasCapture;
+    private boolean hasPreviousCapture;
+    private long timestampNs;
+    private long previousTimestampNs;
+    private int limit;
+    private int previousLimit;
+    private long[] values;
+    private long[] previousValues;
+    private long[] registrationIds;
+    private long[] previousRegistrationIds;
+    private int[] typeIds;
+    private int[] previousTypeIds;
+    private final long[] labelRegistrationIds;
+    private final int[] labelTypeIds;
+    private final String[] labels;
+    private final CountersReader countersReader;
+
+    /**
+     * Construct a snapshot for all the counters of a {@link CountersReader}.
+     *
+     * @param countersReader from which counters are captured.
+     */
+    public CountersSnapshot(final CountersReader countersReader)
+    {
+        this.countersReader = countersReader;
+
+        final int length = countersReader.maxCounterId() + 1;
+        values = new long[length];
+        previousValues = new long[length];
+        registrationIds = new long[length];
+        previousRegistrationIds = new long[length];
+        typeIds = new int[length];
+        previousTypeIds = new int[length];
+        labelRegistrationIds = new long[length];
+        labelTypeIds = new int[length];
+        labels = new String[length];
+
+        Arrays.fill(typeIds, NOT_ALLOCATED_TYPE_ID);
+        Arrays.fill(previousTypeIds, NOT_ALLOCATED_TYPE_ID);
+    }
+
+    /**
+     * Capture the values of all allocated counters and keep the previous capture.
+     *
+     * @param timestampNs at which the capture is taken, for example from {@link System#nanoTime()}.
+     * @return the number of allocated counters captured.
+     */
+    public int capture(final long timestampNs)
+    {
+        swap();
+        hasCapture = true;
+        this.timestampNs = timestampNs;
+
+        final CountersReader countersReader = this.countersReader;
+        final AtomicBuffer metaDataBuffer = countersReader.metaDataBuffer();
+        final AtomicBuffer valuesBuffer = countersReader.valuesBuffer();
+        final long[] values = this.values;
+        final long[] registrationIds = this.registrationIds;
+        final int[] typeIds = this.typeIds;
+        int allocatedCount = 0;
+        int counterId = 0;
+
+        for (int length = values.length; counterId < length; counterId++)
+        {
+            final int metaDataOffset = metaDataOffset(counterId);
+            final int recordStatus = metaDataBuffer.getIntVolatile(metaDataOffset);
+            if (RECORD_UNUSED == recordStatus)
+            {
+                break;
+            }
+
+            final int typeId = metaDataBuffer.getInt(metaDataOffset + TYPE_ID_OFFSET);
+            if (RECORD_ALLOCATED == recordStatus && !isCellTypeId(typeId))
+            {
+                values[counterId] = countersReader.getCounterValue(counterId);
+                registrationIds[counterId] = valuesBuffer.getLongVolatile(
+                    counterOffset(counterId) + REGISTRATION_ID_OFFSET);
+                typeIds[counterId] = typeId;
+                allocatedCount++;
+            }
+            else
+            {
+                values[counterId] = 0;
+                typeIds[counterId] = NOT_ALLOCATED_TYPE_ID;
+            }
+        }
+
+        for (int i = counterId; i < limit; i++)
+        {
+            values[i] = 0;
+            typeIds[i] = NOT_ALLOCATED_TYPE_ID;
+        }
+        limit = counterId;
+
+        return allocatedCount;
+    }
+
+    /**
+     * Timestamp of the latest capture.
+     *
+     * @return timestamp of the latest capture.
+     */
+    public long timestampNs()
+    {
+        return timestampNs;
+    }
+
+    /**
+     * Interval between the previous and latest captures.
+     *
+     * @return interval between the previous and latest captures, or 0 until two captures have been taken.
+     */
+    public long intervalNs()
+    {
+        return hasPreviousCapture ? timestampNs - previousTimestampNs : 0;
+    }
+
+    /**
+     * The counter id after the highest allocated or reclaimed counter in the latest capture so that iteration can
+     * stop at the unused counters.
+     *
+     * @return the counter id after the highest allocated or reclaimed counter in the latest capture.
+     */
+    public int limit()
+    {
+        return limit;
+    }
+
+    /**
+     * Was the counter allocated in the latest capture?
+     *
+     * @param counterId of the counter.
+     * @return true if the counter was allocated in the latest capture.
+     */
+    public boolean isAllocated(final int counterId)
+    {
+        return NOT_ALLOCATED_TYPE_ID != typeIds[counterId];
+    }
+
+    /**
+     * Value of a counter in the latest capture.
+     *
+     * @param counterId of the counter.
+     * @return value of the counter in the latest capture, or 0 if not allocated.
+     */
+    public long value(final int counterId)
+    {
+        return values[counterId];
+    }
+
+    /**
+     * Type id of a counter in the latest capture.
+     *
+     * @param counterId of the counter.
+     * @return type id of the counter in the latest capture.
+     */
+    public int typeId(final int counterId)
+    {
+        return typeIds[counterId];
+    }
+
+    /**
+     * Registration id of a counter in the latest capture.
+     *
+     * @param counterId of the counter.
+     * @return registration id of the counter in the latest capture.
+     */
+    public long registrationId(final int counterId)
+    {
+        return registrationIds[counterId];
+    }
+
+    /**
+     * Change in the value of a counter between the previous and latest captures. If the counter was not allocated in
+     * the previous capture, or has since been reallocated, then the change is from 0.
+     *
+     * @param counterId of the counter.
+     * @return change in the value of the counter between the previous and latest captures.
+     */
+    public long delta(final int counterId)
+    {
+        final int typeId = typeIds[counterId];
+        if (NOT_ALLOCATED_TYPE_ID == typeId)
+        {
+            return 0;
+        }
+
+        if (typeId == previousTypeIds[counterId] && registrationIds[counterId] == previousRegistrationIds[counterId])
+        {
+            return values[counterId] - previousValues[counterId];
+        }
+
+        return values[counterId];
+    }
+
+    /**
+     * Rate of change per second of the value of a counter between the previous and latest captures.
+     *
+     * @param counterId of the counter.
+     * @return rate of change per second of the value of the counter, or 0 until two captures have been taken or if
+     * the interval is not positive.
+     */
+    public double rate(final int counterId)
+    {
+        final long intervalNs = intervalNs();
+        if (intervalNs <= 0)
+        {
+            return 0;
+        }
+
+        return delta(counterId) * (1_000_000_000.0 / intervalNs);
+    }
+
+    /**
+     * Label of a counter in the latest capture which is cached until the counter is reallocated.
+     *
+     * @param counterId of the counter.
+     * @return label of the counter, or null if it was not allocated in the latest capture.
+     */
+    public String label(final int counterId)
+    {
+        final int typeId = typeIds[counterId];
+        if (NOT_ALLOCATED_TYPE_ID == typeId)
+        {
+            return null;
+        }
+
+        final long registrationId = registrationIds[counterId];
+        String label = labels[counterId];
+        if (null == label || labelRegistrationIds[counterId] != registrationId || labelTypeIds[counterId] != typeId)
+        {
+            label = countersReader.getCounterLabel(counterId);
+            labels[counterId] = label;
+            labelRegistrationIds[counterId] = registrationId;
+            labelTypeIds[counterId] = typeId;
+        }
+
+        return label;
+    }
+
+    /**
+     * Iterate over the counters allocated in the latest capture and provide the value, delta, and rate.
+     *
+     * @param consumer for each allocated counter.
+     */
+    public void forEach(final CounterDeltaConsumer consumer)
+    {
+        final int[] typeIds = this.typeIds;
+        for (int counterId = 0, limit = this.limit; counterId < limit; counterId++)
+        {
+            if (NOT_ALLOCATED_TYPE_ID != typeIds[counterId])
+            {
+                consumer.accept(counterId, values[counterId], delta(counterId), rate(counterId));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "CountersSnapshot{" +
+            "timestampNs=" + timestampNs +
+            ", intervalNs=" + intervalNs() +
+            ", limit=" + limit +
+            '}';
+    }
+
+    private void swap()
+    {
+        final long[] values = previousValues;
+        previousValues = this.values;
+        this.values = values;
+
+        final long[] registrationIds = previousRegistrationIds;
+        previousRegistrationIds = this.registrationIds;
+        this.registrationIds = registrationIds;
+
+        final int[] typeIds = previousTypeIds;
+        previousTypeIds = this.typeIds;
+        this.typeIds = typeIds;
+
+        final int limit = previousLimit;
+        previousLimit = this.limit;
+        this.limit = limit;
+
+        previousTimestampNs = timestampNs;
+        hasPreviousCapture = hasCapture;
+    }
+}
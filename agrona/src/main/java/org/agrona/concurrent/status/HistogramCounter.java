@@ -0,0 +1,388 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.concurrent.status.CountersReader.*;
+
+/**
+ * Histogram of recorded values, with log-linear buckets in the style of HdrHistogram, which is stored in the values
+ * buffer of a {@link CountersManager} so that it can be read by other processes via a {@link CountersReader} and a
+ * {@link HistogramSnapshot} without locking the writer.
+ * <p>
+ * Values from 0 to {@code 2^subBucketBits - 1} are recorded exactly. Larger values are recorded in buckets with a
+ * width that doubles with each power of 2 so the relative error is no greater than {@code 2^(1 - subBucketBits)}.
+ * Values greater than the highest trackable value are recorded in the last bucket.
+ * <p>
+ * The histogram is a normal counter, with a label and type id, whose value is the total count of recorded values.
+ * The buckets are held in records of {@link CountersReader#HISTOGRAM_BUCKETS_TYPE_ID}, which are not included when
+ * iterating counters, and the layout is described in the key of the histogram counter:
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +---------------------------------------------------------------+
+ *  |                       Sub-Bucket Bits                         |
+ *  +---------------------------------------------------------------+
+ *  |                        Bucket Count                           |
+ *  +---------------------------------------------------------------+
+ *  |                  Bucket Record Counter Ids                   ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ * Each bucket record holds {@link #BUCKETS_PER_RECORD} buckets in the value field and from {@link #BUCKETS_OFFSET}
+ * so the registration, owner, and reference ids are untouched and the stripe cell count remains 0.
+ * <p>
+ * <b>Note:</b> Values must only be recorded by a single thread and the counter must be freed with {@link #close()}
+ * so the bucket records are freed with it.
+ */
+public final class HistogramCounter implements AutoCloseable
+{
+    /**
+     * Offset in the key at which the number of sub-bucket bits is stored.
+     */
+    public static final int SUB_BUCKET_BITS_KEY_OFFSET = 0;
+
+    /**
+     * Offset in the key at which the number of buckets is stored.
+     */
+    public static final int BUCKET_COUNT_KEY_OFFSET = SUB_BUCKET_BITS_KEY_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset in the key at which the counter ids of the bucket records are stored.
+     */
+    public static final int BUCKET_RECORD_IDS_KEY_OFFSET = BUCKET_COUNT_KEY_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset in a bucket record of the first aligned bucket after the value field.
+     */
+    public static final int BUCKETS_OFFSET = STRIPE_CELL_COUNT_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Number of buckets held in each bucket record.
+     */
+    public static final int BUCKETS_PER_RECORD = 1 + ((COUNTER_LENGTH - BUCKETS_OFFSET) / SIZE_OF_LONG);
+
+    /**
+     * Maximum number of bucket records which can be described in the key.
+     */
+    public static final int MAX_BUCKET_RECORD_COUNT = (MAX_KEY_LENGTH - BUCKET_RECORD_IDS_KEY_OFFSET) / SIZE_OF_INT;
+
+    /**
+     * Maximum number of buckets in a histogram.
+     */
+    public static final int MAX_BUCKET_COUNT = MAX_BUCKET_RECORD_COUNT * BUCKETS_PER_RECORD;
+
+    /**
+     * Maximum number of sub-bucket bits.
+     */
+    public static final int MAX_SUB_BUCKET_BITS = 8;
+
+    private boolean isClosed = false;
+    private final int id;
+    private final int subBucketBits;
+    private final int countOffset;
+    private final long highestTrackableValue;
+    private final int[] bucketRecordIds;
+    private final int[] bucketOffsets;
+    private final AtomicBuffer valuesBuffer;
+    private final CountersManager countersManager;
+
+    /**
+     * Allocate a histogram counter.
+     *
+     * @param countersManager       from which the histogram and its bucket records are allocated.
+     * @param label                 to describe the histogram.
+     * @param typeId                for the type of counter.
+     * @param highestTrackableValue which can be recorded without being clamped to the last bucket.
+     * @param subBucketBits         number of bits of precision for each power of 2 from 1 to
+     *                              {@link #MAX_SUB_BUCKET_BITS}.
+     * @throws IllegalArgumentException if the parameters result in more than {@link #MAX_BUCKET_COUNT} buckets.
+     */
+    public HistogramCounter(
+        final CountersManager countersManager,
+        final String label,
+        final int typeId,
+        final long highestTrackableValue,
+        final int subBucketBits)
+    {
+        if (subBucketBits < 1 || subBucketBits > MAX_SUB_BUCKET_BITS)
+        {
+            throw new IllegalArgumentException(
+                "subBucketBits must be in the range 1 to " + MAX_SUB_BUCKET_BITS + ": subBucketBits=" + subBucketBits);
+        }
+
+        if (highestTrackableValue < 1)
+        {
+            throw new IllegalArgumentException(
+                "highestTrackableValue must be positive: highestTrackableValue=" + highestTrackableValue);
+        }
+
+        final int bucketCount = bucketCount(highestTrackableValue, subBucketBits);
+        if (bucketCount > MAX_BUCKET_COUNT)
+        {
+            throw new IllegalArgumentException(
+                "too many buckets required: bucketCount=" + bucketCount + ", maxBucketCount=" + MAX_BUCKET_COUNT);
+        }
+
+        this.countersManager = countersManager;
+        this.subBucketBits = subBucketBits;
+        this.highestTrackableValue = highestTrackableValue;
+        valuesBuffer = countersManager.valuesBuffer();
+        bucketRecordIds = new int[(bucketCount + BUCKETS_PER_RECORD - 1) / BUCKETS_PER_RECORD];
+        bucketOffsets = new int[bucketCount];
+
+        int recordCount = 0;
+        try
+        {
+            for (; recordCount < bucketRecordIds.length; recordCount++)
+            {
+                final String recordLabel = label + " buckets " + recordCount;
+                bucketRecordIds[recordCount] = countersManager.allocate(recordLabel, HISTOGRAM_BUCKETS_TYPE_ID);
+            }
+
+            id = countersManager.allocate(
+                label,
+                typeId,
+                (keyBuffer) ->
+                {
+                    keyBuffer.putInt(SUB_BUCKET_BITS_KEY_OFFSET, subBucketBits);
+                    keyBuffer.putInt(BUCKET_COUNT_KEY_OFFSET, bucketCount);
+                    for (int i = 0; i < bucketRecordIds.length; i++)
+                    {
+                        keyBuffer.putInt(BUCKET_RECORD_IDS_KEY_OFFSET + (i * SIZE_OF_INT), bucketRecordIds[i]);
+                    }
+                });
+        }
+        catch (final RuntimeException ex)
+        {
+            for (int i = 0; i < recordCount; i++)
+            {
+                countersManager.free(bucketRecordIds[i]);
+            }
+            throw ex;
+        }
+
+        countOffset = counterOffset(id);
+        for (int i = 0; i < bucketCount; i++)
+        {
+            bucketOffsets[i] = bucketOffset(bucketRecordIds[i / BUCKETS_PER_RECORD], i % BUCKETS_PER_RECORD);
+        }
+    }
+
+    /**
+     * Identity for the counter within the {@link CountersManager}.
+     *
+     * @return identity for the counter within the {@link CountersManager}.
+     */
+    public int id()
+    {
+        return id;
+    }
+
+    /**
+     * Number of buckets in the histogram.
+     *
+     * @return number of buckets in the histogram.
+     */
+    public int bucketCount()
+    {
+        return bucketOffsets.length;
+    }
+
+    /**
+     * Number of bits of precision for each power of 2.
+     *
+     * @return number of bits of precision for each power of 2.
+     */
+    public int subBucketBits()
+    {
+        return subBucketBits;
+    }
+
+    /**
+     * Highest value which can be recorded without being clamped to the last bucket.
+     *
+     * @return highest value which can be recorded without being clamped to the last bucket.
+     */
+    public long highestTrackableValue()
+    {
+        return highestTrackableValue;
+    }
+
+    /**
+     * Record a value with ordered writes so it can be read from other threads. Must only be called by the owning
+     * thread.
+     *
+     * @param value to be recorded.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    public void record(final long value)
+    {
+        if (value < 0)
+        {
+            throw new IllegalArgumentException("value must not be negative: value=" + value);
+        }
+
+        final AtomicBuffer valuesBuffer = this.valuesBuffer;
+        final int bucketOffset = bucketOffsets[bucketIndex(Math.min(value, highestTrackableValue), subBucketBits)];
+        valuesBuffer.putLongRelease(bucketOffset, valuesBuffer.getLong(bucketOffset) + 1);
+        valuesBuffer.putLongRelease(countOffset, valuesBuffer.getLong(countOffset) + 1);
+    }
+
+    /**
+     * Get the total count of recorded values with a volatile read.
+     *
+     * @return the total count of recorded values.
+     */
+    public long totalCount()
+    {
+        return valuesBuffer.getLongVolatile(countOffset);
+    }
+
+    /**
+     * Close the counter and free it along with its bucket records.
+     */
+    public void close()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            countersManager.free(id);
+
+            for (final int bucketRecordId : bucketRecordIds)
+            {
+                countersManager.free(bucketRecordId);
+            }
+        }
+    }
+
+    /**
+     * Has this counter been closed?
+     *
+     * @return true if this counter has already been closed.
+     */
+    public boolean isClosed()
+    {
+        return isClosed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "HistogramCounter{" +
+            "isClosed=" + isClosed() +
+            ", id=" + id +
+            ", subBucketBits=" + subBucketBits +
+            ", bucketCount=" + bucketCount() +
+            ", totalCount=" + (isClosed() ? -1 : totalCount()) +
+            ", countersManager=" + countersManager +
+            '}';
+    }
+
+    /**
+     * Index of the bucket in which a value is recorded.
+     *
+     * @param value         to be recorded which must not be negative.
+     * @param subBucketBits number of bits of precision for each power of 2.
+     * @return index of the bucket in which the value is recorded.
+     */
+    public static int bucketIndex(final long value, final int subBucketBits)
+    {
+        final int subBucketCount = 1 << subBucketBits;
+        if (value < subBucketCount)
+        {
+            return (int)value;
+        }
+
+        final int shift = 64 - Long.numberOfLeadingZeros(value) - subBucketBits;
+        final int halfSubBucketCount = subBucketCount >> 1;
+
+        return subBucketCount + ((shift - 1) * halfSubBucketCount) + (int)(value >>> shift) - halfSubBucketCount;
+    }
+
+    /**
+     * Lowest value which is recorded in a bucket.
+     *
+     * @param bucketIndex   of the bucket.
+     * @param subBucketBits number of bits of precision for each power of 2.
+     * @return lowest value which is recorded in the bucket.
+     */
+    public static long lowestValue(final int bucketIndex, final int subBucketBits)
+    {
+        final int subBucketCount = 1 << subBucketBits;
+        if (bucketIndex < subBucketCount)
+        {
+            return bucketIndex;
+        }
+
+        final int halfSubBucketCount = subBucketCount >> 1;
+        final int shift = 1 + ((bucketIndex - subBucketCount) >> (subBucketBits - 1));
+        final long subBucket = halfSubBucketCount + ((bucketIndex - subBucketCount) & (halfSubBucketCount - 1));
+
+        return subBucket << shift;
+    }
+
+    /**
+     * Highest value which is recorded in a bucket.
+     *
+     * @param bucketIndex   of the bucket.
+     * @param subBucketBits number of bits of precision for each power of 2.
+     * @return highest value which is recorded in the bucket.
+     */
+    public static long highestValue(final int bucketIndex, final int subBucketBits)
+    {
+        final int subBucketCount = 1 << subBucketBits;
+        if (bucketIndex < subBucketCount)
+        {
+            return bucketIndex;
+        }
+
+        final int shift = 1 + ((bucketIndex - subBucketCount) >> (subBucketBits - 1));
+
+        return lowestValue(bucketIndex, subBucketBits) + (1L << shift) - 1;
+    }
+
+    /**
+     * Number of buckets required to record values up to the highest trackable value.
+     *
+     * @param highestTrackableValue which can be recorded without being clamped to the last bucket.
+     * @param subBucketBits         number of bits of precision for each power of 2.
+     * @return number of buckets required.
+     */
+    public static int bucketCount(final long highestTrackableValue, final int subBucketBits)
+    {
+        return bucketIndex(highestTrackableValue, subBucketBits) + 1;
+    }
+
+    /**
+     * Offset in the values buffer of a bucket within a bucket record.
+     *
+     * @param bucketRecordId counter id of the bucket record.
+     * @param index          of the bucket within the record.
+     * @return offset in the values buffer of the bucket.
+     */
+    static int bucketOffset(final int bucketRecordId, final int index)
+    {
+        final int counterOffset = counterOffset(bucketRecordId);
+
+        return 0 == index ? counterOffset : counterOffset + BUCKETS_OFFSET + ((index - 1) * SIZE_OF_LONG);
+    }
+}
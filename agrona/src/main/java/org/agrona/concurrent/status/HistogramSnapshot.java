@@ -0,0 +1,286 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.concurrent.status.CountersReader.*;
+import static org.agrona.concurrent.status.HistogramCounter.*;
+
+/**
+ * Snapshot of a {@link HistogramCounter} read via a {@link CountersReader} which can be in another process.
+ * <p>
+ * The buckets are copied with volatile reads while the writer may be recording so the snapshot is not atomic, but
+ * the {@link #totalCount()} is the sum of the copied buckets so percentiles are consistent with it. A snapshot can be
+ * reused to avoid allocation and two snapshots of the same histogram can be subtracted to get the values recorded
+ * in an interval.
+ * <p>
+ * <b>Note:</b> This class is not threadsafe.
+ */
+public final class HistogramSnapshot
+{
+    private int subBucketBits;
+    private int bucketCount;
+    private long totalCount;
+    private final long[] counts = new long[MAX_BUCKET_COUNT];
+
+    /**
+     * Default constructor.
+     */
+    public HistogramSnapshot()
+    {
+    }
+
+    /**
+     * Read a snapshot of the histogram for a counter.
+     *
+     * @param countersReader for the counters buffers.
+     * @param counterId      of the {@link HistogramCounter}.
+     * @return true if the counter is an allocated histogram and has been read, otherwise false.
+     */
+    public boolean read(final CountersReader countersReader, final int counterId)
+    {
+        subBucketBits = 0;
+        bucketCount = 0;
+        totalCount = 0;
+
+        if (counterId < 0 ||
+            counterId > countersReader.maxCounterId() ||
+            RECORD_ALLOCATED != countersReader.getCounterState(counterId))
+        {
+            return false;
+        }
+
+        final AtomicBuffer metaDataBuffer = countersReader.metaDataBuffer();
+        final int keyOffset = metaDataOffset(counterId) + KEY_OFFSET;
+        final int subBucketBits = metaDataBuffer.getInt(keyOffset + SUB_BUCKET_BITS_KEY_OFFSET);
+        final int bucketCount = metaDataBuffer.getInt(keyOffset + BUCKET_COUNT_KEY_OFFSET);
+        if (subBucketBits < 1 || subBucketBits > MAX_SUB_BUCKET_BITS || bucketCount < 1 ||
+            bucketCount > MAX_BUCKET_COUNT)
+        {
+            return false;
+        }
+
+        final AtomicBuffer valuesBuffer = countersReader.valuesBuffer();
+        final long[] counts = this.counts;
+        long totalCount = 0;
+
+        for (int i = 0; i < bucketCount; i += BUCKETS_PER_RECORD)
+        {
+            final int bucketRecordId = metaDataBuffer.getInt(
+                keyOffset + BUCKET_RECORD_IDS_KEY_OFFSET + ((i / BUCKETS_PER_RECORD) * SIZE_OF_INT));
+            if (bucketRecordId < 0 ||
+                bucketRecordId > countersReader.maxCounterId() ||
+                RECORD_ALLOCATED != countersReader.getCounterState(bucketRecordId) ||
+                HISTOGRAM_BUCKETS_TYPE_ID != countersReader.getCounterTypeId(bucketRecordId))
+            {
+                return false;
+            }
+
+            for (int j = 0, limit = Math.min(BUCKETS_PER_RECORD, bucketCount - i); j < limit; j++)
+            {
+                final long count = valuesBuffer.getLongVolatile(bucketOffset(bucketRecordId, j));
+                counts[i + j] = count;
+                totalCount += count;
+            }
+        }
+
+        this.subBucketBits = subBucketBits;
+        this.bucketCount = bucketCount;
+        this.totalCount = totalCount;
+
+        return true;
+    }
+
+    /**
+     * Subtract the counts of an earlier snapshot of the same histogram to leave the values recorded since.
+     *
+     * @param earlier snapshot of the same histogram.
+     * @throws IllegalArgumentException if the snapshots do not have the same layout.
+     */
+    public void subtract(final HistogramSnapshot earlier)
+    {
+        if (earlier.subBucketBits != subBucketBits || earlier.bucketCount != bucketCount)
+        {
+            throw new IllegalArgumentException(
+                "snapshots must have the same layout: subBucketBits=" + subBucketBits + ", bucketCount=" +
+                bucketCount + ", earlier.subBucketBits=" + earlier.subBucketBits + ", earlier.bucketCount=" +
+                earlier.bucketCount);
+        }
+
+        final long[] counts = this.counts;
+        long totalCount = 0;
+        for (int i = 0; i < bucketCount; i++)
+        {
+            final long count = Math.max(0, counts[i] - earlier.counts[i]);
+            counts[i] = count;
+            totalCount += count;
+        }
+
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Number of sub-bucket bits of the histogram, or 0 if not read.
+     *
+     * @return number of sub-bucket bits of the histogram, or 0 if not read.
+     */
+    public int subBucketBits()
+    {
+        return subBucketBits;
+    }
+
+    /**
+     * Number of buckets in the snapshot, or 0 if not read.
+     *
+     * @return number of buckets in the snapshot, or 0 if not read.
+     */
+    public int bucketCount()
+    {
+        return bucketCount;
+    }
+
+    /**
+     * Count of values recorded in a bucket.
+     *
+     * @param bucketIndex of the bucket.
+     * @return count of values recorded in the bucket.
+     * @throws IndexOutOfBoundsException if the bucket index is out of range.
+     */
+    public long count(final int bucketIndex)
+    {
+        if (bucketIndex < 0 || bucketIndex >= bucketCount)
+        {
+            throw new IndexOutOfBoundsException("bucketIndex=" + bucketIndex + ", bucketCount=" + bucketCount);
+        }
+
+        return counts[bucketIndex];
+    }
+
+    /**
+     * Total count of values in the snapshot.
+     *
+     * @return total count of values in the snapshot.
+     */
+    public long totalCount()
+    {
+        return totalCount;
+    }
+
+    /**
+     * Lowest recorded value to the precision of the buckets, or 0 if empty.
+     *
+     * @return lowest recorded value to the precision of the buckets, or 0 if empty.
+     */
+    public long minValue()
+    {
+        for (int i = 0; i < bucketCount; i++)
+        {
+            if (0 != counts[i])
+            {
+                return lowestValue(i, subBucketBits);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Highest recorded value to the precision of the buckets, or 0 if empty.
+     *
+     * @return highest recorded value to the precision of the buckets, or 0 if empty.
+     */
+    public long maxValue()
+    {
+        for (int i = bucketCount - 1; i >= 0; i--)
+        {
+            if (0 != counts[i])
+            {
+                return highestValue(i, subBucketBits);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Mean of the recorded values using the midpoint of each bucket, or 0 if empty.
+     *
+     * @return mean of the recorded values using the midpoint of each bucket, or 0 if empty.
+     */
+    public double mean()
+    {
+        if (0 == totalCount)
+        {
+            return 0;
+        }
+
+        double total = 0;
+        for (int i = 0; i < bucketCount; i++)
+        {
+            final long count = counts[i];
+            if (0 != count)
+            {
+                final long lowestValue = lowestValue(i, subBucketBits);
+                total += count * (lowestValue + ((highestValue(i, subBucketBits) - lowestValue) / 2.0));
+            }
+        }
+
+        return total / totalCount;
+    }
+
+    /**
+     * Value at a percentile of the recorded values, given as the highest value of the bucket in which it falls.
+     *
+     * @param percentile from 0.0 to 100.0.
+     * @return value at the percentile, or 0 if empty.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public long valueAtPercentile(final double percentile)
+    {
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+        {
+            throw new IllegalArgumentException(
+                "percentile must be in the range 0.0 to 100.0: percentile=" + percentile);
+        }
+
+        final long countAtPercentile = Math.max(1, (long)Math.ceil((percentile / 100.0) * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < bucketCount; i++)
+        {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= countAtPercentile)
+            {
+                return highestValue(i, subBucketBits);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "HistogramSnapshot{" +
+            "subBucketBits=" + subBucketBits +
+            ", bucketCount=" + bucketCount +
+            ", totalCount=" + totalCount +
+            '}';
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.BitUtil;
+import org.agrona.collections.Hashing;
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.concurrent.status.CountersReader.*;
+
+/**
+ * Open-addressing index of registration id to counter id which is laid out in an {@link AtomicBuffer} so it can be
+ * shared with {@link CountersReader}s in other processes alongside the metadata and values buffers.
+ * <p>
+ * Many counters can share a registration id, e.g. with different type ids, so a registration id can have many entries.
+ * Entries are only a hint, a reader verifies each candidate against the metadata and values buffers, so a lookup
+ * which races with an update can miss a counter, as can a scan, but never returns a counter which does not match.
+ * <p>
+ * Removed entries are left as tombstones, which are cleared when they are at the end of a probe sequence, so readers
+ * do not need to retry when entries move. The index is sized to twice the number of counters so probe sequences stay
+ * short.
+ * <p>
+ * Layout of each slot:
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                       Registration Id                         |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                        Counter Id + 1                         |
+ *  +---------------------------------------------------------------+
+ *  |                           Padding                             |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ * <p>
+ * <b>Note:</b> Only a single thread may update the index at any one time.
+ */
+final class RegistrationIdIndex
+{
+    /**
+     * Length of a slot in the index.
+     */
+    static final int SLOT_LENGTH = SIZE_OF_LONG * 2;
+
+    private static final int COUNTER_ID_OFFSET = SIZE_OF_LONG;
+    private static final int EMPTY = 0;
+    private static final int TOMBSTONE = -1;
+
+    private final int mask;
+    private final int maxCounterId;
+    private final AtomicBuffer indexBuffer;
+    private final AtomicBuffer metaDataBuffer;
+    private final AtomicBuffer valuesBuffer;
+
+    RegistrationIdIndex(
+        final AtomicBuffer indexBuffer,
+        final AtomicBuffer metaDataBuffer,
+        final AtomicBuffer valuesBuffer,
+        final int counterCapacity)
+    {
+        final int capacity = indexBuffer.capacity();
+        final int requiredLength = length(counterCapacity);
+        if (capacity < requiredLength || !BitUtil.isPowerOfTwo(capacity))
+        {
+            throw new IllegalArgumentException(
+                "registration id index must be a power of 2 of at least " + requiredLength + ": capacity=" + capacity);
+        }
+
+        indexBuffer.verifyAlignment();
+
+        this.indexBuffer = indexBuffer;
+        this.metaDataBuffer = metaDataBuffer;
+        this.valuesBuffer = valuesBuffer;
+        maxCounterId = counterCapacity - 1;
+        mask = (capacity / SLOT_LENGTH) - 1;
+    }
+
+    /**
+     * Length of buffer required to index a number of counters.
+     *
+     * @param counterCapacity number of counters which can be allocated.
+     * @return length of buffer required to index the counters.
+     */
+    static int length(final int counterCapacity)
+    {
+        return BitUtil.findNextPositivePowerOfTwo(Math.max(counterCapacity, 1) * 2) * SLOT_LENGTH;
+    }
+
+    /**
+     * Find the lowest allocated counter id with a registration id, and a type id if {@code matchTypeId} is true.
+     *
+     * @param registrationId to find.
+     * @param typeId         to find if {@code matchTypeId} is true.
+     * @param matchTypeId    true if the type id must match.
+     * @return the counter id if found otherwise {@link CountersReader#NULL_COUNTER_ID}.
+     */
+    int find(final long registrationId, final int typeId, final boolean matchTypeId)
+    {
+        final AtomicBuffer indexBuffer = this.indexBuffer;
+        final int mask = this.mask;
+        int counterId = NULL_COUNTER_ID;
+        int slot = Hashing.hash(registrationId, mask);
+
+        for (int i = 0; i <= mask; i++)
+        {
+            final int offset = slot * SLOT_LENGTH;
+            final int value = indexBuffer.getIntVolatile(offset + COUNTER_ID_OFFSET);
+            if (EMPTY == value)
+            {
+                break;
+            }
+
+            final int candidateId = value - 1;
+            if (TOMBSTONE != value &&
+                registrationId == indexBuffer.getLong(offset) &&
+                (NULL_COUNTER_ID == counterId || candidateId < counterId) &&
+                isMatch(candidateId, registrationId, typeId, matchTypeId))
+            {
+                counterId = candidateId;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return counterId;
+    }
+
+    /**
+     * Add an entry for a counter id with a registration id.
+     *
+     * @param registrationId of the counter.
+     * @param counterId      of the counter.
+     */
+    void add(final long registrationId, final int counterId)
+    {
+        final AtomicBuffer indexBuffer = this.indexBuffer;
+        final int mask = this.mask;
+        int slot = Hashing.hash(registrationId, mask);
+
+        for (int i = 0; i <= mask; i++)
+        {
+            final int offset = slot * SLOT_LENGTH;
+            final int value = indexBuffer.getInt(offset + COUNTER_ID_OFFSET);
+            if (EMPTY == value || TOMBSTONE == value)
+            {
+                indexBuffer.putLong(offset, registrationId);
+                indexBuffer.putIntRelease(offset + COUNTER_ID_OFFSET, counterId + 1);
+                return;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        throw new IllegalStateException("registration id index is full: counterId=" + counterId);
+    }
+
+    /**
+     * Remove the entry for a counter id with a registration id if present.
+     *
+     * @param registrationId of the counter.
+     * @param counterId      of the counter.
+     */
+    void remove(final long registrationId, final int counterId)
+    {
+        final AtomicBuffer indexBuffer = this.indexBuffer;
+        final int mask = this.mask;
+        int slot = Hashing.hash(registrationId, mask);
+
+        for (int i = 0; i <= mask; i++)
+        {
+            final int offset = slot * SLOT_LENGTH;
+            final int value = indexBuffer.getInt(offset + COUNTER_ID_OFFSET);
+            if (EMPTY == value)
+            {
+                break;
+            }
+
+            if (counterId + 1 == value && registrationId == indexBuffer.getLong(offset))
+            {
+                indexBuffer.putIntRelease(offset + COUNTER_ID_OFFSET, TOMBSTONE);
+                clearTombstones(slot);
+                break;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Clear down all entries.
+     */
+    void clear()
+    {
+        indexBuffer.setMemory(0, indexBuffer.capacity(), (byte)0);
+    }
+
+    private void clearTombstones(final int fromSlot)
+    {
+        final AtomicBuffer indexBuffer = this.indexBuffer;
+        final int mask = this.mask;
+        if (EMPTY != indexBuffer.getInt((((fromSlot + 1) & mask) * SLOT_LENGTH) + COUNTER_ID_OFFSET))
+        {
+            return;
+        }
+
+        int slot = fromSlot;
+        for (int i = 0; i <= mask; i++)
+        {
+            final int offset = (slot * SLOT_LENGTH) + COUNTER_ID_OFFSET;
+            if (TOMBSTONE != indexBuffer.getInt(offset))
+            {
+                break;
+            }
+
+            indexBuffer.putIntRelease(offset, EMPTY);
+            slot = (slot - 1) & mask;
+        }
+    }
+
+    private boolean isMatch(final int counterId, final long registrationId, final int typeId, final boolean matchTypeId)
+    {
+        if (counterId < 0 || counterId > maxCounterId)
+        {
+            return false;
+        }
+
+        final int recordOffset = metaDataOffset(counterId);
+
+        return RECORD_ALLOCATED == metaDataBuffer.getIntVolatile(recordOffset) &&
+            (!matchTypeId || typeId == metaDataBuffer.getInt(recordOffset + TYPE_ID_OFFSET)) &&
+            registrationId == valuesBuffer.getLongVolatile(counterOffset(counterId) + REGISTRATION_ID_OFFSET);
+    }
+}
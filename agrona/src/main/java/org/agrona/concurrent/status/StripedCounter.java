@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.BitUtil;
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.concurrent.status.CountersReader.*;
+
+/**
+ * Counter, similar to {@link java.util.concurrent.atomic.LongAdder}, which is striped across a number of cells in the
+ * values buffer of a {@link CountersManager} so many threads can add to it without contending on a single cache line.
+ * <p>
+ * The counter is a normal record, with a label and type id, whose value is the first stripe. The other stripes are
+ * cells which are allocated as records of {@link CountersReader#STRIPE_CELL_TYPE_ID} and their ids are stored in the
+ * record of the counter at {@link CountersReader#STRIPE_CELL_IDS_OFFSET}. A {@link CountersReader}, in this or
+ * another process, sums the cells when reading the value with {@link CountersReader#getCounterValue(int)} or
+ * {@link CountersReader#forEach(CountersReader.CounterConsumer)} and does not include the cells when iterating so
+ * monitoring tools see a single counter.
+ * <p>
+ * Threads are mapped to a stripe by thread id. The sum is not an atomic snapshot when there are concurrent updates.
+ * <p>
+ * <b>Note:</b> The counter must be freed with {@link #close()} so the cells are freed with it.
+ */
+public final class StripedCounter implements AutoCloseable
+{
+    private boolean isClosed = false;
+    private final int id;
+    private final int stripeMask;
+    private final int[] cellIds;
+    private final int[] stripeOffsets;
+    private final AtomicBuffer valuesBuffer;
+    private final CountersManager countersManager;
+
+    /**
+     * Allocate a striped counter with a type of {@link CountersReader#DEFAULT_TYPE_ID}.
+     *
+     * @param countersManager from which the counter and its cells are allocated.
+     * @param label           to describe the counter.
+     * @param stripeCount     number of stripes which must be a power of 2 and no greater than
+     *                        {@link CountersReader#MAX_STRIPE_CELL_COUNT} + 1.
+     */
+    public StripedCounter(final CountersManager countersManager, final String label, final int stripeCount)
+    {
+        this(countersManager, label, DEFAULT_TYPE_ID, stripeCount);
+    }
+
+    /**
+     * Allocate a striped counter.
+     *
+     * @param countersManager from which the counter and its cells are allocated.
+     * @param label           to describe the counter.
+     * @param typeId          for the type of counter.
+     * @param stripeCount     number of stripes which must be a power of 2 and no greater than
+     *                        {@link CountersReader#MAX_STRIPE_CELL_COUNT} + 1.
+     * @throws IllegalArgumentException if the stripe count is not a power of 2 or too large.
+     */
+    public StripedCounter(
+        final CountersManager countersManager, final String label, final int typeId, final int stripeCount)
+    {
+        if (!BitUtil.isPowerOfTwo(stripeCount) || stripeCount > MAX_STRIPE_CELL_COUNT + 1)
+        {
+            throw new IllegalArgumentException(
+                "stripeCount must be a power of 2 no greater than " + (MAX_STRIPE_CELL_COUNT + 1) +
+                ": stripeCount=" + stripeCount);
+        }
+
+        this.countersManager = countersManager;
+        valuesBuffer = countersManager.valuesBuffer();
+        stripeMask = stripeCount - 1;
+        cellIds = new int[stripeCount - 1];
+        stripeOffsets = new int[stripeCount];
+
+        id = countersManager.allocate(label, typeId);
+        int cellCount = 0;
+        try
+        {
+            for (; cellCount < cellIds.length; cellCount++)
+            {
+                final String cellLabel = label + " stripe " + (cellCount + 1);
+                cellIds[cellCount] = countersManager.allocate(cellLabel, STRIPE_CELL_TYPE_ID);
+            }
+        }
+        catch (final RuntimeException ex)
+        {
+            for (int i = 0; i < cellCount; i++)
+            {
+                countersManager.free(cellIds[i]);
+            }
+            countersManager.free(id);
+            throw ex;
+        }
+
+        final int counterOffset = counterOffset(id);
+        stripeOffsets[0] = counterOffset;
+        for (int i = 0; i < cellIds.length; i++)
+        {
+            stripeOffsets[i + 1] = counterOffset(cellIds[i]);
+            valuesBuffer.putInt(counterOffset + STRIPE_CELL_IDS_OFFSET + (i * SIZE_OF_INT), cellIds[i]);
+        }
+
+        valuesBuffer.putIntRelease(counterOffset + STRIPE_CELL_COUNT_OFFSET, cellIds.length);
+    }
+
+    /**
+     * Identity for the counter within the {@link CountersManager}.
+     *
+     * @return identity for the counter within the {@link CountersManager}.
+     */
+    public int id()
+    {
+        return id;
+    }
+
+    /**
+     * Number of stripes the counter is spread across.
+     *
+     * @return number of stripes the counter is spread across.
+     */
+    public int stripeCount()
+    {
+        return stripeOffsets.length;
+    }
+
+    /**
+     * Perform an atomic increment of the stripe for the current thread that will not lose updates across threads.
+     */
+    public void increment()
+    {
+        valuesBuffer.getAndAddLong(stripeOffset(), 1);
+    }
+
+    /**
+     * Add an increment to the stripe for the current thread that will not lose updates across threads.
+     *
+     * @param increment to be added.
+     */
+    public void add(final long increment)
+    {
+        valuesBuffer.getAndAddLong(stripeOffset(), increment);
+    }
+
+    /**
+     * Get the value of the counter by summing the stripes with volatile reads.
+     *
+     * @return the sum of the stripes.
+     */
+    public long get()
+    {
+        final AtomicBuffer valuesBuffer = this.valuesBuffer;
+        long value = 0;
+        for (final int offset : stripeOffsets)
+        {
+            value += valuesBuffer.getLongVolatile(offset);
+        }
+
+        return value;
+    }
+
+    /**
+     * Close the counter and free it along with its cells.
+     */
+    public void close()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            valuesBuffer.putIntRelease(counterOffset(id) + STRIPE_CELL_COUNT_OFFSET, 0);
+
+            for (final int cellId : cellIds)
+            {
+                countersManager.free(cellId);
+            }
+            countersManager.free(id);
+        }
+    }
+
+    /**
+     * Has this counter been closed?
+     *
+     * @return true if this counter has already been closed.
+     */
+    public boolean isClosed()
+    {
+        return isClosed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "StripedCounter{" +
+            "isClosed=" + isClosed() +
+            ", id=" + id +
+            ", stripeCount=" + stripeCount() +
+            ", value=" + (isClosed() ? -1 : get()) +
+            ", countersManager=" + countersManager +
+            '}';
+    }
+
+    private int stripeOffset()
+    {
+        return stripeOffsets[(int)Thread.currentThread().getId() & stripeMask];
+    }
+}
@@ -22,6 +22,10 @@ import java.nio.ByteBuffer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BufferCompareTest
 {
@@ -84,4 +88,43 @@ class BufferCompareTest
 
         assertThat(lhsBuffer.compareTo(rhsBuffer), greaterThan(0));
     }
+
+    @Test
+    void shouldFindMismatchAtEveryOffset()
+    {
+        final int length = 37;
+        final UnsafeBuffer lhsBuffer = new UnsafeBuffer(new byte[length + 3]);
+        final MutableDirectBuffer rhsBuffer = new ExpandableDirectByteBuffer(length + 5);
+
+        for (int i = 0; i < length; i++)
+        {
+            lhsBuffer.putByte(3 + i, (byte)(i * 7));
+            rhsBuffer.putByte(5 + i, (byte)(i * 7));
+        }
+
+        assertEquals(-1, lhsBuffer.mismatch(3, rhsBuffer, 5, length));
+        assertTrue(lhsBuffer.equals(3, rhsBuffer, 5, length));
+
+        for (int i = 0; i < length; i++)
+        {
+            final byte value = rhsBuffer.getByte(5 + i);
+            rhsBuffer.putByte(5 + i, (byte)(value ^ 0x80));
+
+            assertEquals(i, lhsBuffer.mismatch(3, rhsBuffer, 5, length));
+            assertFalse(lhsBuffer.equals(3, rhsBuffer, 5, length));
+            assertEquals(-1, lhsBuffer.mismatch(3, rhsBuffer, 5, i));
+
+            rhsBuffer.putByte(5 + i, value);
+        }
+    }
+
+    @Test
+    void shouldThrowWhenMismatchIsOutOfBounds()
+    {
+        final UnsafeBuffer lhsBuffer = new UnsafeBuffer(new byte[16]);
+        final UnsafeBuffer rhsBuffer = new UnsafeBuffer(new byte[8]);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> lhsBuffer.mismatch(0, rhsBuffer, 0, 16));
+        assertThrows(IndexOutOfBoundsException.class, () -> lhsBuffer.mismatch(4, rhsBuffer, 0, 16));
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BufferSearchTest
+{
+    private static final int CAPACITY = 64;
+
+    private static Stream<MutableDirectBuffer> buffers()
+    {
+        return Stream.of(
+            new UnsafeBuffer(new byte[CAPACITY]),
+            new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY)),
+            new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY + 1), 1, CAPACITY),
+            new ExpandableArrayBuffer(CAPACITY),
+            new ExpandableDirectByteBuffer(CAPACITY));
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void shouldFindByteAtEveryPosition(final MutableDirectBuffer buffer)
+    {
+        final byte[] values = { 0, 1, (byte)0x80, (byte)0xFF, '\n' };
+        for (final byte value : values)
+        {
+            buffer.setMemory(0, CAPACITY, (byte)(value + 1));
+
+            for (int index = 0; index < 9; index++)
+            {
+                for (int position = index; position < CAPACITY; position++)
+                {
+                    buffer.putByte(position, value);
+
+                    assertEquals(position, buffer.indexOf(index, CAPACITY - index, value));
+                    assertEquals(-1, buffer.indexOf(index, position - index, value));
+
+                    buffer.putByte(position, (byte)(value + 1));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void shouldFindFirstOfRepeatedBytes(final MutableDirectBuffer buffer)
+    {
+        buffer.putStringWithoutLengthAscii(0, "8=FIX.4.4\u00019=12\u000135=A\u0001");
+
+        assertEquals(9, buffer.indexOf(0, CAPACITY, (byte)1));
+        assertEquals(14, buffer.indexOf(10, CAPACITY - 10, (byte)1));
+        assertEquals(1, buffer.indexOf(0, CAPACITY, (byte)'='));
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void shouldFindPattern(final MutableDirectBuffer buffer)
+    {
+        final int length = buffer.putStringWithoutLengthAscii(0, "GET / HTTP/1.1\r\nHost: a\r\n\r\n");
+        final byte[] crlf = "\r\n".getBytes(US_ASCII);
+        final byte[] end = "\r\n\r\n".getBytes(US_ASCII);
+
+        assertEquals(14, buffer.indexOf(0, length, crlf));
+        assertEquals(23, buffer.indexOf(15, length - 15, crlf));
+        assertEquals(23, buffer.indexOf(0, length, end));
+        assertEquals(-1, buffer.indexOf(0, length - 1, end));
+        assertEquals(-1, buffer.indexOf(0, length, "\r\r".getBytes(US_ASCII)));
+        assertEquals(5, buffer.indexOf(5, length - 5, new byte[0]));
+        assertEquals(-1, buffer.indexOf(0, 1, crlf));
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void shouldThrowWhenSearchIsOutOfBounds(final MutableDirectBuffer buffer)
+    {
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.indexOf(1, CAPACITY, (byte)0));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.indexOf(-1, 1, new byte[]{ 0 }));
+    }
+}
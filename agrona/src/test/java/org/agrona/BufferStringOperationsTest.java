@@ -278,6 +278,80 @@ class BufferStringOperationsTest
         assertThat(appendable.toString(), is("Hel?o"));
     }
 
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void shouldGetUtf8ToAppendable(final MutableDirectBuffer buffer)
+    {
+        final String value = "Hello, World and ng\u00e2n h\u00e0 \u20ac \ud83d\ude00!";
+        final byte[] encodedBytes = value.getBytes(StandardCharsets.UTF_8);
+
+        buffer.putStringUtf8(INDEX, value);
+
+        final StringBuilder appendable = new StringBuilder();
+        final int encodedLength = buffer.getStringUtf8(INDEX, appendable);
+
+        assertThat(encodedLength, is(encodedBytes.length));
+        assertThat(appendable.toString(), is(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void shouldGetUtf8ToAppendableWithoutLength(final MutableDirectBuffer buffer)
+    {
+        final String value = "\u05e9\u05dc\u05d5\u05dd, this is a longer ASCII run \u00a3";
+        final int index = 42;
+        buffer.getBytes(0, BUFFER_DATA);
+
+        final int encodedLength = buffer.putStringWithoutLengthUtf8(index, value);
+        final StringBuilder appendable = new StringBuilder("prefix:");
+
+        assertThat(buffer.getStringWithoutLengthUtf8(index, encodedLength, appendable), is(encodedLength));
+        assertThat(appendable.toString(), is("prefix:" + value));
+        assertOtherDataWasNotModified(buffer, index, encodedLength);
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void shouldReplaceMalformedUtf8WhenAppendingAsStringDoes(final MutableDirectBuffer buffer)
+    {
+        final byte[] malformed =
+        {
+            'A', (byte)0xC3, 'B', (byte)0xC0, (byte)0x80, (byte)0xED, (byte)0xA0, (byte)0x80, (byte)0xE0, (byte)0x9F,
+            (byte)0xF0, (byte)0x9F, (byte)0x98, 'C', (byte)0xF4, (byte)0x90, (byte)0x80, (byte)0x80, (byte)0xFF,
+            (byte)0xE2, (byte)0x82
+        };
+        buffer.putBytes(INDEX, malformed);
+
+        final StringBuilder appendable = new StringBuilder();
+        buffer.getStringWithoutLengthUtf8(INDEX, malformed.length, appendable);
+
+        assertThat(appendable.toString(), is(new String(malformed, StandardCharsets.UTF_8)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("buffers")
+    void shouldAppendRandomBytesAsStringDecodesThem(final MutableDirectBuffer buffer)
+    {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final StringBuilder appendable = new StringBuilder();
+        final byte[] bytes = new byte[64];
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            final int length = random.nextInt(bytes.length);
+            for (int j = 0; j < length; j++)
+            {
+                bytes[j] = (byte)(random.nextBoolean() ? random.nextInt(128) : random.nextInt());
+            }
+            buffer.putBytes(INDEX, bytes, 0, length);
+
+            appendable.setLength(0);
+            buffer.getStringWithoutLengthUtf8(INDEX, length, appendable);
+
+            assertEquals(new String(bytes, 0, length, StandardCharsets.UTF_8), appendable.toString());
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("buffers")
     void putStringAsciiTreatsNullAndEmptyValueTheSame(final MutableDirectBuffer buffer)
@@ -523,6 +523,325 @@ public abstract class MutableDirectBufferTests
         assertArrayEquals(expected, actual);
     }
 
+    @Test
+    void parseLongAsciiShouldParseEveryLengthAndRejectInvalidCharacterAtEveryPosition()
+    {
+        final int index = 3;
+        final MutableDirectBuffer buffer = newBuffer(32);
+        final StringBuilder digits = new StringBuilder();
+
+        for (int length = 1; length < AsciiEncoding.LONG_MAX_DIGITS; length++)
+        {
+            digits.append((char)('0' + ((length * 7) % 10)));
+            final String value = digits.toString();
+            final String negativeValue = "-" + value;
+
+            buffer.putStringWithoutLengthAscii(index, value);
+            assertEquals(Long.parseLong(value), buffer.parseLongAscii(index, length), value);
+            buffer.putStringWithoutLengthAscii(index, negativeValue);
+            assertEquals(Long.parseLong(negativeValue), buffer.parseLongAscii(index, length + 1), negativeValue);
+
+            for (int i = 0; i < length; i++)
+            {
+                buffer.putStringWithoutLengthAscii(index, value);
+                buffer.putByte(index + i, (byte)'x');
+
+                final int invalidLength = length;
+                assertThrowsExactly(
+                    AsciiNumberFormatException.class, () -> buffer.parseLongAscii(index, invalidLength));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0",
+        "12.5, 3, 12500",
+        "-12.5, 3, -12500",
+        "-0.5, 1, -5",
+        ".25, 2, 25",
+        "7., 0, 7",
+        "0.000000000000000001, 18, 1",
+        "1, 18, 1000000000000000000",
+        "1234567890.1234567, 8, 123456789012345670",
+        "92233720368547758.07, 2, 9223372036854775807",
+        "-9223372036854775808, 0, -9223372036854775808",
+        "9223372036854775807, 0, 9223372036854775807" })
+    void shouldParseDecimalAscii(final String value, final int scale, final long mantissa)
+    {
+        final int index = 5;
+        final MutableDirectBuffer buffer = newBuffer(64);
+        final int length = buffer.putStringWithoutLengthAscii(index, value);
+
+        assertEquals(mantissa, buffer.parseDecimalAscii(index, length, scale));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "-", ".", "-.", "1.2.", "1a", "--1", "1-", "+1", "1e5", "12345678901234567.8x" })
+    void parseDecimalAsciiShouldThrowAsciiNumberFormatExceptionIfValueContainsInvalidCharacters(final String value)
+    {
+        final int index = 2;
+        final MutableDirectBuffer buffer = newBuffer(32);
+        final int length = buffer.putStringWithoutLengthAscii(index, value);
+
+        final AsciiNumberFormatException exception = assertThrowsExactly(
+            AsciiNumberFormatException.class, () -> buffer.parseDecimalAscii(index, length, 2));
+        assertEquals("error parsing decimal: " + value, exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "92233720368547758.08, 2", "10, 18", "12345678901234567890, 0", "1000000000000000000, 1" })
+    void parseDecimalAsciiShouldThrowAsciiNumberFormatExceptionIfValueIsOutOfRange(final String value, final int scale)
+    {
+        final int index = 1;
+        final MutableDirectBuffer buffer = newBuffer(32);
+        final int length = buffer.putStringWithoutLengthAscii(index, value);
+
+        final AsciiNumberFormatException exception = assertThrowsExactly(
+            AsciiNumberFormatException.class, () -> buffer.parseDecimalAscii(index, length, scale));
+        assertEquals("decimal overflow parsing: " + value, exception.getMessage());
+    }
+
+    @Test
+    void parseDecimalAsciiShouldThrowIfDecimalPlacesExceedScale()
+    {
+        final MutableDirectBuffer buffer = newBuffer(16);
+        final int length = buffer.putStringWithoutLengthAscii(0, "1.25");
+
+        final AsciiNumberFormatException exception = assertThrowsExactly(
+            AsciiNumberFormatException.class, () -> buffer.parseDecimalAscii(0, length, 1));
+        assertEquals("decimal places exceed scale=1 parsing: 1.25", exception.getMessage());
+        assertThrowsExactly(AsciiNumberFormatException.class, () -> buffer.parseDecimalAscii(0, 0, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, AsciiEncoding.MAX_DECIMAL_SCALE + 1 })
+    void shouldThrowIfDecimalScaleIsOutOfRange(final int scale)
+    {
+        final MutableDirectBuffer buffer = newBuffer(16);
+        buffer.putByte(0, (byte)'1');
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> buffer.parseDecimalAscii(0, 1, scale));
+        assertThrowsExactly(IllegalArgumentException.class, () -> buffer.putDecimalAscii(0, 1, scale));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0",
+        "0, 2, 0.00",
+        "-12500, 3, -12.500",
+        "-5, 1, -0.5",
+        "5, 3, 0.005",
+        "123456789, 0, 123456789",
+        "-9223372036854775808, 18, -9.223372036854775808",
+        "9223372036854775807, 4, 922337203685477.5807" })
+    void shouldPutDecimalAscii(final long mantissa, final int scale, final String expected)
+    {
+        final int index = 3;
+        final MutableDirectBuffer buffer = newBuffer(64);
+
+        final int length = buffer.putDecimalAscii(index, mantissa, scale);
+
+        assertEquals(expected.length(), length);
+        assertEquals(expected, buffer.getStringWithoutLengthAscii(index, length));
+        assertEquals(mantissa, buffer.parseDecimalAscii(index, length, scale));
+    }
+
+    @Test
+    void putDecimalAsciiRoundTrip()
+    {
+        final int index = 7;
+        final MutableDirectBuffer buffer = newBuffer(64);
+
+        for (int i = 0; i < 1_000_000; i++)
+        {
+            final long mantissa = ThreadLocalRandom.current().nextLong();
+            final int scale = ThreadLocalRandom.current().nextInt(AsciiEncoding.MAX_DECIMAL_SCALE + 1);
+            final int length = buffer.putDecimalAscii(index, mantissa, scale);
+
+            assertEquals(mantissa, buffer.parseDecimalAscii(index, length, scale));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.0, 0.0",
+        "-0.0, -0.0",
+        "1.0, 1.0",
+        "-1.5, -1.5",
+        "0.1, 0.1",
+        "100.0, 100.0",
+        "123.456, 123.456",
+        "9999999.0, 9999999.0",
+        "1.0E7, 1.0E7",
+        "0.001, 0.001",
+        "1.0E-4, 1.0E-4",
+        "1.0E23, 1.0E23",
+        "2.0E-3, 0.002",
+        "-1.2345678901234568E-300, -1.2345678901234568E-300",
+        "9007199254740993, 9.007199254740992E15",
+        "1.7976931348623157E308, 1.7976931348623157E308",
+        "2.2250738585072014E-308, 2.2250738585072014E-308",
+        "4.9E-324, 4.9E-324",
+        "NaN, NaN",
+        "Infinity, Infinity",
+        "-Infinity, -Infinity" })
+    void shouldPutDoubleAscii(final double value, final String expected)
+    {
+        final int index = 3;
+        final MutableDirectBuffer buffer = newBuffer(64);
+
+        final int length = buffer.putDoubleAscii(index, value);
+
+        assertEquals(expected.length(), length);
+        assertEquals(expected, buffer.getStringWithoutLengthAscii(index, length));
+        assertEquals(Double.doubleToLongBits(value), Double.doubleToLongBits(buffer.parseDoubleAscii(index, length)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.0, 0.0",
+        "-0.0, -0.0",
+        "0.1, 0.1",
+        "-2.5, -2.5",
+        "1.0E7, 1.0E7",
+        "16777216, 1.6777216E7",
+        "3.4028235E38, 3.4028235E38",
+        "1.17549435E-38, 1.1754944E-38",
+        "1.4E-45, 1.4E-45",
+        "NaN, NaN",
+        "-Infinity, -Infinity" })
+    void shouldPutFloatAscii(final float value, final String expected)
+    {
+        final int index = 1;
+        final MutableDirectBuffer buffer = newBuffer(32);
+
+        final int length = buffer.putFloatAscii(index, value);
+
+        assertEquals(expected.length(), length);
+        assertEquals(expected, buffer.getStringWithoutLengthAscii(index, length));
+        assertEquals(value, (float)buffer.parseDoubleAscii(index, length));
+    }
+
+    @Test
+    void putDoubleAsciiRoundTrip()
+    {
+        final int index = 5;
+        final MutableDirectBuffer buffer = newBuffer(64);
+        final boolean isShortestToString = Runtime.version().feature() >= 19;
+
+        for (int i = 0; i < 1_000_000; i++)
+        {
+            final double value = Double.longBitsToDouble(ThreadLocalRandom.current().nextLong());
+            final int length = buffer.putDoubleAscii(index, value);
+            final String encoded = buffer.getStringWithoutLengthAscii(index, length);
+
+            assertEquals(Double.doubleToLongBits(value), Double.doubleToLongBits(Double.parseDouble(encoded)));
+            assertEquals(
+                Double.doubleToLongBits(value), Double.doubleToLongBits(buffer.parseDoubleAscii(index, length)));
+            if (isShortestToString)
+            {
+                assertEquals(Double.toString(value), encoded);
+            }
+        }
+    }
+
+    @Test
+    void putFloatAsciiRoundTrip()
+    {
+        final int index = 5;
+        final MutableDirectBuffer buffer = newBuffer(64);
+        final boolean isShortestToString = Runtime.version().feature() >= 19;
+
+        for (int i = 0; i < 1_000_000; i++)
+        {
+            final float value = Float.intBitsToFloat(ThreadLocalRandom.current().nextInt());
+            final int length = buffer.putFloatAscii(index, value);
+            final String encoded = buffer.getStringWithoutLengthAscii(index, length);
+
+            assertEquals(Float.floatToIntBits(value), Float.floatToIntBits(Float.parseFloat(encoded)));
+            if (isShortestToString)
+            {
+                assertEquals(Float.toString(value), encoded);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0",
+        "-0",
+        "+3",
+        "1.",
+        ".5",
+        "00000123.4500e-2",
+        "1E+10",
+        "9914160166923166048",
+        "-0.09914160166923166048",
+        "123456789012345678901234567890",
+        "0.000000000000000000000000000000000000001",
+        "2.2250738585072011e-308",
+        "2.4703282292062328e-324",
+        "2.4703282292062327e-324",
+        "1e400",
+        "-1e-400",
+        "1e99999999999",
+        "NaN",
+        "+Infinity",
+        "-Infinity" })
+    void shouldParseDoubleAscii(final String value)
+    {
+        final int index = 4;
+        final MutableDirectBuffer buffer = newBuffer(64);
+        final int length = buffer.putStringWithoutLengthAscii(index, value);
+
+        assertEquals(
+            Double.doubleToLongBits(Double.parseDouble(value)),
+            Double.doubleToLongBits(buffer.parseDoubleAscii(index, length)));
+    }
+
+    @Test
+    void parseDoubleAsciiShouldMatchParseDoubleForRandomDecimals()
+    {
+        final int index = 3;
+        final MutableDirectBuffer buffer = newBuffer(64);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < 1_000_000; i++)
+        {
+            builder.setLength(0);
+            builder.append(random.nextInt()).append('.').append(random.nextLong(1_000_000_000_000L));
+            if (random.nextBoolean())
+            {
+                builder.append('e').append(random.nextInt(-350, 350));
+            }
+
+            final String value = builder.toString();
+            final int length = buffer.putStringWithoutLengthAscii(index, value);
+
+            assertEquals(
+                Double.doubleToLongBits(Double.parseDouble(value)),
+                Double.doubleToLongBits(buffer.parseDoubleAscii(index, length)),
+                value);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "-", "+", ".", "-.", "e5", "1e", "1e+", "1.2.3", "1x", "--1", "1e5.0", "NaNx", "Inf", " 1" })
+    void parseDoubleAsciiShouldThrowAsciiNumberFormatExceptionIfValueContainsInvalidCharacters(final String value)
+    {
+        final int index = 2;
+        final MutableDirectBuffer buffer = newBuffer(32);
+        final int length = buffer.putStringWithoutLengthAscii(index, value);
+
+        final AsciiNumberFormatException exception = assertThrowsExactly(
+            AsciiNumberFormatException.class, () -> buffer.parseDoubleAscii(index, length));
+        assertEquals("error parsing double: " + value, exception.getMessage());
+        assertThrowsExactly(AsciiNumberFormatException.class, () -> buffer.parseDoubleAscii(index, 0));
+    }
+
     private static List<Arguments> valuesAndLengths()
     {
         return Arrays.asList(
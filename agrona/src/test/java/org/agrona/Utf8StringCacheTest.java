@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8StringCacheTest
+{
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[256]);
+    private final Utf8StringCache cache = new Utf8StringCache(16, 32);
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 3, -4 })
+    void shouldThrowIfCapacityIsNotPowerOfTwo(final int capacity)
+    {
+        final IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> new Utf8StringCache(capacity, 8));
+        assertEquals("capacity must be a positive power of 2: capacity=" + capacity, exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowIfMaxLengthIsNegative()
+    {
+        final IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> new Utf8StringCache(8, -1));
+        assertEquals("maxLength must not be negative: maxLength=-1", exception.getMessage());
+    }
+
+    @Test
+    void shouldReturnSameStringForRepeatedBytes()
+    {
+        final int length = buffer.putStringWithoutLengthUtf8(0, "EUR/USD \u20ac");
+        buffer.putStringWithoutLengthUtf8(100, "EUR/USD \u20ac");
+
+        final String value = cache.getStringWithoutLengthUtf8(buffer, 0, length);
+
+        assertEquals("EUR/USD \u20ac", value);
+        assertSame(value, cache.getStringWithoutLengthUtf8(buffer, 0, length));
+        assertSame(value, cache.getStringWithoutLengthUtf8(buffer, 100, length));
+    }
+
+    @Test
+    void shouldDistinguishDifferentBytes()
+    {
+        final int length = buffer.putStringWithoutLengthUtf8(0, "AAPL");
+        buffer.putStringWithoutLengthUtf8(length, "MSFT");
+
+        assertEquals("AAPL", cache.getStringWithoutLengthUtf8(buffer, 0, length));
+        assertEquals("MSFT", cache.getStringWithoutLengthUtf8(buffer, length, length));
+        assertEquals("AAP", cache.getStringWithoutLengthUtf8(buffer, 0, length - 1));
+        assertEquals("AAPL", cache.getStringWithoutLengthUtf8(buffer, 0, length));
+    }
+
+    @Test
+    void shouldReplaceEntryWhenSlotIsReused()
+    {
+        final Utf8StringCache singleSlotCache = new Utf8StringCache(1, 32);
+        final int length = buffer.putStringWithoutLengthUtf8(0, "first");
+        buffer.putStringWithoutLengthUtf8(length, "other");
+
+        final String first = singleSlotCache.getStringWithoutLengthUtf8(buffer, 0, length);
+        assertEquals("other", singleSlotCache.getStringWithoutLengthUtf8(buffer, length, length));
+
+        final String firstAgain = singleSlotCache.getStringWithoutLengthUtf8(buffer, 0, length);
+        assertEquals(first, firstAgain);
+        assertNotSame(first, firstAgain);
+    }
+
+    @Test
+    void shouldNotCacheStringsLongerThanMaxLength()
+    {
+        final String value = "a string which is longer than the max length";
+        final int length = buffer.putStringWithoutLengthUtf8(0, value);
+
+        final String decoded = cache.getStringWithoutLengthUtf8(buffer, 0, length);
+
+        assertEquals(value, decoded);
+        assertNotSame(decoded, cache.getStringWithoutLengthUtf8(buffer, 0, length));
+    }
+
+    @Test
+    void shouldGetLengthPrefixedString()
+    {
+        buffer.putStringUtf8(8, "symbol");
+
+        final String value = cache.getStringUtf8(buffer, 8);
+
+        assertEquals("symbol", value);
+        assertSame(value, cache.getStringUtf8(buffer, 8));
+        assertSame("", cache.getStringWithoutLengthUtf8(buffer, 8, 0));
+    }
+
+    @Test
+    void shouldClearCachedStrings()
+    {
+        final int length = buffer.putStringWithoutLengthUtf8(0, "symbol");
+        final String value = cache.getStringWithoutLengthUtf8(buffer, 0, length);
+
+        cache.clear();
+
+        final String decoded = cache.getStringWithoutLengthUtf8(buffer, 0, length);
+        assertEquals(value, decoded);
+        assertNotSame(value, decoded);
+        assertEquals(16, cache.capacity());
+        assertEquals(32, cache.maxLength());
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentInt2IntHashMapTest
+{
+    private static final int MISSING_VALUE = -1;
+
+    private final ConcurrentInt2IntHashMap map = new ConcurrentInt2IntHashMap(MISSING_VALUE);
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 3, 512 })
+    void shouldThrowExceptionIfSegmentCountIsInvalid(final int segmentCount)
+    {
+        final IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new ConcurrentInt2IntHashMap(64, Hashing.DEFAULT_LOAD_FACTOR, MISSING_VALUE, segmentCount));
+        assertEquals(
+            "segmentCount must be a power of 2 no greater than 256: segmentCount=" + segmentCount,
+            exception.getMessage());
+    }
+
+    @Test
+    void shouldNotAcceptMissingValue()
+    {
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, MISSING_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(1, MISSING_VALUE));
+    }
+
+    @Test
+    void shouldPutAndGetValues()
+    {
+        assertTrue(map.isEmpty());
+        assertEquals(MISSING_VALUE, map.put(7, 70));
+        assertEquals(MISSING_VALUE, map.put(-7, 0));
+
+        assertEquals(70, map.get(7));
+        assertEquals(0, map.get(-7));
+        assertEquals(MISSING_VALUE, map.get(8));
+        assertEquals(5, map.getOrDefault(8, 5));
+        assertTrue(map.containsKey(7));
+        assertFalse(map.containsKey(8));
+        assertEquals(2, map.size());
+
+        assertEquals(70, map.put(7, 71));
+        assertEquals(71, map.get(7));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldRemoveAndPutAgain()
+    {
+        map.put(7, 70);
+
+        assertEquals(70, map.remove(7));
+        assertEquals(MISSING_VALUE, map.remove(7));
+        assertEquals(MISSING_VALUE, map.get(7));
+        assertTrue(map.isEmpty());
+
+        assertEquals(MISSING_VALUE, map.put(7, 72));
+        assertEquals(72, map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldOnlyPutIfAbsent()
+    {
+        assertEquals(MISSING_VALUE, map.putIfAbsent(3, 30));
+        assertEquals(30, map.putIfAbsent(3, 31));
+        assertEquals(30, map.get(3));
+
+        map.remove(3);
+        assertEquals(MISSING_VALUE, map.putIfAbsent(3, 32));
+        assertEquals(32, map.get(3));
+    }
+
+    @Test
+    void shouldComputeIfAbsentOnlyOnce()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(10, map.computeIfAbsent(5, (key) -> calls.incrementAndGet() * 10));
+        assertEquals(10, map.computeIfAbsent(5, (key) -> calls.incrementAndGet() * 10));
+        assertEquals(1, calls.get());
+
+        assertEquals(MISSING_VALUE, map.computeIfAbsent(6, (key) -> MISSING_VALUE));
+        assertFalse(map.containsKey(6));
+    }
+
+    @Test
+    void shouldGrowAndMatchSingleThreadedMap()
+    {
+        final Int2IntHashMap expected = new Int2IntHashMap(MISSING_VALUE);
+        final int initialCapacity = map.capacity();
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            final int key = i * 31;
+            map.put(key, i);
+            expected.put(key, i);
+
+            if (0 == (i % 3))
+            {
+                assertEquals(expected.remove(key / 2), map.remove(key / 2));
+            }
+        }
+
+        assertTrue(map.capacity() > initialCapacity);
+        assertEquals(expected.size(), map.size());
+
+        final Int2IntHashMap actual = new Int2IntHashMap(MISSING_VALUE);
+        map.forEachInt(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldReuseCapacityWhenChurningKeys()
+    {
+        final int initialCapacity = map.capacity();
+
+        for (int i = 0; i < 100_000; i++)
+        {
+            map.put(i, i);
+            assertEquals(i, map.remove(i));
+        }
+
+        assertTrue(map.isEmpty());
+        assertEquals(initialCapacity, map.capacity());
+    }
+
+    @Test
+    void shouldClear()
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertEquals(MISSING_VALUE, map.get(50));
+        assertEquals("{}", map.toString());
+
+        map.put(50, 5);
+        assertEquals("{50=5}", map.toString());
+    }
+
+    @Test
+    void shouldReadConsistentValuesWhileWriting() throws InterruptedException
+    {
+        final int keyCount = 1024;
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicInteger errors = new AtomicInteger();
+
+        final Thread reader = new Thread(
+            () ->
+            {
+                while (running.get())
+                {
+                    for (int key = 0; key < keyCount; key++)
+                    {
+                        final int value = map.get(key);
+                        if (MISSING_VALUE != value && key != (value >> 16))
+                        {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    Thread.yield();
+                }
+            });
+        reader.start();
+
+        try
+        {
+            for (int i = 0; i < 50; i++)
+            {
+                for (int key = 0; key < keyCount; key++)
+                {
+                    map.put(key, (key << 16) | i);
+                }
+
+                for (int key = i & 1; key < keyCount; key += 2)
+                {
+                    map.remove(key);
+                }
+            }
+        }
+        finally
+        {
+            running.set(false);
+            reader.join();
+        }
+
+        assertEquals(0, errors.get());
+    }
+}
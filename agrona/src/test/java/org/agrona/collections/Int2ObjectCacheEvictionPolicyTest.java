@@ -0,0 +1,227 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.*;
+
+class Int2ObjectCacheEvictionPolicyTest
+{
+    private final List<String> evicted = new ArrayList<>();
+
+    @Test
+    void shouldDefaultToFifoEvictionPolicy()
+    {
+        final Int2ObjectCache<String> cache = new Int2ObjectCache<>(1, 4, evicted::add);
+
+        assertEquals(CacheEvictionPolicy.FIFO, cache.evictionPolicy());
+    }
+
+    @Test
+    void shouldThrowIfEvictionPolicyIsNull()
+    {
+        assertThrows(NullPointerException.class, () -> new Int2ObjectCache<String>(1, 4, evicted::add, null));
+    }
+
+    @Test
+    void shouldGiveVisitedEntriesSecondChanceWithClock()
+    {
+        final Int2ObjectCache<String> cache = newCache(CacheEvictionPolicy.CLOCK);
+        putAll(cache, 1, 2, 3, 4);
+
+        assertEquals("1", cache.get(1));
+        assertEquals("2", cache.get(2));
+
+        cache.put(5, "5");
+        assertEquals(List.of("3"), evicted);
+
+        cache.put(6, "6");
+        assertEquals(List.of("3", "4"), evicted);
+
+        assertEquals("1", cache.get(1));
+        assertEquals("2", cache.get(2));
+        assertEquals("5", cache.get(5));
+        assertEquals("6", cache.get(6));
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void shouldKeepVisitedEntriesWithSieve()
+    {
+        final Int2ObjectCache<String> cache = newCache(CacheEvictionPolicy.SIEVE);
+        putAll(cache, 1, 2, 3, 4);
+
+        assertEquals("1", cache.get(1));
+
+        cache.put(5, "5");
+        cache.put(6, "6");
+        cache.put(7, "7");
+
+        assertEquals(List.of("2", "3", "4"), evicted);
+        assertEquals("1", cache.get(1));
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void shouldRetainHotEntryUnderScanWithSieve()
+    {
+        final Int2ObjectCache<String> cache = newCache(CacheEvictionPolicy.SIEVE);
+        cache.put(0, "0");
+
+        for (int i = 1; i < 100; i++)
+        {
+            assertEquals("0", cache.get(0));
+            cache.put(i, Integer.toString(i));
+        }
+
+        assertEquals("0", cache.get(0));
+        assertFalse(evicted.contains("0"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheEvictionPolicy.class)
+    void shouldReplaceValueInPlaceAndEvictOldValue(final CacheEvictionPolicy evictionPolicy)
+    {
+        final Int2ObjectCache<String> cache = newCache(evictionPolicy);
+        putAll(cache, 1, 2);
+
+        cache.put(1, "one");
+
+        assertEquals(List.of("1"), evicted);
+        assertEquals("one", cache.get(1));
+        assertEquals("2", cache.get(2));
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.cachePuts());
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheEvictionPolicy.class)
+    void shouldRemoveAndClear(final CacheEvictionPolicy evictionPolicy)
+    {
+        final Int2ObjectCache<String> cache = newCache(evictionPolicy);
+        putAll(cache, 1, 2, 3, 4);
+
+        assertEquals("2", cache.remove(2));
+        assertNull(cache.get(2));
+        assertEquals(3, cache.size());
+
+        cache.put(5, "5");
+        assertEquals(List.of("2"), evicted);
+        assertEquals(4, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        putAll(cache, 6, 7, 8, 9);
+        assertEquals(4, cache.size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheEvictionPolicy.class)
+    void shouldStayConsistentWithModelUnderRandomOperations(final CacheEvictionPolicy evictionPolicy)
+    {
+        final Map<Integer, String> model = new HashMap<>();
+        final Int2ObjectCache<String> cache = new Int2ObjectCache<>(
+            4,
+            4,
+            (value) ->
+            {
+                final int key = Integer.parseInt(value.substring(0, value.indexOf(':')));
+                if (value.equals(model.get(key)))
+                {
+                    model.remove(key);
+                }
+            },
+            evictionPolicy);
+
+        final Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++)
+        {
+            final int key = random.nextInt(64);
+            final int operation = random.nextInt(10);
+            if (operation < 5)
+            {
+                assertEquals(model.get(key), cache.get(key));
+            }
+            else if (operation < 9)
+            {
+                final String value = key + ":" + i;
+                model.put(key, value);
+                cache.put(key, value);
+            }
+            else if (model.containsKey(key))
+            {
+                assertEquals(model.remove(key), cache.remove(key));
+            }
+
+            assertEquals(model.size(), cache.size());
+        }
+
+        for (final Map.Entry<Integer, String> entry : model.entrySet())
+        {
+            assertEquals(entry.getValue(), cache.get((int)entry.getKey()));
+        }
+    }
+
+    @Test
+    void shouldHitMoreThanFifoOnSkewedWorkload()
+    {
+        final long fifoHits = skewedWorkloadHits(CacheEvictionPolicy.FIFO);
+
+        assertThat(skewedWorkloadHits(CacheEvictionPolicy.CLOCK), greaterThan(fifoHits));
+        assertThat(skewedWorkloadHits(CacheEvictionPolicy.SIEVE), greaterThan(fifoHits));
+    }
+
+    private long skewedWorkloadHits(final CacheEvictionPolicy evictionPolicy)
+    {
+        final Int2ObjectCache<String> cache = new Int2ObjectCache<>(16, 8, (value) -> {}, evictionPolicy);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++)
+        {
+            final int key = random.nextInt(4) == 0 ? 1000 + random.nextInt(100_000) : random.nextInt(96);
+            if (null == cache.get(key))
+            {
+                cache.put(key, "value");
+            }
+        }
+
+        return cache.cacheHits();
+    }
+
+    private Int2ObjectCache<String> newCache(final CacheEvictionPolicy evictionPolicy)
+    {
+        return new Int2ObjectCache<>(1, 4, evicted::add, evictionPolicy);
+    }
+
+    private static void putAll(final Int2ObjectCache<String> cache, final int... keys)
+    {
+        for (final int key : keys)
+        {
+            cache.put(key, Integer.toString(key));
+        }
+    }
+}
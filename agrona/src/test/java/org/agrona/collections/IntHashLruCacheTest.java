@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashLruCacheTest
+{
+    private static final int CAPACITY = 2;
+
+    private final IntArrayList constructed = new IntArrayList();
+    private final List<String> closed = new ArrayList<>();
+    private final IntHashLruCache<String> cache = new IntHashLruCache<>(
+        CAPACITY,
+        (key) ->
+        {
+            constructed.addInt(key);
+            return String.valueOf(key);
+        },
+        closed::add);
+
+    @Test
+    void shouldRejectCapacityLessThanOne()
+    {
+        final IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class, () -> new IntHashLruCache<String>(0, String::valueOf, (value) -> {}));
+        assertEquals("capacity must be greater than zero: capacity=0", exception.getMessage());
+    }
+
+    @Test
+    void shouldUseFactoryToConstructValues()
+    {
+        assertEquals("1", cache.lookup(1));
+        assertEquals(1, constructed.size());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldCacheValues()
+    {
+        final String first = cache.lookup(1);
+        final String second = cache.lookup(1);
+
+        assertSame(first, second);
+        assertEquals(1, constructed.size());
+    }
+
+    @Test
+    void shouldSupportKeyOfZero()
+    {
+        assertEquals("0", cache.lookup(0));
+        assertEquals("0", cache.lookup(0));
+        assertEquals(1, constructed.size());
+    }
+
+    @Test
+    void shouldNotCacheNullValues()
+    {
+        final IntHashLruCache<String> cache = new IntHashLruCache<>(CAPACITY, (key) -> null, closed::add);
+
+        assertNull(cache.lookup(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedItem()
+    {
+        cache.lookup(1);
+        cache.lookup(2);
+        cache.lookup(1);
+        cache.lookup(3);
+
+        assertEquals(List.of("2"), closed);
+        assertEquals(CAPACITY, cache.size());
+    }
+
+    @Test
+    void shouldReconstructItemsAfterEviction()
+    {
+        cache.lookup(1);
+        cache.lookup(2);
+        cache.lookup(3);
+        cache.lookup(1);
+
+        assertEquals(List.of("1", "2"), closed);
+        assertArrayEquals(new int[]{ 1, 2, 3, 1 }, constructed.toIntArray());
+    }
+
+    @Test
+    void shouldCloseAllOpenResourcesFromMostRecentlyUsed()
+    {
+        cache.lookup(1);
+        cache.lookup(2);
+        cache.lookup(1);
+
+        cache.close();
+
+        assertEquals(List.of("1", "2"), closed);
+    }
+
+    @Test
+    void shouldEvictInSameOrderAsLinkedHashMapInAccessOrder()
+    {
+        final int capacity = 100;
+        final List<String> expectedClosed = new ArrayList<>();
+        final LinkedHashMap<Integer, String> expected = new LinkedHashMap<>(capacity, 0.75f, true);
+        final IntHashLruCache<String> cache = new IntHashLruCache<>(capacity, String::valueOf, closed::add);
+        final Random random = new Random(11);
+
+        for (int i = 0; i < 100_000; i++)
+        {
+            final int key = random.nextInt(300) - 150;
+            final String value = cache.lookup(key);
+
+            if (null == expected.get(key))
+            {
+                if (capacity == expected.size())
+                {
+                    final Iterator<String> iterator = expected.values().iterator();
+                    expectedClosed.add(iterator.next());
+                    iterator.remove();
+                }
+                expected.put(key, String.valueOf(key));
+            }
+
+            assertEquals(expected.get(key), value);
+        }
+
+        assertEquals(expectedClosed, closed);
+        assertEquals(expected.size(), cache.size());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectHashLruCacheTest
+{
+    private final List<String> constructed = new ArrayList<>();
+    private final List<String> closed = new ArrayList<>();
+    private final ObjectHashLruCache<String, String> cache = new ObjectHashLruCache<>(
+        2,
+        (key) ->
+        {
+            constructed.add(key);
+            return key.toUpperCase();
+        },
+        closed::add);
+
+    @Test
+    void shouldCacheValuesByKeyEquality()
+    {
+        final String first = cache.lookup("a");
+        final String second = cache.lookup(new String(new char[]{ 'a' }));
+
+        assertEquals("A", first);
+        assertSame(first, second);
+        assertEquals(List.of("a"), constructed);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedItem()
+    {
+        cache.lookup("a");
+        cache.lookup("b");
+        cache.lookup("a");
+        cache.lookup("c");
+        cache.lookup("b");
+
+        assertEquals(List.of("B", "A"), closed);
+        assertEquals(List.of("a", "b", "c", "b"), constructed);
+    }
+
+    @Test
+    void shouldRejectNullKey()
+    {
+        assertThrows(NullPointerException.class, () -> cache.lookup(null));
+    }
+
+    @Test
+    void shouldCloseAllOpenResources()
+    {
+        cache.lookup("a");
+        cache.lookup("b");
+
+        cache.close();
+
+        assertEquals(List.of("B", "A"), closed);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RobinHoodInt2ObjectHashMapTest
+{
+    private final RobinHoodInt2ObjectHashMap<String> map = new RobinHoodInt2ObjectHashMap<>();
+
+    @Test
+    void shouldPutAndGetValues()
+    {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(7, "seven"));
+        assertNull(map.put(-7, "minus seven"));
+
+        assertEquals("seven", map.get(7));
+        assertEquals("minus seven", map.get(-7));
+        assertNull(map.get(8));
+        assertEquals("default", map.getOrDefault(8, "default"));
+        assertTrue(map.containsKey(7));
+        assertFalse(map.containsKey(8));
+        assertEquals(2, map.size());
+
+        assertEquals("seven", map.put(7, "SEVEN"));
+        assertEquals("SEVEN", map.get(7));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldNotAcceptNullValue()
+    {
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+        assertThrows(NullPointerException.class, () -> map.putIfAbsent(1, null));
+    }
+
+    @Test
+    void shouldRemoveFromChainOfCollidingKeys()
+    {
+        final int mask = map.capacity() - 1;
+        final int[] keys = new int[4];
+        for (int key = 0, count = 0; count < keys.length; key++)
+        {
+            if (0 == Hashing.hash(key, mask))
+            {
+                keys[count++] = key;
+            }
+        }
+
+        for (final int key : keys)
+        {
+            map.put(key, String.valueOf(key));
+        }
+        assertEquals(keys.length - 1, map.maxProbeDistance());
+
+        assertEquals(String.valueOf(keys[1]), map.remove(keys[1]));
+        assertNull(map.remove(keys[1]));
+        assertEquals(keys.length - 2, map.maxProbeDistance());
+
+        assertEquals(String.valueOf(keys[0]), map.get(keys[0]));
+        assertNull(map.get(keys[1]));
+        assertEquals(String.valueOf(keys[2]), map.get(keys[2]));
+        assertEquals(String.valueOf(keys[3]), map.get(keys[3]));
+        assertEquals(keys.length - 1, map.size());
+    }
+
+    @Test
+    void shouldOnlyPutIfAbsent()
+    {
+        assertNull(map.putIfAbsent(3, "a"));
+        assertEquals("a", map.putIfAbsent(3, "b"));
+        assertEquals("a", map.get(3));
+    }
+
+    @Test
+    void shouldComputeIfAbsent()
+    {
+        assertEquals("5", map.computeIfAbsent(5, String::valueOf));
+        assertEquals("5", map.computeIfAbsent(5, (key) -> "other"));
+        assertNull(map.computeIfAbsent(6, (key) -> null));
+        assertFalse(map.containsKey(6));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldClearAndCompact()
+    {
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+
+        for (int i = 10; i < 1000; i++)
+        {
+            map.remove(i);
+        }
+
+        final int capacity = map.capacity();
+        map.compact();
+        assertTrue(map.capacity() < capacity);
+        assertEquals(10, map.size());
+        assertEquals("9", map.get(9));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(9));
+        assertEquals("{}", map.toString());
+
+        map.put(1, "one");
+        assertEquals("{1=one}", map.toString());
+    }
+
+    @Test
+    void shouldMatchInt2ObjectHashMapUnderChurn()
+    {
+        final RobinHoodInt2ObjectHashMap<String> map = new RobinHoodInt2ObjectHashMap<>(64, 0.9f);
+        final Int2ObjectHashMap<String> expected = new Int2ObjectHashMap<>(64, 0.9f);
+        final Random random = new Random(7);
+
+        for (int i = 0; i < 200_000; i++)
+        {
+            final int key = random.nextInt(5_000);
+            if (random.nextBoolean())
+            {
+                final String value = String.valueOf(i);
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            else
+            {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+
+            assertEquals(expected.get(i % 5_000), map.get(i % 5_000));
+        }
+
+        assertEquals(expected.size(), map.size());
+
+        final Int2ObjectHashMap<String> actual = new Int2ObjectHashMap<>();
+        map.forEachInt(actual::put);
+        assertEquals(expected, actual);
+    }
+}
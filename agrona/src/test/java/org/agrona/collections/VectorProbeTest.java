@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorProbeTest
+{
+    private static final int OPERATIONS = 20_000;
+
+    private final Random random = new Random(7);
+
+    @BeforeEach
+    void before()
+    {
+        assumeTrue(null != VectorProbe.INSTANCE, "jdk.incubator.vector is not available");
+    }
+
+    @Test
+    void shouldMatchHashMapWithRemovalsAndWrapAround()
+    {
+        for (final float loadFactor : new float[]{ 0.5f, 0.7f, 0.9f })
+        {
+            final Int2IntHashMap map = new Int2IntHashMap(8, loadFactor, -1);
+            final Map<Integer, Integer> expected = new HashMap<>();
+
+            for (int i = 0; i < OPERATIONS; i++)
+            {
+                final int key = random.nextInt(256) - 128;
+                if (random.nextBoolean())
+                {
+                    map.put(key, i);
+                    expected.put(key, i);
+                }
+                else
+                {
+                    map.remove(key);
+                    expected.remove(key);
+                }
+
+                final int lookupKey = random.nextInt(256) - 128;
+                assertEquals((int)expected.getOrDefault(lookupKey, -1), map.get(lookupKey));
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchHashMapWithRemovalsAndWrapAroundForLongKeys()
+    {
+        for (final float loadFactor : new float[]{ 0.5f, 0.7f, 0.9f })
+        {
+            final Long2LongHashMap map = new Long2LongHashMap(8, loadFactor, -1L);
+            final Map<Long, Long> expected = new HashMap<>();
+
+            for (int i = 0; i < OPERATIONS; i++)
+            {
+                final long key = (long)(random.nextInt(256) - 128) << 32;
+                if (random.nextBoolean())
+                {
+                    map.put(key, i);
+                    expected.put(key, (long)i);
+                }
+                else
+                {
+                    map.remove(key);
+                    expected.remove(key);
+                }
+
+                final long lookupKey = (long)(random.nextInt(256) - 128) << 32;
+                assertEquals((long)expected.getOrDefault(lookupKey, -1L), map.get(lookupKey));
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchHashSetWithRemovalsAndWrapAround()
+    {
+        for (final float loadFactor : new float[]{ 0.5f, 0.7f, 0.9f })
+        {
+            final IntHashSet set = new IntHashSet(8, loadFactor);
+            final Set<Integer> expected = new HashSet<>();
+
+            for (int i = 0; i < OPERATIONS; i++)
+            {
+                final int value = random.nextInt(256) - 128;
+                if (random.nextBoolean())
+                {
+                    set.add(value);
+                    expected.add(value);
+                }
+                else
+                {
+                    set.remove(value);
+                    expected.remove(value);
+                }
+
+                final int lookupValue = random.nextInt(256) - 128;
+                assertEquals(expected.contains(lookupValue), set.contains(lookupValue));
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchHashSetWithRemovalsAndWrapAroundForLongValues()
+    {
+        for (final float loadFactor : new float[]{ 0.5f, 0.7f, 0.9f })
+        {
+            final LongHashSet set = new LongHashSet(8, loadFactor);
+            final Set<Long> expected = new HashSet<>();
+
+            for (int i = 0; i < OPERATIONS; i++)
+            {
+                final long value = (long)(random.nextInt(256) - 128) << 32;
+                if (random.nextBoolean())
+                {
+                    set.add(value);
+                    expected.add(value);
+                }
+                else
+                {
+                    set.remove(value);
+                    expected.remove(value);
+                }
+
+                final long lookupValue = (long)(random.nextInt(256) - 128) << 32;
+                assertEquals(expected.contains(lookupValue), set.contains(lookupValue));
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.AsciiNumberFormatException;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.UnsafeApi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicLongIndexedBufferTest
+{
+    private static final long LARGE_OFFSET = 3L * 1024 * 1024 * 1024;
+    private static final int REGION_LENGTH = 1024;
+
+    private final long address = UnsafeApi.allocateMemory(REGION_LENGTH);
+    private final AtomicLongIndexedBuffer buffer = new AtomicLongIndexedBuffer(
+        address - LARGE_OFFSET, LARGE_OFFSET + REGION_LENGTH);
+
+    @AfterEach
+    void after()
+    {
+        UnsafeApi.freeMemory(address);
+    }
+
+    @Test
+    void shouldAccessValuesBeyondIntegerRange()
+    {
+        buffer.setMemory(LARGE_OFFSET, REGION_LENGTH, (byte)0);
+
+        buffer.putByte(LARGE_OFFSET, (byte)7);
+        buffer.putChar(LARGE_OFFSET + 2, 'x');
+        buffer.putShort(LARGE_OFFSET + 4, (short)-3);
+        buffer.putInt(LARGE_OFFSET + 8, 42);
+        buffer.putLong(LARGE_OFFSET + 16, Long.MAX_VALUE);
+        buffer.putFloat(LARGE_OFFSET + 24, 1.5f);
+        buffer.putDouble(LARGE_OFFSET + 32, -2.25d);
+
+        assertEquals(LARGE_OFFSET + REGION_LENGTH, buffer.capacity());
+        assertEquals((byte)7, buffer.getByte(LARGE_OFFSET));
+        assertEquals('x', buffer.getChar(LARGE_OFFSET + 2));
+        assertEquals((short)-3, buffer.getShort(LARGE_OFFSET + 4));
+        assertEquals(42, buffer.getInt(LARGE_OFFSET + 8));
+        assertEquals(Long.MAX_VALUE, buffer.getLong(LARGE_OFFSET + 16));
+        assertEquals(1.5f, buffer.getFloat(LARGE_OFFSET + 24));
+        assertEquals(-2.25d, buffer.getDouble(LARGE_OFFSET + 32));
+        assertEquals(42, UnsafeApi.getInt(address + 8));
+    }
+
+    @Test
+    void shouldHonourByteOrder()
+    {
+        final long index = LARGE_OFFSET + 64;
+
+        buffer.putInt(index, 0x01020304, ByteOrder.BIG_ENDIAN);
+        assertEquals(1, buffer.getByte(index));
+        assertEquals(0x01020304, buffer.getInt(index, ByteOrder.BIG_ENDIAN));
+        assertEquals(0x04030201, buffer.getInt(index, ByteOrder.LITTLE_ENDIAN));
+
+        buffer.putLong(index, 5L, ByteOrder.BIG_ENDIAN);
+        assertEquals(5L, buffer.getLong(index, ByteOrder.BIG_ENDIAN));
+        assertEquals(5L, buffer.getByte(index + 7));
+
+        buffer.putDouble(index, Math.PI, ByteOrder.BIG_ENDIAN);
+        assertEquals(Math.PI, buffer.getDouble(index, ByteOrder.BIG_ENDIAN));
+        buffer.putFloat(index, 0.1f, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0.1f, buffer.getFloat(index, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    void shouldPerformAtomicOperations()
+    {
+        final long index = LARGE_OFFSET + 128;
+
+        buffer.putLongRelease(index, 10);
+        assertEquals(10, buffer.getAndAddLong(index, 5));
+        assertTrue(buffer.compareAndSetLong(index, 15, 20));
+        assertFalse(buffer.compareAndSetLong(index, 15, 30));
+        assertEquals(20, buffer.getAndSetLong(index, 1));
+        assertEquals(1, buffer.getLongVolatile(index));
+
+        buffer.putIntVolatile(index + 8, -1);
+        assertEquals(-1, buffer.getAndAddInt(index + 8, 1));
+        assertTrue(buffer.compareAndSetInt(index + 8, 0, 3));
+        assertEquals(3, buffer.getAndSetInt(index + 8, 4));
+        assertEquals(4, buffer.getIntAcquire(index + 8));
+    }
+
+    @Test
+    void shouldEncodeStringsAndNumbers()
+    {
+        final long index = LARGE_OFFSET + 256;
+
+        assertEquals(Integer.BYTES + 5, buffer.putStringAscii(index, "hello"));
+        assertEquals("hello", buffer.getStringAscii(index));
+        assertEquals("ell", buffer.getStringWithoutLengthAscii(index + Integer.BYTES + 1, 3));
+        assertEquals(Integer.BYTES + 1, buffer.putStringAscii(index, "\u00e9"));
+        assertEquals("?", buffer.getStringAscii(index));
+
+        final int utf8Length = buffer.putStringUtf8(index, "\u00e9t\u00e9");
+        assertEquals(Integer.BYTES + 5, utf8Length);
+        assertEquals("\u00e9t\u00e9", buffer.getStringUtf8(index));
+
+        assertEquals(11, buffer.putIntAscii(index, Integer.MIN_VALUE));
+        assertEquals(Integer.MIN_VALUE, buffer.parseIntAscii(index, 11));
+        assertEquals(19, buffer.putLongAscii(index, Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, buffer.parseLongAscii(index, 19));
+    }
+
+    @Test
+    void shouldPutAndParseAsciiNumbersLikeUnsafeBuffer()
+    {
+        final long index = LARGE_OFFSET + 512;
+        final UnsafeBuffer expected = new UnsafeBuffer(new byte[32]);
+        final long[] values = { 0, 7, -7, 10, -99, 100, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE,
+            Long.MIN_VALUE, 1234567890123L, -987654321098765432L };
+
+        for (final long value : values)
+        {
+            final int length = buffer.putLongAscii(index, value);
+            assertEquals(expected.putLongAscii(0, value), length);
+            assertEquals(
+                expected.getStringWithoutLengthAscii(0, length), buffer.getStringWithoutLengthAscii(index, length));
+            assertEquals(value, buffer.parseLongAscii(index, length));
+
+            final int intLength = buffer.putIntAscii(index, (int)value);
+            assertEquals(expected.putIntAscii(0, (int)value), intLength);
+            assertEquals((int)value, buffer.parseIntAscii(index, intLength));
+        }
+
+        buffer.putStringWithoutLengthAscii(index, "2147483648");
+        final AsciiNumberFormatException exception =
+            assertThrows(AsciiNumberFormatException.class, () -> buffer.parseIntAscii(index, 10));
+        assertEquals("int overflow parsing: 2147483648", exception.getMessage());
+        assertEquals(2147483648L, buffer.parseLongAscii(index, 10));
+
+        buffer.putStringWithoutLengthAscii(index, "-12x");
+        assertThrows(AsciiNumberFormatException.class, () -> buffer.parseLongAscii(index, 4));
+        assertThrows(AsciiNumberFormatException.class, () -> buffer.parseIntAscii(index, 1));
+        assertThrows(AsciiNumberFormatException.class, () -> buffer.parseLongAscii(index, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.putLongAscii(buffer.capacity() - 3, -12345));
+    }
+
+    @Test
+    void shouldParseAsciiNumbersConcurrently() throws InterruptedException
+    {
+        final long index = LARGE_OFFSET + 512;
+        buffer.putStringWithoutLengthAscii(index, "1111111111111111");
+        buffer.putStringWithoutLengthAscii(index + 32, "2222222222222222");
+
+        final int iterations = 1_000_000;
+        final int[] mismatches = new int[1];
+        final Thread thread = new Thread(() ->
+        {
+            for (int i = 0; i < iterations; i++)
+            {
+                if (2222222222222222L != buffer.parseLongAscii(index + 32, 16))
+                {
+                    mismatches[0]++;
+                }
+            }
+        });
+        thread.start();
+
+        for (int i = 0; i < iterations; i++)
+        {
+            assertEquals(1111111111111111L, buffer.parseLongAscii(index, 16));
+        }
+
+        thread.join();
+        assertEquals(0, mismatches[0]);
+    }
+
+    @Test
+    void shouldCopyBytesAndWrapWindows()
+    {
+        final long index = LARGE_OFFSET + 512;
+        final byte[] src = { 1, 2, 3, 4 };
+        buffer.putBytes(index, src);
+
+        final byte[] dst = new byte[src.length];
+        buffer.getBytes(index, dst);
+        assertArrayEquals(src, dst);
+
+        final ExpandableArrayBuffer dstBuffer = new ExpandableArrayBuffer(16);
+        buffer.getBytes(index, dstBuffer, 4, src.length);
+        assertEquals(3, dstBuffer.getByte(6));
+
+        buffer.putBytes(index + 4, dstBuffer, 4, src.length);
+        assertEquals(4, buffer.getByte(index + 7));
+
+        final UnsafeBuffer window = new UnsafeBuffer();
+        buffer.wrapWindow(window, index, 8);
+        assertEquals(8, window.capacity());
+        assertEquals(buffer.getInt(index), window.getInt(0));
+        window.putInt(4, 99);
+        assertEquals(99, buffer.getInt(index + 4));
+    }
+
+    @Test
+    void shouldWrapHeapByteBuffer()
+    {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(64);
+        final AtomicLongIndexedBuffer heapBuffer = new AtomicLongIndexedBuffer(byteBuffer);
+
+        heapBuffer.putInt(4, 5, ByteOrder.BIG_ENDIAN);
+        assertEquals(5, byteBuffer.getInt(4));
+        assertSame(byteBuffer, heapBuffer.byteBuffer());
+        assertNotNull(heapBuffer.byteArray());
+
+        final UnsafeBuffer window = new UnsafeBuffer();
+        heapBuffer.wrapWindow(window, 4, 4);
+        assertEquals(5, window.getInt(0, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    void shouldThrowWhenOutOfBounds()
+    {
+        final long capacity = buffer.capacity();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.getLong(capacity - 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.putByte(-1, (byte)0));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.boundsCheck(capacity, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.checkLimit(capacity + 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.wrapWindow(new UnsafeBuffer(), capacity - 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> buffer.wrap(address, -1));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.collections.IntArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentIntArrayQueueTest
+{
+    private static final int QUEUE_CAPACITY = 8;
+
+    private static Stream<AbstractConcurrentIntArrayQueue> data()
+    {
+        return Stream.of(
+            new OneToOneConcurrentIntArrayQueue(QUEUE_CAPACITY),
+            new ManyToOneConcurrentIntArrayQueue(QUEUE_CAPACITY),
+            new ManyToManyConcurrentIntArrayQueue(QUEUE_CAPACITY));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldGetSizeWhenEmpty(final AbstractConcurrentIntArrayQueue queue)
+    {
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+        assertEquals(QUEUE_CAPACITY, queue.remainingCapacity());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldThrowExceptionWhenNullValueOffered(final AbstractConcurrentIntArrayQueue queue)
+    {
+        final IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> queue.offer(queue.nullValue()));
+        assertEquals("cannot offer nullValue=" + queue.nullValue(), exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldOfferAndPollToEmptyQueue(final AbstractConcurrentIntArrayQueue queue)
+    {
+        assertTrue(queue.offer(7));
+        assertEquals(1, queue.size());
+        assertEquals(7, queue.peek());
+
+        assertEquals(7, queue.poll());
+        assertEquals(0, queue.size());
+        assertEquals(1, queue.addedCount());
+        assertEquals(1, queue.removedCount());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldPollAndPeekNullValueFromEmptyQueue(final AbstractConcurrentIntArrayQueue queue)
+    {
+        assertEquals(queue.nullValue(), queue.peek());
+        assertEquals(queue.nullValue(), queue.poll());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldFailToOfferToFullQueue(final AbstractConcurrentIntArrayQueue queue)
+    {
+        fillQueue(queue);
+
+        assertEquals(queue.capacity(), queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertFalse(queue.offer(QUEUE_CAPACITY));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldOfferAndPollInOrderAcrossWrap(final AbstractConcurrentIntArrayQueue queue)
+    {
+        for (int i = 0; i < QUEUE_CAPACITY * 3; i++)
+        {
+            assertTrue(queue.offer(i));
+            assertTrue(queue.offer(-i));
+            assertEquals(i, queue.poll());
+            assertEquals(-i, queue.poll());
+        }
+
+        assertTrue(queue.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldDrainFullQueue(final AbstractConcurrentIntArrayQueue queue)
+    {
+        fillQueue(queue);
+
+        final IntArrayList values = new IntArrayList();
+        final int elementsDrained = queue.drain(values::addInt);
+
+        assertEquals(QUEUE_CAPACITY, elementsDrained);
+        assertArrayEquals(new int[]{ 0, 1, 2, 3, 4, 5, 6, 7 }, values.toIntArray());
+        assertTrue(queue.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldDrainQueueWithLimit(final AbstractConcurrentIntArrayQueue queue)
+    {
+        fillQueue(queue);
+
+        final IntArrayList values = new IntArrayList();
+        final int elementsDrained = queue.drain(values::addInt, 3);
+
+        assertEquals(3, elementsDrained);
+        assertArrayEquals(new int[]{ 0, 1, 2 }, values.toIntArray());
+        assertEquals(QUEUE_CAPACITY - 3, queue.size());
+        assertEquals(3, queue.peek());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void shouldClearFullQueue(final AbstractConcurrentIntArrayQueue queue)
+    {
+        fillQueue(queue);
+
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertEquals(queue.nullValue(), queue.poll());
+    }
+
+    @Test
+    void shouldSupportCustomNullValue()
+    {
+        final OneToOneConcurrentIntArrayQueue queue = new OneToOneConcurrentIntArrayQueue(QUEUE_CAPACITY, -1);
+
+        assertTrue(queue.offer(Integer.MIN_VALUE));
+        assertEquals(Integer.MIN_VALUE, queue.poll());
+        assertEquals(-1, queue.poll());
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(-1));
+    }
+
+    private static void fillQueue(final AbstractConcurrentIntArrayQueue queue)
+    {
+        for (int i = 0; i < QUEUE_CAPACITY; i++)
+        {
+            assertTrue(queue.offer(i));
+        }
+    }
+}
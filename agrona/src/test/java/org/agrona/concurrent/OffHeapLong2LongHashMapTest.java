@@ -0,0 +1,327 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.agrona.IoUtil;
+import org.agrona.collections.Long2LongHashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLong2LongHashMapTest
+{
+    private static final long MISSING_VALUE = -1L;
+    private static final int CAPACITY = 64;
+    private static final int CONCURRENT_CAPACITY = 1024;
+    private static final int READER_COUNT = 2;
+    private static final int WRITER_ITERATIONS = 200_000;
+    private static final long MIN_LOOKUPS = 2_000_000;
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(
+        allocateDirect(OffHeapLong2LongHashMap.bufferLength(CAPACITY)));
+    private final OffHeapLong2LongHashMap map = new OffHeapLong2LongHashMap(buffer, 0.75f, MISSING_VALUE);
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldPutAndGetEntries()
+    {
+        assertEquals(MISSING_VALUE, map.put(7L, 70L));
+        assertEquals(MISSING_VALUE, map.put(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        assertEquals(70L, map.get(7L));
+        assertEquals(Long.MAX_VALUE, map.get(Long.MIN_VALUE));
+        assertEquals(MISSING_VALUE, map.get(8L));
+        assertTrue(map.containsKey(7L));
+        assertFalse(map.containsKey(8L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldReplaceExistingValue()
+    {
+        map.put(7L, 70L);
+
+        assertEquals(70L, map.put(7L, 71L));
+        assertEquals(71L, map.get(7L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldRemoveEntries()
+    {
+        map.put(7L, 70L);
+
+        assertEquals(70L, map.remove(7L));
+        assertEquals(MISSING_VALUE, map.remove(7L));
+        assertEquals(MISSING_VALUE, map.get(7L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldThrowWhenPuttingMissingValue()
+    {
+        assertThrows(IllegalArgumentException.class, () -> map.put(7L, MISSING_VALUE));
+    }
+
+    @Test
+    void shouldThrowWhenFull()
+    {
+        for (int i = 0; i < map.maxSize(); i++)
+        {
+            map.put(i, i);
+        }
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> map.put(-7L, 1L));
+        assertEquals("map is full: maxSize=" + map.maxSize(), exception.getMessage());
+        assertEquals(0L, map.put(0L, 1L));
+    }
+
+    @Test
+    void shouldClearEntries()
+    {
+        map.put(7L, 70L);
+        map.put(8L, 80L);
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertEquals(MISSING_VALUE, map.get(7L));
+        assertEquals(MISSING_VALUE, map.get(8L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 100, OffHeapLong2LongHashMap.HEADER_LENGTH + 24 })
+    void shouldThrowWhenBufferLengthIsInvalid(final int length)
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(length));
+
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapLong2LongHashMap(buffer, 0.5f, 0L));
+    }
+
+    @Test
+    void shouldThrowWhenAttachingToUninitialisedBuffer()
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(OffHeapLong2LongHashMap.bufferLength(CAPACITY)));
+
+        assertThrows(IllegalStateException.class, () -> new OffHeapLong2LongHashMap(buffer));
+    }
+
+    @Test
+    void shouldMatchOnHeapMapAfterRandomOperations()
+    {
+        final Long2LongHashMap expected = new Long2LongHashMap(MISSING_VALUE);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            final long key = random.nextInt(CAPACITY);
+            if (random.nextBoolean() && expected.size() < map.maxSize())
+            {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            else
+            {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (long key = 0; key < CAPACITY; key++)
+        {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void shouldThrowWhenCapacityIsGreaterThanMax()
+    {
+        assertEquals(
+            OffHeapLong2LongHashMap.HEADER_LENGTH + (1L << 30),
+            OffHeapLong2LongHashMap.bufferLength(OffHeapLong2LongHashMap.MAX_CAPACITY));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> OffHeapLong2LongHashMap.bufferLength(OffHeapLong2LongHashMap.MAX_CAPACITY << 1));
+    }
+
+    @Test
+    void shouldNotMissEntriesMovedByConcurrentRemove() throws InterruptedException
+    {
+        final OffHeapLong2LongHashMap map = new OffHeapLong2LongHashMap(
+            new UnsafeBuffer(allocateDirect(OffHeapLong2LongHashMap.bufferLength(CONCURRENT_CAPACITY))),
+            0.9f,
+            MISSING_VALUE);
+        final int stableKeyCount = map.maxSize() / 2;
+        final int churnKeyCount = map.maxSize() - stableKeyCount;
+        for (long key = 0; key < stableKeyCount; key++)
+        {
+            map.put(key, valueOf(key));
+        }
+
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicLong lookups = new AtomicLong();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread[] readers = startReaders(() ->
+        {
+            final Random random = new Random();
+            while (running.get())
+            {
+                final long stableKey = random.nextInt(stableKeyCount);
+                if (valueOf(stableKey) != map.get(stableKey))
+                {
+                    failures.incrementAndGet();
+                }
+
+                final long churnKey = stableKeyCount + random.nextInt(churnKeyCount);
+                final long value = map.get(churnKey);
+                if (MISSING_VALUE != value && valueOf(churnKey) != value)
+                {
+                    failures.incrementAndGet();
+                }
+
+                lookups.incrementAndGet();
+            }
+        });
+
+        final Random random = new Random(42);
+        for (int i = 0; i < WRITER_ITERATIONS || lookups.get() < MIN_LOOKUPS; i++)
+        {
+            final long churnKey = stableKeyCount + random.nextInt(churnKeyCount);
+            if (random.nextBoolean())
+            {
+                map.put(churnKey, valueOf(churnKey));
+            }
+            else
+            {
+                map.remove(churnKey);
+            }
+        }
+
+        stopReaders(running, readers);
+        assertEquals(0, failures.get());
+    }
+
+    @Test
+    void shouldOnlyReturnPutValuesDuringConcurrentClear() throws InterruptedException
+    {
+        final OffHeapLong2LongHashMap map = new OffHeapLong2LongHashMap(
+            new UnsafeBuffer(allocateDirect(OffHeapLong2LongHashMap.bufferLength(CONCURRENT_CAPACITY))),
+            0.9f,
+            MISSING_VALUE);
+        final int keyCount = map.maxSize();
+
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicLong lookups = new AtomicLong();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread[] readers = startReaders(() ->
+        {
+            final Random random = new Random();
+            while (running.get())
+            {
+                final long key = random.nextInt(keyCount * 2);
+                final long value = map.get(key);
+                if (MISSING_VALUE != value && valueOf(key) != value)
+                {
+                    failures.incrementAndGet();
+                }
+
+                lookups.incrementAndGet();
+            }
+        });
+
+        for (int i = 0; i < WRITER_ITERATIONS / keyCount || lookups.get() < MIN_LOOKUPS; i++)
+        {
+            final long firstKey = (long)(i & 1) * keyCount;
+            for (long key = firstKey; key < firstKey + keyCount; key++)
+            {
+                map.put(key, valueOf(key));
+            }
+
+            map.clear();
+        }
+
+        stopReaders(running, readers);
+        assertEquals(0, failures.get());
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldAttachToMapInMemoryMappedFile()
+    {
+        final File file = new File(tempDir, "map");
+        final MappedByteBuffer writerMappedBuffer =
+            IoUtil.mapNewFile(file, OffHeapLong2LongHashMap.bufferLength(CAPACITY));
+        final MappedByteBuffer readerMappedBuffer = IoUtil.mapExistingFile(file, "map");
+
+        try
+        {
+            final OffHeapLong2LongHashMap writer =
+                new OffHeapLong2LongHashMap(new UnsafeBuffer(writerMappedBuffer), 0.5f, 0L);
+            final OffHeapLong2LongHashMap reader = new OffHeapLong2LongHashMap(new UnsafeBuffer(readerMappedBuffer));
+
+            writer.put(7L, 70L);
+
+            assertEquals(0L, reader.missingValue());
+            assertEquals(writer.maxSize(), reader.maxSize());
+            assertEquals(70L, reader.get(7L));
+            assertEquals(1, reader.size());
+        }
+        finally
+        {
+            IoUtil.unmap(writerMappedBuffer);
+            IoUtil.unmap(readerMappedBuffer);
+        }
+    }
+
+    private static long valueOf(final long key)
+    {
+        return (key * 31) + 7;
+    }
+
+    private static Thread[] startReaders(final Runnable reader)
+    {
+        final Thread[] readers = new Thread[READER_COUNT];
+        for (int i = 0; i < READER_COUNT; i++)
+        {
+            readers[i] = new Thread(reader);
+            readers[i].start();
+        }
+
+        return readers;
+    }
+
+    private static void stopReaders(final AtomicBoolean running, final Thread[] readers) throws InterruptedException
+    {
+        running.set(false);
+        for (final Thread reader : readers)
+        {
+            reader.join();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParkingIdleStrategyTest
+{
+    private static final int MAX_BACKOFF_IDLES = 3;
+
+    private final ParkingSignal signal = new ParkingSignal(1);
+    private final ParkingIdleStrategy idleStrategy = new ParkingIdleStrategy(
+        signal, NoOpIdleStrategy.INSTANCE, MAX_BACKOFF_IDLES, TimeUnit.SECONDS.toNanos(1));
+
+    @Test
+    void shouldRegisterAsWaiterAfterBackingOff()
+    {
+        for (int i = 0; i < MAX_BACKOFF_IDLES; i++)
+        {
+            idleStrategy.idle(0);
+            assertFalse(idleStrategy.isWaiting());
+        }
+
+        idleStrategy.idle(0);
+        assertTrue(idleStrategy.isWaiting());
+        assertEquals(1, signal.waiterCount());
+    }
+
+    @Test
+    void shouldDeregisterWhenWorkIsDone()
+    {
+        registerAsWaiter(idleStrategy);
+
+        idleStrategy.idle(1);
+
+        assertFalse(idleStrategy.isWaiting());
+        assertEquals(0, signal.waiterCount());
+    }
+
+    @Test
+    void shouldNotIncrementEpochWhenNoWaiters()
+    {
+        signal.signal();
+
+        assertEquals(0, signal.epoch());
+    }
+
+    @Test
+    void shouldNotParkWhenSignalledAfterRegistering()
+    {
+        registerAsWaiter(idleStrategy);
+        signal.signal();
+
+        final long startNs = System.nanoTime();
+        idleStrategy.idle(0);
+
+        assertEquals(1, signal.epoch());
+        assertTrue(System.nanoTime() - startNs < TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void shouldContinueToBackOffWhenNoWaiterSlotIsFree()
+    {
+        assertEquals(0, signal.register());
+
+        registerAsWaiter(idleStrategy);
+
+        assertFalse(idleStrategy.isWaiting());
+        assertEquals(1, signal.waiterCount());
+    }
+
+    @Test
+    void shouldThrowIfMaxWaitersIsLessThanOne()
+    {
+        final IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> new ParkingSignal(0));
+        assertEquals("maxWaiters must be >= 1: maxWaiters=0", exception.getMessage());
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldWakeParkedConsumerWhenElementIsOffered() throws InterruptedException
+    {
+        final SignallingQueuedPipe<Integer> pipe =
+            new SignallingQueuedPipe<>(new ManyToOneConcurrentArrayQueue<>(8), signal);
+        final ParkingIdleStrategy consumerIdleStrategy = new ParkingIdleStrategy(
+            signal, NoOpIdleStrategy.INSTANCE, 0, TimeUnit.SECONDS.toNanos(60));
+        final AtomicReference<Integer> received = new AtomicReference<>();
+
+        final Thread consumer = new Thread(
+            () ->
+            {
+                Integer element;
+                while (null == (element = pipe.poll()))
+                {
+                    consumerIdleStrategy.idle(0);
+                }
+
+                consumerIdleStrategy.reset();
+                received.set(element);
+            });
+        consumer.start();
+
+        while (0 == signal.waiterCount())
+        {
+            Thread.yield();
+        }
+
+        assertTrue(pipe.offer(7));
+        consumer.join();
+
+        assertEquals(Integer.valueOf(7), received.get());
+        assertEquals(0, signal.waiterCount());
+    }
+
+    private static void registerAsWaiter(final ParkingIdleStrategy idleStrategy)
+    {
+        for (int i = 0; i <= MAX_BACKOFF_IDLES; i++)
+        {
+            idleStrategy.idle(0);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.agrona.concurrent.errors;
 
 import org.agrona.BitUtil;
+import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.AtomicBuffer;
 import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.EpochClock;
@@ -28,6 +29,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
 import java.io.PrintWriter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.ByteBuffer.allocateDirect;
 import static org.agrona.concurrent.errors.DistinctErrorLog.*;
@@ -278,6 +283,113 @@ class DistinctErrorLogTest
         assertEquals(expectedOutput, sb.toString());
     }
 
+    @Test
+    void shouldRecordDistinctObservationsFromConcurrentThreads() throws InterruptedException
+    {
+        final int threadCount = 4;
+        final int distinctCount = 50;
+        final int iterations = 1_000;
+        final DistinctErrorLog log = new DistinctErrorLog(DIRECT_BUFFER, new CachedEpochClock());
+        final TestEvent[] events = new TestEvent[distinctCount];
+        for (int i = 0; i < distinctCount; i++)
+        {
+            events[i] = new TestEvent("event " + i);
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger failedRecords = new AtomicInteger();
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++)
+        {
+            threads[i] = new Thread(() ->
+            {
+                try
+                {
+                    latch.await();
+                }
+                catch (final InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                for (int j = 0; j < iterations; j++)
+                {
+                    if (!log.record(new TestEvent(events[j % distinctCount].getMessage())))
+                    {
+                        failedRecords.incrementAndGet();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        latch.countDown();
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertEquals(0, failedRecords.get());
+
+        final Set<String> encodedErrors = new HashSet<>();
+        final MutableLong totalObservations = new MutableLong();
+        final int errorCount = ErrorLogReader.read(
+            DIRECT_BUFFER,
+            (observationCount, firstObservationTimestamp, lastObservationTimestamp, encodedException) ->
+            {
+                assertTrue(encodedErrors.add(encodedException));
+                totalObservations.addAndGet(observationCount);
+            });
+
+        assertEquals(distinctCount, errorCount);
+        assertEquals((long)threadCount * iterations, totalObservations.get());
+    }
+
+    @Test
+    void shouldNotRecordObservationWhichFailedToEncode()
+    {
+        final DistinctErrorLog log = new DistinctErrorLog(DIRECT_BUFFER, new CachedEpochClock());
+        final TestEvent error = new TestEvent("bad")
+        {
+            private static final long serialVersionUID = -1389256209474318371L;
+
+            public String toString()
+            {
+                throw new IllegalStateException("expected");
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> log.record(error));
+        assertThrows(IllegalStateException.class, () -> log.record(error));
+        assertFalse(ErrorLogReader.hasErrors(DIRECT_BUFFER));
+        assertEquals(0, log.distinctObservationCount());
+    }
+
+    @Test
+    void shouldNotRetainDistinctObservationsWhenLogIsFull()
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(1024));
+        final DistinctErrorLog log = new DistinctErrorLog(buffer, new CachedEpochClock());
+
+        int recordedCount = 0;
+        while (log.record(new TestEvent("fill " + recordedCount)))
+        {
+            recordedCount++;
+        }
+
+        assertTrue(recordedCount > 0);
+        assertEquals(recordedCount, log.distinctObservationCount());
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            assertFalse(log.record(new TestEvent("distinct " + i)));
+        }
+
+        assertEquals(recordedCount, log.distinctObservationCount());
+        assertTrue(log.record(new TestEvent("fill 0")));
+        assertEquals(recordedCount, ErrorLogReader.read(buffer, (count, first, last, encodedException) -> {}));
+    }
+
     static class TestEvent extends RuntimeException
     {
         private static final long serialVersionUID = 5487718852587392272L;
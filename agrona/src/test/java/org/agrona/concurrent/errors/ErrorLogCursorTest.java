@@ -0,0 +1,141 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.errors;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorLogCursorTest
+{
+    private final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(64 * 1024));
+    private final CachedEpochClock clock = new CachedEpochClock();
+    private final DistinctErrorLog log = new DistinctErrorLog(buffer, clock);
+    private final ErrorLogCursor cursor = new ErrorLogCursor(buffer);
+    private final List<String> reported = new ArrayList<>();
+
+    @Test
+    void shouldReportNothingForEmptyLog()
+    {
+        assertEquals(0, cursor.poll((count, first, last, encodedException) -> fail()));
+        assertEquals(0, cursor.entryCount());
+    }
+
+    @Test
+    void shouldReportOnlyNewOrChangedEntries()
+    {
+        clock.update(10);
+        log.record(new TestError("one"));
+        log.record(new TestError("two"));
+
+        assertEquals(2, cursor.poll(this::onError));
+        assertEquals(List.of("1,10,10,one", "1,10,10,two"), reported);
+
+        reported.clear();
+        assertEquals(0, cursor.poll(this::onError));
+
+        clock.update(20);
+        log.record(new TestError("two"));
+        log.record(new TestError("three"));
+
+        assertEquals(2, cursor.poll(this::onError));
+        assertEquals(List.of("2,10,20,two", "1,20,20,three"), reported);
+        assertEquals(3, cursor.entryCount());
+    }
+
+    @Test
+    void shouldReportAllEntriesAfterReset()
+    {
+        log.record(new TestError("one"));
+        log.record(new TestError("two"));
+        cursor.poll(this::onError);
+
+        cursor.reset();
+        reported.clear();
+
+        assertEquals(2, cursor.poll(this::onError));
+        assertEquals(2, reported.size());
+    }
+
+    @Test
+    void shouldReportEncodedErrorWithoutDecoding()
+    {
+        log.record(new TestError("one"));
+
+        final StringBuilder builder = new StringBuilder();
+        assertEquals(1, cursor.poll(
+            (observationCount, firstObservationTimestamp, lastObservationTimestamp, buffer, offset, length) ->
+            {
+                assertSame(this.buffer, buffer);
+                builder.append(buffer.getStringWithoutLengthUtf8(offset, length));
+            }));
+
+        assertEquals(TestError.class.getName() + ": one" + System.lineSeparator(), builder.toString());
+    }
+
+    @Test
+    void shouldMatchErrorLogReader()
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            log.record(new TestError("error " + (i % 4)));
+        }
+
+        final List<String> expected = new ArrayList<>();
+        ErrorLogReader.read(
+            buffer,
+            (count, first, last, encodedException) -> expected.add(count + "," + first + "," + last + "," +
+            encodedException));
+        cursor.poll(
+            (count, first, last, encodedException) -> reported.add(count + "," + first + "," + last + "," +
+            encodedException));
+
+        assertEquals(expected, reported);
+    }
+
+    private void onError(
+        final int observationCount,
+        final long firstObservationTimestamp,
+        final long lastObservationTimestamp,
+        final String encodedException)
+    {
+        final String message = encodedException.substring(
+            encodedException.indexOf(": ") + 2, encodedException.length() - System.lineSeparator().length());
+        reported.add(observationCount + "," + firstObservationTimestamp + "," + lastObservationTimestamp + "," +
+            message);
+    }
+
+    static class TestError extends RuntimeException
+    {
+        private static final long serialVersionUID = -4412384513282853117L;
+
+        TestError(final String message)
+        {
+            super(message);
+        }
+
+        public synchronized Throwable fillInStackTrace()
+        {
+            return this;
+        }
+    }
+}
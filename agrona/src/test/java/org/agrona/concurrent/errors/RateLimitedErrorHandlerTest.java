@@ -0,0 +1,199 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.errors;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitedErrorHandlerTest
+{
+    private static final long SAMPLE_INTERVAL_MS = 1000;
+
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(allocateDirect(METADATA_LENGTH)),
+        new UnsafeBuffer(allocateDirect(COUNTER_LENGTH)),
+        US_ASCII);
+    private final AtomicCounter errorCounter = countersManager.newCounter("errors");
+    private final CachedEpochClock clock = new CachedEpochClock();
+    private final List<Throwable> delegated = new ArrayList<>();
+    private final RateLimitedErrorHandler errorHandler = new RateLimitedErrorHandler(
+        delegated::add, errorCounter, clock, SAMPLE_INTERVAL_MS);
+
+    @Test
+    void shouldCountEveryErrorButDelegateOncePerInterval()
+    {
+        final IllegalStateException error = illegalState("downstream failed");
+        for (int i = 0; i < 100; i++)
+        {
+            errorHandler.onError(error);
+        }
+
+        assertEquals(100, errorCounter.get());
+        assertEquals(1, delegated.size());
+
+        clock.advance(SAMPLE_INTERVAL_MS - 1);
+        errorHandler.onError(illegalState("downstream failed"));
+        assertEquals(1, delegated.size());
+
+        clock.advance(1);
+        errorHandler.onError(illegalState("downstream failed"));
+        errorHandler.onError(error);
+        assertEquals(2, delegated.size());
+        assertEquals(103, errorCounter.get());
+    }
+
+    @Test
+    void shouldDelegateDistinctCallSites()
+    {
+        errorHandler.onError(illegalState("one"));
+        errorHandler.onError(illegalState("two"));
+        errorHandler.onError(illegalArgument("one"));
+        errorHandler.onError(illegalArgument("one"));
+
+        assertEquals(3, delegated.size());
+        assertEquals(4, errorCounter.get());
+    }
+
+    @Test
+    void shouldDelegateCollidingCallSitesWhenTheyReplaceEachOther()
+    {
+        final RateLimitedErrorHandler errorHandler = new RateLimitedErrorHandler(
+            delegated::add, errorCounter, clock, SAMPLE_INTERVAL_MS, 1);
+
+        errorHandler.onError(illegalState("one"));
+        errorHandler.onError(illegalState("two"));
+        errorHandler.onError(illegalState("two"));
+        errorHandler.onError(illegalState("one"));
+
+        assertEquals(3, delegated.size());
+    }
+
+    @Test
+    void shouldDelegateSameTypeAndMessageFromDifferentFrames()
+    {
+        for (int i = 0; i < 2; i++)
+        {
+            errorHandler.onError(illegalState("failed"));
+            errorHandler.onError(new IllegalStateException("failed"));
+        }
+
+        assertEquals(2, delegated.size());
+        assertEquals(4, errorCounter.get());
+    }
+
+    @Test
+    void shouldNotReadStackTraceOfRethrownInstance()
+    {
+        final AtomicInteger stackTraceReads = new AtomicInteger();
+        final IllegalStateException error = new IllegalStateException("rethrown")
+        {
+            private static final long serialVersionUID = -2034467425839414658L;
+
+            public StackTraceElement[] getStackTrace()
+            {
+                stackTraceReads.incrementAndGet();
+                return super.getStackTrace();
+            }
+        };
+
+        for (int i = 0; i < 100; i++)
+        {
+            errorHandler.onError(error);
+        }
+
+        assertEquals(1, stackTraceReads.get());
+        assertEquals(1, delegated.size());
+        assertEquals(100, errorCounter.get());
+    }
+
+    @Test
+    void shouldNotDelegateWhenClosed()
+    {
+        errorHandler.close();
+        assertTrue(errorHandler.isClosed());
+
+        errorHandler.onError(new TestError());
+
+        assertEquals(0, delegated.size());
+        assertEquals(0, errorCounter.get());
+    }
+
+    @Test
+    void shouldRecordSampleToDistinctErrorLog()
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(64 * 1024));
+        final DistinctErrorLog log = new DistinctErrorLog(buffer, clock);
+        final RateLimitedErrorHandler errorHandler = new RateLimitedErrorHandler(
+            new LoggingErrorHandler(log), errorCounter, clock, SAMPLE_INTERVAL_MS);
+
+        for (int i = 0; i < 10; i++)
+        {
+            errorHandler.onError(new TestError());
+        }
+
+        final long[] observationCount = new long[1];
+        assertEquals(1, ErrorLogReader.read(
+            buffer,
+            (count, firstTimestamp, lastTimestamp, encodedException) ->
+            {
+                observationCount[0] += count;
+            }));
+        assertEquals(1, observationCount[0]);
+        assertEquals(10, errorCounter.get());
+    }
+
+    @Test
+    void shouldThrowIfSlotsAreNotPowerOfTwo()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitedErrorHandler(
+            delegated::add, errorCounter, clock, SAMPLE_INTERVAL_MS, 3));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitedErrorHandler(
+            delegated::add, errorCounter, clock, -1));
+    }
+
+    private static IllegalStateException illegalState(final String message)
+    {
+        return new IllegalStateException(message);
+    }
+
+    private static IllegalArgumentException illegalArgument(final String message)
+    {
+        return new IllegalArgumentException(message);
+    }
+
+    static class TestError extends RuntimeException
+    {
+        private static final long serialVersionUID = 2360402433960395052L;
+
+        public synchronized Throwable fillInStackTrace()
+        {
+            return this;
+        }
+    }
+}
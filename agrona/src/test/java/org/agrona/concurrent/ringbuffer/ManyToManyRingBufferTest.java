@@ -0,0 +1,265 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.align;
+import static org.agrona.concurrent.ControlledMessageHandler.Action.*;
+import static org.agrona.concurrent.ringbuffer.RecordDescriptor.ALIGNMENT;
+import static org.agrona.concurrent.ringbuffer.RecordDescriptor.HEADER_LENGTH;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManyToManyRingBufferTest
+{
+    private static final int MSG_TYPE_ID = 7;
+    private static final int CAPACITY = 1024;
+    private static final int RECORD_LENGTH = align(HEADER_LENGTH + SIZE_OF_INT, ALIGNMENT);
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(CAPACITY + TRAILER_LENGTH));
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_INT * 3]);
+    private final ManyToManyRingBuffer ringBuffer = new ManyToManyRingBuffer(buffer);
+
+    @Test
+    void shouldWriteAndReadMessages()
+    {
+        write(3);
+
+        final IntArrayList values = new IntArrayList();
+        final int messagesRead = ringBuffer.read(
+            (msgTypeId, buffer, index, length) ->
+            {
+                assertEquals(MSG_TYPE_ID, msgTypeId);
+                assertEquals(SIZE_OF_INT, length);
+                values.addInt(buffer.getInt(index));
+            });
+
+        assertEquals(3, messagesRead);
+        assertArrayEquals(new int[]{ 0, 1, 2 }, values.toIntArray());
+        assertEquals(3L * RECORD_LENGTH, ringBuffer.consumerClaimPosition());
+        assertEquals(3L * RECORD_LENGTH, ringBuffer.consumerPosition());
+        assertEquals(0, ringBuffer.size());
+        assertEquals(0, ringBuffer.read((msgTypeId, buffer, index, length) -> fail()));
+    }
+
+    @Test
+    void shouldDeliverEachMessageToOnlyOneConsumer()
+    {
+        final ManyToManyRingBuffer otherConsumer = new ManyToManyRingBuffer(buffer);
+        write(4);
+
+        final IntArrayList values = new IntArrayList();
+        final IntArrayList otherValues = new IntArrayList();
+
+        assertEquals(1, ringBuffer.read((msgTypeId, buffer, index, length) -> values.addInt(buffer.getInt(index)), 1));
+        assertEquals(3, otherConsumer.read(
+            (msgTypeId, buffer, index, length) -> otherValues.addInt(buffer.getInt(index))));
+
+        assertArrayEquals(new int[]{ 0 }, values.toIntArray());
+        assertArrayEquals(new int[]{ 1, 2, 3 }, otherValues.toIntArray());
+    }
+
+    @Test
+    void shouldNotAdvanceConsumerPositionPastMessagesStillBeingHandled()
+    {
+        final ManyToManyRingBuffer otherConsumer = new ManyToManyRingBuffer(buffer);
+        write(2);
+
+        final MutableInteger otherValue = new MutableInteger(-1);
+        final int messagesRead = ringBuffer.read(
+            (msgTypeId, buffer, index, length) ->
+            {
+                assertEquals(RECORD_LENGTH, ringBuffer.consumerClaimPosition());
+
+                assertEquals(1, otherConsumer.read(
+                    (otherMsgTypeId, otherBuffer, otherIndex, otherLength) ->
+                    otherValue.set(otherBuffer.getInt(otherIndex))));
+
+                assertEquals(2L * RECORD_LENGTH, ringBuffer.consumerClaimPosition());
+                assertEquals(0L, ringBuffer.consumerPosition());
+            },
+            1);
+
+        assertEquals(1, messagesRead);
+        assertEquals(1, otherValue.get());
+        assertEquals(2L * RECORD_LENGTH, ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldReleaseMessagesWhenHandlerThrows()
+    {
+        write(2);
+
+        final IllegalStateException exception = new IllegalStateException("expected");
+        assertSame(exception, assertThrows(IllegalStateException.class, () -> ringBuffer.read(
+            (msgTypeId, buffer, index, length) ->
+            {
+                throw exception;
+            })));
+
+        assertEquals(2L * RECORD_LENGTH, ringBuffer.consumerPosition());
+        assertEquals(0, ringBuffer.read((msgTypeId, buffer, index, length) -> fail()));
+    }
+
+    @Test
+    void shouldReadAcrossTheEndOfTheBufferWithPadding()
+    {
+        final int messageCount = CAPACITY / RECORD_LENGTH;
+        final MutableInteger count = new MutableInteger();
+
+        for (int lap = 0; lap < 3; lap++)
+        {
+            srcBuffer.putInt(0, lap);
+            assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT * 3));
+
+            write(messageCount - 2);
+            while (ringBuffer.consumerClaimPosition() < ringBuffer.producerPosition())
+            {
+                ringBuffer.read((msgTypeId, buffer, index, length) -> count.increment());
+            }
+        }
+
+        assertEquals(3 * (messageCount - 1), count.get());
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerClaimPosition());
+    }
+
+    @Test
+    void shouldControlledReadAllMessagesOnContinue()
+    {
+        write(3);
+
+        final IntArrayList values = new IntArrayList();
+        final int messagesRead = ringBuffer.controlledRead(
+            (msgTypeId, buffer, index, length) ->
+            {
+                assertEquals(MSG_TYPE_ID, msgTypeId);
+                values.addInt(buffer.getInt(index));
+                return CONTINUE;
+            });
+
+        assertEquals(3, messagesRead);
+        assertArrayEquals(new int[]{ 0, 1, 2 }, values.toIntArray());
+        assertEquals(3L * RECORD_LENGTH, ringBuffer.consumerPosition());
+        assertEquals(3L * RECORD_LENGTH, ringBuffer.consumerClaimPosition());
+    }
+
+    @Test
+    void shouldLeaveFollowingMessagesForOtherConsumersOnBreak()
+    {
+        final ManyToManyRingBuffer otherConsumer = new ManyToManyRingBuffer(buffer);
+        write(3);
+
+        final IntArrayList values = new IntArrayList();
+        assertEquals(1, ringBuffer.controlledRead(
+            (msgTypeId, buffer, index, length) ->
+            {
+                values.addInt(buffer.getInt(index));
+                return BREAK;
+            }));
+
+        assertArrayEquals(new int[]{ 0 }, values.toIntArray());
+        assertEquals(RECORD_LENGTH, ringBuffer.consumerPosition());
+        assertEquals(RECORD_LENGTH, ringBuffer.consumerClaimPosition());
+
+        final IntArrayList otherValues = new IntArrayList();
+        assertEquals(2, otherConsumer.controlledRead(
+            (msgTypeId, buffer, index, length) ->
+            {
+                otherValues.addInt(buffer.getInt(index));
+                return CONTINUE;
+            }));
+
+        assertArrayEquals(new int[]{ 1, 2 }, otherValues.toIntArray());
+        assertEquals(3L * RECORD_LENGTH, ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldReleaseEachMessageOnCommit()
+    {
+        write(3);
+
+        final IntArrayList positions = new IntArrayList();
+        final int messagesRead = ringBuffer.controlledRead(
+            (msgTypeId, buffer, index, length) ->
+            {
+                positions.addInt((int)ringBuffer.consumerPosition());
+                return COMMIT;
+            });
+
+        assertEquals(3, messagesRead);
+        assertArrayEquals(new int[]{ 0, RECORD_LENGTH, 2 * RECORD_LENGTH }, positions.toIntArray());
+        assertEquals(3L * RECORD_LENGTH, ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldReleaseMessageAndThrowOnAbort()
+    {
+        write(2);
+
+        final MutableInteger count = new MutableInteger();
+        assertThrows(UnsupportedOperationException.class, () -> ringBuffer.controlledRead(
+            (msgTypeId, buffer, index, length) ->
+            {
+                count.increment();
+                return ABORT;
+            }));
+
+        assertEquals(1, count.get());
+        assertEquals(RECORD_LENGTH, ringBuffer.consumerPosition());
+        assertEquals(1, ringBuffer.controlledRead((msgTypeId, buffer, index, length) -> CONTINUE));
+        assertEquals(2L * RECORD_LENGTH, ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldControlledReadAcrossTheEndOfTheBufferWithPadding()
+    {
+        final int messageCount = CAPACITY / RECORD_LENGTH;
+        final MutableInteger count = new MutableInteger();
+
+        for (int lap = 0; lap < 3; lap++)
+        {
+            srcBuffer.putInt(0, lap);
+            assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT * 3));
+
+            write(messageCount - 2);
+            assertEquals(messageCount - 1, ringBuffer.controlledRead(
+                (msgTypeId, buffer, index, length) ->
+                {
+                    count.increment();
+                    return CONTINUE;
+                }));
+        }
+
+        assertEquals(3 * (messageCount - 1), count.get());
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    private void write(final int messageCount)
+    {
+        for (int i = 0; i < messageCount; i++)
+        {
+            srcBuffer.putInt(0, i);
+            assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT));
+        }
+    }
+}
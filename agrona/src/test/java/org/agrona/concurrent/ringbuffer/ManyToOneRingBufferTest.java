@@ -860,6 +860,101 @@ class ManyToOneRingBufferTest
         assertEquals(0, ringBuffer.read((msgTypeId, buffer, index, length) -> fail()));
     }
 
+    @Test
+    void shouldCommitBatchOfMessagesForConsumerToReadIndividually()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_LONG]);
+        final RingBuffer ringBuffer = new ManyToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        final BatchClaim batchClaim = new BatchClaim();
+        final int messageCount = 5;
+
+        assertTrue(ringBuffer.tryClaimBatch(batchClaim, BatchClaim.batchLength(messageCount, SIZE_OF_LONG)));
+        assertTrue(batchClaim.isActive());
+        for (int i = 0; i < messageCount; i++)
+        {
+            srcBuffer.putLong(0, i);
+            assertTrue(batchClaim.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        }
+        assertFalse(batchClaim.write(MSG_TYPE_ID, srcBuffer, 0, 0));
+        assertEquals(messageCount, batchClaim.messageCount());
+
+        assertEquals(0, ringBuffer.read((msgTypeId, buffer, index, length) -> fail()));
+
+        batchClaim.commit();
+        assertFalse(batchClaim.isActive());
+
+        final MutableInteger counter = new MutableInteger();
+        final int messagesRead = ringBuffer.read(
+            (msgTypeId, buffer, index, length) ->
+            {
+                assertEquals(MSG_TYPE_ID, msgTypeId);
+                assertEquals(SIZE_OF_LONG, length);
+                assertEquals(counter.getAndIncrement(), buffer.getLong(index));
+            });
+
+        assertEquals(messageCount, messagesRead);
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldPadUnusedSpaceInBatchOnCommit()
+    {
+        final RingBuffer ringBuffer = new ManyToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        final BatchClaim batchClaim = new BatchClaim();
+
+        assertTrue(ringBuffer.tryClaimBatch(batchClaim, 100));
+        final int index = batchClaim.tryClaim(MSG_TYPE_ID, SIZE_OF_LONG);
+        assertEquals(HEADER_LENGTH, index);
+        batchClaim.buffer().putLong(index, Long.MAX_VALUE);
+        batchClaim.commit();
+
+        assertEquals(1, ringBuffer.read(
+            (msgTypeId, buffer, idx, length) -> assertEquals(Long.MAX_VALUE, buffer.getLong(idx))));
+        assertEquals(align(100, ALIGNMENT), ringBuffer.consumerPosition());
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldSkipAbortedBatch()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_LONG]);
+        final RingBuffer ringBuffer = new ManyToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        final BatchClaim batchClaim = new BatchClaim();
+
+        assertTrue(ringBuffer.tryClaimBatch(batchClaim, BatchClaim.batchLength(2, SIZE_OF_LONG)));
+        assertTrue(batchClaim.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        assertTrue(batchClaim.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        batchClaim.abort();
+
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+
+        assertEquals(1, ringBuffer.read((msgTypeId, buffer, index, length) -> {}));
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBatchLengthExceedsMaxMsgLength()
+    {
+        final RingBuffer ringBuffer = new ManyToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        final int length = ringBuffer.maxMsgLength() + HEADER_LENGTH + 1;
+
+        final IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class, () -> ringBuffer.tryClaimBatch(new BatchClaim(), length));
+        assertEquals(
+            "batch exceeds maxBatchLength=" + (ringBuffer.maxMsgLength() + HEADER_LENGTH) + ", length=" + length,
+            exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBatchClaimIsNotActive()
+    {
+        final BatchClaim batchClaim = new BatchClaim();
+
+        assertThrows(IllegalStateException.class, batchClaim::commit);
+        assertThrows(IllegalStateException.class, batchClaim::abort);
+        assertThrows(IllegalStateException.class, () -> batchClaim.tryClaim(MSG_TYPE_ID, 0));
+    }
+
     private void testAlreadyCommitted(final IntConsumer action)
     {
         final int index = HEADER_LENGTH;
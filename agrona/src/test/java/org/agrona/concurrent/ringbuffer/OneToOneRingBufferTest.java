@@ -721,6 +721,176 @@ class OneToOneRingBufferTest
         assertEquals(0, ringBuffer.read((msgTypeId, buffer, index, length) -> fail()));
     }
 
+    @Test
+    void shouldCommitBatchOfMessagesForConsumerToReadIndividually()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_LONG]);
+        final RingBuffer ringBuffer = new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        final BatchClaim batchClaim = new BatchClaim();
+        final int messageCount = 5;
+
+        assertTrue(ringBuffer.tryClaimBatch(batchClaim, BatchClaim.batchLength(messageCount, SIZE_OF_LONG)));
+        assertTrue(batchClaim.isActive());
+        for (int i = 0; i < messageCount; i++)
+        {
+            srcBuffer.putLong(0, i);
+            assertTrue(batchClaim.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        }
+        assertFalse(batchClaim.write(MSG_TYPE_ID, srcBuffer, 0, 0));
+        assertEquals(messageCount, batchClaim.messageCount());
+
+        assertEquals(0, ringBuffer.read((msgTypeId, buffer, index, length) -> fail()));
+
+        batchClaim.commit();
+        assertFalse(batchClaim.isActive());
+
+        final MutableInteger counter = new MutableInteger();
+        final int messagesRead = ringBuffer.read(
+            (msgTypeId, buffer, index, length) ->
+            {
+                assertEquals(MSG_TYPE_ID, msgTypeId);
+                assertEquals(SIZE_OF_LONG, length);
+                assertEquals(counter.getAndIncrement(), buffer.getLong(index));
+            });
+
+        assertEquals(messageCount, messagesRead);
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldPadUnusedSpaceInBatchOnCommit()
+    {
+        final RingBuffer ringBuffer = new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        final BatchClaim batchClaim = new BatchClaim();
+
+        assertTrue(ringBuffer.tryClaimBatch(batchClaim, 100));
+        final int index = batchClaim.tryClaim(MSG_TYPE_ID, SIZE_OF_LONG);
+        assertEquals(HEADER_LENGTH, index);
+        batchClaim.buffer().putLong(index, Long.MAX_VALUE);
+        batchClaim.commit();
+
+        assertEquals(1, ringBuffer.read(
+            (msgTypeId, buffer, idx, length) -> assertEquals(Long.MAX_VALUE, buffer.getLong(idx))));
+        assertEquals(align(100, ALIGNMENT), ringBuffer.consumerPosition());
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldSkipAbortedBatch()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_LONG]);
+        final RingBuffer ringBuffer = new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        final BatchClaim batchClaim = new BatchClaim();
+
+        assertTrue(ringBuffer.tryClaimBatch(batchClaim, BatchClaim.batchLength(2, SIZE_OF_LONG)));
+        assertTrue(batchClaim.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        assertTrue(batchClaim.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        batchClaim.abort();
+
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+
+        assertEquals(1, ringBuffer.read((msgTypeId, buffer, index, length) -> {}));
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBatchLengthExceedsMaxMsgLength()
+    {
+        final RingBuffer ringBuffer = new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        final int length = ringBuffer.maxMsgLength() + HEADER_LENGTH + 1;
+
+        final IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class, () -> ringBuffer.tryClaimBatch(new BatchClaim(), length));
+        assertEquals(
+            "batch exceeds maxBatchLength=" + (ringBuffer.maxMsgLength() + HEADER_LENGTH) + ", length=" + length,
+            exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBatchClaimIsNotActive()
+    {
+        final BatchClaim batchClaim = new BatchClaim();
+
+        assertThrows(IllegalStateException.class, batchClaim::commit);
+        assertThrows(IllegalStateException.class, batchClaim::abort);
+        assertThrows(IllegalStateException.class, () -> batchClaim.tryClaim(MSG_TYPE_ID, 0));
+    }
+
+    @Test
+    void shouldReadBatchOfMessagesAsSingleRunOfRecords()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_LONG]);
+        final OneToOneRingBuffer ringBuffer =
+            new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+
+        srcBuffer.putLong(0, 1);
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        ringBuffer.abort(ringBuffer.tryClaim(MSG_TYPE_ID, SIZE_OF_LONG));
+        srcBuffer.putLong(0, 2);
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+
+        final int recordLength = align(HEADER_LENGTH + SIZE_OF_LONG, ALIGNMENT);
+        final MutableInteger sum = new MutableInteger();
+        final int messagesRead = ringBuffer.readBatch(
+            (buffer, index, limit, messageCount) ->
+            {
+                assertEquals(0, index);
+                assertEquals(recordLength * 3, limit);
+                assertEquals(2, messageCount);
+
+                for (int recordIndex = index; recordIndex < limit; recordIndex += recordLength)
+                {
+                    if (PADDING_MSG_TYPE_ID != buffer.getInt(typeOffset(recordIndex)))
+                    {
+                        sum.addAndGet((int)buffer.getLong(encodedMsgOffset(recordIndex)));
+                    }
+                }
+            });
+
+        assertEquals(2, messagesRead);
+        assertEquals(3, sum.get());
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldLimitReadBatchOfMessages()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_LONG]);
+        final OneToOneRingBuffer ringBuffer =
+            new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+
+        final int recordLength = align(HEADER_LENGTH + SIZE_OF_LONG, ALIGNMENT);
+        assertEquals(2, ringBuffer.readBatch(
+            (buffer, index, limit, messageCount) -> assertEquals(recordLength * 2, limit - index), 2));
+        assertEquals(recordLength * 2, ringBuffer.consumerPosition());
+
+        assertEquals(1, ringBuffer.readBatch(
+            (buffer, index, limit, messageCount) -> assertEquals(recordLength * 2, index)));
+        assertEquals(0, ringBuffer.readBatch((buffer, index, limit, messageCount) -> fail()));
+    }
+
+    @Test
+    void shouldAdvanceConsumerPositionWhenReadBatchHandlerThrows()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_LONG]);
+        final OneToOneRingBuffer ringBuffer =
+            new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+        assertTrue(ringBuffer.write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_LONG));
+
+        assertThrows(IllegalStateException.class, () -> ringBuffer.readBatch(
+            (buffer, index, limit, messageCount) ->
+            {
+                throw new IllegalStateException();
+            }));
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
     private void testAlreadyCommitted(final IntConsumer action)
     {
         final int index = HEADER_LENGTH;
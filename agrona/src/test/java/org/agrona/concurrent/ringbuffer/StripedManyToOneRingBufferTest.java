@@ -0,0 +1,139 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.ringbuffer;
+
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.ControlledMessageHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.concurrent.ringbuffer.RingBuffer.INSUFFICIENT_CAPACITY;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedManyToOneRingBufferTest
+{
+    private static final int MSG_TYPE_ID = 7;
+    private static final int LANE_COUNT = 4;
+    private static final int LANE_CAPACITY = 1024;
+
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[SIZE_OF_INT]);
+    private final StripedManyToOneRingBuffer ringBuffer = new StripedManyToOneRingBuffer(
+        new UnsafeBuffer(allocateDirect(StripedManyToOneRingBuffer.bufferLength(LANE_COUNT, LANE_CAPACITY))),
+        LANE_COUNT);
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 3, 5 })
+    void shouldThrowExceptionIfLaneCountIsNotPowerOfTwo(final int laneCount)
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirect(
+            StripedManyToOneRingBuffer.bufferLength(LANE_COUNT, LANE_CAPACITY)));
+
+        final IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class, () -> new StripedManyToOneRingBuffer(buffer, laneCount));
+        assertEquals("laneCount must be a positive power of 2: laneCount=" + laneCount, exception.getMessage());
+    }
+
+    @Test
+    void shouldComputeCapacityAcrossLanes()
+    {
+        assertEquals(LANE_COUNT, ringBuffer.laneCount());
+        assertEquals(LANE_COUNT * LANE_CAPACITY, ringBuffer.capacity());
+        assertEquals(LANE_CAPACITY / 8, ringBuffer.maxMsgLength());
+        assertSame(ringBuffer.lane(1), ringBuffer.lane(LANE_COUNT + 1));
+    }
+
+    @Test
+    void shouldReadMessagesFromAllLanes()
+    {
+        for (int i = 0; i < LANE_COUNT; i++)
+        {
+            srcBuffer.putInt(0, i);
+            assertTrue(ringBuffer.lane(i).write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT));
+        }
+
+        final IntArrayList values = new IntArrayList();
+        final int messagesRead = ringBuffer.read(
+            (msgTypeId, buffer, index, length) -> values.addInt(buffer.getInt(index)));
+
+        assertEquals(LANE_COUNT, messagesRead);
+        assertEquals(LANE_COUNT, values.size());
+        for (int i = 0; i < LANE_COUNT; i++)
+        {
+            assertTrue(values.containsInt(i));
+        }
+        assertEquals(0, ringBuffer.size());
+        assertEquals(ringBuffer.producerPosition(), ringBuffer.consumerPosition());
+    }
+
+    @Test
+    void shouldRotateStartingLaneOnEachRead()
+    {
+        for (int i = 0; i < LANE_COUNT; i++)
+        {
+            srcBuffer.putInt(0, i);
+            assertTrue(ringBuffer.lane(i).write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT));
+            assertTrue(ringBuffer.lane(i).write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT));
+        }
+
+        for (int i = 0; i < LANE_COUNT; i++)
+        {
+            final int expectedLane = i;
+            assertEquals(1, ringBuffer.read(
+                (msgTypeId, buffer, index, length) -> assertEquals(expectedLane, buffer.getInt(index)), 1));
+        }
+    }
+
+    @Test
+    void shouldCommitClaimUsingIndexRelativeToWholeBuffer()
+    {
+        final int index = ringBuffer.tryClaim(MSG_TYPE_ID, SIZE_OF_INT);
+        assertNotEquals(INSUFFICIENT_CAPACITY, index);
+
+        ringBuffer.buffer().putInt(index, 42);
+        assertEquals(0, ringBuffer.read((msgTypeId, buffer, idx, length) -> fail()));
+
+        ringBuffer.commit(index);
+        assertEquals(1, ringBuffer.read(
+            (msgTypeId, buffer, idx, length) -> assertEquals(42, buffer.getInt(idx))));
+    }
+
+    @Test
+    void shouldStopControlledReadAcrossLanesOnBreak()
+    {
+        for (int i = 0; i < LANE_COUNT; i++)
+        {
+            assertTrue(ringBuffer.lane(i).write(MSG_TYPE_ID, srcBuffer, 0, SIZE_OF_INT));
+        }
+
+        final MutableInteger counter = new MutableInteger();
+        final int messagesRead = ringBuffer.controlledRead(
+            (msgTypeId, buffer, index, length) ->
+            {
+                counter.increment();
+                return ControlledMessageHandler.Action.BREAK;
+            });
+
+        assertEquals(1, messagesRead);
+        assertEquals(1, counter.get());
+        assertEquals(LANE_COUNT - 1, ringBuffer.controlledRead(
+            (msgTypeId, buffer, index, length) -> ControlledMessageHandler.Action.CONTINUE));
+    }
+}
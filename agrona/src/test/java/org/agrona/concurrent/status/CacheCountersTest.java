@@ -0,0 +1,94 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.collections.Int2ObjectCache;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.RECORD_ALLOCATED;
+import static org.agrona.concurrent.status.CountersReader.RECORD_RECLAIMED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheCountersTest
+{
+    private static final int NUMBER_OF_COUNTERS = 4;
+    private static final int TYPE_ID = 101;
+
+    private final CountersManager manager = new CountersManager(
+        new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * METADATA_LENGTH)),
+        new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * COUNTER_LENGTH)),
+        US_ASCII);
+
+    @Test
+    void shouldAllocateLabelledCounters()
+    {
+        try (CacheCounters counters = new CacheCounters(manager, "test", TYPE_ID))
+        {
+            assertEquals("test cache hits", counters.hits().label());
+            assertEquals("test cache misses", counters.misses().label());
+            assertEquals("test cache puts", counters.puts().label());
+            assertEquals(TYPE_ID, manager.getCounterTypeId(counters.puts().id()));
+        }
+    }
+
+    @Test
+    void shouldPublishCacheStatistics()
+    {
+        final Int2ObjectCache<String> cache = new Int2ObjectCache<>(1, 2, (value) -> {});
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.get(1);
+        cache.get(3);
+        cache.get(4);
+
+        try (CacheCounters counters = new CacheCounters(manager, "test"))
+        {
+            counters.update(cache);
+
+            assertEquals(1, counters.hits().get());
+            assertEquals(2, counters.misses().get());
+            assertEquals(2, counters.puts().get());
+            assertEquals(CountersManager.DEFAULT_TYPE_ID, manager.getCounterTypeId(counters.hits().id()));
+        }
+    }
+
+    @Test
+    void shouldFreeCountersOnClose()
+    {
+        final CacheCounters counters = new CacheCounters(manager, "test");
+        counters.close();
+
+        assertEquals(RECORD_RECLAIMED, manager.getCounterState(counters.hits().id()));
+        assertEquals(RECORD_RECLAIMED, manager.getCounterState(counters.misses().id()));
+        assertEquals(RECORD_RECLAIMED, manager.getCounterState(counters.puts().id()));
+    }
+
+    @Test
+    void shouldFreeAllocatedCountersWhenAllocationFails()
+    {
+        final CacheCounters counters = new CacheCounters(manager, "first");
+        assertThrows(IllegalStateException.class, () -> new CacheCounters(manager, "second"));
+
+        assertEquals(RECORD_ALLOCATED, manager.getCounterState(counters.puts().id()));
+        assertEquals(RECORD_RECLAIMED, manager.getCounterState(NUMBER_OF_COUNTERS - 1));
+        assertEquals(1, manager.available());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.concurrent.status.CountersReader.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentCountersManagerTest
+{
+    private static final int NUMBER_OF_COUNTERS = 8;
+    private static final long FREE_TO_REUSE_TIMEOUT = 1000;
+    private static final int TYPE_ID = 101;
+
+    private final CachedEpochClock epochClock = new CachedEpochClock();
+    private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+        allocateDirect(NUMBER_OF_COUNTERS * METADATA_LENGTH));
+    private final UnsafeBuffer valuesBuffer = new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * COUNTER_LENGTH));
+    private final ConcurrentCountersManager manager = new ConcurrentCountersManager(
+        metaDataBuffer, valuesBuffer, US_ASCII, epochClock, FREE_TO_REUSE_TIMEOUT);
+
+    @Test
+    void shouldAllocateCountersInOrderUntilFull()
+    {
+        for (int i = 0; i < NUMBER_OF_COUNTERS; i++)
+        {
+            assertEquals(NUMBER_OF_COUNTERS - i, manager.available());
+            assertEquals(i, manager.allocate("counter " + i, TYPE_ID));
+            assertEquals(RECORD_ALLOCATED, manager.getCounterState(i));
+            assertEquals("counter " + i, manager.getCounterLabel(i));
+        }
+
+        assertEquals(0, manager.available());
+        final IllegalStateException exception = assertThrows(
+            IllegalStateException.class, () -> manager.allocate("overflow"));
+        assertEquals(
+            "unable to allocate counter, buffer is full: maxCounterId=" + (NUMBER_OF_COUNTERS - 1),
+            exception.getMessage());
+    }
+
+    @Test
+    void shouldNotReuseFreedCounterUntilTimeoutHasPassed()
+    {
+        final int counterId = manager.allocate("abc");
+        manager.setCounterValue(counterId, 42);
+        manager.setCounterRegistrationId(counterId, 7);
+        manager.free(counterId);
+
+        assertEquals(RECORD_RECLAIMED, manager.getCounterState(counterId));
+        assertEquals(NUMBER_OF_COUNTERS - 1, manager.available());
+        assertEquals(counterId + 1, manager.allocate("def"));
+
+        epochClock.advance(FREE_TO_REUSE_TIMEOUT);
+
+        assertEquals(NUMBER_OF_COUNTERS - 1, manager.available());
+        assertEquals(counterId, manager.allocate("ghi"));
+        assertEquals(0, manager.getCounterValue(counterId));
+        assertEquals(DEFAULT_REGISTRATION_ID, manager.getCounterRegistrationId(counterId));
+        assertEquals(NOT_FREE_TO_REUSE, manager.getFreeForReuseDeadline(counterId));
+    }
+
+    @Test
+    void shouldReuseFreedCounterOnlyWhenDeadlineHasPassedAndBufferIsFull()
+    {
+        for (int i = 0; i < NUMBER_OF_COUNTERS; i++)
+        {
+            manager.allocate("counter " + i);
+        }
+
+        manager.free(3);
+        epochClock.advance(FREE_TO_REUSE_TIMEOUT / 2);
+        manager.free(5);
+
+        assertThrows(IllegalStateException.class, () -> manager.allocate("too early"));
+
+        epochClock.advance(FREE_TO_REUSE_TIMEOUT / 2);
+        assertEquals(3, manager.allocate("reused"));
+        assertThrows(IllegalStateException.class, () -> manager.allocate("too early"));
+
+        epochClock.advance(FREE_TO_REUSE_TIMEOUT / 2);
+        assertEquals(5, manager.allocate("reused"));
+    }
+
+    @Test
+    void shouldThrowWhenFreeingCounterWhichIsNotAllocated()
+    {
+        final int counterId = manager.allocate("abc");
+        manager.free(counterId);
+
+        final IllegalStateException exception = assertThrows(
+            IllegalStateException.class, () -> manager.free(counterId));
+        assertEquals("counter not allocated: id=" + counterId, exception.getMessage());
+        assertThrows(IllegalStateException.class, () -> manager.free(counterId + 1));
+    }
+
+    @Test
+    void shouldReleaseCounterWhenAllocationFails()
+    {
+        final IllegalStateException failure = new IllegalStateException("expected");
+        assertSame(failure, assertThrows(
+            IllegalStateException.class,
+            () -> manager.allocate(
+                "abc",
+                TYPE_ID,
+                (keyBuffer) ->
+                {
+                    throw failure;
+                })));
+
+        assertEquals(NUMBER_OF_COUNTERS, manager.available());
+        assertEquals(0, manager.allocate("def"));
+        assertEquals(RECORD_ALLOCATED, manager.getCounterState(0));
+    }
+
+    @Test
+    void shouldMaintainRegistrationIdIndex()
+    {
+        final UnsafeBuffer indexBuffer = new UnsafeBuffer(
+            allocateDirect(registrationIdIndexLength(NUMBER_OF_COUNTERS)));
+        final ConcurrentCountersManager manager = new ConcurrentCountersManager(
+            metaDataBuffer, valuesBuffer, indexBuffer, US_ASCII, epochClock, 0);
+
+        final int counterId = manager.allocate("abc");
+        manager.setCounterRegistrationId(counterId, 99);
+        assertEquals(counterId, manager.findByRegistrationId(99));
+
+        manager.free(counterId);
+        assertEquals(NULL_COUNTER_ID, manager.findByRegistrationId(99));
+    }
+
+    @Test
+    void shouldAllocateDistinctCountersFromManyThreads() throws InterruptedException
+    {
+        final int threadCount = 4;
+        final int iterations = 5_000;
+        final ConcurrentCountersManager manager = new ConcurrentCountersManager(
+            metaDataBuffer, valuesBuffer, US_ASCII, epochClock, 0);
+        final AtomicIntegerArray owners = new AtomicIntegerArray(NUMBER_OF_COUNTERS);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int t = 1; t <= threadCount; t++)
+        {
+            final int owner = t;
+            final Thread thread = new Thread(
+                () ->
+                {
+                    try
+                    {
+                        barrier.await();
+                        for (int i = 0; i < iterations; i++)
+                        {
+                            final int counterId = manager.allocate("counter", owner);
+                            if (!owners.compareAndSet(counterId, 0, owner))
+                            {
+                                throw new AssertionError("counter allocated twice: id=" + counterId);
+                            }
+
+                            assertEquals(owner, manager.getCounterTypeId(counterId));
+                            owners.set(counterId, 0);
+                            manager.free(counterId);
+                        }
+                    }
+                    catch (final Throwable ex)
+                    {
+                        error.compareAndSet(null, ex);
+                    }
+                });
+
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertNull(error.get());
+        assertEquals(NUMBER_OF_COUNTERS, manager.available());
+
+        for (int i = 0; i < NUMBER_OF_COUNTERS; i++)
+        {
+            assertNotEquals(RECORD_ALLOCATED, manager.getCounterState(i));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.concurrent.CachedEpochClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.concurrent.status.CountersReader.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountersRegistrationIdIndexTest
+{
+    private static final int NUMBER_OF_COUNTERS = 64;
+    private static final int TYPE_ID = 101;
+    private static final int OTHER_TYPE_ID = 102;
+
+    private final CachedEpochClock epochClock = new CachedEpochClock();
+    private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+        allocateDirect(NUMBER_OF_COUNTERS * METADATA_LENGTH));
+    private final UnsafeBuffer valuesBuffer = new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * COUNTER_LENGTH));
+    private final UnsafeBuffer indexBuffer = new UnsafeBuffer(
+        allocateDirect(registrationIdIndexLength(NUMBER_OF_COUNTERS)));
+    private final CountersManager manager = new CountersManager(
+        metaDataBuffer, valuesBuffer, indexBuffer, US_ASCII, epochClock, 0);
+    private final CountersReader scanningReader = new CountersReader(metaDataBuffer, valuesBuffer, US_ASCII);
+
+    @Test
+    void shouldRejectIndexBufferWhichIsTooSmall()
+    {
+        final UnsafeBuffer indexBuffer = new UnsafeBuffer(
+            allocateDirect(registrationIdIndexLength(NUMBER_OF_COUNTERS) / 2));
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CountersReader(metaDataBuffer, valuesBuffer, indexBuffer, US_ASCII));
+    }
+
+    @Test
+    void shouldFindCounterByRegistrationId()
+    {
+        final int counterId = allocate("abc", TYPE_ID, 42);
+
+        assertEquals(counterId, manager.findByRegistrationId(42));
+        assertEquals(counterId, manager.findByTypeIdAndRegistrationId(TYPE_ID, 42));
+        assertEquals(NULL_COUNTER_ID, manager.findByTypeIdAndRegistrationId(OTHER_TYPE_ID, 42));
+        assertEquals(NULL_COUNTER_ID, manager.findByRegistrationId(43));
+    }
+
+    @Test
+    void shouldFindLowestCounterSharingRegistrationId()
+    {
+        final int first = allocate("first", TYPE_ID, 7);
+        final int second = allocate("second", OTHER_TYPE_ID, 7);
+
+        assertEquals(first, manager.findByRegistrationId(7));
+        assertEquals(first, manager.findByTypeIdAndRegistrationId(TYPE_ID, 7));
+        assertEquals(second, manager.findByTypeIdAndRegistrationId(OTHER_TYPE_ID, 7));
+
+        manager.free(first);
+
+        assertEquals(second, manager.findByRegistrationId(7));
+        assertEquals(NULL_COUNTER_ID, manager.findByTypeIdAndRegistrationId(TYPE_ID, 7));
+    }
+
+    @Test
+    void shouldUpdateIndexWhenRegistrationIdChanges()
+    {
+        final int counterId = allocate("abc", TYPE_ID, 1);
+
+        manager.setCounterRegistrationId(counterId, 2);
+
+        assertEquals(NULL_COUNTER_ID, manager.findByRegistrationId(1));
+        assertEquals(counterId, manager.findByRegistrationId(2));
+    }
+
+    @Test
+    void shouldNotFindFreedCounterAfterReuse()
+    {
+        final int counterId = allocate("abc", TYPE_ID, 5);
+        manager.free(counterId);
+
+        assertEquals(NULL_COUNTER_ID, manager.findByRegistrationId(5));
+
+        final int reusedId = allocate("def", TYPE_ID, 6);
+
+        assertEquals(counterId, reusedId);
+        assertEquals(NULL_COUNTER_ID, manager.findByRegistrationId(5));
+        assertEquals(reusedId, manager.findByRegistrationId(6));
+    }
+
+    @Test
+    void shouldScanForDefaultRegistrationId()
+    {
+        final int counterId = manager.allocate("abc", TYPE_ID);
+
+        assertEquals(counterId, manager.findByRegistrationId(DEFAULT_REGISTRATION_ID));
+        assertEquals(counterId, manager.findByTypeIdAndRegistrationId(TYPE_ID, DEFAULT_REGISTRATION_ID));
+    }
+
+    @Test
+    void shouldShareIndexWithOtherReaders()
+    {
+        final CountersReader reader = new CountersReader(metaDataBuffer, valuesBuffer, indexBuffer, US_ASCII);
+        final int counterId = allocate("abc", TYPE_ID, 99);
+
+        assertSame(indexBuffer, reader.registrationIdIndexBuffer());
+        assertEquals(counterId, reader.findByRegistrationId(99));
+        assertEquals(counterId, reader.findByTypeIdAndRegistrationId(TYPE_ID, 99));
+    }
+
+    @Test
+    void shouldMatchScanningUnderRandomAllocationAndFree()
+    {
+        final Random random = new Random(13);
+        final boolean[] allocated = new boolean[NUMBER_OF_COUNTERS];
+
+        for (int i = 0; i < 20_000; i++)
+        {
+            final int counterId = random.nextInt(NUMBER_OF_COUNTERS);
+            if (allocated[counterId])
+            {
+                if (random.nextBoolean())
+                {
+                    manager.free(counterId);
+                    allocated[counterId] = false;
+                }
+                else
+                {
+                    manager.setCounterRegistrationId(counterId, 1 + random.nextInt(32));
+                }
+            }
+            else if (manager.available() > 0)
+            {
+                allocated[allocate("counter", random.nextInt(2), 1 + random.nextInt(32))] = true;
+            }
+
+            final long registrationId = 1 + random.nextInt(32);
+            final int typeId = random.nextInt(2);
+
+            assertEquals(
+                scanningReader.findByRegistrationId(registrationId),
+                manager.findByRegistrationId(registrationId));
+            assertEquals(
+                scanningReader.findByTypeIdAndRegistrationId(typeId, registrationId),
+                manager.findByTypeIdAndRegistrationId(typeId, registrationId));
+        }
+    }
+
+    private int allocate(final String label, final int typeId, final long registrationId)
+    {
+        final int counterId = manager.allocate(label, typeId);
+        manager.setCounterRegistrationId(counterId, registrationId);
+
+        return counterId;
+    }
+}
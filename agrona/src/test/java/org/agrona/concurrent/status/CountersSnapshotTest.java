@@ -0,0 +1,170 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountersSnapshotTest
+{
+    private static final int NUMBER_OF_COUNTERS = 8;
+    private static final long SECOND_NS = 1_000_000_000L;
+
+    private final CountersManager manager = new CountersManager(
+        new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * METADATA_LENGTH)),
+        new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * COUNTER_LENGTH)),
+        US_ASCII);
+    private final CountersSnapshot snapshot = new CountersSnapshot(manager);
+
+    @Test
+    void shouldCaptureValuesOfAllocatedCounters()
+    {
+        final AtomicCounter a = manager.newCounter("a", 7);
+        final AtomicCounter b = manager.newCounter("b");
+        a.set(5);
+        b.set(9);
+        manager.setCounterRegistrationId(b.id(), 42);
+
+        assertEquals(2, snapshot.capture(SECOND_NS));
+        assertEquals(2, snapshot.limit());
+        assertEquals(5, snapshot.value(a.id()));
+        assertEquals(9, snapshot.value(b.id()));
+        assertEquals(7, snapshot.typeId(a.id()));
+        assertEquals(42, snapshot.registrationId(b.id()));
+        assertTrue(snapshot.isAllocated(a.id()));
+        assertFalse(snapshot.isAllocated(2));
+    }
+
+    @Test
+    void shouldComputeDeltasAndRatesBetweenCaptures()
+    {
+        final AtomicCounter counter = manager.newCounter("test");
+        counter.set(10);
+        snapshot.capture(SECOND_NS);
+        assertEquals(10, snapshot.delta(counter.id()));
+
+        counter.set(30);
+        snapshot.capture(SECOND_NS * 3);
+
+        assertEquals(SECOND_NS * 2, snapshot.intervalNs());
+        assertEquals(20, snapshot.delta(counter.id()));
+        assertEquals(10.0, snapshot.rate(counter.id()));
+
+        final IntArrayList ids = new IntArrayList();
+        snapshot.forEach((counterId, value, delta, rate) ->
+        {
+            ids.addInt(counterId);
+            assertEquals(30, value);
+            assertEquals(20, delta);
+            assertEquals(10.0, rate);
+        });
+        assertEquals(1, ids.size());
+    }
+
+    @Test
+    void shouldHaveNoIntervalOrRateUntilSecondCapture()
+    {
+        final AtomicCounter counter = manager.newCounter("test");
+        counter.set(10);
+
+        assertEquals(0, snapshot.intervalNs());
+        snapshot.capture(SECOND_NS * 5);
+
+        assertEquals(SECOND_NS * 5, snapshot.timestampNs());
+        assertEquals(0, snapshot.intervalNs());
+        assertEquals(0.0, snapshot.rate(counter.id()));
+        snapshot.forEach((counterId, value, delta, rate) -> assertEquals(0.0, rate));
+
+        counter.set(20);
+        snapshot.capture(SECOND_NS * 6);
+
+        assertEquals(SECOND_NS, snapshot.intervalNs());
+        assertEquals(10.0, snapshot.rate(counter.id()));
+    }
+
+    @Test
+    void shouldComputeDeltaFromZeroWhenCounterIsReallocated()
+    {
+        final AtomicCounter counter = manager.newCounter("old");
+        manager.setCounterRegistrationId(counter.id(), 1);
+        counter.set(100);
+        snapshot.capture(SECOND_NS);
+        assertEquals("old", snapshot.label(counter.id()));
+
+        counter.close();
+        final AtomicCounter reused = manager.newCounter("new");
+        manager.setCounterRegistrationId(reused.id(), 2);
+        reused.set(3);
+        snapshot.capture(SECOND_NS * 2);
+
+        assertEquals(counter.id(), reused.id());
+        assertEquals(3, snapshot.delta(reused.id()));
+        assertEquals("new", snapshot.label(reused.id()));
+    }
+
+    @Test
+    void shouldCacheLabels()
+    {
+        final AtomicCounter counter = manager.newCounter("test");
+        snapshot.capture(SECOND_NS);
+
+        final String label = snapshot.label(counter.id());
+        snapshot.capture(SECOND_NS * 2);
+
+        assertSame(label, snapshot.label(counter.id()));
+        assertNull(snapshot.label(counter.id() + 1));
+    }
+
+    @Test
+    void shouldClearCountersFreedBetweenCaptures()
+    {
+        final AtomicCounter a = manager.newCounter("a");
+        final AtomicCounter b = manager.newCounter("b");
+        a.set(1);
+        b.set(2);
+        snapshot.capture(SECOND_NS);
+        snapshot.capture(SECOND_NS * 2);
+
+        b.close();
+        assertEquals(1, snapshot.capture(SECOND_NS * 3));
+        assertFalse(snapshot.isAllocated(b.id()));
+        assertEquals(0, snapshot.value(b.id()));
+        assertEquals(0, snapshot.delta(b.id()));
+
+        assertEquals(1, snapshot.capture(SECOND_NS * 4));
+        assertFalse(snapshot.isAllocated(b.id()));
+    }
+
+    @Test
+    void shouldSumStripedCountersAndSkipCells()
+    {
+        try (StripedCounter counter = new StripedCounter(manager, "striped", 4))
+        {
+            counter.add(11);
+
+            assertEquals(1, snapshot.capture(SECOND_NS));
+            assertEquals(11, snapshot.value(counter.id()));
+            assertEquals(4, snapshot.limit());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.concurrent.status.CountersReader.*;
+import static org.agrona.concurrent.status.HistogramCounter.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramCounterTest
+{
+    private static final int NUMBER_OF_COUNTERS = 64;
+    private static final int TYPE_ID = 101;
+    private static final long HIGHEST_TRACKABLE_VALUE = 1L << 36;
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private final CountersManager manager = new CountersManager(
+        new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * METADATA_LENGTH)),
+        new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * COUNTER_LENGTH)),
+        US_ASCII);
+    private final CountersReader reader = new CountersReader(manager.metaDataBuffer(), manager.valuesBuffer());
+    private final HistogramSnapshot snapshot = new HistogramSnapshot();
+
+    @Test
+    void shouldMapValuesToBucketsWithBoundedRelativeError()
+    {
+        for (int subBucketBits = 1; subBucketBits <= MAX_SUB_BUCKET_BITS; subBucketBits++)
+        {
+            for (int i = 0; i < 10_000; i++)
+            {
+                final long value = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE) >>> (i % 63);
+                final int bucketIndex = bucketIndex(value, subBucketBits);
+                final long lowestValue = lowestValue(bucketIndex, subBucketBits);
+                final long highestValue = highestValue(bucketIndex, subBucketBits);
+
+                assertTrue(lowestValue <= value && value <= highestValue, "value=" + value);
+                assertTrue((highestValue - lowestValue) <= (lowestValue >> (subBucketBits - 1)), "value=" + value);
+            }
+
+            final int bucketCount = bucketCount(Long.MAX_VALUE, subBucketBits);
+            assertEquals(Long.MAX_VALUE, highestValue(bucketCount - 1, subBucketBits));
+            for (int bucketIndex = 1; bucketIndex < bucketCount; bucketIndex++)
+            {
+                assertEquals(
+                    highestValue(bucketIndex - 1, subBucketBits) + 1, lowestValue(bucketIndex, subBucketBits));
+            }
+        }
+    }
+
+    @Test
+    void shouldThrowIfTooManyBucketsRequired()
+    {
+        final IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class, () -> new HistogramCounter(manager, "test", TYPE_ID, Long.MAX_VALUE, 8));
+        assertEquals("too many buckets required: bucketCount=7296, maxBucketCount=312", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new HistogramCounter(manager, "test", TYPE_ID, 100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HistogramCounter(manager, "test", TYPE_ID, 0, 4));
+    }
+
+    @Test
+    void shouldRecordValuesAndReadPercentiles()
+    {
+        try (HistogramCounter histogram = new HistogramCounter(
+            manager, "latency", TYPE_ID, HIGHEST_TRACKABLE_VALUE, SUB_BUCKET_BITS))
+        {
+            for (int value = 1; value <= 100; value++)
+            {
+                histogram.record(value);
+            }
+
+            assertEquals(100, histogram.totalCount());
+            assertEquals(100, reader.getCounterValue(histogram.id()));
+            assertEquals(TYPE_ID, reader.getCounterTypeId(histogram.id()));
+
+            assertTrue(snapshot.read(reader, histogram.id()));
+            assertEquals(SUB_BUCKET_BITS, snapshot.subBucketBits());
+            assertEquals(histogram.bucketCount(), snapshot.bucketCount());
+            assertEquals(100, snapshot.totalCount());
+            assertEquals(1, snapshot.minValue());
+            assertEquals(103, snapshot.maxValue());
+            assertEquals(1, snapshot.valueAtPercentile(0.0));
+            assertEquals(51, snapshot.valueAtPercentile(50.0));
+            assertEquals(103, snapshot.valueAtPercentile(99.0));
+            assertEquals(50.5, snapshot.mean(), 1.0);
+        }
+    }
+
+    @Test
+    void shouldClampValuesAboveHighestTrackableValue()
+    {
+        try (HistogramCounter histogram = new HistogramCounter(manager, "test", TYPE_ID, 1000, SUB_BUCKET_BITS))
+        {
+            histogram.record(Long.MAX_VALUE);
+
+            assertTrue(snapshot.read(reader, histogram.id()));
+            assertEquals(1, snapshot.count(histogram.bucketCount() - 1));
+            assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        }
+    }
+
+    @Test
+    void shouldSubtractEarlierSnapshot()
+    {
+        try (HistogramCounter histogram = new HistogramCounter(
+            manager, "test", TYPE_ID, HIGHEST_TRACKABLE_VALUE, SUB_BUCKET_BITS))
+        {
+            histogram.record(10);
+            final HistogramSnapshot earlier = new HistogramSnapshot();
+            assertTrue(earlier.read(reader, histogram.id()));
+
+            histogram.record(1000);
+            assertTrue(snapshot.read(reader, histogram.id()));
+            snapshot.subtract(earlier);
+
+            assertEquals(1, snapshot.totalCount());
+            assertEquals(1000, snapshot.minValue(), 1000 >> (SUB_BUCKET_BITS - 1));
+        }
+    }
+
+    @Test
+    void shouldNotIncludeBucketRecordsWhenIterating()
+    {
+        try (HistogramCounter histogram = new HistogramCounter(
+            manager, "test", TYPE_ID, HIGHEST_TRACKABLE_VALUE, SUB_BUCKET_BITS))
+        {
+            final IntArrayList ids = new IntArrayList();
+            reader.forEach((counterId, label) -> ids.addInt(counterId));
+            reader.forEach((value, counterId, label) -> assertEquals(histogram.id(), counterId));
+            reader.forEach((counterId, typeId, keyBuffer, label) -> assertEquals(TYPE_ID, typeId));
+
+            assertEquals(1, ids.size());
+            assertEquals(histogram.id(), ids.getInt(0));
+        }
+    }
+
+    @Test
+    void shouldFreeBucketRecordsOnClose()
+    {
+        final HistogramCounter histogram = new HistogramCounter(
+            manager, "test", TYPE_ID, HIGHEST_TRACKABLE_VALUE, SUB_BUCKET_BITS);
+        final int id = histogram.id();
+        histogram.close();
+        histogram.close();
+
+        assertTrue(histogram.isClosed());
+        assertFalse(snapshot.read(reader, id));
+        for (int i = 0; i < NUMBER_OF_COUNTERS; i++)
+        {
+            assertNotEquals(RECORD_ALLOCATED, reader.getCounterState(i));
+        }
+    }
+
+    @Test
+    void shouldStartWithEmptyBucketsWhenRecordsAreReused()
+    {
+        for (int round = 0; round < 3; round++)
+        {
+            try (HistogramCounter histogram = new HistogramCounter(manager, "test", TYPE_ID, 1000, 3))
+            {
+                assertEquals(0, histogram.totalCount());
+                assertTrue(snapshot.read(reader, histogram.id()));
+                assertEquals(0, snapshot.totalCount());
+                for (int i = 0; i < histogram.bucketCount(); i++)
+                {
+                    assertEquals(0, snapshot.count(i));
+                }
+
+                for (int i = 0; i < 100; i++)
+                {
+                    histogram.record(900);
+                }
+                assertEquals(100, histogram.totalCount());
+            }
+        }
+    }
+
+    @Test
+    void shouldStartWithEmptyBucketsWhenReusingStripedCounterRecord()
+    {
+        final StripedCounter stripedCounter = new StripedCounter(manager, "striped", 4);
+        stripedCounter.add(7);
+        stripedCounter.close();
+
+        try (HistogramCounter histogram = new HistogramCounter(manager, "test", TYPE_ID, 1000, 3))
+        {
+            assertEquals(0, histogram.totalCount());
+            assertTrue(snapshot.read(reader, histogram.id()));
+            assertEquals(0, snapshot.totalCount());
+        }
+    }
+
+    @Test
+    void shouldNotReadCounterWhichIsNotHistogram()
+    {
+        final int counterId = manager.allocate("test");
+
+        assertFalse(snapshot.read(reader, counterId));
+        assertFalse(snapshot.read(reader, NUMBER_OF_COUNTERS));
+        assertEquals(0, snapshot.bucketCount());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.concurrent.status;
+
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.concurrent.status.CountersReader.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedCounterTest
+{
+    private static final int NUMBER_OF_COUNTERS = 16;
+    private static final int TYPE_ID = 101;
+
+    private final CountersManager manager = new CountersManager(
+        new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * METADATA_LENGTH)),
+        new UnsafeBuffer(allocateDirect(NUMBER_OF_COUNTERS * COUNTER_LENGTH)),
+        US_ASCII);
+
+    @Test
+    void shouldThrowIfStripeCountIsNotPowerOfTwo()
+    {
+        final IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class, () -> new StripedCounter(manager, "test", 3));
+        assertEquals("stripeCount must be a power of 2 no greater than 16: stripeCount=3", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowIfStripeCountIsTooLarge()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new StripedCounter(manager, "test", 32));
+    }
+
+    @Test
+    void shouldSumStripesWhenReadViaCountersReader()
+    {
+        try (StripedCounter counter = new StripedCounter(manager, "test", TYPE_ID, 4))
+        {
+            assertEquals(4, counter.stripeCount());
+            counter.increment();
+            counter.add(9);
+
+            final AtomicBuffer valuesBuffer = manager.valuesBuffer();
+            for (int i = 0; i < 3; i++)
+            {
+                final int cellId = valuesBuffer.getInt(
+                    counterOffset(counter.id()) + STRIPE_CELL_IDS_OFFSET + (i * SIZE_OF_INT));
+                valuesBuffer.getAndAddLong(counterOffset(cellId), i + 1);
+            }
+
+            assertEquals(16, counter.get());
+            assertEquals(16, manager.getCounterValue(counter.id()));
+            assertEquals(TYPE_ID, manager.getCounterTypeId(counter.id()));
+            assertEquals("test", manager.getCounterLabel(counter.id()));
+        }
+    }
+
+    @Test
+    void shouldNotIncludeCellsWhenIterating()
+    {
+        try (StripedCounter counter = new StripedCounter(manager, "test", 8))
+        {
+            counter.add(7);
+
+            final IntArrayList ids = new IntArrayList();
+            manager.forEach((value, counterId, label) ->
+            {
+                assertEquals(7, value);
+                assertEquals("test", label);
+                ids.addInt(counterId);
+            });
+            manager.forEach((counterId, label) -> assertEquals(counter.id(), counterId));
+            manager.forEach((counterId, typeId, keyBuffer, label) -> assertEquals(DEFAULT_TYPE_ID, typeId));
+
+            assertEquals(1, ids.size());
+            assertEquals(counter.id(), ids.getInt(0));
+        }
+    }
+
+    @Test
+    void shouldFreeCounterAndCellsOnClose()
+    {
+        final StripedCounter counter = new StripedCounter(manager, "test", 4);
+        final int id = counter.id();
+        counter.close();
+        counter.close();
+
+        assertTrue(counter.isClosed());
+        assertEquals(RECORD_RECLAIMED, manager.getCounterState(id));
+        assertEquals(0, manager.valuesBuffer().getInt(counterOffset(id) + STRIPE_CELL_COUNT_OFFSET));
+        manager.forEach((counterId, label) -> fail());
+    }
+
+    @Test
+    void shouldFreeAllocatedCountersWhenCellsCannotBeAllocated()
+    {
+        for (int i = 0; i < NUMBER_OF_COUNTERS - 2; i++)
+        {
+            manager.allocate("filler");
+        }
+
+        assertThrows(IllegalStateException.class, () -> new StripedCounter(manager, "test", 4));
+        assertEquals(RECORD_RECLAIMED, manager.getCounterState(NUMBER_OF_COUNTERS - 2));
+        assertEquals(RECORD_RECLAIMED, manager.getCounterState(NUMBER_OF_COUNTERS - 1));
+    }
+
+    @Test
+    void shouldNotLoseIncrementsAcrossThreads() throws InterruptedException
+    {
+        final int threadCount = 4;
+        final int increments = 100_000;
+
+        try (StripedCounter counter = new StripedCounter(manager, "test", 4))
+        {
+            final CountDownLatch latch = new CountDownLatch(1);
+            final Thread[] threads = new Thread[threadCount];
+            for (int i = 0; i < threadCount; i++)
+            {
+                threads[i] = new Thread(() ->
+                {
+                    try
+                    {
+                        latch.await();
+                    }
+                    catch (final InterruptedException ex)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    for (int j = 0; j < increments; j++)
+                    {
+                        counter.increment();
+                    }
+                });
+                threads[i].start();
+            }
+
+            latch.countDown();
+            for (final Thread thread : threads)
+            {
+                thread.join();
+            }
+
+            assertEquals((long)threadCount * increments, counter.get());
+            assertEquals((long)threadCount * increments, manager.getCounterValue(counter.id()));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.agrona.collections;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.EQ;
+
+/**
+ * {@link VectorProbe} which loads 256 bits of a table per step and finds the first slot which either matches or is
+ * empty with a single mask, falling back to one slot per step when a load would run past the end of the table.
+ * <p>
+ * For the interleaved key and value pairs of a map, the key lanes are compared with the key and the value lanes with
+ * the missing value. The first set lane, rounded up to the value lane of its pair, then holds the result, as a key
+ * which is found in an empty pair is a left-over from a removal.
+ */
+final class IncubatorVectorProbe extends VectorProbe
+{
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_256;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_256;
+    private static final VectorMask<Integer> INT_KEY_LANES = VectorMask.fromLong(INT_SPECIES, 0x55L);
+    private static final VectorMask<Integer> INT_VALUE_LANES = VectorMask.fromLong(INT_SPECIES, 0xAAL);
+    private static final VectorMask<Long> LONG_KEY_LANES = VectorMask.fromLong(LONG_SPECIES, 0x5L);
+    private static final VectorMask<Long> LONG_VALUE_LANES = VectorMask.fromLong(LONG_SPECIES, 0xAL);
+
+    private IncubatorVectorProbe()
+    {
+    }
+
+    /**
+     * Create a new instance if the platform supports 256-bit vectors, as the software fallback of the Vector API is
+     * much slower than probing one slot at a time.
+     *
+     * @return a new instance or null if 256-bit vectors are not supported.
+     */
+    static VectorProbe newInstance()
+    {
+        return IntVector.SPECIES_PREFERRED.vectorBitSize() >= INT_SPECIES.vectorBitSize() ?
+            new IncubatorVectorProbe() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    int get(final int[] entries, final int index, final int key, final int missingValue)
+    {
+        final int lanes = INT_SPECIES.length();
+        final int length = entries.length;
+        final int mask = length - 1;
+        int i = index;
+
+        while (true)
+        {
+            if (i + lanes <= length)
+            {
+                final IntVector slots = IntVector.fromArray(INT_SPECIES, entries, i);
+                final int lane = slots.compare(EQ, key).and(INT_KEY_LANES)
+                    .or(slots.compare(EQ, missingValue).and(INT_VALUE_LANES))
+                    .firstTrue();
+
+                if (lane < lanes)
+                {
+                    return entries[i + (lane | 1)];
+                }
+
+                i = (i + lanes) & mask;
+            }
+            else
+            {
+                final int value = entries[i + 1];
+                if (missingValue == value || key == entries[i])
+                {
+                    return value;
+                }
+
+                i = (i + 2) & mask;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    long get(final long[] entries, final int index, final long key, final long missingValue)
+    {
+        final int lanes = LONG_SPECIES.length();
+        final int length = entries.length;
+        final int mask = length - 1;
+        int i = index;
+
+        while (true)
+        {
+            if (i + lanes <= length)
+            {
+                final LongVector slots = LongVector.fromArray(LONG_SPECIES, entries, i);
+                final int lane = slots.compare(EQ, key).and(LONG_KEY_LANES)
+                    .or(slots.compare(EQ, missingValue).and(LONG_VALUE_LANES))
+                    .firstTrue();
+
+                if (lane < lanes)
+                {
+                    return entries[i + (lane | 1)];
+                }
+
+                i = (i + lanes) & mask;
+            }
+            else
+            {
+                final long value = entries[i + 1];
+                if (missingValue == value || key == entries[i])
+                {
+                    return value;
+                }
+
+                i = (i + 2) & mask;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    boolean contains(final int[] values, final int index, final int value)
+    {
+        final int lanes = INT_SPECIES.length();
+        final int length = values.length;
+        final int mask = length - 1;
+        int i = index;
+
+        while (true)
+        {
+            if (i + lanes <= length)
+            {
+                final IntVector slots = IntVector.fromArray(INT_SPECIES, values, i);
+                final int lane = slots.compare(EQ, value).or(slots.compare(EQ, 0)).firstTrue();
+
+                if (lane < lanes)
+                {
+                    return 0 != values[i + lane];
+                }
+
+                i = (i + lanes) & mask;
+            }
+            else
+            {
+                final int existingValue = values[i];
+                if (0 == existingValue || value == existingValue)
+                {
+                    return 0 != existingValue;
+                }
+
+                i = (i + 1) & mask;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    boolean contains(final long[] values, final int index, final long value)
+    {
+        final int lanes = LONG_SPECIES.length();
+        final int length = values.length;
+        final int mask = length - 1;
+        int i = index;
+
+        while (true)
+        {
+            if (i + lanes <= length)
+            {
+                final LongVector slots = LongVector.fromArray(LONG_SPECIES, values, i);
+                final int lane = slots.compare(EQ, value).or(slots.compare(EQ, 0L)).firstTrue();
+
+                if (lane < lanes)
+                {
+                    return 0L != values[i + lane];
+                }
+
+                i = (i + lanes) & mask;
+            }
+            else
+            {
+                final long existingValue = values[i];
+                if (0L == existingValue || value == existingValue)
+                {
+                    return 0L != existingValue;
+                }
+
+                i = (i + 1) & mask;
+            }
+        }
+    }
+}